@@ -1,5 +1,11 @@
 package seoultech.se.backend.network;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.springframework.stereotype.Component;
@@ -8,7 +14,10 @@ import lombok.RequiredArgsConstructor;
 import seoultech.se.backend.mapper.GameStateDtoToGameStateMapper;
 import seoultech.se.core.GameState;
 import seoultech.se.core.command.GameCommand;
+import seoultech.se.core.dto.LatencyPingDto;
+import seoultech.se.core.dto.PlayerInputBatchDto;
 import seoultech.se.core.dto.PlayerInputDto;
+import seoultech.se.core.dto.PlayerStateFrameDto;
 import seoultech.se.core.dto.ServerStateDto;
 
 /**
@@ -24,6 +33,15 @@ import seoultech.se.core.dto.ServerStateDto;
  * - ❌ Input Buffer 제거 (Reconciliation 불필요)
  * - ❌ GameEngine 의존성 제거
  * - ✅ 단순 입력 전송 및 서버 상태 수신만 담당
+ *
+ * 입력 묶음 전송:
+ * - 키 입력은 즉시 보내지 않고 버퍼에 쌓은 뒤 한 프레임(INPUT_FLUSH_INTERVAL_MS)마다 한 번에 전송
+ * - 서버는 묶음을 락 한 번으로 적용하고 응답도 하나만 보냄 (DAS 반복 입력 시 메시지 수 감소)
+ *
+ * 적응형 묶음 주기:
+ * - 서버가 핑에 실어 보내는 권장 입력 지연(RTT/2 + 지터 2배)의 1/4을 묶음 주기로 사용 (최소 한 프레임, 최대 세 프레임)
+ * - 지연이 크고 불안정한 연결일수록 입력을 더 모아 메시지 수를 줄임, 추가 대기는 왕복 시간에 비해 작음
+ * - 좋은 연결(권장 지연 64ms 이하)은 기존처럼 매 프레임 전송
  */
 @Component
 @RequiredArgsConstructor
@@ -31,6 +49,32 @@ public class NetworkGameClient {
     private final NetworkTemplate networkClient;
     private final GameStateDtoToGameStateMapper dtoToStateMapper;
 
+    /**
+     * 입력 묶음 전송 주기 (밀리초, 약 60fps 한 프레임)
+     */
+    private static final long INPUT_FLUSH_INTERVAL_MS = 16;
+
+    /**
+     * 적응형 묶음 주기 상한 (밀리초, 세 프레임)
+     */
+    private static final long MAX_INPUT_FLUSH_INTERVAL_MS = 48;
+
+    /**
+     * 권장 입력 지연 중 묶음 대기에 쓰는 비율의 역수 (1/4)
+     */
+    private static final int INPUT_DELAY_SHARE = 4;
+
+    /**
+     * 한 묶음의 최대 입력 수 (서버 제한과 동일, 초과 시 즉시 전송)
+     */
+    private static final int MAX_INPUT_BATCH_SIZE = 32;
+
+    private final List<PlayerInputDto> pendingInputs = new ArrayList<>(); // 전송 대기 중인 입력 (pendingInputs로 동기화)
+    private volatile ScheduledExecutorService inputFlusher;
+
+    private volatile int lastRttMs; // 서버가 측정한 RTT (핑에 포함)
+    private volatile int recommendedInputDelayMs; // 서버가 권장하는 입력 지연 버퍼
+
     private long localSequence = 0;
     private GameState clientState; // 서버로부터 받은 최신 상태 (렌더링용)
     private String sessionId;
@@ -51,8 +95,18 @@ public class NetworkGameClient {
         // 통합된 게임 상태 구독 (입력 응답 및 자동 낙하 모두 포함)
         networkClient.subscribeToGameState(this::onServerUpdate);
 
+        // 상대방 보드는 별도 채널 (서버가 낮은 주기로, 변경 시에만 전송)
+        networkClient.subscribeToOpponentState(this::onOpponentUpdate);
+
+        // 지연 측정 핑 구독 (받는 즉시 에코)
+        networkClient.subscribeToPing(this::onPing);
+
+        // 입력 묶음 전송 스레드 시작
+        startInputFlusher();
+
         System.out.println("✅ [NetworkGameClient] Initialized - Session: " + sessionId);
         System.out.println("   - Subscribed to /user/topic/game/state (unified: input responses + server gravity)");
+        System.out.println("   - Subscribed to /user/topic/game/opponent (opponent board, low rate)");
     }
 
     /**
@@ -70,23 +124,102 @@ public class NetworkGameClient {
      * @return 현재 클라이언트 상태 (서버 응답 전)
      */
     public GameState executeCommand(GameCommand command, GameState currentState) {
-        // 1. 서버에 입력 전송만 수행 (게임 로직 실행 안함!)
-        long seq = ++localSequence;
-        PlayerInputDto inputDto = PlayerInputDto.builder()
-            .sessionId(sessionId)
-            .command(command)
-            .sequenceId(seq)
-            .build();
-
-        networkClient.sendInput(inputDto);
+        // 1. 입력을 묶음 버퍼에 추가 (게임 로직 실행 안함!, 다음 프레임에 한 번에 전송)
+        boolean flushNow;
+        synchronized (pendingInputs) {
+            long seq = ++localSequence;
+            pendingInputs.add(PlayerInputDto.builder()
+                .sessionId(sessionId)
+                .command(command)
+                .sequenceId(seq)
+                .clientTimestamp(System.currentTimeMillis())
+                .build());
+            flushNow = pendingInputs.size() >= MAX_INPUT_BATCH_SIZE || inputFlusher == null;
+        }
 
-        System.out.println("📤 [NetworkGameClient] Command sent to server: " + command.getType() + " (seq=" + seq + ")");
+        if (flushNow) {
+            flushInputs();
+        }
 
         // 2. 현재 상태 반환 (서버 응답 전, 이전 상태)
         // 서버 응답이 오면 onServerUpdate()에서 clientState가 업데이트됨
         return this.clientState != null ? this.clientState : currentState;
     }
 
+    /**
+     * 버퍼에 쌓인 입력을 한 번에 전송
+     *
+     * 입력이 하나뿐이면 기존 단일 입력 경로(/app/game/input)를 사용
+     */
+    public void flushInputs() {
+        List<PlayerInputDto> inputs;
+        synchronized (pendingInputs) {
+            if (pendingInputs.isEmpty()) {
+                return;
+            }
+            inputs = new ArrayList<>(pendingInputs);
+            pendingInputs.clear();
+        }
+
+        try {
+            if (inputs.size() == 1) {
+                networkClient.sendInput(inputs.get(0));
+            } else {
+                networkClient.sendInputBatch(PlayerInputBatchDto.builder()
+                    .sessionId(sessionId)
+                    .inputs(inputs)
+                    .build());
+            }
+        } catch (Exception e) {
+            System.err.println("❌ [NetworkGameClient] Failed to send inputs: " + e.getMessage());
+        }
+    }
+
+    private void startInputFlusher() {
+        stopInputFlusher();
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "network-input-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        inputFlusher = flusher;
+        scheduleNextFlush(flusher);
+    }
+
+    /**
+     * 다음 묶음 전송 예약 (매번 현재 권장 입력 지연으로 주기를 다시 계산)
+     */
+    private void scheduleNextFlush(ScheduledExecutorService flusher) {
+        if (flusher.isShutdown()) {
+            return;
+        }
+        try {
+            flusher.schedule(() -> {
+                flushInputs();
+                scheduleNextFlush(flusher);
+            }, getInputFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 정리 중 (stopInputFlusher)
+        }
+    }
+
+    /**
+     * 현재 입력 묶음 주기 (권장 입력 지연의 1/4, 한 프레임 ~ 세 프레임)
+     *
+     * @return 묶음 주기 (밀리초)
+     */
+    public long getInputFlushIntervalMs() {
+        long interval = recommendedInputDelayMs / INPUT_DELAY_SHARE;
+        return Math.max(INPUT_FLUSH_INTERVAL_MS, Math.min(interval, MAX_INPUT_FLUSH_INTERVAL_MS));
+    }
+
+    private void stopInputFlusher() {
+        if (inputFlusher != null) {
+            inputFlusher.shutdownNow();
+            inputFlusher = null;
+        }
+    }
+
     /**
      * 현재 클라이언트 상태 반환
      *
@@ -147,7 +280,7 @@ public class NetworkGameClient {
                 System.out.println("⚔️ [NetworkGameClient] Attack lines: " + serverState.getAttackLinesReceived());
             }
 
-            // 6. 상대방 상태는 콜백으로 전달 (GameStateDto → GameState 변환)
+            // 6. 상대방 상태가 포함된 경우에만 콜백으로 전달 (실시간 업데이트는 onOpponentUpdate)
             if (serverState.getOpponentGameState() != null && opponentStateCallback != null) {
                 GameState opponentState = dtoToStateMapper.toGameState(serverState.getOpponentGameState());
                 if (opponentState != null) {
@@ -160,6 +293,60 @@ public class NetworkGameClient {
         }
     }
 
+    /**
+     * 상대방 보드 프레임 수신 (별도 채널)
+     *
+     * @param frame 상대방 보드 프레임
+     */
+    private void onOpponentUpdate(PlayerStateFrameDto frame) {
+        try {
+            if (frame == null || frame.getState() == null || opponentStateCallback == null) {
+                return;
+            }
+            GameState opponentState = dtoToStateMapper.toGameState(frame.getState());
+            if (opponentState != null) {
+                opponentStateCallback.accept(opponentState);
+            }
+        } catch (Exception e) {
+            System.err.println("❌ [NetworkGameClient] Exception in onOpponentUpdate: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 지연 측정 핑 수신 → 즉시 에코
+     *
+     * @param ping 서버 핑
+     */
+    private void onPing(LatencyPingDto ping) {
+        if (ping == null) {
+            return;
+        }
+        lastRttMs = ping.getRttMs();
+        recommendedInputDelayMs = ping.getRecommendedInputDelayMs();
+
+        ping.setClientTime(System.currentTimeMillis());
+        networkClient.sendPong(ping);
+    }
+
+    /**
+     * 서버가 측정한 RTT
+     *
+     * @return RTT (밀리초), 측정 전이면 0
+     */
+    public int getLastRttMs() {
+        return lastRttMs;
+    }
+
+    /**
+     * 서버가 권장하는 입력 지연 버퍼 (입력 묶음 주기 계산에 사용)
+     *
+     * @return 권장 입력 지연 (밀리초)
+     */
+    public int getRecommendedInputDelayMs() {
+        return recommendedInputDelayMs;
+    }
+
     /**
      * ✨ 자신의 보드 상태 업데이트 콜백 설정
      *
@@ -196,13 +383,23 @@ public class NetworkGameClient {
     public void cleanup() {
         System.out.println("🧹 [NetworkGameClient] Cleaning up resources...");
 
+        // 입력 묶음 전송 중지 (남은 입력은 버림)
+        stopInputFlusher();
+        synchronized (pendingInputs) {
+            pendingInputs.clear();
+        }
+
         // NetworkTemplate 연결 정리
         if (networkClient != null) {
             networkClient.disconnect();
         }
 
         // 시퀀스 리셋
-        localSequence = 0;
+        synchronized (pendingInputs) {
+            localSequence = 0;
+        }
+        lastRttMs = 0;
+        recommendedInputDelayMs = 0;
 
         // 상태 초기화
         clientState = null;
@@ -13,7 +13,10 @@ import org.springframework.web.socket.WebSocketHttpHeaders;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.messaging.WebSocketStompClient;
 
+import seoultech.se.core.dto.LatencyPingDto;
+import seoultech.se.core.dto.PlayerInputBatchDto;
 import seoultech.se.core.dto.PlayerInputDto;
+import seoultech.se.core.dto.PlayerStateFrameDto;
 import seoultech.se.core.dto.ServerStateDto;
 
 
@@ -111,6 +114,19 @@ public class NetworkTemplate {
         }
     }
 
+    /**
+     * 입력 묶음 전송 (한 프레임 동안 쌓인 입력을 한 번에)
+     *
+     * @param batch 입력 묶음
+     */
+    public void sendInputBatch(PlayerInputBatchDto batch) {
+        if (session != null && session.isConnected()) {
+            session.send("/app/game/input/batch", batch);
+        } else {
+            System.out.println("Not connected to server");
+        }
+    }
+
     /**
      * 통합된 게임 상태 구독 (입력 응답 및 자동 낙하 모두 포함)
      *
@@ -135,6 +151,64 @@ public class NetworkTemplate {
         }
     }
 
+    /**
+     * 상대방 보드 구독 (자신의 상태와 분리된 저주기 채널)
+     *
+     * @param callback 상대방 보드 프레임 수신 시 호출될 콜백
+     */
+    public void subscribeToOpponentState(Consumer<PlayerStateFrameDto> callback) {
+        if (session != null && session.isConnected()) {
+            session.subscribe("/user/topic/game/opponent", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return PlayerStateFrameDto.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    callback.accept((PlayerStateFrameDto) payload);
+                }
+            });
+            System.out.println("✅ [NetworkTemplate] Subscribed to /user/topic/game/opponent");
+        } else {
+            System.out.println("Not connected to server");
+        }
+    }
+
+    /**
+     * 지연 측정 핑 구독
+     *
+     * @param callback 핑 수신 시 호출될 콜백 (에코는 sendPong으로 전송)
+     */
+    public void subscribeToPing(Consumer<LatencyPingDto> callback) {
+        if (session != null && session.isConnected()) {
+            session.subscribe("/user/topic/game/ping", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return LatencyPingDto.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    callback.accept((LatencyPingDto) payload);
+                }
+            });
+        } else {
+            System.out.println("Not connected to server");
+        }
+    }
+
+    /**
+     * 핑 에코 전송
+     *
+     * @param pong 받은 핑 (clientTime 설정 후)
+     */
+    public void sendPong(LatencyPingDto pong) {
+        if (session != null && session.isConnected()) {
+            session.send("/app/game/pong", pong);
+        }
+    }
+
     /**
      * @deprecated Use subscribeToGameState() instead. 통합된 토픽 사용
      */
@@ -0,0 +1,54 @@
+package seoultech.se.backend.score;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import seoultech.se.core.model.enumType.Difficulty;
+
+/**
+ * 끝난 게임 한 판의 점수 (ScoreWriteBehindQueue로 비동기 저장)
+ *
+ * scores 테이블 한 행과 같은 내용이며, 저장 시각 대신 게임이 끝난 시각을 created_at으로 기록
+ */
+@Getter
+@AllArgsConstructor
+public class ScoreRecord {
+
+    private final String name;
+    private final int score;
+    private final Difficulty difficulty;
+    private final boolean itemMode;
+    private final long finishedAt;
+
+    /**
+     * 스필 파일 한 줄 (탭 구분)
+     */
+    String toSpillLine() {
+        return sanitize(name) + '\t' + score + '\t' + (difficulty != null ? difficulty.name() : "")
+            + '\t' + itemMode + '\t' + finishedAt;
+    }
+
+    /**
+     * 스필 파일 한 줄 읽기 (형식이 맞지 않으면 null)
+     */
+    static ScoreRecord fromSpillLine(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 5) {
+            return null;
+        }
+        try {
+            return new ScoreRecord(
+                fields[0],
+                Integer.parseInt(fields[1]),
+                fields[2].isEmpty() ? null : Difficulty.valueOf(fields[2]),
+                Boolean.parseBoolean(fields[3]),
+                Long.parseLong(fields[4])
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String sanitize(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
@@ -0,0 +1,381 @@
+package seoultech.se.backend.score;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.core.model.enumType.Difficulty;
+
+/**
+ * 점수 write-behind 큐 (끝난 게임의 점수를 모아서 JDBC 배치로 저장)
+ *
+ * 제출 (게임 스레드):
+ * - submit()은 고정 크기 큐에 넣기만 하고 바로 반환 - DB를 기다리지 않음
+ * - 큐가 가득 차면 (DB가 느리거나 멈춤) 그 레코드는 로컬 스필 파일에 한 줄 추가 (배압, 유실 없음)
+ *
+ * 저장 (전용 스레드 "Score-Writer"):
+ * - 첫 레코드가 들어오면 배치 크기 또는 flush 간격까지 모은 뒤 한 트랜잭션의 JDBC 배치 INSERT
+ * - 저장에 실패한 배치는 한 건씩 다시 저장 (잘못된 한 행 때문에 배치 전체가 밀리지 않도록)
+ *   - 행 자체의 오류(제약 조건 위반, 잘못된 값)로 실패한 레코드는 거부 파일(.rejected)로 보냄 - 다시 시도하지 않음
+ *   - DB 장애(연결 실패 등)면 거기서 멈추고 남은 레코드를 스필 파일로 보냄
+ * - 주기적으로 (그리고 시작할 때) 스필 파일을 다시 읽어 같은 방식으로 저장, 끝까지 처리하면 삭제
+ *
+ * 종료: 새 제출은 스필 파일로 보내고, 큐에 남은 레코드를 저장한 뒤 스레드 종료
+ * (제한 시간 안에 끝나지 않으면 남은 레코드를 스필 파일로 보냄)
+ *
+ * REST/데스크톱 점수 저장(ScoreService.saveScore)은 저장된 행을 바로 응답해야 하므로 기존대로 동기 저장
+ * 게임 서버처럼 응답이 필요 없는 쪽에서만 사용 (score.write-behind.enabled=true일 때만 생성)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "score.write-behind.enabled", havingValue = "true")
+public class ScoreWriteBehindQueue {
+
+    static final String INSERT_SQL =
+        "INSERT INTO scores (name, score, difficulty, is_item_mode, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 큐가 비어 있을 때 한 번에 기다리는 시간 (종료/스필 재시도 확인 주기)
+     */
+    private static final long IDLE_POLL_MS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactions;
+    private final BlockingQueue<ScoreRecord> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long replayIntervalMs;
+    private final long drainTimeoutMs;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Path rejectedFile;
+
+    private final Object spillLock = new Object();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public ScoreWriteBehindQueue(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactions,
+            @Value("${score.write-behind.capacity:10000}") int capacity,
+            @Value("${score.write-behind.batch-size:200}") int batchSize,
+            @Value("${score.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${score.write-behind.replay-interval-ms:30000}") long replayIntervalMs,
+            @Value("${score.write-behind.drain-timeout-ms:10000}") long drainTimeoutMs,
+            @Value("${score.write-behind.spill-file:data/${cluster.node-id:node-1}/score-spill.tsv}") String spillFile) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = flushIntervalMs;
+        this.replayIntervalMs = replayIntervalMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+        this.spillFile = Paths.get(spillFile);
+        this.replayFile = Paths.get(spillFile + ".replay");
+        this.rejectedFile = Paths.get(spillFile + ".rejected");
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::runWriter, "Score-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("✅ [ScoreWriteBehind] Started (batch={}, spill={})", batchSize, spillFile);
+    }
+
+    @PreDestroy
+    public void stop() {
+        accepting = false;
+        running = false;
+        try {
+            writerThread.join(drainTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 제한 시간 안에 저장하지 못한 레코드는 다음 시작 때 스필 파일에서 저장
+        List<ScoreRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+        log.info("🛑 [ScoreWriteBehind] Stopped (written={}, spilled={})", written.get(), spilled.get());
+    }
+
+    /**
+     * 점수 제출 (블로킹 없음)
+     *
+     * @return 큐에 들어갔으면 true, 큐가 가득 차거나 종료 중이라 스필 파일로 보냈으면 false
+     */
+    public boolean submit(ScoreRecord record) {
+        if (accepting && queue.offer(record)) {
+            return true;
+        }
+        spill(List.of(record));
+        return false;
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    private void runWriter() {
+        List<ScoreRecord> batch = new ArrayList<>(batchSize);
+        long nextReplay = 0; // 시작하자마자 이전 실행의 스필 파일부터 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                if (System.currentTimeMillis() >= nextReplay) {
+                    replaySpill();
+                    nextReplay = System.currentTimeMillis() + replayIntervalMs;
+                }
+
+                ScoreRecord first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                writeOrSpill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("❌ [ScoreWriteBehind] Writer loop error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 크기가 찰 때까지 또는 flush 간격이 지날 때까지 모음 (종료 중이면 기다리지 않음)
+     */
+    private void collectBatch(List<ScoreRecord> batch) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + flushIntervalMs;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long wait = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || wait <= 0 || !running) {
+                return;
+            }
+            ScoreRecord next = queue.poll(wait, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void writeOrSpill(List<ScoreRecord> batch) {
+        List<ScoreRecord> remaining = insertOrRetryEach(batch);
+        if (!remaining.isEmpty()) {
+            log.warn("⚠️ [ScoreWriteBehind] Database unavailable, spilling {} record(s)", remaining.size());
+            spill(remaining);
+        }
+    }
+
+    /**
+     * 배치 저장, 실패하면 한 건씩 다시 저장
+     *
+     * 행 오류로 실패한 레코드는 거부 파일로 보내고 계속 진행, DB 장애면 그 레코드부터 저장하지 않고 반환
+     *
+     * @return 저장하지 못한 레코드 (DB 장애로 멈춘 지점부터, 모두 처리했으면 빈 목록)
+     */
+    private List<ScoreRecord> insertOrRetryEach(List<ScoreRecord> records) {
+        try {
+            insert(records);
+            written.addAndGet(records.size());
+            return List.of();
+        } catch (RuntimeException e) {
+            if (!isRecordError(e)) {
+                return records; // DB 장애 - 한 건씩 다시 시도해도 실패
+            }
+            if (records.size() == 1) {
+                reject(records, e);
+                return List.of();
+            }
+            log.warn("⚠️ [ScoreWriteBehind] Batch insert failed, retrying {} record(s) one by one: {}",
+                records.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            ScoreRecord record = records.get(i);
+            try {
+                insert(List.of(record));
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                if (!isRecordError(e)) {
+                    return new ArrayList<>(records.subList(i, records.size()));
+                }
+                reject(List.of(record), e);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 레코드 자체의 오류인지 (다시 시도해도 같은 결과) - 연결 실패 같은 DB 장애는 제외
+     */
+    private static boolean isRecordError(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException && !(e instanceof DataAccessResourceFailureException);
+    }
+
+    /**
+     * 한 트랜잭션으로 배치 INSERT (일부만 저장된 채 스필되어 중복 저장되는 일이 없도록)
+     */
+    private void insert(List<ScoreRecord> records) {
+        transactions.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, records, batchSize, (statement, record) -> {
+                Timestamp finishedAt = new Timestamp(record.getFinishedAt());
+                statement.setString(1, record.getName());
+                statement.setInt(2, record.getScore());
+                statement.setString(3, (record.getDifficulty() != null ? record.getDifficulty() : Difficulty.NORMAL).name());
+                statement.setBoolean(4, record.isItemMode());
+                statement.setTimestamp(5, finishedAt);
+                statement.setTimestamp(6, finishedAt);
+            }));
+    }
+
+    /**
+     * 스필 파일에 추가 (게임 스레드와 저장 스레드가 함께 사용)
+     */
+    private void spill(List<ScoreRecord> records) {
+        synchronized (spillLock) {
+            try {
+                appendLines(spillFile, toLines(records));
+                spilled.addAndGet(records.size());
+            } catch (IOException e) {
+                log.error("❌ [ScoreWriteBehind] Failed to spill {} record(s), scores lost", records.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 거부 파일에 추가 (저장 스레드만 사용, 운영자가 확인 후 수동 처리)
+     */
+    private void reject(List<ScoreRecord> records, RuntimeException cause) {
+        rejectLines(toLines(records), cause.getMessage());
+    }
+
+    private void rejectLines(List<String> lines, String reason) {
+        try {
+            appendLines(rejectedFile, lines);
+            rejected.addAndGet(lines.size());
+            log.error("🚫 [ScoreWriteBehind] Rejected {} record(s) to {}: {}", lines.size(), rejectedFile, reason);
+        } catch (IOException e) {
+            log.error("❌ [ScoreWriteBehind] Failed to write {} rejected record(s), scores lost", lines.size(), e);
+        }
+    }
+
+    private static List<String> toLines(List<ScoreRecord> records) {
+        List<String> lines = new ArrayList<>(records.size());
+        for (ScoreRecord record : records) {
+            lines.add(record.toSpillLine());
+        }
+        return lines;
+    }
+
+    private static void appendLines(Path file, List<String> lines) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * 스필 파일 재저장
+     *
+     * 스필 파일을 replay 파일로 옮긴 뒤 (이후 스필은 새 파일에 쌓임) 한 트랜잭션으로 저장
+     * - 배치가 실패하면 한 건씩 다시 저장, 행 오류 레코드와 읽을 수 없는 줄은 거부 파일로 보냄
+     * - 끝까지 처리하면 replay 파일 삭제 → 다음 주기에 새 스필 파일을 가져감
+     * - DB 장애로 멈추면 아직 저장하지 않은 줄만 replay 파일에 다시 써서 다음 주기에 이어서 시도 (중복 저장 없음)
+     */
+    private void replaySpill() {
+        try {
+            if (!Files.exists(replayFile)) {
+                synchronized (spillLock) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            List<ScoreRecord> records = new ArrayList<>();
+            List<String> unreadable = new ArrayList<>();
+            for (String line : Files.readAllLines(replayFile, StandardCharsets.UTF_8)) {
+                ScoreRecord record = ScoreRecord.fromSpillLine(line);
+                if (record != null) {
+                    records.add(record);
+                } else if (!line.isBlank()) {
+                    unreadable.add(line);
+                }
+            }
+            if (!unreadable.isEmpty()) {
+                rejectLines(unreadable, "unreadable spill line");
+            }
+
+            List<ScoreRecord> remaining = records.isEmpty() ? List.of() : insertOrRetryEach(records);
+            if (!remaining.isEmpty()) {
+                // 처리한 줄은 빼고 남은 줄만 다시 기록 (임시 파일 후 교체)
+                Path temp = Paths.get(replayFile + ".tmp");
+                Files.write(temp, toLines(remaining), StandardCharsets.UTF_8);
+                Files.move(temp, replayFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.warn("⚠️ [ScoreWriteBehind] Spill replay stopped, {} record(s) left, retrying in {} ms",
+                    remaining.size(), replayIntervalMs);
+                return;
+            }
+            Files.delete(replayFile);
+            log.info("♻️ [ScoreWriteBehind] Replayed {} spilled record(s)", records.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ [ScoreWriteBehind] Spill replay failed, retrying in {} ms: {}", replayIntervalMs, e.getMessage());
+        }
+    }
+}
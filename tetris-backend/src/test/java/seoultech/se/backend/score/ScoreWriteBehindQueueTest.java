@@ -0,0 +1,230 @@
+package seoultech.se.backend.score;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionOperations;
+
+import seoultech.se.core.model.enumType.Difficulty;
+
+/**
+ * ScoreWriteBehindQueue 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 쌓인 점수를 한 번의 배치 INSERT로 저장
+ * 2. DB 장애 시 배치를 스필 파일로 보내고, 재시작 후 스필 파일을 다시 저장
+ * 3. 큐가 가득 차면 제출은 바로 반환하고 레코드는 스필 파일에 남음
+ * 4. 배치에 잘못된 행이 있으면 한 건씩 다시 저장하고 그 행만 거부 파일로 보냄
+ * 5. 스필 파일에 잘못된 행이 있어도 나머지를 저장하고 replay 파일을 지워 다음 스필을 계속 처리
+ */
+class ScoreWriteBehindQueueTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("쌓인 점수를 한 번의 배치 INSERT로 저장")
+    void testSubmit_FlushesInOneBatch() {
+        // Given
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<List<ScoreRecord>> batches = recordBatches(jdbcTemplate);
+        ScoreWriteBehindQueue queue = newQueue(jdbcTemplate, 100);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.submit(record("player" + i, i * 100)));
+        }
+        queue.start();
+        queue.stop();
+
+        // Then
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals(3, queue.getWrittenCount());
+        assertFalse(Files.exists(spillFile()));
+    }
+
+    @Test
+    @DisplayName("DB 장애 시 배치를 스필 파일로 보내고, 재시작 후 스필 파일을 다시 저장")
+    void testDatabaseDown_SpillsAndReplaysAfterRestart() throws Exception {
+        // Given: DB 장애
+        JdbcTemplate failing = mock(JdbcTemplate.class);
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+            .when(failing).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        ScoreWriteBehindQueue queue = newQueue(failing, 100);
+        queue.submit(record("alice", 1200));
+        queue.submit(record("bob", 800));
+
+        // When
+        queue.start();
+        queue.stop();
+
+        // Then
+        assertEquals(2, Files.readAllLines(spillFile()).size());
+        assertEquals(2, queue.getSpilledCount());
+
+        // When: DB 복구 후 재시작
+        JdbcTemplate recovered = mock(JdbcTemplate.class);
+        List<List<ScoreRecord>> batches = recordBatches(recovered);
+        ScoreWriteBehindQueue restarted = newQueue(recovered, 100);
+        restarted.start();
+        waitUntil(() -> !batches.isEmpty());
+        restarted.stop();
+
+        // Then
+        assertEquals(2, batches.get(0).size());
+        assertEquals("alice", batches.get(0).get(0).getName());
+        assertEquals(1200, batches.get(0).get(0).getScore());
+        assertEquals(Difficulty.HARD, batches.get(0).get(0).getDifficulty());
+        assertFalse(Files.exists(spillFile()));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 제출은 바로 반환하고 레코드는 스필 파일에 남음")
+    void testSubmit_FullQueueSpills() throws Exception {
+        // Given: 저장 스레드를 시작하지 않은 크기 2의 큐
+        ScoreWriteBehindQueue queue = newQueue(mock(JdbcTemplate.class), 2);
+        assertTrue(queue.submit(record("p1", 1)));
+        assertTrue(queue.submit(record("p2", 2)));
+
+        // When
+        boolean accepted = queue.submit(record("p3", 3));
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(2, queue.getPendingCount());
+        List<String> lines = Files.readAllLines(spillFile());
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("p3\t3\t"));
+    }
+
+    @Test
+    @DisplayName("배치에 잘못된 행이 있으면 한 건씩 다시 저장하고 그 행만 거부 파일로 보냄")
+    void testBadRecord_RejectedAlone() throws Exception {
+        // Given: "bad"가 들어간 INSERT는 항상 제약 조건 위반
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<List<ScoreRecord>> batches = recordBatchesRejecting(jdbcTemplate, "bad");
+        ScoreWriteBehindQueue queue = newQueue(jdbcTemplate, 100);
+        queue.submit(record("alice", 1));
+        queue.submit(record("bad", 2));
+        queue.submit(record("bob", 3));
+
+        // When
+        queue.start();
+        queue.stop();
+
+        // Then
+        assertEquals(2, queue.getWrittenCount());
+        assertEquals(1, queue.getRejectedCount());
+        assertEquals(2, batches.size()); // 한 건씩 저장된 alice, bob
+        List<String> rejectedLines = Files.readAllLines(rejectedFile());
+        assertEquals(1, rejectedLines.size());
+        assertTrue(rejectedLines.get(0).startsWith("bad\t2\t"));
+        assertFalse(Files.exists(spillFile()));
+    }
+
+    @Test
+    @DisplayName("스필 파일에 잘못된 행이 있어도 나머지를 저장하고 replay 파일을 지워 다음 스필을 계속 처리")
+    void testReplay_RejectsBadLineAndDeletesReplay() throws Exception {
+        // Given: 이전 실행이 남긴 스필 파일 (잘못된 행, 읽을 수 없는 줄 포함)
+        Files.write(spillFile(), List.of(
+            record("alice", 1).toSpillLine(),
+            record("bad", 2).toSpillLine(),
+            "not a spill line"));
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        List<List<ScoreRecord>> batches = recordBatchesRejecting(jdbcTemplate, "bad");
+        ScoreWriteBehindQueue queue = newQueue(jdbcTemplate, 100);
+
+        // When
+        queue.start();
+        waitUntil(() -> queue.getRejectedCount() == 2 && !Files.exists(replayFile()));
+        queue.stop();
+
+        // Then
+        assertEquals(1, queue.getWrittenCount());
+        assertEquals("alice", batches.get(0).get(0).getName());
+        assertEquals(2, Files.readAllLines(rejectedFile()).size());
+        assertFalse(Files.exists(replayFile()));
+        assertFalse(Files.exists(spillFile()));
+    }
+
+    private ScoreWriteBehindQueue newQueue(JdbcTemplate jdbcTemplate, int capacity) {
+        return new ScoreWriteBehindQueue(jdbcTemplate, TransactionOperations.withoutTransaction(),
+            capacity, 50, 20, 60_000, 5_000, spillFile().toString());
+    }
+
+    private Path spillFile() {
+        return directory.resolve("score-spill.tsv");
+    }
+
+    private Path replayFile() {
+        return directory.resolve("score-spill.tsv.replay");
+    }
+
+    private Path rejectedFile() {
+        return directory.resolve("score-spill.tsv.rejected");
+    }
+
+    private static ScoreRecord record(String name, int score) {
+        return new ScoreRecord(name, score, Difficulty.HARD, false, System.currentTimeMillis());
+    }
+
+    /**
+     * batchUpdate에 넘어온 레코드를 복사해 둠 (큐는 배치 리스트를 재사용)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<List<ScoreRecord>> recordBatches(JdbcTemplate jdbcTemplate) {
+        List<List<ScoreRecord>> batches = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            batches.add(new ArrayList<>((Collection<ScoreRecord>) invocation.getArgument(1)));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return batches;
+    }
+
+    /**
+     * recordBatches와 같지만 badName이 들어간 배치는 제약 조건 위반으로 실패 (저장된 배치만 기록)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<List<ScoreRecord>> recordBatchesRejecting(JdbcTemplate jdbcTemplate, String badName) {
+        List<List<ScoreRecord>> batches = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<ScoreRecord> batch = new ArrayList<>((Collection<ScoreRecord>) invocation.getArgument(1));
+            if (batch.stream().anyMatch(record -> badName.equals(record.getName()))) {
+                throw new DataIntegrityViolationException("constraint violation");
+            }
+            batches.add(batch);
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return batches;
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
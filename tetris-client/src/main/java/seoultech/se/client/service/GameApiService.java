@@ -24,6 +24,11 @@ public class GameApiService {
     private final RestTemplate restTemplate;
     private final String baseUrl;
 
+    /**
+     * 현재 멀티플레이 세션을 실행하는 서버 (클러스터 리다이렉트 시, 그 외 null → baseUrl)
+     */
+    private volatile String sessionServerUrl;
+
     @Autowired
     private AuthService authService;
 
@@ -40,7 +45,7 @@ public class GameApiService {
      * @param sessionId 게임 세션 ID
      */
     public void startGame(String sessionId) {
-        String url = baseUrl + "/api/game/start/" + sessionId;
+        String url = sessionBaseUrl() + "/api/game/start/" + sessionId;
 
         try {
             HttpHeaders headers = new HttpHeaders();
@@ -79,7 +84,7 @@ public class GameApiService {
      * @return ServerStateDto (myGameState, opponentGameState 포함)
      */
     public ServerStateDto getInitialState(String sessionId) {
-        String url = baseUrl + "/api/game/state/" + sessionId;
+        String url = sessionBaseUrl() + "/api/game/state/" + sessionId;
 
         try {
             HttpHeaders headers = new HttpHeaders();
@@ -108,4 +113,16 @@ public class GameApiService {
             return null;
         }
     }
+
+    /**
+     * 세션 API를 보낼 서버 지정 (매칭 알림의 serverUrl, null이면 기본 서버)
+     */
+    public void setSessionServerUrl(String serverUrl) {
+        this.sessionServerUrl = serverUrl;
+    }
+
+    private String sessionBaseUrl() {
+        String serverUrl = sessionServerUrl;
+        return serverUrl != null ? serverUrl : baseUrl;
+    }
 }
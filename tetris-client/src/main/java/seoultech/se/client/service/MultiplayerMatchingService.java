@@ -35,6 +35,9 @@ public class MultiplayerMatchingService {
     @Autowired(required = false)
     private NetworkGameClient networkGameClient;
 
+    @Autowired
+    private GameApiService gameApiService;
+
     private final RestTemplate restTemplate = new RestTemplate();
 
     private String currentSessionId;
@@ -87,6 +90,7 @@ public class MultiplayerMatchingService {
                 if (isWaitingForMatch) {
                     isWaitingForMatch = false;
                     currentSessionId = matchNotification.getSessionId();
+                    switchToSessionServer(matchNotification.getServerUrl(), jwtToken);
                     notifySuccess(matchNotification);
                 }
             });
@@ -171,6 +175,27 @@ public class MultiplayerMatchingService {
         }
     }
 
+    /**
+     * 세션을 실행하는 서버로 전환 (클러스터 모드에서 다른 노드가 세션을 소유한 경우)
+     *
+     * WebSocket을 소유 노드로 다시 연결하고 게임 시작/상태 API도 그 노드로 보냄
+     *
+     * @param serverUrl 매칭 알림의 serverUrl (null이면 현재 서버 유지)
+     * @param jwtToken JWT 인증 토큰 (모든 노드가 같은 서명 키 사용)
+     */
+    private void switchToSessionServer(String serverUrl, String jwtToken) {
+        gameApiService.setSessionServerUrl(serverUrl);
+        if (serverUrl == null) {
+            return;
+        }
+
+        String websocketUrl = serverUrl.replace("http://", "ws://")
+            .replace("https://", "wss://") + "/ws-game";
+        System.out.println("🌐 [MatchingService] Session is hosted on another node, reconnecting: " + websocketUrl);
+        networkTemplate.disconnect();
+        networkTemplate.connect(websocketUrl, jwtToken);
+    }
+
     /**
      * 매칭 성공 알림
      */
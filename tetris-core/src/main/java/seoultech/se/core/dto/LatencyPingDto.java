@@ -0,0 +1,28 @@
+package seoultech.se.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지연 측정용 핑/에코 DTO
+ *
+ * 흐름:
+ * 1. 서버 → 클라이언트 (/user/topic/game/ping): pingId, serverTime, 현재 측정값
+ * 2. 클라이언트 → 서버 (/app/game/pong): 받은 값을 그대로 돌려보내고 clientTime만 채움
+ *
+ * RTT는 서버 시계만으로 계산하므로 클라이언트와 시계가 달라도 정확함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencyPingDto {
+    private String sessionId;            // 게임 방 ID
+    private long pingId;                 // 핑 번호 (플레이어별 증가)
+    private long serverTime;             // 서버가 핑을 보낸 시각 (밀리초)
+    private long clientTime;             // 클라이언트가 에코를 보낸 시각 (밀리초, 에코에서만 사용)
+    private int rttMs;                   // 서버가 추정한 현재 RTT (참고용)
+    private int recommendedInputDelayMs; // 권장 입력 지연 버퍼 (클라이언트 입력 묶음 주기 조정용)
+}
@@ -0,0 +1,24 @@
+package seoultech.se.core.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입력 묶음 DTO (클라이언트 → 서버)
+ *
+ * 키 입력마다 STOMP SEND를 보내는 대신, 한 프레임 동안 쌓인 입력을 한 번에 전송
+ * - 서버는 묶음 전체를 세션 락 한 번으로 순서대로 적용하고 응답을 하나만 생성
+ * - DAS 자동 반복처럼 입력이 몰리는 경우 인바운드 메시지 수가 크게 줄어듦
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerInputBatchDto {
+    private String sessionId;             // 게임 방 ID
+    private List<PlayerInputDto> inputs;  // 시퀀스 순서대로 정렬된 입력 목록
+}
@@ -14,6 +14,7 @@ public class PlayerInputDto {
     private String sessionId;    // 게임 방 ID
     private long sequenceId;     // 입력 순서 (Reconciliation의 핵심)
     private GameCommand command; // 수행할 동작 (MOVE_LEFT, ROTATE 등)
+    private long clientTimestamp; // 클라이언트에서 입력이 발생한 시각 (밀리초, 묶음 전송 시 입력 순서/지연 확인용)
     // JWT 토큰은 WebSocket 헤더로 전달하므로 여기서는 제외 가능하나, 
     // Payload 검증이 필요하다면 포함할 수 있음.
 }
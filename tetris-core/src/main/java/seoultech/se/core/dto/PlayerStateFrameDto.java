@@ -0,0 +1,25 @@
+package seoultech.se.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 플레이어 보드 프레임 DTO
+ *
+ * 자신의 상태(ServerStateDto)와 분리된 별도 채널로 전송되는 상대방 보드 상태
+ * - 서버가 낮은 주기로, 보드 해시가 바뀐 경우에만 전송
+ * - 상대방 보드 뷰는 작고 지연에 관대하므로 자신의 상태보다 낮은 우선순위
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStateFrameDto {
+    private String sessionId;   // 게임 방 ID
+    private String playerId;    // 이 보드의 주인 (상대방 ID)
+    private long stateVersion;  // 서버 상태 버전 (오래된 프레임 무시용, 클수록 최신)
+    private int boardHash;      // 보드 해시 (변경 감지용)
+    private GameStateDto state; // 보드 상태 - 경량 DTO 사용
+}
@@ -0,0 +1,50 @@
+/*
+ * Tetris Load Test Module
+ * 📈 서버 동시 처리 한계 측정용 부하 테스트 하네스
+ * - tetris-server를 같은 프로세스에서 H2 프로필로 기동
+ * - 합성 STOMP 클라이언트 수천 명을 단계적으로 투입
+ * - 틱 초과, 입력 왕복 지연 백분위, 초당 메시지 수, 힙/GC 통계 리포트
+ * - 외부 서비스 없이 localhost에서만 실행
+ */
+plugins {
+    alias(libs.plugins.spring.boot)
+    alias(libs.plugins.spring.dependency.management)
+    application
+}
+
+description = "Tetris Server Load Test Harness (synthetic STOMP players)"
+
+application {
+    mainClass.set("seoultech.se.loadtest.LoadTestApplication")
+    applicationDefaultJvmArgs = listOf("-Xmx2g")
+}
+
+dependencies {
+    // 서버를 같은 프로세스에서 기동
+    implementation(project(":tetris-core"))
+    implementation(project(":tetris-server"))
+
+    implementation(libs.backend.spring.boot.starter)
+    implementation(libs.backend.spring.boot.starter.web)
+    implementation(libs.backend.spring.boot.starter.actuator) // MeterRegistry (틱 초과 집계)
+    implementation("org.springframework.boot:spring-boot-starter-websocket") // STOMP 클라이언트
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+
+    // 외부 DB 없이 실행
+    runtimeOnly(libs.backend.h2.database)
+
+    compileOnly(libs.common.lombok)
+    annotationProcessor(libs.common.lombok)
+}
+
+// 실행 가능한 부트 JAR은 필요 없음 (./gradlew :tetris-loadtest:run 으로 실행)
+tasks.bootJar {
+    enabled = false
+}
+
+tasks.jar {
+    archiveBaseName.set("tetris-loadtest")
+    enabled = true
+}
+
+// 실행 예: ./gradlew :tetris-loadtest:run --args="--players=200,1000,2000 --step-seconds=30 --input-hz=8"
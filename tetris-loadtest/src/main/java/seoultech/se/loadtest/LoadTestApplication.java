@@ -0,0 +1,42 @@
+package seoultech.se.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import seoultech.se.server.TetrisServerApplication;
+
+/**
+ * 부하 테스트 하네스 진입점
+ *
+ * 1. tetris-server를 같은 프로세스에서 loadtest 프로필(H2, 임의 포트)로 기동
+ * 2. LoadTestRunner가 단계별로 합성 플레이어를 투입하며 리포트 출력
+ * 3. 종료 시 서버 컨텍스트 정리
+ *
+ * 실행: ./gradlew :tetris-loadtest:run --args="--players=200,1000,2000 --step-seconds=30 --input-hz=8"
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        System.out.println("🚀 [LoadTest] Starting in-process server (profile: loadtest)");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TetrisServerApplication.class)
+            .profiles("loadtest")
+            .run(args);
+
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.println("✅ [LoadTest] Server listening on port " + port);
+            new LoadTestRunner(context, options, "ws://localhost:" + port + "/ws-game").run();
+        } catch (Exception e) {
+            System.err.println("❌ [LoadTest] Aborted: " + e.getMessage());
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,54 @@
+package seoultech.se.loadtest;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * 부하 테스트 실행 옵션
+ *
+ * 명령줄 인자 (--key=value):
+ * - --players=200,1000,2000: 단계별 누적 플레이어 수 (증가 순서)
+ * - --step-seconds=30: 단계마다 유지하는 시간 (초, 리포트 윈도우)
+ * - --input-hz=8: 플레이어당 초당 입력 수
+ * - --join-parallelism=N: 계정 생성/로그인/접속 병렬도 (기본: CPU 코어 수)
+ */
+@Getter
+public class LoadTestOptions {
+
+    private int[] playerSteps = {100, 500, 1000, 2000};
+    private int stepSeconds = 30;
+    private int inputHz = 8;
+    private int joinParallelism = Runtime.getRuntime().availableProcessors();
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                continue;
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "players" -> options.playerSteps = Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .mapToInt(Integer::parseInt)
+                    .sorted()
+                    .toArray();
+                case "step-seconds" -> options.stepSeconds = Integer.parseInt(value);
+                case "input-hz" -> options.inputHz = Integer.parseInt(value);
+                case "join-parallelism" -> options.joinParallelism = Integer.parseInt(value);
+                default -> {
+                    // Spring 인자(--server.port 등)는 그대로 서버에 전달됨
+                }
+            }
+        }
+        if (options.stepSeconds < 1 || options.stepSeconds > 60) {
+            throw new IllegalArgumentException("step-seconds는 1 ~ 60 사이여야 합니다: " + options.stepSeconds);
+        }
+        if (options.inputHz < 1) {
+            throw new IllegalArgumentException("input-hz는 1 이상이어야 합니다: " + options.inputHz);
+        }
+        return options;
+    }
+}
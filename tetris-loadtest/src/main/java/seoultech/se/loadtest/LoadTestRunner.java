@@ -0,0 +1,197 @@
+package seoultech.se.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import seoultech.se.server.admin.AdminDashboardService;
+import seoultech.se.server.admin.AdminDashboardService.LatencyMetric;
+import seoultech.se.server.admin.AdminDashboardService.LatencyPercentiles;
+import seoultech.se.server.admin.TimeSeriesRing;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.matchmaking.MatchmakingService;
+import seoultech.se.server.user.UserService;
+
+/**
+ * 단계별 플레이어 투입 + 리포트
+ *
+ * 단계마다:
+ * 1. 목표 인원까지 합성 플레이어 추가 (로그인/접속은 join-parallelism 만큼 병렬)
+ * 2. step-seconds 동안 유지
+ * 3. 직전 step-seconds 윈도우 기준으로 리포트 출력
+ *    - 클라이언트: 초당 입력/메시지, 입력 왕복 지연 p50/p95/p99, 오류
+ *    - 서버: 틱 처리 시간 p99 (대시보드 시계열 링), 틱 초과 횟수 (Micrometer)
+ *    - JVM: 힙 사용량, GC 횟수/시간 (서버와 클라이언트가 같은 프로세스이므로 합산 값)
+ */
+public class LoadTestRunner {
+
+    private final LoadTestOptions options;
+    private final String url;
+    private final UserService userService;
+    private final MatchmakingService matchmakingService;
+    private final GameSessionManager gameSessionManager;
+    private final AdminDashboardService dashboardService;
+    private final Counter tickOverrun;
+
+    private final LoadTestStats stats = new LoadTestStats();
+    private final List<SyntheticPlayer> players = new ArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final WebSocketStompClient stompClient;
+
+    private double lastTickOverrun;
+    private long lastGcCount;
+    private long lastGcTimeMs;
+
+    public LoadTestRunner(ConfigurableApplicationContext context, LoadTestOptions options, String url) {
+        this.options = options;
+        this.url = url;
+        this.userService = context.getBean(UserService.class);
+        this.matchmakingService = context.getBean(MatchmakingService.class);
+        this.gameSessionManager = context.getBean(GameSessionManager.class);
+        this.dashboardService = context.getBean(AdminDashboardService.class);
+        this.tickOverrun = context.getBean(MeterRegistry.class).find("tetris.tick.overrun").counter();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(
+            Math.max(4, Runtime.getRuntime().availableProcessors()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-player-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        this.stompClient.setInboundMessageSizeLimit(10 * 1024 * 1024);
+    }
+
+    public void run() throws InterruptedException {
+        System.out.println("📋 [LoadTest] Steps: " + Arrays.toString(options.getPlayerSteps()) +
+            " players, " + options.getStepSeconds() + "s each, " + options.getInputHz() + " inputs/s per player");
+        resetJvmBaseline();
+
+        try {
+            int stepNumber = 0;
+            for (int target : options.getPlayerSteps()) {
+                stepNumber++;
+                rampTo(target);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(options.getStepSeconds()));
+                report(stepNumber, target);
+            }
+        } finally {
+            System.out.println("🧹 [LoadTest] Stopping " + players.size() + " players");
+            players.forEach(SyntheticPlayer::stop);
+            scheduler.shutdownNow();
+            stompClient.stop();
+        }
+    }
+
+    /**
+     * 목표 인원까지 플레이어 추가
+     */
+    private void rampTo(int target) throws InterruptedException {
+        int toAdd = target - players.size();
+        if (toAdd <= 0) {
+            return;
+        }
+
+        System.out.println("⏫ [LoadTest] Adding " + toAdd + " players (target: " + target + ")");
+        long startNanos = System.nanoTime();
+        ExecutorService joinPool = Executors.newFixedThreadPool(options.getJoinParallelism());
+        List<Future<SyntheticPlayer>> joins = new ArrayList<>(toAdd);
+        for (int i = 0; i < toAdd; i++) {
+            SyntheticPlayer player = new SyntheticPlayer(players.size() + i, userService, matchmakingService,
+                gameSessionManager, scheduler, stats, options.getInputHz());
+            joins.add(joinPool.submit(() -> {
+                player.login();
+                player.connectAndQueue(stompClient, url);
+                return player;
+            }));
+        }
+
+        int failed = 0;
+        for (Future<SyntheticPlayer> join : joins) {
+            try {
+                players.add(join.get());
+            } catch (Exception e) {
+                failed++;
+                stats.recordError();
+            }
+        }
+        joinPool.shutdown();
+
+        System.out.println("✅ [LoadTest] Ramp done in " +
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms (failed: " + failed + ")");
+    }
+
+    private void report(int stepNumber, int target) {
+        int window = options.getStepSeconds();
+
+        TimeSeriesRing.Snapshot rtt = stats.getInputRoundTrip(window);
+        Map<LatencyMetric, LatencyPercentiles> server = dashboardService.getLatencyPercentiles(window);
+        LatencyPercentiles tick = server.get(LatencyMetric.TICK_TIME);
+
+        double overrunTotal = tickOverrun != null ? tickOverrun.count() : 0;
+        long overruns = (long) (overrunTotal - lastTickOverrun);
+        lastTickOverrun = overrunTotal;
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long gcCount = 0;
+        long gcTimeMs = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTimeMs += Math.max(0, gc.getCollectionTime());
+        }
+
+        System.out.println("📈 [LoadTest] Step " + stepNumber + "/" + options.getPlayerSteps().length +
+            ": target=" + target +
+            ", connected=" + stats.getConnectedPlayers().get() +
+            ", playing=" + stats.getPlayingPlayers().get() +
+            ", sessions=" + gameSessionManager.getActiveSessionCount());
+        System.out.println(String.format("   - Throughput: %.0f inputs/s, %.0f messages/s, game overs=%d, errors=%d",
+            (double) stats.getInputsSent(window) / window,
+            (double) stats.getMessages(window) / window,
+            stats.getGameOvers(window),
+            stats.getErrors(window)));
+        System.out.println(String.format("   - Input RTT: p50=%.1fms p95=%.1fms p99=%.1fms (samples=%d)",
+            rtt.getPercentile(50) / 1000.0,
+            rtt.getPercentile(95) / 1000.0,
+            rtt.getPercentile(99) / 1000.0,
+            rtt.getCount()));
+        System.out.println(String.format("   - Server tick: p50=%.1fms p99=%.1fms, overruns=%d",
+            tick.getP50Ms(), tick.getP99Ms(), overruns));
+        System.out.println(String.format("   - JVM: heap used=%dMB committed=%dMB, GC count=+%d time=+%dms",
+            heap.getUsed() / (1024 * 1024),
+            heap.getCommitted() / (1024 * 1024),
+            gcCount - lastGcCount,
+            gcTimeMs - lastGcTimeMs));
+
+        lastGcCount = gcCount;
+        lastGcTimeMs = gcTimeMs;
+    }
+
+    private void resetJvmBaseline() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            lastGcCount += Math.max(0, gc.getCollectionCount());
+            lastGcTimeMs += Math.max(0, gc.getCollectionTime());
+        }
+        lastTickOverrun = tickOverrun != null ? tickOverrun.count() : 0;
+    }
+}
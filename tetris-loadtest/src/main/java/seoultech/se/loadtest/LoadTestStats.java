@@ -0,0 +1,77 @@
+package seoultech.se.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seoultech.se.server.admin.TimeSeriesRing;
+
+/**
+ * 합성 플레이어 공용 통계 (클라이언트 측 측정값)
+ *
+ * - 서버의 대시보드와 같은 TimeSeriesRing(초 단위 60칸)을 사용하므로
+ *   단계 길이(최대 60초) 윈도우로 초당 수치와 백분위를 바로 계산
+ * - 입력 왕복 지연: 입력 전송 ~ 해당 시퀀스를 포함한 ServerStateDto 수신 (마이크로초)
+ */
+public class LoadTestStats {
+
+    private static final int COUNTER_MESSAGES = 0;     // 수신한 STOMP 메시지 (상태 + 상대 보드 + 핑)
+    private static final int COUNTER_INPUTS_SENT = 1;  // 전송한 입력
+    private static final int COUNTER_GAME_OVER = 2;    // 게임 오버 후 재매칭
+    private static final int COUNTER_ERRORS = 3;       // 전송/접속 오류
+    private static final int COUNTER_COUNT = 4;
+
+    private static final int HISTOGRAM_INPUT_RTT = 0;
+
+    private final TimeSeriesRing ring = new TimeSeriesRing(1000, 60, COUNTER_COUNT, 1);
+
+    private final AtomicInteger connectedPlayers = new AtomicInteger();
+    private final AtomicInteger playingPlayers = new AtomicInteger();
+
+    public void recordMessage() {
+        ring.increment(COUNTER_MESSAGES, 1, System.currentTimeMillis());
+    }
+
+    public void recordInputSent() {
+        ring.increment(COUNTER_INPUTS_SENT, 1, System.currentTimeMillis());
+    }
+
+    public void recordInputRoundTrip(long elapsedNanos) {
+        ring.record(HISTOGRAM_INPUT_RTT, TimeUnit.NANOSECONDS.toMicros(elapsedNanos), System.currentTimeMillis());
+    }
+
+    public void recordGameOver() {
+        ring.increment(COUNTER_GAME_OVER, 1, System.currentTimeMillis());
+    }
+
+    public void recordError() {
+        ring.increment(COUNTER_ERRORS, 1, System.currentTimeMillis());
+    }
+
+    public AtomicInteger getConnectedPlayers() {
+        return connectedPlayers;
+    }
+
+    public AtomicInteger getPlayingPlayers() {
+        return playingPlayers;
+    }
+
+    public long getMessages(int windowSeconds) {
+        return ring.sumCounter(COUNTER_MESSAGES, windowSeconds, System.currentTimeMillis());
+    }
+
+    public long getInputsSent(int windowSeconds) {
+        return ring.sumCounter(COUNTER_INPUTS_SENT, windowSeconds, System.currentTimeMillis());
+    }
+
+    public long getGameOvers(int windowSeconds) {
+        return ring.sumCounter(COUNTER_GAME_OVER, windowSeconds, System.currentTimeMillis());
+    }
+
+    public long getErrors(int windowSeconds) {
+        return ring.sumCounter(COUNTER_ERRORS, windowSeconds, System.currentTimeMillis());
+    }
+
+    public TimeSeriesRing.Snapshot getInputRoundTrip(int windowSeconds) {
+        return ring.snapshot(HISTOGRAM_INPUT_RTT, windowSeconds, System.currentTimeMillis());
+    }
+}
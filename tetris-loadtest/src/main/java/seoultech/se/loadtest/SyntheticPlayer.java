@@ -0,0 +1,263 @@
+package seoultech.se.loadtest;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import seoultech.se.core.command.Direction;
+import seoultech.se.core.command.GameCommand;
+import seoultech.se.core.command.HardDropCommand;
+import seoultech.se.core.command.MoveCommand;
+import seoultech.se.core.command.RotateCommand;
+import seoultech.se.core.config.GameplayType;
+import seoultech.se.core.dto.LatencyPingDto;
+import seoultech.se.core.dto.PlayerInputDto;
+import seoultech.se.core.dto.PlayerStateFrameDto;
+import seoultech.se.core.dto.ServerStateDto;
+import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.core.model.enumType.RotationDirection;
+import seoultech.se.server.dto.MatchFoundNotification;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.matchmaking.MatchmakingService;
+import seoultech.se.server.user.LoginRequestDto;
+import seoultech.se.server.user.SignUpRequestDto;
+import seoultech.se.server.user.UserService;
+
+/**
+ * 합성 플레이어 (실제 클라이언트와 같은 STOMP 경로 사용)
+ *
+ * 흐름:
+ * 1. UserService로 계정 생성 + 로그인 (JWT 발급)
+ * 2. /ws-game에 STOMP 접속 후 매칭 알림, 자기 상태, 상대 보드, 핑 구독
+ * 3. MatchmakingService 큐 참여 → 매칭되면 입력 스트림 시작
+ * 4. 게임 오버가 되면 다시 큐에 참여 (부하 유지)
+ *
+ * 입력 스트림:
+ * - 이동/회전 위주, 약 1/10 확률로 하드 드롭 (사람 플레이와 비슷한 비율)
+ * - 입력 왕복 지연은 시퀀스별 전송 시각을 링에 저장해두고
+ *   lastProcessedSequence가 그 시퀀스를 넘는 상태 메시지를 받은 시점에 계산
+ */
+public class SyntheticPlayer {
+
+    private static final String PASSWORD = "loadtest-password";
+
+    /**
+     * 응답을 기다리는 입력 전송 시각 보관 칸 수 (2의 거듭제곱)
+     */
+    private static final int SENT_SLOTS = 256;
+
+    private final int index;
+    private final String email;
+    private final UserService userService;
+    private final MatchmakingService matchmakingService;
+    private final GameSessionManager gameSessionManager;
+    private final ScheduledExecutorService scheduler;
+    private final LoadTestStats stats;
+    private final int inputHz;
+
+    private final long[] sentAtNanos = new long[SENT_SLOTS];
+    private long nextSequence = 1;
+    private long lastAckedSequence = 0;
+
+    private String jwtToken;
+    private StompSession stompSession;
+    private ScheduledFuture<?> inputTask;
+    private volatile String gameSessionId;
+    private volatile boolean stopped;
+
+    public SyntheticPlayer(int index, UserService userService, MatchmakingService matchmakingService,
+                           GameSessionManager gameSessionManager, ScheduledExecutorService scheduler,
+                           LoadTestStats stats, int inputHz) {
+        this.index = index;
+        this.email = "loadtest-" + index + "@tetris.local";
+        this.userService = userService;
+        this.matchmakingService = matchmakingService;
+        this.gameSessionManager = gameSessionManager;
+        this.scheduler = scheduler;
+        this.stats = stats;
+        this.inputHz = inputHz;
+    }
+
+    /**
+     * 계정 생성 + 로그인 (JWT 발급)
+     */
+    public void login() {
+        SignUpRequestDto signUp = new SignUpRequestDto();
+        signUp.setName("bot" + index);
+        signUp.setEmail(email);
+        signUp.setPassword(PASSWORD);
+        try {
+            userService.signUp(signUp);
+        } catch (IllegalArgumentException e) {
+            // 이전 단계에서 이미 만든 계정이면 로그인만 진행
+        }
+
+        LoginRequestDto login = new LoginRequestDto();
+        login.setEmail(email);
+        login.setPassword(PASSWORD);
+        this.jwtToken = userService.login(login).getToken();
+    }
+
+    /**
+     * STOMP 접속, 구독 후 매칭 큐 참여
+     *
+     * @param stompClient 공유 STOMP 클라이언트
+     * @param url 서버 WebSocket 주소 (ws://localhost:{port}/ws-game)
+     */
+    public void connectAndQueue(WebSocketStompClient stompClient, String url) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtToken);
+
+        this.stompSession = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+            new StompSessionHandlerAdapter() {
+                @Override
+                public void handleTransportError(StompSession session, Throwable exception) {
+                    if (!stopped) {
+                        stats.recordError();
+                    }
+                }
+            }).get(10, TimeUnit.SECONDS);
+
+        subscribe("/user/queue/match-found", MatchFoundNotification.class, this::onMatchFound);
+        subscribe("/user/topic/game/state", ServerStateDto.class, this::onState);
+        subscribe("/user/topic/game/opponent", PlayerStateFrameDto.class, frame -> stats.recordMessage());
+        subscribe("/user/topic/game/ping", LatencyPingDto.class, this::onPing);
+        stats.getConnectedPlayers().incrementAndGet();
+
+        // 구독 프레임이 브로커에 등록될 시간을 두고 큐에 참여 (매칭 알림 유실 방지)
+        scheduler.schedule(this::joinQueue, 200, TimeUnit.MILLISECONDS);
+
+        long periodMicros = TimeUnit.SECONDS.toMicros(1) / inputHz;
+        long initialDelayMicros = ThreadLocalRandom.current().nextLong(periodMicros);
+        this.inputTask = scheduler.scheduleAtFixedRate(
+            this::sendInput, initialDelayMicros, periodMicros, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * 중지 (입력 중단, 큐 이탈, 연결 종료)
+     */
+    public void stop() {
+        stopped = true;
+        if (inputTask != null) {
+            inputTask.cancel(false);
+        }
+        if (matchmakingService.getWaitingStatus(email).isPresent()) {
+            matchmakingService.leaveQueue(email);
+        }
+        if (gameSessionId != null) {
+            stats.getPlayingPlayers().decrementAndGet();
+            gameSessionId = null;
+        }
+        if (stompSession != null && stompSession.isConnected()) {
+            stompSession.disconnect();
+            stats.getConnectedPlayers().decrementAndGet();
+        }
+    }
+
+    private void joinQueue() {
+        if (!stopped) {
+            matchmakingService.joinQueue(email, GameplayType.CLASSIC, Difficulty.NORMAL);
+        }
+    }
+
+    private void onMatchFound(MatchFoundNotification notification) {
+        stats.recordMessage();
+        // 실제 클라이언트는 화면 로드 후 POST /api/game/start를 호출함 - 두 명 중 한 명만 시작시킴
+        if (email.compareTo(notification.getOpponentEmail()) < 0) {
+            GameSession session = gameSessionManager.getSession(notification.getSessionId());
+            if (session != null) {
+                session.startGame();
+            }
+        }
+        if (gameSessionId == null) {
+            stats.getPlayingPlayers().incrementAndGet();
+        }
+        gameSessionId = notification.getSessionId();
+    }
+
+    private void onState(ServerStateDto state) {
+        stats.recordMessage();
+        long now = System.nanoTime();
+        synchronized (sentAtNanos) {
+            long processed = Math.min(state.getLastProcessedSequence(), nextSequence - 1);
+            // 링에서 이미 덮어쓴 오래된 시퀀스는 건너뜀
+            long from = Math.max(lastAckedSequence + 1, nextSequence - SENT_SLOTS);
+            for (long seq = from; seq <= processed; seq++) {
+                stats.recordInputRoundTrip(now - sentAtNanos[(int) (seq & (SENT_SLOTS - 1))]);
+            }
+            lastAckedSequence = Math.max(lastAckedSequence, processed);
+        }
+
+        if (state.isGameOver() && gameSessionId != null) {
+            gameSessionId = null;
+            stats.getPlayingPlayers().decrementAndGet();
+            stats.recordGameOver();
+            scheduler.execute(this::joinQueue);
+        }
+    }
+
+    private void onPing(LatencyPingDto ping) {
+        stats.recordMessage();
+        ping.setClientTime(System.currentTimeMillis());
+        stompSession.send("/app/game/pong", ping);
+    }
+
+    private void sendInput() {
+        String sessionId = gameSessionId;
+        if (sessionId == null || stopped || !stompSession.isConnected()) {
+            return;
+        }
+        long sequence;
+        synchronized (sentAtNanos) {
+            sequence = nextSequence++;
+            sentAtNanos[(int) (sequence & (SENT_SLOTS - 1))] = System.nanoTime();
+        }
+        try {
+            stompSession.send("/app/game/input", PlayerInputDto.builder()
+                .sessionId(sessionId)
+                .sequenceId(sequence)
+                .command(randomCommand())
+                .clientTimestamp(System.currentTimeMillis())
+                .build());
+            stats.recordInputSent();
+        } catch (RuntimeException e) {
+            stats.recordError();
+        }
+    }
+
+    private static GameCommand randomCommand() {
+        int roll = ThreadLocalRandom.current().nextInt(10);
+        return switch (roll) {
+            case 0, 1, 2 -> new MoveCommand(Direction.LEFT);
+            case 3, 4, 5 -> new MoveCommand(Direction.RIGHT);
+            case 6 -> new MoveCommand(Direction.DOWN, true);
+            case 7, 8 -> new RotateCommand(RotationDirection.CLOCKWISE);
+            default -> new HardDropCommand();
+        };
+    }
+
+    private <T> void subscribe(String destination, Class<T> payloadType, Consumer<T> handler) {
+        stompSession.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return payloadType;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                handler.accept(payloadType.cast(payload));
+            }
+        });
+    }
+}
@@ -43,6 +43,7 @@ dependencies {
 
     // Actuator (모니터링)
     implementation(libs.backend.spring.boot.starter.actuator)
+    runtimeOnly(libs.backend.micrometer.registry.prometheus)  // /actuator/prometheus 노출
 
     // JPA & Database
     implementation(libs.backend.spring.boot.starter.data.jpa)
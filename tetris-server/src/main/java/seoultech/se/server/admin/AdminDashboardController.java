@@ -16,6 +16,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import seoultech.se.server.admin.AdminDashboardService.DashboardOverview;
 import seoultech.se.server.admin.AdminDashboardService.HourlyStats;
+import seoultech.se.server.admin.AdminDashboardService.LatencyMetric;
+import seoultech.se.server.admin.AdminDashboardService.LatencyPercentiles;
+import seoultech.se.server.dto.PlayerLatencyDto;
+import seoultech.se.server.game.GameSession;
 import seoultech.se.server.game.GameSessionManager;
 
 /**
@@ -24,7 +28,9 @@ import seoultech.se.server.game.GameSessionManager;
  * 엔드포인트:
  * - GET /api/admin/dashboard/overview: 대시보드 개요
  * - GET /api/admin/dashboard/stats/hourly: 시간대별 통계
+ * - GET /api/admin/dashboard/stats/latency: 지연 백분위 (매치 시간, 매칭 대기, 틱 처리, 로그인)
  * - GET /api/admin/sessions: 활성 세션 목록
+ * - GET /api/admin/sessions/latency: 세션별 플레이어 연결 품질 (RTT, 지터, 손실률)
  * - DELETE /api/admin/sessions/{sessionId}: 세션 강제 종료
  * - GET /api/admin/system/status: 시스템 상태
  * - POST /api/admin/system/gc: 가비지 컬렉션 실행
@@ -65,6 +71,20 @@ public class AdminDashboardController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 지연 백분위 조회 (슬라이딩 윈도우)
+     *
+     * @param window 윈도우 길이 (초, 기본: 60초, 최대 24시간)
+     * @return 지표별 count, mean, p50, p95, p99 (밀리초)
+     */
+    @GetMapping("/dashboard/stats/latency")
+    public ResponseEntity<Map<LatencyMetric, LatencyPercentiles>> getLatencyPercentiles(
+        @RequestParam(defaultValue = "60") int window
+    ) {
+        log.info("📊 [Admin] Latency percentiles requested for {} seconds", window);
+        return ResponseEntity.ok(dashboardService.getLatencyPercentiles(window));
+    }
+
     /**
      * 활성 세션 목록 조회
      *
@@ -81,6 +101,32 @@ public class AdminDashboardController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 세션별 플레이어 연결 품질 조회
+     *
+     * RTT가 높은 플레이어가 있는 매치를 찾기 위해 사용
+     *
+     * @param minRttMs 이 값 이상의 RTT를 가진 플레이어가 있는 세션만 조회 (기본: 전체)
+     * @return 세션 ID → 플레이어별 연결 품질
+     */
+    @GetMapping("/sessions/latency")
+    public ResponseEntity<Map<String, List<PlayerLatencyDto>>> getSessionLatency(
+        @RequestParam(defaultValue = "0") int minRttMs
+    ) {
+        log.info("📊 [Admin] Session latency requested (minRttMs={})", minRttMs);
+
+        Map<String, List<PlayerLatencyDto>> response = new HashMap<>();
+        for (GameSession session : gameSessionManager.getMultiplayerSessions().values()) {
+            List<PlayerLatencyDto> snapshots = session.getLatencySnapshots();
+            boolean matches = snapshots.stream().anyMatch(s -> s.getRttMs() >= minRttMs);
+            if (matches) {
+                response.put(session.getSessionId(), snapshots);
+            }
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 세션 강제 종료
      *
@@ -1,13 +1,12 @@
 package seoultech.se.server.admin;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -23,12 +22,40 @@ import seoultech.se.server.user.UserRepository;
  * - 게임 세션 모니터링
  * - 사용자 통계
  * - 시스템 메트릭스
+ *
+ * 통계 저장 (TimeSeriesRing):
+ * - 초 단위 60칸, 분 단위 60칸, 시간 단위 24칸 링에 동시에 기록
+ * - 이벤트 카운터 + 지연 히스토그램 (매치 시간, 매칭 대기, 틱 처리, 로그인)
+ * - 기록 경로에 문자열/맵 할당이 없고 메모리 사용량이 고정됨
+ * - 오래된 버킷은 슬롯 재사용 시 자동으로 비워지므로 별도 정리 작업 불필요
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminDashboardService {
 
+    /**
+     * 카운터 번호
+     */
+    private static final int COUNTER_MATCH_CREATED = 0;
+    private static final int COUNTER_GAME_COMPLETED = 1;
+    private static final int COUNTER_LOGIN = 2;
+    private static final int COUNTER_COUNT = 3;
+
+    /**
+     * 지연 히스토그램 종류 (값은 마이크로초로 기록)
+     */
+    public enum LatencyMetric {
+        MATCH_DURATION,
+        QUEUE_WAIT,
+        TICK_TIME,
+        LOGIN_LATENCY
+    }
+
+    private static final long SECOND_MS = 1000L;
+    private static final long MINUTE_MS = 60 * SECOND_MS;
+    private static final long HOUR_MS = 60 * MINUTE_MS;
+
     private final GameSessionManager gameSessionManager;
     private final UserRepository userRepository;
 
@@ -37,13 +64,23 @@ public class AdminDashboardService {
      */
     private final AtomicLong totalMatchesCreated = new AtomicLong(0);
     private final AtomicLong totalGamesPlayed = new AtomicLong(0);
-    private final Map<String, Long> hourlyStats = new ConcurrentHashMap<>();
+
+    /**
+     * 시계열 통계 링 (초 / 분 / 시간)
+     */
+    private final TimeSeriesRing secondRing = newRing(SECOND_MS, 60);
+    private final TimeSeriesRing minuteRing = newRing(MINUTE_MS, 60);
+    private final TimeSeriesRing hourRing = newRing(HOUR_MS, 24);
 
     /**
      * 서버 시작 시간
      */
     private final long serverStartTime = System.currentTimeMillis();
 
+    private static TimeSeriesRing newRing(long bucketMillis, int slots) {
+        return new TimeSeriesRing(bucketMillis, slots, COUNTER_COUNT, LatencyMetric.values().length);
+    }
+
     /**
      * 대시보드 개요 통계
      *
@@ -80,37 +117,116 @@ public class AdminDashboardService {
      */
     public List<HourlyStats> getHourlyStats(int hours) {
         List<HourlyStats> stats = new ArrayList<>();
-        long currentHour = System.currentTimeMillis() / (1000 * 60 * 60);
+        long currentHour = System.currentTimeMillis() / HOUR_MS;
 
         for (int i = hours - 1; i >= 0; i--) {
             long hourKey = currentHour - i;
-            String hourLabel = String.valueOf(hourKey);
 
             HourlyStats stat = new HourlyStats();
-            stat.setHour(hourLabel);
-            stat.setMatchCount(hourlyStats.getOrDefault(hourLabel, 0L));
+            stat.setHour(String.valueOf(hourKey));
+            stat.setMatchCount(hourRing.counterAt(COUNTER_MATCH_CREATED, hourKey));
             stats.add(stat);
         }
 
         return stats;
     }
 
+    /**
+     * 지연 백분위 조회 (슬라이딩 윈도우)
+     *
+     * 윈도우 길이에 따라 초 / 분 / 시간 링 중 하나를 선택해 합산
+     * - 60초 이하: 초 단위 링
+     * - 1시간 이하: 분 단위 링
+     * - 그 이상: 시간 단위 링 (최대 24시간)
+     *
+     * @param windowSeconds 조회할 윈도우 길이 (초)
+     * @return 지표별 count, mean, p50, p95, p99 (밀리초)
+     */
+    public Map<LatencyMetric, LatencyPercentiles> getLatencyPercentiles(int windowSeconds) {
+        long now = System.currentTimeMillis();
+        long windowMs = Math.max(1, windowSeconds) * SECOND_MS;
+        TimeSeriesRing ring = windowMs <= secondRing.getSlots() * SECOND_MS ? secondRing
+            : windowMs <= minuteRing.getSlots() * MINUTE_MS ? minuteRing
+            : hourRing;
+        int buckets = (int) Math.min(ring.getSlots(), (windowMs + ring.getBucketMillis() - 1) / ring.getBucketMillis());
+
+        Map<LatencyMetric, LatencyPercentiles> result = new LinkedHashMap<>();
+        for (LatencyMetric metric : LatencyMetric.values()) {
+            TimeSeriesRing.Snapshot snapshot = ring.snapshot(metric.ordinal(), buckets, now);
+            LatencyPercentiles percentiles = new LatencyPercentiles();
+            percentiles.setCount(snapshot.getCount());
+            percentiles.setMeanMs(snapshot.getMean() / 1000.0);
+            percentiles.setP50Ms(snapshot.getPercentile(50) / 1000.0);
+            percentiles.setP95Ms(snapshot.getPercentile(95) / 1000.0);
+            percentiles.setP99Ms(snapshot.getPercentile(99) / 1000.0);
+            result.put(metric, percentiles);
+        }
+        return result;
+    }
+
+    /**
+     * 최근 N초 동안의 매칭 생성 수
+     *
+     * @param windowSeconds 윈도우 길이 (초, 최대 60)
+     * @return 매칭 생성 수
+     */
+    public long getRecentMatchCount(int windowSeconds) {
+        return secondRing.sumCounter(COUNTER_MATCH_CREATED, windowSeconds, System.currentTimeMillis());
+    }
+
     /**
      * 매칭 생성 기록
      */
     public void recordMatchCreated() {
         totalMatchesCreated.incrementAndGet();
-        String currentHour = String.valueOf(System.currentTimeMillis() / (1000 * 60 * 60));
-        hourlyStats.merge(currentHour, 1L, Long::sum);
+        increment(COUNTER_MATCH_CREATED);
         log.debug("📊 [Dashboard] Match created. Total: {}", totalMatchesCreated.get());
     }
 
     /**
      * 게임 완료 기록
+     *
+     * @param durationMs 매치 시작부터 종료까지 걸린 시간 (밀리초)
      */
-    public void recordGameCompleted() {
+    public void recordGameCompleted(long durationMs) {
         totalGamesPlayed.incrementAndGet();
-        log.debug("📊 [Dashboard] Game completed. Total: {}", totalGamesPlayed.get());
+        increment(COUNTER_GAME_COMPLETED);
+        record(LatencyMetric.MATCH_DURATION, TimeUnit.MILLISECONDS.toMicros(durationMs));
+        log.debug("📊 [Dashboard] Game completed in {}ms. Total: {}", durationMs, totalGamesPlayed.get());
+    }
+
+    /**
+     * 로그인 기록
+     *
+     * @param elapsedNanos 로그인 처리 시간 (나노초)
+     */
+    public void recordLogin(long elapsedNanos) {
+        increment(COUNTER_LOGIN);
+        record(LatencyMetric.LOGIN_LATENCY, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    /**
+     * 지연 기록 (매칭 대기, 틱 처리 등)
+     *
+     * @param metric 지표 종류
+     * @param elapsedNanos 걸린 시간 (나노초)
+     */
+    public void recordLatency(LatencyMetric metric, long elapsedNanos) {
+        record(metric, TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    private void increment(int counter) {
+        long now = System.currentTimeMillis();
+        secondRing.increment(counter, 1, now);
+        minuteRing.increment(counter, 1, now);
+        hourRing.increment(counter, 1, now);
+    }
+
+    private void record(LatencyMetric metric, long micros) {
+        long now = System.currentTimeMillis();
+        secondRing.record(metric.ordinal(), micros, now);
+        minuteRing.record(metric.ordinal(), micros, now);
+        hourRing.record(metric.ordinal(), micros, now);
     }
 
     /**
@@ -142,22 +258,6 @@ public class AdminDashboardService {
         }
     }
 
-    /**
-     * 오래된 통계 데이터 정리 (매일 자정)
-     */
-    @Scheduled(cron = "0 0 0 * * *")
-    public void cleanupOldStats() {
-        long currentHour = System.currentTimeMillis() / (1000 * 60 * 60);
-        long oneDayAgo = currentHour - 24;
-
-        hourlyStats.entrySet().removeIf(entry -> {
-            long hour = Long.parseLong(entry.getKey());
-            return hour < oneDayAgo;
-        });
-
-        log.info("🧹 [Dashboard] Cleaned up old hourly statistics");
-    }
-
     /**
      * 대시보드 개요 DTO
      */
@@ -218,4 +318,30 @@ public class AdminDashboardService {
         public long getMatchCount() { return matchCount; }
         public void setMatchCount(long matchCount) { this.matchCount = matchCount; }
     }
+
+    /**
+     * 지연 백분위 DTO (밀리초)
+     */
+    public static class LatencyPercentiles {
+        private long count;
+        private double meanMs;
+        private double p50Ms;
+        private double p95Ms;
+        private double p99Ms;
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+
+        public double getMeanMs() { return meanMs; }
+        public void setMeanMs(double meanMs) { this.meanMs = meanMs; }
+
+        public double getP50Ms() { return p50Ms; }
+        public void setP50Ms(double p50Ms) { this.p50Ms = p50Ms; }
+
+        public double getP95Ms() { return p95Ms; }
+        public void setP95Ms(double p95Ms) { this.p95Ms = p95Ms; }
+
+        public double getP99Ms() { return p99Ms; }
+        public void setP99Ms(double p99Ms) { this.p99Ms = p99Ms; }
+    }
 }
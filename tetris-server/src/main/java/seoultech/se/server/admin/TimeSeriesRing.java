@@ -0,0 +1,247 @@
+package seoultech.se.server.admin;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 Lock-free 시계열 링 (카운터 + 지연 히스토그램)
+ *
+ * 구조:
+ * - 슬롯 하나 = 버킷 폭(bucketMillis) 동안의 통계
+ * - 슬롯마다 카운터 counterCount개 + 히스토그램 histogramCount개
+ * - 모든 값은 AtomicLongArray 하나에 연속 배치 (객체/문자열 할당 없음)
+ *
+ * 히스토그램 (HDR 방식 log-linear):
+ * - 0 ~ 7은 정확한 값, 그 이상은 2의 거듭제곱 구간마다 8개 하위 구간 (상대 오차 약 12.5% 이내)
+ * - 값 범위: 0 ~ 2^32-1 (마이크로초 기준 약 71분)
+ *
+ * 슬롯 회전:
+ * - 슬롯의 epoch(버킷 번호)가 현재와 다르면 CAS로 차지한 스레드가 슬롯을 비움
+ * - 비우는 도중 다른 스레드가 기록한 값은 일부 유실될 수 있음 (대시보드 통계이므로 근사 허용)
+ */
+public class TimeSeriesRing {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+
+    /**
+     * 히스토그램 구간 수 (정확 구간 8개 + 지수 3~31 × 8)
+     */
+    static final int BINS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final long bucketMillis;
+    private final int slots;
+    private final int counterCount;
+    private final int histogramCount;
+
+    /**
+     * 슬롯 하나의 long 개수: 카운터 + 히스토그램마다 (합계 1칸 + 구간 BINS칸)
+     */
+    private final int stride;
+
+    private final AtomicLongArray slotEpochs;
+    private final AtomicLongArray values;
+
+    public TimeSeriesRing(long bucketMillis, int slots, int counterCount, int histogramCount) {
+        this.bucketMillis = bucketMillis;
+        this.slots = slots;
+        this.counterCount = counterCount;
+        this.histogramCount = histogramCount;
+        this.stride = counterCount + histogramCount * (BINS + 1);
+        this.slotEpochs = new AtomicLongArray(slots);
+        this.values = new AtomicLongArray(slots * stride);
+        for (int i = 0; i < slots; i++) {
+            slotEpochs.set(i, -1);
+        }
+    }
+
+    /**
+     * 카운터 증가
+     *
+     * @param counter 카운터 번호
+     * @param delta 증가량
+     * @param nowMillis 현재 시각
+     */
+    public void increment(int counter, long delta, long nowMillis) {
+        int base = slotBase(nowMillis);
+        values.addAndGet(base + counter, delta);
+    }
+
+    /**
+     * 히스토그램에 값 기록
+     *
+     * @param histogram 히스토그램 번호
+     * @param value 기록할 값 (음수는 0으로 처리)
+     * @param nowMillis 현재 시각
+     */
+    public void record(int histogram, long value, long nowMillis) {
+        long clamped = Math.max(0, Math.min(value, MAX_VALUE));
+        int base = slotBase(nowMillis) + counterCount + histogram * (BINS + 1);
+        values.addAndGet(base, clamped);
+        values.incrementAndGet(base + 1 + binIndex(clamped));
+    }
+
+    /**
+     * 최근 window개 버킷의 카운터 합계
+     *
+     * @param counter 카운터 번호
+     * @param window 합산할 버킷 수 (현재 버킷 포함)
+     * @param nowMillis 현재 시각
+     * @return 합계
+     */
+    public long sumCounter(int counter, int window, long nowMillis) {
+        long total = 0;
+        long currentEpoch = nowMillis / bucketMillis;
+        for (int slot = 0; slot < slots; slot++) {
+            if (inWindow(slotEpochs.get(slot), currentEpoch, window)) {
+                total += values.get(slot * stride + counter);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 특정 버킷 하나의 카운터 값
+     *
+     * @param counter 카운터 번호
+     * @param epoch 버킷 번호 (시각 / bucketMillis)
+     * @return 값 (링에 없는 버킷이면 0)
+     */
+    public long counterAt(int counter, long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) slots);
+        if (slotEpochs.get(slot) != epoch) {
+            return 0;
+        }
+        return values.get(slot * stride + counter);
+    }
+
+    /**
+     * 최근 window개 버킷의 히스토그램을 합쳐 스냅샷 생성
+     *
+     * @param histogram 히스토그램 번호
+     * @param window 합산할 버킷 수 (현재 버킷 포함)
+     * @param nowMillis 현재 시각
+     * @return 합쳐진 히스토그램
+     */
+    public Snapshot snapshot(int histogram, int window, long nowMillis) {
+        long[] bins = new long[BINS];
+        long sum = 0;
+        long currentEpoch = nowMillis / bucketMillis;
+        for (int slot = 0; slot < slots; slot++) {
+            if (!inWindow(slotEpochs.get(slot), currentEpoch, window)) {
+                continue;
+            }
+            int base = slot * stride + counterCount + histogram * (BINS + 1);
+            sum += values.get(base);
+            for (int bin = 0; bin < BINS; bin++) {
+                bins[bin] += values.get(base + 1 + bin);
+            }
+        }
+        return new Snapshot(bins, sum);
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    private boolean inWindow(long epoch, long currentEpoch, int window) {
+        return epoch >= 0 && epoch <= currentEpoch && currentEpoch - epoch < window;
+    }
+
+    /**
+     * 현재 시각의 슬롯 시작 위치 (필요하면 슬롯 회전)
+     */
+    private int slotBase(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        int slot = (int) Math.floorMod(epoch, (long) slots);
+        long slotEpoch = slotEpochs.get(slot);
+        if (slotEpoch < epoch && slotEpochs.compareAndSet(slot, slotEpoch, epoch)) {
+            // 이 슬롯을 새 버킷으로 차지한 스레드만 이전 값을 비움
+            int base = slot * stride;
+            for (int i = 0; i < stride; i++) {
+                values.set(base + i, 0);
+            }
+        }
+        return slot * stride;
+    }
+
+    /**
+     * 값 → 히스토그램 구간 번호
+     */
+    static int binIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * 히스토그램 구간의 대표값 (구간 중앙)
+     */
+    static long binValue(int bin) {
+        if (bin < SUB_BUCKETS) {
+            return bin;
+        }
+        int exponent = bin / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int sub = bin % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+        return lower + width / 2;
+    }
+
+    /**
+     * 합쳐진 히스토그램 스냅샷 (조회 시점에만 생성)
+     */
+    public static class Snapshot {
+        private final long[] bins;
+        private final long sum;
+        private final long count;
+
+        Snapshot(long[] bins, long sum) {
+            this.bins = bins;
+            this.sum = sum;
+            long total = 0;
+            for (long bin : bins) {
+                total += bin;
+            }
+            this.count = total;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * 백분위 값
+         *
+         * @param percentile 0 ~ 100
+         * @return 백분위 값 (기록이 없으면 0)
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int bin = 0; bin < bins.length; bin++) {
+                seen += bins[bin];
+                if (seen >= rank) {
+                    return binValue(bin);
+                }
+            }
+            return binValue(bins.length - 1);
+        }
+    }
+}
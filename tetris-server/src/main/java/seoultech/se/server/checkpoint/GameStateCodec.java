@@ -0,0 +1,233 @@
+package seoultech.se.server.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import seoultech.se.core.GameState;
+import seoultech.se.core.engine.item.ItemType;
+import seoultech.se.core.model.Cell;
+import seoultech.se.core.model.Tetromino;
+import seoultech.se.core.model.enumType.Color;
+import seoultech.se.core.model.enumType.RotationDirection;
+import seoultech.se.core.model.enumType.TetrominoType;
+
+/**
+ * GameState 바이너리 인코딩 (체크포인트용, 플레이어 하나 약 260바이트)
+ *
+ * 형식:
+ * - 보드: 셀당 1바이트 (하위 4비트 색상, 0x10 점유, 상위 3비트 아이템 마커)
+ * - 현재 블록: 종류 + 회전 상태 + 위치 (마커 위치는 복원 시 새로 정해짐)
+ * - Hold/Next/아이템/점수/레벨/콤보/B2B/Lock Delay 등 다음 입력 처리에 필요한 값
+ * - boolean 값은 flags 하나에 비트로 모음
+ *
+ * 애니메이션용 필드(lastClearedCells 등 직전 액션 결과)는 저장하지 않음 - 다음 액션에서 새로 채워짐
+ * enum은 ordinal + 1로 저장 (0 = null), 형식이 바뀌면 FORMAT_VERSION 증가
+ */
+public final class GameStateCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int CELL_OCCUPIED = 0x10;
+    private static final int CELL_COLOR_MASK = 0x0F;
+    private static final int CELL_MARKER_SHIFT = 5;
+
+    private static final int FLAG_WEIGHT_BOMB_LOCKED = 1;
+    private static final int FLAG_HOLD_USED = 1 << 1;
+    private static final int FLAG_HELD_WEIGHT_BOMB_LOCKED = 1 << 2;
+    private static final int FLAG_GAME_OVER = 1 << 3;
+    private static final int FLAG_LAST_ACTION_CLEARED = 1 << 4;
+    private static final int FLAG_LAST_CLEAR_DIFFICULT = 1 << 5;
+    private static final int FLAG_LOCK_DELAY_ACTIVE = 1 << 6;
+    private static final int FLAG_PAUSED = 1 << 7;
+    private static final int FLAG_SPEED_RESET_REQUESTED = 1 << 8;
+
+    private static final Color[] COLORS = Color.values();
+    private static final ItemType[] ITEM_TYPES = ItemType.values();
+    private static final TetrominoType[] TETROMINO_TYPES = TetrominoType.values();
+
+    private GameStateCodec() {
+    }
+
+    /**
+     * 상태를 버퍼의 현재 위치에 기록
+     *
+     * @throws java.nio.BufferOverflowException 버퍼 공간 부족
+     */
+    public static void encode(GameState state, ByteBuffer out) {
+        out.put(FORMAT_VERSION);
+        int width = state.getBoardWidth();
+        int height = state.getBoardHeight();
+        out.put((byte) width);
+        out.put((byte) height);
+
+        Cell[][] grid = state.getGrid();
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                out.put(encodeCell(grid[row][col]));
+            }
+        }
+
+        int flags = 0;
+        if (state.isWeightBombLocked()) flags |= FLAG_WEIGHT_BOMB_LOCKED;
+        if (state.isHoldUsedThisTurn()) flags |= FLAG_HOLD_USED;
+        if (state.isHeldWeightBombLocked()) flags |= FLAG_HELD_WEIGHT_BOMB_LOCKED;
+        if (state.isGameOver()) flags |= FLAG_GAME_OVER;
+        if (state.isLastActionClearedLines()) flags |= FLAG_LAST_ACTION_CLEARED;
+        if (state.isLastClearWasDifficult()) flags |= FLAG_LAST_CLEAR_DIFFICULT;
+        if (state.isLockDelayActive()) flags |= FLAG_LOCK_DELAY_ACTIVE;
+        if (state.isPaused()) flags |= FLAG_PAUSED;
+        if (state.isSpeedResetRequested()) flags |= FLAG_SPEED_RESET_REQUESTED;
+        out.putShort((short) flags);
+
+        Tetromino current = state.getCurrentTetromino();
+        out.put(ordinal(current != null ? current.getType() : null));
+        out.put((byte) (current != null ? current.getRotationState().ordinal() : 0));
+        out.putShort((short) state.getCurrentX());
+        out.putShort((short) state.getCurrentY());
+
+        out.put(ordinal(state.getCurrentItemType()));
+        out.put(ordinal(state.getNextBlockItemType()));
+        out.putInt(state.getLinesUntilNextItem());
+        out.put(ordinal(state.getHeldPiece()));
+        out.put(ordinal(state.getHeldItemType()));
+
+        TetrominoType[] nextQueue = state.getNextQueue();
+        int queueLength = nextQueue != null ? nextQueue.length : 0;
+        out.put((byte) queueLength);
+        for (int i = 0; i < queueLength; i++) {
+            out.put(ordinal(nextQueue[i]));
+        }
+
+        out.putLong(state.getScore());
+        out.putInt(state.getLinesCleared());
+        out.putInt(state.getLevel());
+        out.putInt(state.getLinesForNextLevel());
+        out.putInt(state.getComboCount());
+        out.putInt(state.getBackToBackCount());
+        out.putInt(state.getLockDelayResets());
+        out.putFloat((float) state.getSoftDropSpeedMultiplier());
+        putString(out, state.getGameOverReason());
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 상태 하나를 읽음
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식 버전
+     */
+    public static GameState decode(ByteBuffer in) {
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 상태 형식 버전입니다: " + version);
+        }
+        int width = Byte.toUnsignedInt(in.get());
+        int height = Byte.toUnsignedInt(in.get());
+        GameState state = new GameState(width, height);
+
+        Cell[][] grid = state.getGrid();
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                grid[row][col] = decodeCell(in.get());
+            }
+        }
+
+        int flags = in.getShort();
+        state.setWeightBombLocked((flags & FLAG_WEIGHT_BOMB_LOCKED) != 0);
+        state.setHoldUsedThisTurn((flags & FLAG_HOLD_USED) != 0);
+        state.setHeldWeightBombLocked((flags & FLAG_HELD_WEIGHT_BOMB_LOCKED) != 0);
+        state.setGameOver((flags & FLAG_GAME_OVER) != 0);
+        state.setLastActionClearedLines((flags & FLAG_LAST_ACTION_CLEARED) != 0);
+        state.setLastClearWasDifficult((flags & FLAG_LAST_CLEAR_DIFFICULT) != 0);
+        state.setLockDelayActive((flags & FLAG_LOCK_DELAY_ACTIVE) != 0);
+        state.setPaused((flags & FLAG_PAUSED) != 0);
+        state.setSpeedResetRequested((flags & FLAG_SPEED_RESET_REQUESTED) != 0);
+
+        TetrominoType currentType = tetrominoType(in.get());
+        int rotation = in.get();
+        if (currentType != null) {
+            Tetromino current = new Tetromino(currentType);
+            for (int i = 0; i < rotation; i++) {
+                current = current.getRotatedInstance(RotationDirection.CLOCKWISE);
+            }
+            state.setCurrentTetromino(current);
+        }
+        state.setCurrentX(in.getShort());
+        state.setCurrentY(in.getShort());
+
+        state.setCurrentItemType(itemType(in.get()));
+        state.setNextBlockItemType(itemType(in.get()));
+        state.setLinesUntilNextItem(in.getInt());
+        state.setHeldPiece(tetrominoType(in.get()));
+        state.setHeldItemType(itemType(in.get()));
+
+        int queueLength = Byte.toUnsignedInt(in.get());
+        TetrominoType[] nextQueue = new TetrominoType[queueLength];
+        for (int i = 0; i < queueLength; i++) {
+            nextQueue[i] = tetrominoType(in.get());
+        }
+        state.setNextQueue(nextQueue);
+
+        state.setScore(in.getLong());
+        state.setLinesCleared(in.getInt());
+        state.setLevel(in.getInt());
+        state.setLinesForNextLevel(in.getInt());
+        state.setComboCount(in.getInt());
+        state.setBackToBackCount(in.getInt());
+        state.setLockDelayResets(in.getInt());
+        state.setSoftDropSpeedMultiplier(in.getFloat());
+        state.setGameOverReason(getString(in));
+        return state;
+    }
+
+    private static byte encodeCell(Cell cell) {
+        int value = cell.getColor().ordinal() & CELL_COLOR_MASK;
+        if (cell.isOccupied()) {
+            value |= CELL_OCCUPIED;
+        }
+        if (cell.getItemMarker() != null) {
+            value |= (cell.getItemMarker().ordinal() + 1) << CELL_MARKER_SHIFT;
+        }
+        return (byte) value;
+    }
+
+    private static Cell decodeCell(byte encoded) {
+        int value = Byte.toUnsignedInt(encoded);
+        int marker = value >>> CELL_MARKER_SHIFT;
+        return Cell.of(
+            COLORS[value & CELL_COLOR_MASK],
+            (value & CELL_OCCUPIED) != 0,
+            marker == 0 ? null : ITEM_TYPES[marker - 1]
+        );
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return (byte) (value == null ? 0 : value.ordinal() + 1);
+    }
+
+    private static TetrominoType tetrominoType(byte value) {
+        return value == 0 ? null : TETROMINO_TYPES[value - 1];
+    }
+
+    private static ItemType itemType(byte value) {
+        return value == 0 ? null : ITEM_TYPES[value - 1];
+    }
+
+    static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    static String getString(ByteBuffer in) {
+        int length = in.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+package seoultech.se.server.checkpoint;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import seoultech.se.core.GameState;
+import seoultech.se.server.game.SessionType;
+
+/**
+ * 게임 세션 체크포인트 (세션 메타데이터 + 플레이어별 상태)
+ *
+ * 복원에 필요한 값만 담음:
+ * - 세션 타입/게임 모드/난이도 (세션을 같은 설정으로 다시 생성)
+ * - 호스트, 게임 시작 여부와 시각
+ * - 플레이어별 GameState, 마지막 입력 시퀀스, 대기 중인 공격 라인
+ *
+ * 블록 생성기의 7-bag 진행 상태는 저장하지 않음 (복원 후 새 가방부터 시작)
+ * GameSession이 락을 잡은 상태에서 현재 상태 참조로 만들고 바로 인코딩함 (복사 없음)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionCheckpoint {
+
+    private final String sessionId;
+    private final SessionType sessionType;
+    private final String gameplayType;
+    private final String difficulty;
+    private final String hostPlayerId;
+    private final boolean gameStarted;
+    private final long gameStartedAt;
+
+    /**
+     * 체크포인트 작성 시각 (밀리초) - 복원 시 만료 판단
+     */
+    private final long savedAt;
+
+    private final List<PlayerCheckpoint> players;
+
+    @Getter
+    public static class PlayerCheckpoint {
+        private final String playerId;
+        private final long lastSequence;
+        private final int pendingAttackLines;
+        private final GameState state;
+
+        /**
+         * 이미 GameStateCodec으로 인코딩된 상태 (휴면 중인 슬롯, 없으면 null → state를 인코딩)
+         */
+        private final byte[] encodedState;
+
+        public PlayerCheckpoint(String playerId, long lastSequence, int pendingAttackLines, GameState state) {
+            this(playerId, lastSequence, pendingAttackLines, state, null);
+        }
+
+        private PlayerCheckpoint(String playerId, long lastSequence, int pendingAttackLines,
+                                 GameState state, byte[] encodedState) {
+            this.playerId = playerId;
+            this.lastSequence = lastSequence;
+            this.pendingAttackLines = pendingAttackLines;
+            this.state = state;
+            this.encodedState = encodedState;
+        }
+
+        /**
+         * 인코딩된 상태로 생성 (휴면 중인 슬롯을 깨우지 않고 그대로 기록)
+         */
+        public static PlayerCheckpoint encoded(String playerId, long lastSequence, int pendingAttackLines,
+                                               byte[] encodedState) {
+            return new PlayerCheckpoint(playerId, lastSequence, pendingAttackLines, null, encodedState);
+        }
+    }
+
+    /**
+     * 버퍼의 현재 위치에 기록
+     *
+     * @throws java.nio.BufferOverflowException 버퍼 공간 부족
+     */
+    public void writeTo(ByteBuffer out) {
+        GameStateCodec.putString(out, sessionId);
+        out.put((byte) sessionType.ordinal());
+        GameStateCodec.putString(out, gameplayType);
+        GameStateCodec.putString(out, difficulty);
+        GameStateCodec.putString(out, hostPlayerId);
+        out.put((byte) (gameStarted ? 1 : 0));
+        out.putLong(gameStartedAt);
+        out.putLong(savedAt);
+
+        out.put((byte) players.size());
+        for (PlayerCheckpoint player : players) {
+            GameStateCodec.putString(out, player.playerId);
+            out.putLong(player.lastSequence);
+            out.putInt(player.pendingAttackLines);
+            if (player.encodedState != null) {
+                out.put(player.encodedState);
+            } else {
+                GameStateCodec.encode(player.state, out);
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 읽음
+     */
+    public static SessionCheckpoint readFrom(ByteBuffer in) {
+        String sessionId = GameStateCodec.getString(in);
+        SessionType sessionType = SessionType.values()[in.get()];
+        String gameplayType = GameStateCodec.getString(in);
+        String difficulty = GameStateCodec.getString(in);
+        String hostPlayerId = GameStateCodec.getString(in);
+        boolean gameStarted = in.get() != 0;
+        long gameStartedAt = in.getLong();
+        long savedAt = in.getLong();
+
+        int playerCount = Byte.toUnsignedInt(in.get());
+        List<PlayerCheckpoint> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            String playerId = GameStateCodec.getString(in);
+            long lastSequence = in.getLong();
+            int pendingAttackLines = in.getInt();
+            players.add(new PlayerCheckpoint(playerId, lastSequence, pendingAttackLines, GameStateCodec.decode(in)));
+        }
+        return new SessionCheckpoint(sessionId, sessionType, gameplayType, difficulty, hostPlayerId,
+            gameStarted, gameStartedAt, savedAt, players);
+    }
+}
@@ -0,0 +1,113 @@
+package seoultech.se.server.checkpoint;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.websocket.WebSocketEventListener;
+
+/**
+ * 멀티플레이 세션 체크포인트 (서버 재시작 시 진행 중인 매치 복원)
+ *
+ * 기록 (GameTickService가 세션마다 호출, 틱 스레드에서만 기록):
+ * - N틱마다 한 번 (세션 ID로 시작 틱을 분산해 한 틱에 몰리지 않도록 함)
+ * - 레벨업이 일어난 세션은 다음 틱에 바로 기록
+ * - 활성 플레이어가 없는 세션은 상태가 바뀌지 않으므로 기록하지 않음 (틱에서 건너뜀)
+ *
+ * 복원 (시작 시 한 번):
+ * - 체크포인트 파일을 모두 읽어 세션 타임아웃이 지나지 않은 멀티플레이 세션을 다시 생성
+ * - 플레이어는 오프라인으로 시작 → 재접속하면 WebSocketEventListener가 온라인으로 바꾸고 게임 재개
+ * - 재접속 유예 기간이 지나도록 오지 않은 플레이어는 기존 끊김 처리와 같이 제거
+ */
+@Slf4j
+@Service
+public class SessionCheckpointService {
+
+    private final GameSessionManager sessionManager;
+    private final SessionCheckpointStore checkpointStore;
+    private final WebSocketEventListener webSocketEventListener;
+    private final int intervalTicks;
+    private final long sessionTimeoutMs;
+
+    public SessionCheckpointService(
+            GameSessionManager sessionManager,
+            SessionCheckpointStore checkpointStore,
+            WebSocketEventListener webSocketEventListener,
+            @Value("${game.checkpoint.interval-ticks:50}") int intervalTicks,
+            @Value("${game.session.timeout:1800000}") long sessionTimeoutMs) {
+        this.sessionManager = sessionManager;
+        this.checkpointStore = checkpointStore;
+        this.webSocketEventListener = webSocketEventListener;
+        this.intervalTicks = Math.max(1, intervalTicks);
+        this.sessionTimeoutMs = sessionTimeoutMs;
+    }
+
+    /**
+     * 시작 시 체크포인트 복원
+     */
+    @PostConstruct
+    public void restore() {
+        if (!checkpointStore.isEnabled()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        for (SessionCheckpoint checkpoint : checkpointStore.loadAll()) {
+            String sessionId = checkpoint.getSessionId();
+            if (checkpoint.getSessionType() != SessionType.MULTI
+                    || now - checkpoint.getSavedAt() > sessionTimeoutMs
+                    || sessionManager.getSession(sessionId) != null) {
+                checkpointStore.discard(sessionId);
+                continue;
+            }
+
+            try {
+                sessionManager.restoreSession(checkpoint);
+                for (SessionCheckpoint.PlayerCheckpoint player : checkpoint.getPlayers()) {
+                    webSocketEventListener.registerPlayerSession(player.getPlayerId(), sessionId);
+                    webSocketEventListener.awaitReconnect(player.getPlayerId());
+                }
+                restored++;
+            } catch (RuntimeException e) {
+                log.error("❌ [Checkpoint] Failed to restore session {}", sessionId, e);
+                sessionManager.removeSession(sessionId);
+                checkpointStore.discard(sessionId);
+            }
+        }
+
+        if (restored > 0) {
+            log.info("♻️ [Checkpoint] Restored {} session(s), waiting for players to reconnect", restored);
+        }
+    }
+
+    /**
+     * 게임 틱에서 세션 하나 처리 후 호출
+     *
+     * @param session 이번 틱에 진행된 세션
+     * @param tickCount 현재 틱 번호
+     */
+    public void onTick(GameSession session, long tickCount) {
+        if (!checkpointStore.isEnabled()) {
+            return;
+        }
+
+        String sessionId = session.getSessionId();
+        boolean levelUp = session.consumeCheckpointRequest();
+        boolean due = (tickCount + Math.floorMod(sessionId.hashCode(), intervalTicks)) % intervalTicks == 0;
+        if (!levelUp && !due) {
+            return;
+        }
+
+        checkpointStore.write(sessionId, session::writeCheckpoint);
+
+        // 기록 중에 세션이 제거되었으면 방금 만든 파일도 정리
+        if (sessionManager.getSession(sessionId) != session) {
+            checkpointStore.discard(sessionId);
+        }
+    }
+}
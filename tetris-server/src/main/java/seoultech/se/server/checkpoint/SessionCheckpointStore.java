@@ -0,0 +1,280 @@
+package seoultech.se.server.checkpoint;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 메모리 매핑 체크포인트 파일 (세션 하나 = 파일 하나 = 고정 크기 영역)
+ *
+ * 영역 구조:
+ * - 헤더 16바이트: [magic][형식 버전][슬롯 크기]
+ * - 슬롯 2개 (번갈아 사용): [세대 번호 8][길이 4][CRC32 4][SessionCheckpoint 바이너리]
+ *
+ * 쓰기 (게임 틱 스레드):
+ * - 이전에 쓰지 않은 슬롯에 직렬화 → 길이/CRC 기록 → 마지막에 세대 번호 기록 (커밋)
+ * - 매핑된 메모리에 쓰기만 하고 fsync(force)는 하지 않음 - 페이지 캐시에 있으므로
+ *   서버 프로세스가 죽어도 남고, 디스크 반영은 OS가 백그라운드로 처리 (틱 안에서 디스크 대기 없음)
+ * - 쓰는 도중 죽으면 그 슬롯은 CRC가 맞지 않아 무시되고 다른 슬롯의 이전 체크포인트가 쓰임
+ *
+ * 읽기 (시작 시): 디렉터리의 모든 파일에서 CRC가 맞는 슬롯 중 세대 번호가 큰 쪽을 복원
+ *
+ * 호스트 OS 자체가 죽는 경우까지 보장하지는 않음 (그 경우에는 fsync가 필요)
+ */
+@Slf4j
+@Component
+public class SessionCheckpointStore {
+
+    private static final int MAGIC = 0x54434B50; // "TCKP"
+    private static final short LAYOUT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int SLOT_HEADER_BYTES = 16;
+    private static final String FILE_SUFFIX = ".ckpt";
+
+    /**
+     * 파일 이름으로 쓸 수 있는 세션 ID (매칭 세션은 UUID)
+     */
+    private static final Pattern SAFE_SESSION_ID = Pattern.compile("[A-Za-z0-9_-]{1,128}");
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int regionBytes;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public SessionCheckpointStore(
+            @Value("${game.checkpoint.enabled:true}") boolean enabled,
+            @Value("${game.checkpoint.dir:data/${cluster.node-id:node-1}/checkpoints}") String directory,
+            @Value("${game.checkpoint.region-bytes:16384}") int regionBytes) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.regionBytes = regionBytes;
+
+        if (enabled) {
+            try {
+                Files.createDirectories(this.directory);
+            } catch (IOException e) {
+                throw new IllegalStateException("체크포인트 디렉터리를 만들 수 없습니다: " + directory, e);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 체크포인트 기록
+     *
+     * @param sessionId 세션 ID
+     * @param writer 슬롯 페이로드 버퍼에 SessionCheckpoint를 기록하는 함수
+     * @return 기록 성공 여부 (비활성, 파일 이름으로 쓸 수 없는 ID, 공간 부족, I/O 오류 시 false)
+     */
+    public boolean write(String sessionId, Consumer<ByteBuffer> writer) {
+        if (!enabled || !SAFE_SESSION_ID.matcher(sessionId).matches()) {
+            return false;
+        }
+        try {
+            Region region = regions.get(sessionId);
+            if (region == null) {
+                region = regions.computeIfAbsent(sessionId, this::openRegion);
+            }
+            return region.write(writer);
+        } catch (BufferOverflowException e) {
+            log.warn("⚠️ [Checkpoint] Session {} does not fit in {} bytes", sessionId, regionBytes);
+        } catch (RuntimeException e) {
+            log.error("❌ [Checkpoint] Failed to write session {}", sessionId, e);
+        }
+        return false;
+    }
+
+    /**
+     * 세션 종료 시 파일 삭제
+     */
+    public void discard(String sessionId) {
+        if (!enabled) {
+            return;
+        }
+        regions.remove(sessionId);
+        if (SAFE_SESSION_ID.matcher(sessionId).matches()) {
+            try {
+                Files.deleteIfExists(pathOf(sessionId));
+            } catch (IOException e) {
+                log.warn("⚠️ [Checkpoint] Failed to delete checkpoint for {}: {}", sessionId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 디렉터리의 모든 체크포인트 읽기 (시작 시 한 번)
+     * 읽을 수 없는 파일은 삭제
+     */
+    public List<SessionCheckpoint> loadAll() {
+        List<SessionCheckpoint> checkpoints = new ArrayList<>();
+        if (!enabled) {
+            return checkpoints;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                SessionCheckpoint checkpoint = load(file);
+                if (checkpoint != null) {
+                    checkpoints.add(checkpoint);
+                } else {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.error("❌ [Checkpoint] Failed to scan {}", directory, e);
+        }
+        return checkpoints;
+    }
+
+    private SessionCheckpoint load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int slotBytes = validSlotBytes(buffer);
+            if (slotBytes < 0) {
+                return null;
+            }
+            int slot = latestValidSlot(buffer, slotBytes);
+            if (slot < 0) {
+                return null;
+            }
+            int base = slotBase(slot, slotBytes);
+            ByteBuffer payload = buffer.slice(base + SLOT_HEADER_BYTES, buffer.getInt(base + 8));
+            return SessionCheckpoint.readFrom(payload);
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ [Checkpoint] Unreadable checkpoint {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 영역 열기 (기존 파일이면 헤더와 세대 번호를 이어서 사용)
+     */
+    private Region openRegion(String sessionId) {
+        try (FileChannel channel = FileChannel.open(pathOf(sessionId),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = Math.max(channel.size(), regionBytes);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            int slotBytes = validSlotBytes(buffer);
+            long generation = 0;
+            if (slotBytes < 0) {
+                slotBytes = (int) ((size - HEADER_BYTES) / 2);
+                buffer.putInt(0, MAGIC);
+                buffer.putShort(4, LAYOUT_VERSION);
+                buffer.putInt(8, slotBytes);
+                buffer.putLong(slotBase(0, slotBytes), 0L);
+                buffer.putLong(slotBase(1, slotBytes), 0L);
+            } else {
+                int latest = latestValidSlot(buffer, slotBytes);
+                if (latest >= 0) {
+                    generation = buffer.getLong(slotBase(latest, slotBytes));
+                }
+            }
+            return new Region(buffer, slotBytes, generation);
+        } catch (IOException e) {
+            throw new IllegalStateException("체크포인트 파일을 열 수 없습니다: " + sessionId, e);
+        }
+    }
+
+    /**
+     * 헤더 검증 후 슬롯 크기 반환 (유효하지 않으면 -1)
+     */
+    private static int validSlotBytes(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getShort(4) != LAYOUT_VERSION) {
+            return -1;
+        }
+        int slotBytes = buffer.getInt(8);
+        if (slotBytes <= SLOT_HEADER_BYTES || HEADER_BYTES + 2L * slotBytes > buffer.capacity()) {
+            return -1;
+        }
+        return slotBytes;
+    }
+
+    /**
+     * CRC가 맞는 슬롯 중 세대 번호가 큰 슬롯 (없으면 -1)
+     */
+    private static int latestValidSlot(ByteBuffer buffer, int slotBytes) {
+        int best = -1;
+        long bestGeneration = 0;
+        for (int slot = 0; slot < 2; slot++) {
+            int base = slotBase(slot, slotBytes);
+            long generation = buffer.getLong(base);
+            int length = buffer.getInt(base + 8);
+            if (generation <= bestGeneration || length <= 0 || length > slotBytes - SLOT_HEADER_BYTES) {
+                continue;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(base + SLOT_HEADER_BYTES, length));
+            if ((int) crc.getValue() == buffer.getInt(base + 12)) {
+                best = slot;
+                bestGeneration = generation;
+            }
+        }
+        return best;
+    }
+
+    private static int slotBase(int slot, int slotBytes) {
+        return HEADER_BYTES + slot * slotBytes;
+    }
+
+    private Path pathOf(String sessionId) {
+        return directory.resolve(sessionId + FILE_SUFFIX);
+    }
+
+    /**
+     * 세션 하나의 매핑 영역 (파일 채널은 매핑 후 닫음 - 매핑은 GC될 때까지 유효)
+     */
+    private static final class Region {
+        private final MappedByteBuffer buffer;
+        private final int slotBytes;
+        private long generation;
+
+        private Region(MappedByteBuffer buffer, int slotBytes, long generation) {
+            this.buffer = buffer;
+            this.slotBytes = slotBytes;
+            this.generation = generation;
+        }
+
+        synchronized boolean write(Consumer<ByteBuffer> writer) {
+            long next = generation + 1;
+            int base = slotBase((int) (next & 1), slotBytes);
+
+            ByteBuffer payload = buffer.slice(base + SLOT_HEADER_BYTES, slotBytes - SLOT_HEADER_BYTES);
+            writer.accept(payload);
+            int length = payload.position();
+
+            CRC32 crc = new CRC32();
+            crc.update(payload.flip());
+            buffer.putInt(base + 8, length);
+            buffer.putInt(base + 12, (int) crc.getValue());
+            buffer.putLong(base, next); // 커밋 (마지막에 기록)
+            generation = next;
+            return true;
+        }
+    }
+}
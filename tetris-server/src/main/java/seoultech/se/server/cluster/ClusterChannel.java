@@ -0,0 +1,262 @@
+package seoultech.se.server.cluster;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 TCP 채널 (요청-응답, 길이 접두 JSON 프레임)
+ *
+ * 프레임: [int 길이][UTF-8 JSON ClusterMessage]
+ *
+ * - 수신: 수락 스레드 하나 + 크기가 제한된 읽기 스레드 풀 (연결마다 스레드 하나, 풀이 차면 새 연결은 바로 닫음)
+ * - 수신 연결은 첫 프레임을 REPLY_TIMEOUT_MS 안에 보내야 하고, 이후 IDLE_TIMEOUT_MS 동안 요청이 없으면 닫음
+ * - 인증(authenticator)에 실패한 프레임이 오면 응답 없이 연결을 닫음 (인증 전 연결이 스레드를 붙잡지 못하도록)
+ * - 송신: 상대 노드마다 연결 하나를 재사용, 요청 하나를 보내고 응답을 기다림 (연결 단위 직렬화)
+ * - 연결/응답 제한 시간을 넘기면 연결을 닫고 IOException - 호출 측이 노드를 내려간 것으로 처리
+ */
+@Slf4j
+final class ClusterChannel implements Closeable {
+
+    static final int CONNECT_TIMEOUT_MS = 500;
+    static final int REPLY_TIMEOUT_MS = 1_000;
+
+    /**
+     * 인증된 수신 연결의 유휴 제한 시간 (하트비트 주기보다 충분히 길게 - 살아 있는 노드는 닫히지 않음)
+     */
+    static final int IDLE_TIMEOUT_MS = 10_000;
+
+    /**
+     * 동시에 처리하는 수신 연결 수 상한 (노드마다 연결 하나면 충분)
+     */
+    static final int MAX_INBOUND_CONNECTIONS = 16;
+
+    /**
+     * 최대 프레임 크기 (메시지는 ID 몇 개뿐이므로 넉넉한 상한)
+     */
+    static final int MAX_FRAME_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Peer> peers = new ConcurrentHashMap<>();
+    private final Function<ClusterMessage, ClusterMessage> handler;
+    private final Predicate<ClusterMessage> authenticator;
+    private final ThreadPoolExecutor readers = createReaderPool();
+
+    private ServerSocket serverSocket;
+    private volatile boolean isRunning = false;
+
+    ClusterChannel(Function<ClusterMessage, ClusterMessage> handler, Predicate<ClusterMessage> authenticator) {
+        this.handler = handler;
+        this.authenticator = authenticator;
+    }
+
+    private static ThreadPoolExecutor createReaderPool() {
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(0, MAX_INBOUND_CONNECTIONS, 60, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "Cluster-Reader-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * 수신 시작 (자기 노드의 클러스터 포트)
+     */
+    void start(ClusterNode self) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName(self.getHost()), self.getClusterPort()));
+        isRunning = true;
+
+        Thread acceptor = new Thread(this::acceptLoop);
+        acceptor.setDaemon(true);
+        acceptor.setName("Cluster-Acceptor");
+        acceptor.start();
+    }
+
+    /**
+     * 상대 노드에 요청을 보내고 응답을 받음
+     *
+     * @throws IOException 연결 실패, 응답 시간 초과, 프레임 오류
+     */
+    ClusterMessage request(ClusterNode node, ClusterMessage message) throws IOException {
+        return peers.computeIfAbsent(node.getId(), id -> new Peer(node)).request(message);
+    }
+
+    @Override
+    public void close() {
+        isRunning = false;
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }
+        peers.values().forEach(Peer::close);
+        peers.clear();
+        readers.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (isRunning) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(REPLY_TIMEOUT_MS); // 인증 프레임 대기
+                try {
+                    readers.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    log.warn("🚫 [Cluster] Too many inbound connections, closing {}", socket.getRemoteSocketAddress());
+                    closeQuietly(socket);
+                }
+            } catch (SocketException e) {
+                if (isRunning) {
+                    log.error("❌ [Cluster] Accept failed: {}", e.getMessage());
+                }
+            } catch (IOException e) {
+                log.error("❌ [Cluster] Accept failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 연결 하나에서 요청을 순서대로 처리
+     *
+     * 인증에 실패한 프레임이 오면 바로 연결을 닫음, 첫 프레임이 인증되면 유휴 제한 시간으로 전환
+     */
+    private void serve(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            boolean authenticated = false;
+            while (isRunning) {
+                ClusterMessage request = readFrame(in);
+                if (!authenticator.test(request)) {
+                    log.warn("🚫 [Cluster] Dropping connection from {}: unauthenticated {} (node {})",
+                        socket.getRemoteSocketAddress(), request.getType(), request.getNodeId());
+                    return;
+                }
+                if (!authenticated) {
+                    authenticated = true;
+                    socket.setSoTimeout(IDLE_TIMEOUT_MS);
+                }
+                ClusterMessage reply;
+                try {
+                    reply = handler.apply(request);
+                } catch (Exception e) {
+                    log.error("❌ [Cluster] Failed to handle {} from {}", request.getType(), request.getNodeId(), e);
+                    reply = ClusterMessage.nack(null, e.getMessage());
+                }
+                writeFrame(out, reply);
+            }
+        } catch (SocketTimeoutException e) {
+            log.debug("🔌 [Cluster] Closing idle connection from {}", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            log.debug("🔌 [Cluster] Peer connection closed: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private ClusterMessage readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0 || length > MAX_FRAME_BYTES) {
+            throw new IOException("잘못된 프레임 길이: " + length);
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return objectMapper.readValue(payload, ClusterMessage.class);
+    }
+
+    private void writeFrame(DataOutputStream out, ClusterMessage message) throws IOException {
+        byte[] payload = objectMapper.writeValueAsBytes(message);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.flush();
+    }
+
+    /**
+     * 상대 노드로 나가는 연결 (지연 연결, 실패 시 다음 요청에서 다시 연결)
+     */
+    private final class Peer {
+        private final ClusterNode node;
+        private Socket socket;
+        private DataInputStream in;
+        private DataOutputStream out;
+
+        Peer(ClusterNode node) {
+            this.node = node;
+        }
+
+        synchronized ClusterMessage request(ClusterMessage message) throws IOException {
+            try {
+                if (socket == null) {
+                    connect();
+                }
+                writeFrame(out, message);
+                return readFrame(in);
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private void connect() throws IOException {
+            Socket s = new Socket();
+            try {
+                s.connect(new InetSocketAddress(node.getHost(), node.getClusterPort()), CONNECT_TIMEOUT_MS);
+                s.setSoTimeout(REPLY_TIMEOUT_MS);
+                s.setTcpNoDelay(true);
+                in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+                out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+                socket = s;
+            } catch (IOException e) {
+                s.close();
+                throw e;
+            }
+        }
+
+        synchronized void close() {
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // 이미 끊긴 연결
+                }
+            }
+            socket = null;
+            in = null;
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seoultech.se.server.cluster;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 TCP 채널 메시지 (길이 접두 JSON 프레임 하나)
+ *
+ * - PING: 상대 노드 생존 확인 (하트비트)
+ * - MATCH_HANDOFF: 매칭 노드 → 소유 노드, 세션 생성과 두 플레이어 등록 요청 (같은 세션 ID로 다시 보내도 한 번만 생성)
+ * - MATCH_CANCEL: 응답을 받지 못한 핸드오프를 매칭 노드가 로컬에서 실행했으니, 소유 노드에 만들어졌을 수 있는 세션을 제거
+ * - ACK / NACK: 요청 결과 (NACK은 reason에 사유)
+ */
+@Data
+@NoArgsConstructor
+public class ClusterMessage {
+
+    public enum Type {
+        PING,
+        MATCH_HANDOFF,
+        MATCH_CANCEL,
+        ACK,
+        NACK
+    }
+
+    private Type type;
+
+    /**
+     * 보낸 노드 ID
+     */
+    private String nodeId;
+
+    /**
+     * 클러스터 공유 토큰 (cluster.token, ClusterService가 보낼 때 채움)
+     */
+    private String token;
+
+    private String sessionId;
+    private String gameplayType;
+    private String difficulty;
+    private String player1Id;
+    private String player2Id;
+
+    /**
+     * NACK 사유
+     */
+    private String reason;
+
+    public static ClusterMessage ping(String nodeId) {
+        ClusterMessage message = new ClusterMessage();
+        message.setType(Type.PING);
+        message.setNodeId(nodeId);
+        return message;
+    }
+
+    public static ClusterMessage matchHandoff(String nodeId, String sessionId, String gameplayType,
+                                              String difficulty, String player1Id, String player2Id) {
+        ClusterMessage message = new ClusterMessage();
+        message.setType(Type.MATCH_HANDOFF);
+        message.setNodeId(nodeId);
+        message.setSessionId(sessionId);
+        message.setGameplayType(gameplayType);
+        message.setDifficulty(difficulty);
+        message.setPlayer1Id(player1Id);
+        message.setPlayer2Id(player2Id);
+        return message;
+    }
+
+    public static ClusterMessage matchCancel(String nodeId, String sessionId) {
+        ClusterMessage message = new ClusterMessage();
+        message.setType(Type.MATCH_CANCEL);
+        message.setNodeId(nodeId);
+        message.setSessionId(sessionId);
+        return message;
+    }
+
+    public static ClusterMessage ack(String nodeId) {
+        ClusterMessage message = new ClusterMessage();
+        message.setType(Type.ACK);
+        message.setNodeId(nodeId);
+        return message;
+    }
+
+    public static ClusterMessage nack(String nodeId, String reason) {
+        ClusterMessage message = new ClusterMessage();
+        message.setType(Type.NACK);
+        message.setNodeId(nodeId);
+        message.setReason(reason);
+        return message;
+    }
+}
@@ -0,0 +1,64 @@
+package seoultech.se.server.cluster;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 클러스터 노드 주소
+ *
+ * 설정 형식 (cluster.nodes 항목 하나): "노드ID@호스트:HTTP포트:클러스터포트"
+ * 예) node-1@127.0.0.1:8090:7090
+ *
+ * - HTTP 포트: 클라이언트가 REST/STOMP로 접속하는 포트 (리다이렉트 대상)
+ * - 클러스터 포트: 노드 간 TCP 채널 (ClusterChannel)
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+public final class ClusterNode {
+
+    private final String id;
+    private final String host;
+    private final int httpPort;
+    private final int clusterPort;
+
+    public ClusterNode(String id, String host, int httpPort, int clusterPort) {
+        this.id = id;
+        this.host = host;
+        this.httpPort = httpPort;
+        this.clusterPort = clusterPort;
+    }
+
+    /**
+     * "노드ID@호스트:HTTP포트:클러스터포트" 파싱
+     */
+    public static ClusterNode parse(String spec) {
+        String trimmed = spec.trim();
+        int at = trimmed.indexOf('@');
+        String[] address = at > 0 ? trimmed.substring(at + 1).split(":") : new String[0];
+        if (address.length != 3) {
+            throw new IllegalArgumentException("잘못된 클러스터 노드 형식입니다 (id@host:httpPort:clusterPort): " + spec);
+        }
+        try {
+            return new ClusterNode(
+                trimmed.substring(0, at),
+                address[0],
+                Integer.parseInt(address[1]),
+                Integer.parseInt(address[2])
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 클러스터 노드 포트입니다: " + spec, e);
+        }
+    }
+
+    /**
+     * 클라이언트 접속용 기본 URL (MatchFoundNotification.serverUrl)
+     */
+    public String getBaseUrl() {
+        return "http://" + host + ":" + httpPort;
+    }
+
+    @Override
+    public String toString() {
+        return id + "@" + host + ":" + httpPort + ":" + clusterPort;
+    }
+}
@@ -0,0 +1,392 @@
+package seoultech.se.server.cluster;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.core.config.GameplayType;
+import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.SessionRemovedEvent;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.websocket.WebSocketEventListener;
+
+/**
+ * 게임 서버 클러스터 (세션 ID 일관된 해싱으로 세션 소유 노드 결정)
+ *
+ * 구조:
+ * - 모든 노드가 같은 cluster.nodes 목록을 가짐 → 살아 있는 노드로 같은 해시 링을 구성
+ * - 매칭은 노드별 (클라이언트가 접속한 노드의 큐), 성사된 세션은 세션 ID의 소유 노드에서 실행
+ * - 소유 노드가 다른 노드면 TCP 채널로 MATCH_HANDOFF를 보내 그 노드에 세션을 만들고,
+ *   매칭 알림의 serverUrl로 클라이언트를 소유 노드로 리다이렉트 (입력 전달 대신 재접속)
+ * - 하트비트로 노드 생존을 확인하고, 내려간 노드는 링에서 빼서 새 세션을 다른 노드에 배치
+ * - 핸드오프가 실패하면 세션을 매칭 노드에 그대로 만듦 (매칭이 사라지지 않음)
+ *
+ * 핸드오프 중복 방지:
+ * - MATCH_HANDOFF는 세션 ID 기준으로 멱등 (이미 있는 세션이면 다시 만들지 않고 ACK)
+ * - 응답이 없으면(연결 실패, 시간 초과) 같은 메시지를 HANDOFF_ATTEMPTS번까지 재전송해 결과를 확인
+ * - NACK은 세션을 만들지 않았다는 뜻이므로 바로 로컬 실행
+ * - 끝내 응답이 없으면 로컬에서 실행하고, 소유 노드가 다시 응답하면 MATCH_CANCEL로
+ *   그쪽에 만들어졌을 수 있는 세션을 제거 (같은 매치가 두 노드에 남지 않음)
+ *
+ * 노드 인증:
+ * - cluster.nodes에 없는 노드 ID나 자기 노드 ID로 온 메시지는 NACK
+ * - 모든 메시지에 공유 토큰(cluster.token)을 싣고, 받는 쪽은 자기 토큰과 일치할 때만 처리
+ * - 인증에 실패한 메시지를 보낸 연결은 ClusterChannel이 바로 닫음
+ * - cluster.enabled=true인데 토큰이 비어 있으면 시작 실패 (아무 호스트나 세션을 만들거나 지울 수 없도록)
+ *
+ * 로컬 3노드 예시 (application-dev.yml의 cluster 항목 참고):
+ * - cluster.nodes=node-1@127.0.0.1:8090:7090,node-2@127.0.0.1:8100:7100,node-3@127.0.0.1:8110:7110
+ * - 노드마다 cluster.node-id, server.port, management.server.port, relay.udp.port를 다르게 지정
+ *
+ * cluster.enabled=false(기본)이면 모든 세션이 로컬 - 기존 단일 서버와 동일
+ */
+@Slf4j
+@Service
+public class ClusterService {
+
+    /**
+     * 하트비트 주기
+     */
+    static final long HEARTBEAT_INTERVAL_MS = 2_000;
+
+    /**
+     * 응답 없는 핸드오프 재전송 횟수 (첫 전송 포함)
+     */
+    static final int HANDOFF_ATTEMPTS = 3;
+
+    private final GameSessionManager gameSessionManager;
+    private final WebSocketEventListener webSocketEventListener;
+
+    private final boolean enabled;
+    private final String nodeId;
+    private final int virtualNodes;
+    private final String token;
+    private final Map<String, ClusterNode> nodes = new LinkedHashMap<>();
+    private final Set<String> downNodes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 소유 노드 ID → 결과를 모른 채 로컬로 실행한 세션 ID (다시 응답하면 MATCH_CANCEL 전송)
+     */
+    private final Map<String, Set<String>> pendingCancels = new ConcurrentHashMap<>();
+
+    /**
+     * 넘겨받아 만든 세션 ID → 보낸 노드 ID (MATCH_CANCEL은 보낸 노드만 가능)
+     */
+    private final Map<String, String> handedOffSessions = new ConcurrentHashMap<>();
+
+    private volatile ConsistentHashRing ring;
+    private ClusterNode self;
+    private ClusterChannel channel;
+    private volatile boolean isRunning = false;
+    private Thread heartbeatThread;
+
+    public ClusterService(
+            GameSessionManager gameSessionManager,
+            WebSocketEventListener webSocketEventListener,
+            @Value("${cluster.enabled:false}") boolean enabled,
+            @Value("${cluster.node-id:node-1}") String nodeId,
+            @Value("${cluster.nodes:}") String nodeSpecs,
+            @Value("${cluster.virtual-nodes:128}") int virtualNodes,
+            @Value("${cluster.token:}") String token) {
+        this.gameSessionManager = gameSessionManager;
+        this.webSocketEventListener = webSocketEventListener;
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.virtualNodes = virtualNodes;
+        this.token = token;
+
+        Arrays.stream(nodeSpecs.split(","))
+            .filter(spec -> !spec.isBlank())
+            .map(ClusterNode::parse)
+            .forEach(node -> nodes.put(node.getId(), node));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        self = nodes.get(nodeId);
+        if (self == null) {
+            throw new IllegalStateException("cluster.nodes에 자기 노드가 없습니다: " + nodeId);
+        }
+        if (token == null || token.isBlank()) {
+            throw new IllegalStateException("cluster.enabled=true이면 cluster.token(CLUSTER_TOKEN)이 필요합니다");
+        }
+        rebuildRing();
+
+        channel = new ClusterChannel(this::handleMessage, this::isTrusted);
+        try {
+            channel.start(self);
+        } catch (IOException e) {
+            throw new IllegalStateException("클러스터 포트를 열 수 없습니다: " + self, e);
+        }
+
+        isRunning = true;
+        heartbeatThread = new Thread(this::heartbeatLoop);
+        heartbeatThread.setDaemon(true);
+        heartbeatThread.setName("Cluster-Heartbeat");
+        heartbeatThread.start();
+
+        log.info("🌐 [Cluster] Node {} started ({} nodes configured)", self, nodes.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        isRunning = false;
+        if (heartbeatThread != null) {
+            heartbeatThread.interrupt();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 세션 소유 노드 (클러스터 비활성 시 null)
+     */
+    public ClusterNode ownerOf(String sessionId) {
+        ConsistentHashRing current = ring;
+        return current != null ? current.ownerOf(sessionId) : null;
+    }
+
+    /**
+     * 성사된 매칭을 소유 노드로 넘김
+     *
+     * @return 세션을 넘겨받은 원격 노드 (클라이언트를 리다이렉트할 곳),
+     *         소유 노드가 자기 자신이거나 핸드오프에 실패하면 null (호출 측이 로컬에 세션 생성)
+     */
+    public ClusterNode handOffIfRemote(String sessionId, GameplayType gameplayType, Difficulty difficulty,
+                                       String player1Id, String player2Id) {
+        ClusterNode owner = ownerOf(sessionId);
+        if (owner == null || owner.equals(self)) {
+            return null;
+        }
+
+        ClusterMessage handoff = ClusterMessage.matchHandoff(
+            nodeId, sessionId, gameplayType.name(), difficulty.name(), player1Id, player2Id);
+        for (int attempt = 1; attempt <= HANDOFF_ATTEMPTS; attempt++) {
+            try {
+                ClusterMessage reply = send(owner, handoff);
+                if (reply.getType() == ClusterMessage.Type.ACK) {
+                    log.info("🌐 [Cluster] Session {} handed off to {}", sessionId, owner.getId());
+                    return owner;
+                }
+                // NACK - 소유 노드에 세션이 없으므로 로컬 실행이 안전
+                log.warn("⚠️ [Cluster] Node {} rejected session {}: {}", owner.getId(), sessionId, reply.getReason());
+                return null;
+            } catch (IOException e) {
+                // 요청이 도착했는지 모름 - 핸드오프는 멱등이므로 같은 메시지로 다시 확인
+                log.warn("⚠️ [Cluster] Handoff of {} to {} failed (attempt {}/{}): {}",
+                    sessionId, owner.getId(), attempt, HANDOFF_ATTEMPTS, e.getMessage());
+            }
+        }
+
+        // 결과를 확인하지 못함 → 로컬에서 실행하고, 소유 노드가 돌아오면 그쪽 세션 제거
+        markDown(owner);
+        pendingCancels.computeIfAbsent(owner.getId(), id -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        return null; // 로컬에서 실행
+    }
+
+    /**
+     * 살아 있는 노드 ID 목록 (모니터링용)
+     */
+    public List<String> getLiveNodeIds() {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+        List<String> live = new ArrayList<>();
+        for (String id : nodes.keySet()) {
+            if (!downNodes.contains(id)) {
+                live.add(id);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * 넘겨받은 세션이 제거되면 출처 기록도 정리
+     */
+    @EventListener
+    public void handleSessionRemoved(SessionRemovedEvent event) {
+        handedOffSessions.remove(event.getSessionId());
+    }
+
+    /**
+     * 수신 메시지 처리 (ClusterChannel 읽기 스레드)
+     */
+    ClusterMessage handleMessage(ClusterMessage message) {
+        if (!isTrusted(message)) {
+            log.warn("🚫 [Cluster] Rejected {} from untrusted node {}", message.getType(), message.getNodeId());
+            return ClusterMessage.nack(nodeId, "인증되지 않은 노드");
+        }
+        if (downNodes.contains(message.getNodeId())) {
+            markUp(message.getNodeId());
+        }
+        switch (message.getType()) {
+            case PING:
+                return ClusterMessage.ack(nodeId);
+            case MATCH_HANDOFF:
+                openHandedOffSession(message);
+                return ClusterMessage.ack(nodeId);
+            case MATCH_CANCEL:
+                cancelHandedOffSession(message);
+                return ClusterMessage.ack(nodeId);
+            default:
+                return ClusterMessage.nack(nodeId, "지원하지 않는 메시지: " + message.getType());
+        }
+    }
+
+    /**
+     * 설정된 다른 노드가 같은 토큰으로 보낸 메시지인지 확인 (ClusterChannel이 연결 단위로도 사용)
+     */
+    boolean isTrusted(ClusterMessage message) {
+        String senderId = message.getNodeId();
+        if (senderId == null || senderId.equals(nodeId) || !nodes.containsKey(senderId)) {
+            return false;
+        }
+        byte[] received = message.getToken() != null
+            ? message.getToken().getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+        return MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), received); // 상수 시간 비교
+    }
+
+    /**
+     * 넘겨받은 매칭의 세션 생성 (MatchmakingService.createMatch의 로컬 경로와 동일)
+     *
+     * 재전송된 핸드오프면 이미 만든 세션을 그대로 두고 성공 처리 (세션 ID 기준 멱등)
+     * 생성 도중 실패하면 만든 세션을 지우고 예외를 던짐 → 채널이 NACK 응답
+     */
+    private synchronized void openHandedOffSession(ClusterMessage message) {
+        String sessionId = message.getSessionId();
+        if (gameSessionManager.getSession(sessionId) != null) {
+            log.info("🌐 [Cluster] Session {} from {} already exists, acknowledging again", sessionId, message.getNodeId());
+            return;
+        }
+
+        try {
+            GameSession session = gameSessionManager.createSession(
+                sessionId,
+                GameplayType.valueOf(message.getGameplayType()),
+                Difficulty.valueOf(message.getDifficulty()),
+                SessionType.MULTI
+            );
+            session.joinPlayer(message.getPlayer1Id());
+            session.joinPlayer(message.getPlayer2Id());
+            webSocketEventListener.registerPlayerSession(message.getPlayer1Id(), sessionId);
+            webSocketEventListener.registerPlayerSession(message.getPlayer2Id(), sessionId);
+        } catch (RuntimeException e) {
+            gameSessionManager.removeSession(sessionId);
+            throw e;
+        }
+        handedOffSessions.put(sessionId, message.getNodeId());
+
+        log.info("🌐 [Cluster] Accepted session {} from {} ({} vs {})",
+            sessionId, message.getNodeId(), message.getPlayer1Id(), message.getPlayer2Id());
+    }
+
+    /**
+     * 매칭 노드가 로컬로 실행한 세션 제거 (그 노드가 넘긴 세션만, 없으면 무시)
+     */
+    private synchronized void cancelHandedOffSession(ClusterMessage message) {
+        String sessionId = message.getSessionId();
+        if (sessionId == null || !message.getNodeId().equals(handedOffSessions.get(sessionId))) {
+            return;
+        }
+        gameSessionManager.removeSession(sessionId);
+        handedOffSessions.remove(sessionId);
+        log.info("🌐 [Cluster] Cancelled session {} (run locally by {})", sessionId, message.getNodeId());
+    }
+
+    /**
+     * 밀린 MATCH_CANCEL 전송 (노드가 다시 응답할 때 하트비트 스레드에서)
+     */
+    private void sendPendingCancels(ClusterNode node) throws IOException {
+        Set<String> sessionIds = pendingCancels.get(node.getId());
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            send(node, ClusterMessage.matchCancel(nodeId, sessionId));
+            sessionIds.remove(sessionId); // 전송 실패 시 남겨 두고 다음 하트비트에 재시도
+        }
+    }
+
+    /**
+     * 공유 토큰을 실어 요청 전송
+     */
+    private ClusterMessage send(ClusterNode node, ClusterMessage message) throws IOException {
+        message.setToken(token);
+        return channel.request(node, message);
+    }
+
+    private void heartbeatLoop() {
+        while (isRunning) {
+            for (ClusterNode node : nodes.values()) {
+                if (node.equals(self)) {
+                    continue;
+                }
+                try {
+                    send(node, ClusterMessage.ping(nodeId));
+                    if (downNodes.contains(node.getId())) {
+                        markUp(node.getId());
+                    }
+                    sendPendingCancels(node);
+                } catch (IOException e) {
+                    markDown(node);
+                }
+            }
+            try {
+                Thread.sleep(HEARTBEAT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void markDown(ClusterNode node) {
+        if (downNodes.add(node.getId())) {
+            log.warn("🔻 [Cluster] Node {} is down, removing from ring", node.getId());
+            rebuildRing();
+        }
+    }
+
+    private void markUp(String id) {
+        if (downNodes.remove(id)) {
+            log.info("🔺 [Cluster] Node {} is back, adding to ring", id);
+            rebuildRing();
+        }
+    }
+
+    private synchronized void rebuildRing() {
+        List<ClusterNode> live = new ArrayList<>();
+        for (ClusterNode node : nodes.values()) {
+            if (!downNodes.contains(node.getId())) {
+                live.add(node);
+            }
+        }
+        ring = new ConsistentHashRing(live, virtualNodes);
+    }
+}
@@ -0,0 +1,69 @@
+package seoultech.se.server.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일관된 해싱 링 (세션 ID → 소유 노드)
+ *
+ * - 노드마다 가상 노드 virtualNodes개를 링에 배치해 세션이 고르게 분산되도록 함
+ * - 세션 ID 해시 이후 처음 만나는 가상 노드의 주인이 소유 노드 (없으면 링의 처음으로 돌아감)
+ * - 노드가 빠지거나 추가되면 그 노드 몫의 세션만 소유자가 바뀜
+ *
+ * 불변 객체 - 멤버십이 바뀌면 새 링을 만들어 교체 (조회는 락 없이 수행)
+ */
+public final class ConsistentHashRing {
+
+    private final TreeMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final int nodeCount;
+
+    public ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다: " + virtualNodes);
+        }
+        for (ClusterNode node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node.getId() + "#" + i), node);
+            }
+        }
+        this.nodeCount = nodes.size();
+    }
+
+    /**
+     * 키를 소유한 노드
+     *
+     * @param key 세션 ID
+     * @return 소유 노드 (링이 비어 있으면 null)
+     */
+    public ClusterNode ownerOf(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * MD5 앞 8바이트 (노드 ID/세션 ID 모두 같은 해시 사용)
+     */
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (digest[i] & 0xFF);
+            }
+            return value;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5를 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -9,18 +9,18 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import seoultech.se.server.user.UserRepository;
-import seoultech.se.server.user.UserEntity;
+import seoultech.se.server.user.UserCache;
+import seoultech.se.server.user.UserProjection;
 
 import java.io.IOException;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserCache userCache) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     @Override
@@ -30,7 +30,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = resolveToken(request);
             if (token != null && jwtUtil.validateToken(token)) {
                 String email = jwtUtil.extractEmail(token);
-                UserEntity user = userRepository.findByEmail(email).orElse(null);
+                // 사용자 존재 확인은 캐시에서 (TTL 안에서는 DB 왕복 없음)
+                UserProjection user = userCache.findByEmail(email).orElse(null);
                 if (user != null) {
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             user.getEmail(), null, null);
@@ -1,17 +1,34 @@
 package seoultech.se.server.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+/**
+ * JWT 발급/검증
+ *
+ * 검증 결과 캐시:
+ * - REST 요청(JwtAuthenticationFilter)과 STOMP CONNECT마다 같은 액세스 토큰을 반복 검증하므로
+ *   서명 검증 + 클레임 파싱 결과를 토큰 해시(SHA-256) 기준으로 보관
+ * - 항목은 토큰 만료 시각까지만 유효 (만료 후 조회 시 제거하고 다시 파싱 → 만료 예외)
+ * - 최대 항목 수 (jwt.cache.max-size) 초과 시 만료 항목부터, 그래도 넘치면 임의 항목을 10% 정리
+ * - 검증에 실패한 토큰은 캐시하지 않음
+ */
 @Component
 public class JwtUtil {
     @Value("${jwt.secret:tetris-secret-key-for-p2p-game-mode-authentication-at-least-256-bits}")
@@ -23,8 +40,42 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:604800000}") // 7일 (밀리초)
     private Long refreshExpiration;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize = 10000;
+
+    // 서명 키와 파서는 처음 사용할 때 한 번만 생성 (설정 주입 이후)
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    /**
+     * 토큰 해시 → 검증된 클레임
+     */
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(secret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser().verifyWith(getSigningKey()).build();
+            parser = current;
+        }
+        return current;
     }
 
     /**
@@ -66,14 +117,49 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰에서 모든 클레임 추출
+     * 토큰에서 모든 클레임 추출 (검증 결과 캐시 우선)
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (now < cached.expiresAt) {
+                return cached.claims;
+            }
+            // 만료된 토큰은 다시 파싱해 만료 예외를 그대로 전달
+            verifiedTokens.remove(key, cached);
+        }
+
+        Claims claims = getParser().parseSignedClaims(token).getPayload();
+        Date expiry = claims.getExpiration();
+        if (expiry != null) {
+            verifiedTokens.put(key, new VerifiedToken(claims, expiry.getTime()));
+            if (verifiedTokens.size() > cacheMaxSize) {
+                evictVerifiedTokens(now);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 검증 결과 캐시 정리 (만료 항목 → 임의 항목 10%)
+     */
+    private void evictVerifiedTokens(long now) {
+        verifiedTokens.values().removeIf(token -> token.expiresAt <= now);
+
+        int target = cacheMaxSize - cacheMaxSize / 10;
+        Iterator<VerifiedToken> iterator = verifiedTokens.values().iterator();
+        while (verifiedTokens.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA256.get();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
     }
 
     /**
@@ -125,4 +211,17 @@ public class JwtUtil {
             return false;
         }
     }
+
+    /**
+     * 검증된 토큰 (클레임은 읽기 전용으로만 사용)
+     */
+    private static final class VerifiedToken {
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedToken(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package seoultech.se.server.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,7 +12,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
-import seoultech.se.server.user.UserRepository;
+import seoultech.se.server.user.UserCache;
 
 
 @Configuration
@@ -21,7 +22,7 @@ public class SecurityConfig {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserCache userCache;
 
     @Autowired
     private CorsConfigurationSource corsConfigurationSource;
@@ -42,6 +43,8 @@ public class SecurityConfig {
                 .requestMatchers("/tetris/users/logout").authenticated()
                 // Phase 3: 헬스체크 엔드포인트는 인증 없이 접근 가능
                 .requestMatchers("/api/health", "/api/health/**").permitAll()
+                // Actuator: management 포트는 루프백에만 바인딩되므로 health/prometheus는 인증 없이 허용
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                 // Session API: 개발/테스트용으로 인증 없이 접근 가능
                 .requestMatchers("/api/session/**").permitAll()
                 // WebSocket: 개발/테스트용으로 인증 없이 접근 가능
@@ -50,7 +53,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/admin/**").authenticated()
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userRepository), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -2,7 +2,6 @@ package seoultech.se.server.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,7 +12,7 @@ import seoultech.se.server.ratelimit.RateLimitInterceptor;
  *
  * 기능:
  * - Rate Limiting 인터셉터 등록
- * - 매칭 API 보호
+ * - 로그인/매칭/일반 API 보호 (유휴 버킷 정리는 RateLimiter가 직접 스케줄링)
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -27,16 +26,9 @@ public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(rateLimitInterceptor)
-            .addPathPatterns("/api/matchmaking/**"); // 매칭 API에만 적용
+            .addPathPatterns("/api/**", "/tetris/users/**")
+            .excludePathPatterns("/api/health", "/api/health/**"); // 헬스체크는 제한하지 않음
 
-        System.out.println("✅ [WebConfig] Rate Limiting interceptor registered for /api/matchmaking/**");
-    }
-
-    /**
-     * Phase 3: 오래된 Rate Limit 엔트리 정리 (매 5분마다)
-     */
-    @Scheduled(fixedRate = 300000) // 5분
-    public void cleanupRateLimitEntries() {
-        rateLimitInterceptor.cleanupOldEntries();
+        System.out.println("✅ [WebConfig] Rate Limiting interceptor registered for /api/** and /tetris/users/**");
     }
 }
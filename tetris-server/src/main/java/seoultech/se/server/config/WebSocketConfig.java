@@ -10,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -23,6 +24,9 @@ import org.springframework.web.socket.server.standard.ServletServerContainerFact
 
 import lombok.RequiredArgsConstructor;
 import seoultech.se.server.config.JwtUtil;
+import seoultech.se.server.metrics.GameServerMetrics;
+import seoultech.se.server.ratelimit.StompRateLimitInterceptor;
+import seoultech.se.server.websocket.OutboundLaneDecoratorFactory;
 
 
 @Configuration
@@ -31,6 +35,9 @@ import seoultech.se.server.config.JwtUtil;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtUtil jwtUtil;
+    private final GameServerMetrics gameServerMetrics;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final OutboundLaneDecoratorFactory outboundLaneDecoratorFactory;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -52,6 +59,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registration.setMessageSizeLimit(10 * 1024 * 1024);       // 10MB (수신 제한)
         registration.setSendBufferSizeLimit(10 * 1024 * 1024);    // 10MB (송신 버퍼)
         registration.setSendTimeLimit(60 * 1000);                 // 60초 (전송 타임아웃)
+
+        // 연결별 2차선 아웃바운드 큐 (상태 프레임은 최신 것만, 이벤트는 모두 우선 전송)
+        registration.addDecoratorFactory(outboundLaneDecoratorFactory);
     }
     
     @Override
@@ -83,6 +93,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     }
                 }
 
+                return message;
+            }
+        }, stompRateLimitInterceptor); // 인증 뒤에 Rate limit (사용자별 버킷)
+    }
+
+    /**
+     * 아웃바운드 메시지 크기 측정 (세션으로 나가기 직전의 직렬화된 페이로드 기준)
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (message.getPayload() instanceof byte[] payload && payload.length > 0) {
+                    gameServerMetrics.recordOutboundMessage(
+                        SimpMessageHeaderAccessor.getDestination(message.getHeaders()), payload.length);
+                }
                 return message;
             }
         });
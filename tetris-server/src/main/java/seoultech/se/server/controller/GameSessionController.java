@@ -14,10 +14,16 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import seoultech.se.backend.mapper.GameStateMapper;
+import seoultech.se.core.dto.LatencyPingDto;
+import seoultech.se.core.dto.PlayerInputBatchDto;
 import seoultech.se.core.dto.PlayerInputDto;
 import seoultech.se.core.dto.ServerStateDto;
 import seoultech.se.server.game.GameSession;
 import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.matchmaking.PlayerRatingService;
+import seoultech.se.server.metrics.GameServerMetrics;
+import seoultech.se.server.service.LatencyProbeService;
+import seoultech.se.server.service.StateBroadcastService;
 
 @Controller
 @RequestMapping("/api/game")
@@ -25,7 +31,11 @@ import seoultech.se.server.game.GameSessionManager;
 public class GameSessionController {
     private final GameSessionManager gameSessionManager;
     private final SimpMessagingTemplate messagingTemplate;
+    private final StateBroadcastService broadcastService;
     private final GameStateMapper gameStateMapper;
+    private final GameServerMetrics metrics;
+    private final PlayerRatingService ratingService;
+    private final LatencyProbeService latencyProbeService;
 
     /**
      * 게임 시작 트리거 (멀티플레이용)
@@ -84,18 +94,16 @@ public class GameSessionController {
         }
 
         // 상대방 상태 찾기
-        java.util.List<String> players = session.getPlayerIds();
-        String opponentId = players.stream()
-            .filter(id -> !id.equals(playerId))
-            .findFirst()
-            .orElse(null);
-        seoultech.se.core.GameState opponentState = opponentId != null ? session.getStateForPlayer(opponentId) : null;
+        String opponentId = session.getOpponentId(playerId);
 
-        // GameStateDto로 변환
+        // GameStateDto로 변환 (버전 캐시 사용: 변경이 없으면 재매핑하지 않음)
+        seoultech.se.server.game.PlayerStateView myView = session.getStateView(playerId, gameStateMapper);
+        seoultech.se.server.game.PlayerStateView opponentView = opponentId != null
+            ? session.getStateView(opponentId, gameStateMapper) : null;
         ServerStateDto response = ServerStateDto.builder()
             .lastProcessedSequence(0)
-            .myGameState(gameStateMapper.toDto(myState, 0))
-            .opponentGameState(opponentState != null ? gameStateMapper.toDto(opponentState, 0) : null)
+            .myGameState(myView != null ? myView.getDto() : null)
+            .opponentGameState(opponentView != null ? opponentView.getDto() : null)
             .events(new java.util.ArrayList<>())
             .attackLinesReceived(0)
             .gameOver(myState != null && myState.isGameOver())
@@ -123,44 +131,60 @@ public class GameSessionController {
         }
 
         // 1. 입력 처리 및 Sender 기준 상태 생성
+        long startNanos = System.nanoTime();
         ServerStateDto senderResponse = session.processInput(playerId, input, gameStateMapper);
+        metrics.recordInput(System.nanoTime() - startNanos);
         if (senderResponse == null) return;
+        if (senderResponse.isGameOver() && metrics.recordGameOver(session)) {
+            ratingService.recordLoss(session, playerId);
+        }
 
-        // 2. Sender에게 전송 (통합된 토픽 사용)
-        messagingTemplate.convertAndSendToUser(
-            playerId,
-            "/topic/game/state",
-            senderResponse
-        );
+        // 2. Sender에게 전송 (통합된 토픽, 같은 틱 윈도우의 다른 메시지와 병합)
+        broadcastService.enqueue(playerId, senderResponse);
 
-        // 3. Opponent에게 전송 (통합된 토픽 사용)
-        // 중요: Sender 기준의 DTO를 그대로 보내면 안됨! (Identity Crisis 방지)
-        // Opponent 기준으로 데이터를 뒤집어서(Swap) 전송해야 함.
-        
-        java.util.List<String> players = session.getPlayerIds();
-        String opponentId = players.stream()
-            .filter(id -> !id.equals(playerId))
-            .findFirst()
-            .orElse(null);
+        // 3. Opponent에게는 상대방 보드 채널로 전달 (Sender의 상태 = Opponent가 보는 상대 보드)
+        broadcastService.relayToOpponent(session, playerId, senderResponse, gameStateMapper);
+    }
 
-        if (opponentId != null) {
-            // Opponent 기준 DTO 생성 (GameStateDto Swap)
-            ServerStateDto opponentResponse = ServerStateDto.builder()
-                .lastProcessedSequence(0) // Opponent는 이 입력을 보낸게 아니므로 시퀀스 무관
-                .myGameState(senderResponse.getOpponentGameState()) // 내(Opponent) 상태 = Sender가 본 Opponent 상태
-                .opponentGameState(senderResponse.getMyGameState()) // 상대(Sender) 상태 = Sender가 본 자신 상태
-                .events(new java.util.ArrayList<>()) // 이벤트는 공유하지 않음
-                .attackLinesReceived(0) // 입력에 의한 즉각적인 공격 수신은 별도 처리 필요할 수 있음 (현재는 0 처리)
-                .gameOver(senderResponse.isGameOver()) // 게임 오버 상태도 전달
-                .build();
-
-            // Opponent에게 통합된 토픽으로 전송
-            messagingTemplate.convertAndSendToUser(
-                opponentId,
-                "/topic/game/state",
-                opponentResponse
-            );
+    /**
+     * 입력 묶음 처리 (한 프레임 동안 쌓인 입력을 한 번에 적용)
+     *
+     * 세션 락을 한 번만 잡고 순서대로 적용한 뒤 응답을 하나만 생성
+     */
+    @MessageMapping("/game/input/batch")
+    public void handleInputBatch(PlayerInputBatchDto batch, Principal principal) {
+        String playerId = (principal != null) ? principal.getName() : "anonymous";
+
+        GameSession session = gameSessionManager.getSession(batch.getSessionId());
+
+        if (session == null) {
+            System.out.println("❌ [GameSessionController] Session not found: " + batch.getSessionId());
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        ServerStateDto senderResponse = session.processInputBatch(playerId, batch, gameStateMapper);
+        metrics.recordInput(System.nanoTime() - startNanos);
+        if (senderResponse == null) return;
+        if (senderResponse.isGameOver() && metrics.recordGameOver(session)) {
+            ratingService.recordLoss(session, playerId);
+        }
+
+        broadcastService.enqueue(playerId, senderResponse);
+        broadcastService.relayToOpponent(session, playerId, senderResponse, gameStateMapper);
+    }
+
+    /**
+     * 지연 측정 핑 에코 수신
+     *
+     * 서버가 보낸 핑(/user/topic/game/ping)을 클라이언트가 그대로 돌려보냄
+     */
+    @MessageMapping("/game/pong")
+    public void handlePong(LatencyPingDto pong, Principal principal) {
+        if (principal == null) {
+            return;
         }
+        latencyProbeService.handlePong(principal.getName(), pong);
     }
 
     /**
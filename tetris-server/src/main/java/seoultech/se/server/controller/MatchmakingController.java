@@ -23,8 +23,8 @@ import seoultech.se.server.matchmaking.MatchmakingService.WaitingPlayer;
  * 엔드포인트:
  * - POST /api/matchmaking/join: 매칭 큐 참여
  * - DELETE /api/matchmaking/leave: 매칭 취소
- * - GET /api/matchmaking/status: 매칭 상태 조회
- * - GET /api/matchmaking/queue-size: 큐 크기 조회
+ * - GET /api/matchmaking/status: 매칭 상태 조회 (예상 대기 시간, 레이팅, 현재 허용 범위 포함)
+ * - GET /api/matchmaking/queue-size: 큐 크기 + 예상 대기 시간 조회
  */
 @Slf4j
 @RestController
@@ -91,7 +91,10 @@ public class MatchmakingController {
             .map(waitingPlayer -> ResponseEntity.ok(MatchmakingStatusResponse.waiting(
                 waitingPlayer.getGameplayType().name(),
                 waitingPlayer.getDifficulty().name(),
-                waitingPlayer.getWaitingTimeMs()
+                waitingPlayer.getWaitingTimeMs(),
+                matchmakingService.getExpectedWaitMs(waitingPlayer.getGameplayType(), waitingPlayer.getDifficulty()),
+                waitingPlayer.getRating(),
+                waitingPlayer.getRatingWindow()
             )))
             .orElse(ResponseEntity.ok(MatchmakingStatusResponse.notInQueue()));
     }
@@ -108,8 +111,12 @@ public class MatchmakingController {
             request.getGameplayType(),
             request.getDifficulty()
         );
+        long expectedWaitMs = matchmakingService.getExpectedWaitMs(
+            request.getGameplayType(),
+            request.getDifficulty()
+        );
 
-        return ResponseEntity.ok(new QueueSizeResponse(size));
+        return ResponseEntity.ok(new QueueSizeResponse(size, expectedWaitMs));
     }
 
     // ===== DTOs =====
@@ -216,13 +223,20 @@ public class MatchmakingController {
         private String gameplayType;
         private String difficulty;
         private Long waitingTimeMs;
+        private Long expectedWaitMs;
+        private Integer rating;
+        private Integer ratingWindow;
 
-        public static MatchmakingStatusResponse waiting(String gameplayType, String difficulty, long waitingTimeMs) {
+        public static MatchmakingStatusResponse waiting(String gameplayType, String difficulty, long waitingTimeMs,
+                                                        long expectedWaitMs, int rating, int ratingWindow) {
             MatchmakingStatusResponse response = new MatchmakingStatusResponse();
             response.inQueue = true;
             response.gameplayType = gameplayType;
             response.difficulty = difficulty;
             response.waitingTimeMs = waitingTimeMs;
+            response.expectedWaitMs = expectedWaitMs;
+            response.rating = rating;
+            response.ratingWindow = ratingWindow;
             return response;
         }
 
@@ -263,6 +277,30 @@ public class MatchmakingController {
         public void setWaitingTimeMs(Long waitingTimeMs) {
             this.waitingTimeMs = waitingTimeMs;
         }
+
+        public Long getExpectedWaitMs() {
+            return expectedWaitMs;
+        }
+
+        public void setExpectedWaitMs(Long expectedWaitMs) {
+            this.expectedWaitMs = expectedWaitMs;
+        }
+
+        public Integer getRating() {
+            return rating;
+        }
+
+        public void setRating(Integer rating) {
+            this.rating = rating;
+        }
+
+        public Integer getRatingWindow() {
+            return ratingWindow;
+        }
+
+        public void setRatingWindow(Integer ratingWindow) {
+            this.ratingWindow = ratingWindow;
+        }
     }
 
     /**
@@ -270,9 +308,11 @@ public class MatchmakingController {
      */
     public static class QueueSizeResponse {
         private int queueSize;
+        private long expectedWaitMs;
 
-        public QueueSizeResponse(int queueSize) {
+        public QueueSizeResponse(int queueSize, long expectedWaitMs) {
             this.queueSize = queueSize;
+            this.expectedWaitMs = expectedWaitMs;
         }
 
         public int getQueueSize() {
@@ -282,5 +322,13 @@ public class MatchmakingController {
         public void setQueueSize(int queueSize) {
             this.queueSize = queueSize;
         }
+
+        public long getExpectedWaitMs() {
+            return expectedWaitMs;
+        }
+
+        public void setExpectedWaitMs(long expectedWaitMs) {
+            this.expectedWaitMs = expectedWaitMs;
+        }
     }
 }
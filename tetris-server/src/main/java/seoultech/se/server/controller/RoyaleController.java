@@ -0,0 +1,65 @@
+package seoultech.se.server.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.server.game.TargetingStrategy;
+import seoultech.se.server.matchmaking.RoyaleLobbyService;
+import seoultech.se.server.matchmaking.RoyaleLobbyService.JoinResult;
+import seoultech.se.server.matchmaking.RoyaleLobbyService.JoinStatus;
+
+/**
+ * 배틀로얄 REST API
+ *
+ * 엔드포인트:
+ * - POST /api/royale/join: 모집 중인 로비 참여 (가득 차거나 모집 시간이 지나면 /user/queue/match-found 알림)
+ * - DELETE /api/royale/leave: 출발 전 로비에서 나가기
+ * - PUT /api/royale/{sessionId}/targeting?strategy=KO: 타게팅 전략 변경
+ *
+ * 게임 진행은 1:1과 같은 입력/상태 채널, 다른 플레이어 요약은 /topic/royale/{sessionId}
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/royale")
+@RequiredArgsConstructor
+public class RoyaleController {
+
+    private final RoyaleLobbyService royaleLobbyService;
+
+    @PostMapping("/join")
+    public ResponseEntity<JoinResult> join(Principal principal) {
+        String playerId = principal.getName();
+        log.info("📝 [Royale API] Join request from {}", playerId);
+
+        JoinResult result = royaleLobbyService.join(playerId);
+        if (result.getStatus() == JoinStatus.REJECTED) {
+            return ResponseEntity.status(503).body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    @DeleteMapping("/leave")
+    public ResponseEntity<Boolean> leave(Principal principal) {
+        return ResponseEntity.ok(royaleLobbyService.leave(principal.getName()));
+    }
+
+    @PutMapping("/{sessionId}/targeting")
+    public ResponseEntity<Boolean> setTargeting(
+        @PathVariable String sessionId,
+        @RequestParam TargetingStrategy strategy,
+        Principal principal
+    ) {
+        boolean updated = royaleLobbyService.setTargeting(sessionId, principal.getName(), strategy);
+        return updated ? ResponseEntity.ok(true) : ResponseEntity.notFound().build();
+    }
+}
@@ -43,6 +43,12 @@ public class MatchFoundNotification {
      */
     private long serverTimestamp;
 
+    /**
+     * 세션을 실행하는 서버 주소 (클러스터 모드에서 다른 노드가 세션을 소유할 때만, 그 외 null)
+     * 값이 있으면 클라이언트는 이 서버로 다시 접속한 뒤 게임 시작
+     */
+    private String serverUrl;
+
     /**
      * 생성 헬퍼 메서드 (타임스탬프 자동 생성)
      */
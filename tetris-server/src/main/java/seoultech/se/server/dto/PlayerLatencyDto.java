@@ -0,0 +1,25 @@
+package seoultech.se.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플레이어 연결 품질 조회 DTO (관리자 대시보드용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerLatencyDto {
+    private String playerId;
+    private int rttMs;                   // 평활 RTT (EWMA)
+    private int lastRttMs;               // 마지막 측정 RTT
+    private int jitterMs;                // RTT 변동 (평균 편차)
+    private double lossRate;             // 핑 손실률 (0.0 ~ 1.0, EWMA)
+    private long clockOffsetMs;          // 클라이언트 시계 - 서버 시계 추정값
+    private int recommendedInputDelayMs; // 권장 입력 지연 버퍼
+    private long samples;                // 측정한 핑 수
+    private boolean online;              // 현재 연결 여부
+}
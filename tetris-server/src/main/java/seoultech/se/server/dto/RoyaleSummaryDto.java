@@ -0,0 +1,47 @@
+package seoultech.se.server.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배틀로얄 요약 보드 DTO (/topic/royale/{sessionId}, 낮은 주기)
+ *
+ * 다른 플레이어의 전체 보드 대신 열 높이와 상태만 보내 99명 로비에서도 메시지가 작음
+ * (자기 보드는 기존 상태 채널로 전송)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoyaleSummaryDto {
+    private String sessionId;
+    private int aliveCount;
+    private boolean finished;
+    private long serverTime;
+    private List<PlayerSummary> players;
+
+    /**
+     * 플레이어 한 명의 요약
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlayerSummary {
+        private int slot;
+        private String playerId;
+        private boolean online;
+        private int placement;       // 0 = 생존 중
+        private int targetSlot;      // -1 = 없음
+        private String targeting;    // TargetingStrategy
+        private int badges;          // 배지 포인트
+        private int koCount;
+        private int pendingGarbage;  // 대기 중인 방해 라인
+        private int stackHeight;
+        private int[] columnHeights;
+    }
+}
@@ -1,18 +1,28 @@
 package seoultech.se.server.game;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.Random;
 
 import seoultech.se.core.GameState;
 import seoultech.se.core.config.GameModeConfig;
+import seoultech.se.core.dto.GameStateDto;
+import seoultech.se.core.dto.PlayerInputBatchDto;
 import seoultech.se.core.dto.PlayerInputDto;
 import seoultech.se.core.dto.ServerStateDto;
 import seoultech.se.core.engine.GameEngine;
 import seoultech.se.core.model.Tetromino;
 import seoultech.se.core.model.enumType.TetrominoType;
 import seoultech.se.core.random.TetrominoGenerator;
+import seoultech.se.server.checkpoint.GameStateCodec;
+import seoultech.se.server.checkpoint.SessionCheckpoint;
+import seoultech.se.server.dto.PlayerLatencyDto;
+import seoultech.se.server.dto.RoyaleSummaryDto;
+import seoultech.se.server.matchlog.MatchRecorder;
 
 /**
  * 게임 세션
@@ -25,12 +35,53 @@ import seoultech.se.core.random.TetrominoGenerator;
  * - 여러 세션이 동일한 GameEngine 인스턴스를 공유
  * - GameModeConfig 추가: 멀티플레이어 세션의 권위 있는 설정 저장
  *
+ * 플레이어 슬롯 (PlayerSlot):
+ * - 참여 시 빈 슬롯 번호를 배정하고 플레이어별 상태(보드, 시퀀스, 공격 라인, 생성기, 틱 시간, 캐시)를 한 객체에 보관
+ * - 입력/중력 처리와 상대방 조회는 슬롯 배열만 사용 (이메일 키 맵 조회 없음)
+ * - 1:1 대전은 슬롯 2개, 상대방은 1 - 내 슬롯 번호
+ * - 배틀로얄은 슬롯 최대 99개, 상대방은 내 공격 대상 (RoyaleRules)
+ *
  * Thread-safety:
  * - GameEngine은 Stateless이므로 동시 접근 안전
- * - playerStates는 ConcurrentHashMap으로 보호
+ * - 슬롯 배열과 슬롯 필드 변경은 lock 안에서만
+ * - 락 없는 조회는 playerCount(volatile)를 먼저 읽어 슬롯 배열 변경을 봄
  * - processInput은 synchronized로 보호
  * - gameModeConfig 설정은 동기화 블록에서 보호
  *
+ * 불변 스냅샷 (SessionSnapshot):
+ * - 변경 묶음(입력 묶음, 중력 한 번, 참여/이탈, 설정 변경)이 끝날 때마다 락 안에서 새 스냅샷을 volatile 필드에 게시
+ * - 플레이어 목록, 상대방, 온라인 여부, 호스트/설정/시작 여부, 매핑된 상태 뷰, 배틀로얄 요약 조회는 스냅샷만 읽음 (락 없음)
+ * - 읽기 쪽이 틱/입력 처리를 막지 않고, 한 번 읽은 스냅샷 안의 값은 서로 일관됨
+ *
+ * 상태 매핑 캐시:
+ * - 상태가 바뀔 때마다 플레이어별 버전 스탬프 증가
+ * - 마지막 GameStateDto를 버전과 함께 캐시 (PlayerStateView), 버전이 같으면 toDto 생략
+ *
+ * 체크포인트 (SessionCheckpointService):
+ * - 레벨업이 일어나면 체크포인트 요청 표시 (다음 틱에서 기록)
+ * - 기록은 락 안에서 현재 상태를 바로 바이너리로 인코딩 (상태 복사 없음)
+ * - 재시작 후 복원된 플레이어는 오프라인 상태로 시작 (재접속하면 게임 재개)
+ *
+ * 배틀로얄 (SessionType.ROYALE):
+ * - 공격/방해 라인/탈락은 RoyaleRules가 처리 (대상별 방해 라인 큐, 타게팅 전략, 배지)
+ * - 게임 시작 후에는 새 플레이어 참여 불가
+ * - 매치 종료(markFinished)는 승자가 정해진 뒤에만 기록
+ *
+ * 휴면 (슬롯 단위, GameSessionManager가 기준 시간이 지난 플레이어/세션에 호출):
+ * - hibernateOfflinePlayers: 오래 끊긴 플레이어 슬롯만 휴면, 단 서버 틱 세션은 모든 플레이어가 끊겨 중력이 멈춘 동안만
+ * - hibernate: 모든 슬롯 휴면 (오래 입력이 없는 싱글 세션)
+ * - 상대가 접속 중인 동안에는 끊긴 플레이어에게도 중력이 계속 적용되므로 휴면하지 않음 (보드를 멈추면 게임 규칙이 바뀜)
+ * - 슬롯의 GameState를 체크포인트와 같은 바이너리 형식(GameStateCodec)으로 인코딩해 슬롯에 보관
+ * - GameState, 매핑된 DTO 캐시, 블록 생성기, 스냅샷의 상태 뷰를 놓아 줌 (슬롯, 시퀀스, 대기 공격 라인, 연결 품질 추정기는 유지)
+ * - 그 플레이어의 상태가 필요한 호출(입력, 재참여, 재접속, 중력, 상태 조회)이 오면 락 안에서 그 슬롯만 먼저 깨운 뒤 처리
+ * - 한 명이 재접속해 세션이 다시 진행되면 끊긴 채 남은 슬롯도 다음 중력 틱에서 깨어나 전처럼 떨어짐
+ * - 깨어나면 마지막 활동 시각을 갱신 (조회로 깨운 싱글 세션이 다음 검사에서 바로 다시 휴면하지 않도록)
+ * - 깨어날 때 블록 생성기는 새 가방부터 시작 (체크포인트 복원과 동일), 배틀로얄 세션은 휴면하지 않음
+ *
+ * 매치 로그 (MatchRecorder, 멀티플레이 세션만):
+ * - 적용된 입력과 중력 이벤트마다 고정 크기 레코드 하나를 세션 전용 스테이지에 추가 (락 안, 파일 I/O 없음)
+ * - 스테이지는 틱이 끝날 때 틱 스레드가 세그먼트로 내보냄 (다른 세션과 락을 공유하지 않음)
+ *
  * 멀티플레이어 설정 동기화:
  * - 호스트가 게임 시작 전 GameModeConfig 설정
  * - 모든 클라이언트는 서버의 Config를 사용 (로컬 설정 무시)
@@ -38,11 +89,33 @@ import seoultech.se.core.random.TetrominoGenerator;
  */
 public class GameSession {
 
+    /**
+     * 1:1 세션 최대 플레이어 수
+     */
+    static final int MAX_PLAYERS = 2;
+
+    /**
+     * 배틀로얄 세션 최대 플레이어 수
+     */
+    public static final int MAX_ROYALE_PLAYERS = 99;
+
     private final String sessionId;
-    private final Map<String, GameState> playerStates = new ConcurrentHashMap<>();
-    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
-    private final Map<String, Integer> pendingAttackLines = new ConcurrentHashMap<>(); // 대기 중인 공격 라인
-    private final Map<String, TetrominoGenerator> playerGenerators = new ConcurrentHashMap<>(); // 플레이어별 블록 생성기
+
+    /**
+     * 플레이어 슬롯 (참여 순서대로 배정, 빈 슬롯은 null)
+     */
+    private final PlayerSlot[] slots;
+
+    /**
+     * 배틀로얄 규칙 (ROYALE 세션만, 그 외 null)
+     */
+    private final RoyaleRules royale;
+
+    /**
+     * 참여 중인 플레이어 수 (슬롯 배열을 바꾼 뒤 마지막에 기록)
+     */
+    private volatile int playerCount;
+
     private final GameEngine gameEngine; // 싱글톤 공유
 
     /**
@@ -55,6 +128,8 @@ public class GameSession {
 
     private String hostPlayerId; // 호스트 플레이어 ID (Config 설정 권한)
     private boolean isGameStarted = false; // 게임 시작 여부
+    private long gameStartedAt; // 게임 시작 시각 (밀리초, 매치 시간 통계용)
+    private boolean gameFinished = false; // 게임 종료 처리 여부 (매치 시간은 한 번만 기록)
 
     /**
      * Phase 1: 세션 타임아웃 추적
@@ -63,21 +138,44 @@ public class GameSession {
     private volatile long lastActivityTime;
 
     /**
-     * 세션 타입 (SINGLE/MULTI)
+     * 세션 타입 (SINGLE/MULTI/ROYALE)
      * - SINGLE: 클라이언트가 모든 로직 처리, 서버는 상태만 저장
-     * - MULTI: 서버가 자동 게임 루프 실행, 클라이언트는 입력만 전송
+     * - MULTI/ROYALE: 서버가 자동 게임 루프 실행, 클라이언트는 입력만 전송
      */
     private final SessionType sessionType;
 
+    private final Object lock = new Object(); // 동기화를 위한 락 객체
+
     /**
-     * 마지막 틱 시간 (멀티플레이용)
-     * - 서버 게임 루프에서 자동 중력 적용 시 사용
-     * - 각 플레이어마다 독립적인 틱 시간 관리
+     * 입력 묶음 하나에 허용하는 최대 입력 수 (초과분은 무시)
      */
-    private final Map<String, Long> lastTickTimes = new ConcurrentHashMap<>();
-    private final java.util.Set<String> offlinePlayers = ConcurrentHashMap.newKeySet(); // 연결 끊긴 플레이어 추적
+    private static final int MAX_INPUT_BATCH_SIZE = 32;
 
-    private final Object lock = new Object(); // 동기화를 위한 락 객체
+    /**
+     * 체크포인트 요청 (레벨업 시 설정, 게임 틱이 기록 후 해제)
+     */
+    private volatile boolean checkpointRequested = false;
+
+    /**
+     * 마지막으로 게시한 불변 스냅샷 (lock 안의 publishSnapshot으로만 교체, 읽기는 락 없음)
+     */
+    private volatile SessionSnapshot snapshot = SessionSnapshot.empty();
+    private long snapshotVersion;
+
+    /**
+     * 휴면 중인 슬롯 수 (lock 안에서만 변경)
+     */
+    private volatile int hibernatedSlots;
+
+    /**
+     * 휴면 인코딩 버퍼 초기 크기 (플레이어당, 부족하면 두 배로 다시 시도)
+     */
+    private static final int HIBERNATE_BYTES_PER_PLAYER = 512;
+
+    /**
+     * 매치 로그 스테이지 (기록하지 않는 세션은 null)
+     */
+    private final MatchRecorder.Stage matchLog;
 
     /**
      * 생성자 (GameEngine 주입)
@@ -87,9 +185,31 @@ public class GameSession {
      * @param sessionType 세션 타입 (SINGLE/MULTI)
      */
     public GameSession(String sessionId, GameEngine gameEngine, SessionType sessionType) {
+        this(sessionId, gameEngine, sessionType, null);
+    }
+
+    /**
+     * 생성자 (매치 로그 기록)
+     *
+     * @param matchRecorder 매치 로그 기록기 (null이면 기록 안 함)
+     */
+    public GameSession(String sessionId, GameEngine gameEngine, SessionType sessionType, MatchRecorder matchRecorder) {
+        this(sessionId, gameEngine, sessionType, matchRecorder,
+            sessionType == SessionType.ROYALE ? MAX_ROYALE_PLAYERS : MAX_PLAYERS);
+    }
+
+    /**
+     * 생성자 (슬롯 수 지정, 배틀로얄 로비 크기용)
+     *
+     * @param capacity 최대 플레이어 수
+     */
+    public GameSession(String sessionId, GameEngine gameEngine, SessionType sessionType, MatchRecorder matchRecorder, int capacity) {
         this.sessionId = sessionId;
+        this.slots = new PlayerSlot[Math.max(1, capacity)];
+        this.royale = sessionType == SessionType.ROYALE ? new RoyaleRules(slots, new Random()) : null;
         this.gameEngine = gameEngine;
         this.sessionType = sessionType;
+        this.matchLog = matchRecorder != null && matchRecorder.isEnabled() ? matchRecorder.newStage(sessionId) : null;
         this.lastActivityTime = System.currentTimeMillis(); // 생성 시점을 마지막 활동 시간으로 초기화
         System.out.println("✅ [GameSession] Created: " + sessionId +
             ", Type: " + sessionType +
@@ -100,10 +220,27 @@ public class GameSession {
      * 플레이어 참여
      *
      * @param playerId 플레이어 ID
-     * @return 매칭 완료 여부 (두 번째 플레이어가 참여하면 true)
+     * @return 매칭 완료 여부 (마지막 빈 슬롯이 채워지면 true, 빈 슬롯이 없으면 false)
      */
     public boolean joinPlayer(String playerId) {
         synchronized (lock) {
+            // 이미 참여한 플레이어는 같은 슬롯을 다시 사용 (재참여)
+            PlayerSlot slot = slotOf(playerId);
+            wakeSlot(slot);
+            if (slot == null) {
+                if (royale != null && isGameStarted) {
+                    System.err.println("❌ [GameSession] Royale already started, cannot join: " + playerId);
+                    return false;
+                }
+                int index = freeSlotIndex();
+                if (index < 0) {
+                    System.err.println("❌ [GameSession] Session full, cannot join: " + playerId);
+                    return false;
+                }
+                slot = new PlayerSlot(index, playerId);
+                slots[index] = slot;
+            }
+
             if (hostPlayerId == null) {
                 // 첫 번째 플레이어가 호스트
                 hostPlayerId = playerId;
@@ -114,35 +251,97 @@ public class GameSession {
             seoultech.se.core.random.RandomGenerator randomGen = new seoultech.se.core.random.RandomGenerator();
             seoultech.se.core.model.enumType.Difficulty difficulty = gameModeConfig != null ?
                 gameModeConfig.getDifficulty() : seoultech.se.core.model.enumType.Difficulty.NORMAL;
-            TetrominoGenerator generator = new TetrominoGenerator(randomGen, difficulty);
-            playerGenerators.put(playerId, generator);
+            slot.generator = new TetrominoGenerator(randomGen, difficulty);
 
             // 초기 상태 생성 및 첫 블록 스폰
             GameState initialState = new GameState(10, 20);
-            spawnNextBlock(initialState, playerId); // 첫 블록 생성 및 Next Queue 업데이트
-
-            playerStates.put(playerId, initialState);
-            lastSequences.put(playerId, 0L); // 초기 시퀀스 번호
-            pendingAttackLines.put(playerId, 0); // 대기 중인 공격 라인 초기화
-            offlinePlayers.remove(playerId); // 온라인 상태로 전환
+            spawnNextBlock(initialState, slot); // 첫 블록 생성 및 Next Queue 업데이트
+
+            slot.state = initialState;
+            markStateChanged(slot);
+            slot.lastSequence = 0L; // 초기 시퀀스 번호
+            slot.pendingAttackLines = 0; // 대기 중인 공격 라인 초기화
+            slot.offline = false; // 온라인 상태로 전환
+            if (royale != null) {
+                royale.reset(slot); // 방해 라인 큐, 배지, 순위 초기화
+            }
 
-            // 멀티플레이 세션인 경우 틱 시간 초기화
-            if (sessionType == SessionType.MULTI) {
-                lastTickTimes.put(playerId, System.currentTimeMillis());
+            // 서버 틱 세션인 경우 틱 시간 초기화
+            if (sessionType.isServerTicked()) {
+                slot.lastTickTime = System.currentTimeMillis();
             }
 
             // Phase 1: 활동 시간 갱신
             updateLastActivityTime();
 
-            int playerCount = playerStates.size();
+            int count = publishPlayerCount();
+            publishSnapshot();
             System.out.println("✅ [GameSession] Player joined: " + playerId +
-                " (" + playerCount + " players total)");
+                " (slot " + slot.index + ", " + count + " players total)");
 
-            // 두 번째 플레이어가 참여하면 매칭 완료
-            return playerCount == 2;
+            // 마지막 빈 슬롯이 채워지면 매칭 완료 (1:1은 두 번째 플레이어)
+            return count == slots.length;
         }
     }
 
+    /**
+     * 플레이어 슬롯 찾기 (슬롯이 몇 개뿐이라 배열을 훑는 것이 해시 조회보다 싸다)
+     *
+     * @return 슬롯 (참여하지 않은 플레이어면 null)
+     */
+    private PlayerSlot slotOf(String playerId) {
+        if (playerCount == 0 || playerId == null) { // volatile 읽기 먼저 → 최신 슬롯 배열을 봄
+            return null;
+        }
+        for (PlayerSlot slot : slots) {
+            if (slot != null && slot.playerId.equals(playerId)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 상대방 슬롯 (1:1이면 1 - 내 슬롯 번호, 배틀로얄이면 현재 공격 대상)
+     */
+    private PlayerSlot opponentOf(PlayerSlot slot) {
+        if (royale != null) {
+            return royale.currentTarget(slot);
+        }
+        if (slots.length == 2) {
+            return slots[1 - slot.index];
+        }
+        for (PlayerSlot other : slots) {
+            if (other != null && other != slot) {
+                return other;
+            }
+        }
+        return null;
+    }
+
+    private int freeSlotIndex() {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 슬롯 배열 변경 후 플레이어 수 기록 (호출 측에서 lock을 잡고 있어야 함)
+     */
+    private int publishPlayerCount() {
+        int count = 0;
+        for (PlayerSlot slot : slots) {
+            if (slot != null) {
+                count++;
+            }
+        }
+        playerCount = count;
+        return count;
+    }
+
     /**
      * Phase 1: 마지막 활동 시간 갱신
      */
@@ -167,27 +366,37 @@ public class GameSession {
      */
     public boolean removePlayer(String playerId) {
         synchronized (lock) {
-            boolean removed = playerStates.remove(playerId) != null;
-
-            if (removed) {
-                lastSequences.remove(playerId);
-                pendingAttackLines.remove(playerId);
-                playerGenerators.remove(playerId); // 블록 생성기도 제거
-                offlinePlayers.remove(playerId); // 오프라인 목록에서도 제거
-
-                System.out.println("👋 [GameSession] Player removed: " + playerId +
-                    " (" + playerStates.size() + " players remaining)");
+            PlayerSlot slot = slotOf(playerId);
+            if (slot == null) {
+                return false;
+            }
+            if (slot.hibernated != null) {
+                slot.hibernated = null; // 슬롯과 함께 버림
+                hibernatedSlots--;
+            }
 
-                // 호스트가 나간 경우 새로운 호스트 지정
-                if (playerId.equals(hostPlayerId)) {
-                    hostPlayerId = playerStates.keySet().stream().findFirst().orElse(null);
-                    if (hostPlayerId != null) {
+            if (royale != null && isGameStarted) {
+                eliminateIfRoyale(slot, new ArrayList<>()); // 진행 중 이탈은 탈락으로 처리 (남은 한 명이면 승자 결정)
+            }
+            slots[slot.index] = null; // 슬롯의 상태/생성기/캐시/추정기가 함께 제거됨
+            int remaining = publishPlayerCount();
+            System.out.println("👋 [GameSession] Player removed: " + playerId +
+                " (" + remaining + " players remaining)");
+
+            // 호스트가 나간 경우 새로운 호스트 지정
+            if (playerId.equals(hostPlayerId)) {
+                hostPlayerId = null;
+                for (PlayerSlot other : slots) {
+                    if (other != null) {
+                        hostPlayerId = other.playerId;
                         System.out.println("👑 [GameSession] New host: " + hostPlayerId);
+                        break;
                     }
                 }
             }
 
-            return removed;
+            publishSnapshot();
+            return true;
         }
     }
     
@@ -198,10 +407,18 @@ public class GameSession {
      * @param isOnline 온라인 여부
      */
     public void setPlayerOnline(String playerId, boolean isOnline) {
-        if (isOnline) {
-            offlinePlayers.remove(playerId);
-        } else {
-            offlinePlayers.add(playerId);
+        synchronized (lock) {
+            PlayerSlot slot = slotOf(playerId);
+            if (isOnline) {
+                wakeSlot(slot); // 재접속 → 다음 틱부터 바로 진행
+            }
+            if (slot != null && slot.offline == isOnline) {
+                slot.offline = !isOnline;
+                if (!isOnline) {
+                    slot.offlineSince = System.currentTimeMillis();
+                }
+                publishSnapshot();
+            }
         }
     }
     
@@ -212,7 +429,8 @@ public class GameSession {
      * @return 온라인이면 true
      */
     public boolean isPlayerOnline(String playerId) {
-        return !offlinePlayers.contains(playerId);
+        SessionSnapshot.PlayerSnapshot player = snapshot.getPlayer(playerId);
+        return player == null || player.isOnline();
     }
     
     /**
@@ -222,8 +440,7 @@ public class GameSession {
      */
     public boolean hasActivePlayers() {
         // 등록된 플레이어 중 오프라인이 아닌 플레이어가 1명이라도 있으면 true
-        return playerStates.keySet().stream()
-            .anyMatch(id -> !offlinePlayers.contains(id));
+        return snapshot.hasActivePlayers();
     }
 
     /**
@@ -232,16 +449,59 @@ public class GameSession {
      * @return 플레이어 수
      */
     public int getPlayerCount() {
-        return playerStates.size();
+        return playerCount;
     }
 
     /**
      * 플레이어 ID 목록 반환
      *
-     * @return 플레이어 ID 리스트
+     * @return 플레이어 ID 리스트 (슬롯 순서)
      */
     public List<String> getPlayerIds() {
-        return new ArrayList<>(playerStates.keySet());
+        return snapshot.getPlayerIds();
+    }
+
+    /**
+     * 상대방 플레이어 ID 조회 (1:1 대전 기준, 배틀로얄은 현재 공격 대상)
+     *
+     * @param playerId 기준 플레이어 ID
+     * @return 상대방 ID (없으면 null)
+     */
+    public String getOpponentId(String playerId) {
+        SessionSnapshot current = snapshot;
+        SessionSnapshot.PlayerSnapshot player = current.getPlayer(playerId);
+        if (player == null) {
+            // 세션 밖 플레이어 기준이면 아무 참여자나 (기존 동작 유지)
+            List<SessionSnapshot.PlayerSnapshot> players = current.getPlayers();
+            return players.isEmpty() ? null : players.get(0).getPlayerId();
+        }
+        return player.getOpponentId();
+    }
+
+    /**
+     * 플레이어 연결 품질 추정기 조회
+     *
+     * @param playerId 플레이어 ID
+     * @return 추정기 (세션에 없는 플레이어면 null)
+     */
+    public LatencyTracker getLatencyTracker(String playerId) {
+        PlayerSlot slot = slotOf(playerId);
+        return slot != null ? slot.latencyTracker : null;
+    }
+
+    /**
+     * 세션 내 모든 플레이어의 연결 품질 스냅샷 (관리자 대시보드용)
+     *
+     * @return 플레이어별 연결 품질 목록
+     */
+    public List<PlayerLatencyDto> getLatencySnapshots() {
+        List<PlayerLatencyDto> snapshots = new ArrayList<>(playerCount);
+        for (PlayerSlot slot : slots) {
+            if (slot != null) {
+                snapshots.add(slot.latencyTracker.snapshot(slot.playerId, !slot.offline));
+            }
+        }
+        return snapshots;
     }
 
     /**
@@ -267,6 +527,7 @@ public class GameSession {
             }
             
             this.gameModeConfig = config;
+            publishSnapshot();
             
             if (playerId != null) {
                 System.out.println("⚙️ [GameSession] Config set by host " + playerId +
@@ -284,7 +545,7 @@ public class GameSession {
      * @return 현재 설정된 GameModeConfig (null일 수 있음)
      */
     public GameModeConfig getGameModeConfig() {
-        return gameModeConfig;
+        return snapshot.getGameModeConfig();
     }
     
     /**
@@ -293,7 +554,7 @@ public class GameSession {
      * @return 호스트 플레이어 ID
      */
     public String getHostPlayerId() {
-        return hostPlayerId;
+        return snapshot.getHostPlayerId();
     }
     
     /**
@@ -315,7 +576,9 @@ public class GameSession {
             }
             
             isGameStarted = true;
-            System.out.println("🎮 [GameSession] Game started with " + playerStates.size() + " players");
+            gameStartedAt = System.currentTimeMillis();
+            publishSnapshot();
+            System.out.println("🎮 [GameSession] Game started with " + playerCount + " players");
         }
     }
     
@@ -325,19 +588,38 @@ public class GameSession {
      * @return 게임이 시작되었는지 여부
      */
     public boolean isGameStarted() {
-        return isGameStarted;
+        return snapshot.isGameStarted();
+    }
+
+    /**
+     * 게임 종료 마킹
+     * 여러 플레이어의 게임 오버가 연달아 와도 처음 한 번만 매치 시간을 반환
+     *
+     * 배틀로얄은 승자가 정해진 뒤에만 종료 처리 (중간 탈락은 매치 종료가 아님)
+     *
+     * @return 게임 시작부터 종료까지 걸린 시간 (밀리초), 이미 종료 처리되었거나 시작 전(또는 배틀로얄 진행 중)이면 -1
+     */
+    public long markFinished() {
+        synchronized (lock) {
+            if (gameFinished || !isGameStarted || (royale != null && !royale.isDecided())) {
+                return -1;
+            }
+            gameFinished = true;
+            publishSnapshot();
+            return System.currentTimeMillis() - gameStartedAt;
+        }
     }
 
     /**
      * 다음 블록 생성 및 스폰 (통합 메서드)
      *
      * @param state 게임 상태 (변경됨)
-     * @param playerId 플레이어 ID
+     * @param slot 플레이어 슬롯
      */
-    private void spawnNextBlock(GameState state, String playerId) {
-        TetrominoGenerator generator = playerGenerators.get(playerId);
+    private void spawnNextBlock(GameState state, PlayerSlot slot) {
+        TetrominoGenerator generator = slot.generator;
         if (generator == null) {
-            System.err.println("❌ [GameSession] No generator for player: " + playerId);
+            System.err.println("❌ [GameSession] No generator for player: " + slot.playerId);
             return;
         }
 
@@ -399,12 +681,15 @@ public class GameSession {
      * 공격 라인 처리 로직 (공통 메서드)
      * 
      * @param state 게임 상태 (라인 클리어 정보 포함)
-     * @param playerId 플레이어 ID
-     * @param opponentId 상대방 ID
+     * @param slot 플레이어 슬롯
+     * @param opponent 상대방 슬롯 (없으면 null)
      * @param currentState 현재 상태 (공격 라인 적용용)
      * @return 공격 처리 결과
      */
-    private AttackResult processAttackLines(GameState state, String playerId, String opponentId, GameState currentState) {
+    private AttackResult processAttackLines(GameState state, PlayerSlot slot, PlayerSlot opponent, GameState currentState) {
+        if (royale != null) {
+            return processRoyaleAttack(state, slot);
+        }
         List<String> events = new ArrayList<>();
         int linesCleared = state.getLastLinesCleared();
 
@@ -413,103 +698,239 @@ public class GameSession {
             events.add("LINE_CLEAR");
 
             // 상대방에게 공격 라인 추가 (라인 수 - 1)
-            if (opponentId != null && linesCleared > 1) {
+            if (opponent != null && linesCleared > 1) {
                 int attackLines = linesCleared - 1; // 2줄 → 1줄, 3줄 → 2줄, 4줄 → 3줄
 
                 // 상대방의 대기 중인 공격 라인에 누적
-                int currentPending = pendingAttackLines.getOrDefault(opponentId, 0);
-                pendingAttackLines.put(opponentId, currentPending + attackLines);
+                opponent.pendingAttackLines += attackLines;
 
                 events.add("ATTACK_SENT:" + attackLines);
-                System.out.println("⚔️ [GameSession] Attack: " + playerId +
-                    " → " + opponentId + " (" + attackLines + " lines, total pending: " +
-                    (currentPending + attackLines) + ")");
+                System.out.println("⚔️ [GameSession] Attack: " + slot.playerId +
+                    " → " + opponent.playerId + " (" + attackLines + " lines, total pending: " +
+                    opponent.pendingAttackLines + ")");
             }
         }
 
         // 나에게 대기 중인 공격 라인 가져오기 및 초기화
-        int attackReceived = pendingAttackLines.getOrDefault(playerId, 0);
+        int attackReceived = slot.pendingAttackLines;
         boolean gameOver = false;
         if (attackReceived > 0) {
-            pendingAttackLines.put(playerId, 0); // 처리했으므로 초기화
+            slot.pendingAttackLines = 0; // 처리했으므로 초기화
             
             // ✨ 중요: 서버 상태에 실제로 방해 라인 적용 (Server Authoritative)
             gameOver = currentState.addGarbageLines(attackReceived);
             if (gameOver) {
-                System.out.println("💀 [GameSession] Player " + playerId + " Game Over by attack");
+                System.out.println("💀 [GameSession] Player " + slot.playerId + " Game Over by attack");
             }
             
-            System.out.println("🛡️ [GameSession] " + playerId + " received and APPLIED " + attackReceived + " attack lines");
+            System.out.println("🛡️ [GameSession] " + slot.playerId + " received and APPLIED " + attackReceived + " attack lines");
         }
 
         return new AttackResult(events, attackReceived, gameOver);
     }
 
+    /**
+     * 배틀로얄 공격 라인 처리 (상쇄 → 대상 큐로 전송 → 내 큐에서 꺼내 적용)
+     *
+     * 방해 라인은 이번 행동의 결과 상태(슬롯에 저장된 상태)에 적용
+     *
+     * @param state 행동 후 상태 (라인 클리어 정보 포함, 방해 라인 적용 대상)
+     * @param slot 플레이어 슬롯
+     * @return 공격 처리 결과
+     */
+    private AttackResult processRoyaleAttack(GameState state, PlayerSlot slot) {
+        List<String> events = new ArrayList<>();
+        int linesCleared = state.getLastLinesCleared();
+        if (linesCleared > 0) {
+            events.add("LINE_CLEAR");
+            if (linesCleared > 1) {
+                royale.sendAttack(slot, linesCleared - 1, events);
+            }
+        }
+
+        int received = royale.receiveGarbage(slot);
+        boolean gameOver = received > 0 && state.addGarbageLines(received);
+        return new AttackResult(events, received, gameOver);
+    }
+
+    /**
+     * 배틀로얄 탈락 처리 (게임 오버가 된 행동 직후, 호출 측에서 lock을 잡고 있어야 함)
+     */
+    private void eliminateIfRoyale(PlayerSlot slot, List<String> events) {
+        if (royale != null && royale.eliminate(slot, events)) {
+            System.out.println("💀 [GameSession] Royale elimination: " + slot.playerId +
+                " (#" + slot.placement + ", " + royale.countAlive() + " alive)");
+        }
+    }
+
     public ServerStateDto processInput(String playerId, PlayerInputDto input, seoultech.se.backend.mapper.GameStateMapper gameStateMapper){
         synchronized(lock){
-            GameState currentState = playerStates.get(playerId);
+            PlayerSlot slot = inputSlot(playerId);
+            if (slot == null) {
+                return null;
+            }
+            AttackResult result = applyInput(slot, input);
+            if (result == null) {
+                return null;
+            }
 
-            // Phase 1: 활동 시간 갱신
-            updateLastActivityTime();
+            // GameState를 GameStateDto로 변환 (버전 캐시에 저장되어 상대방 보드 채널이 재사용)
+            // 상대방 보드는 별도 채널(StateBroadcastService.OPPONENT_DESTINATION)로 전송하므로 매핑하지 않음
+            ServerStateDto response = ServerStateDto.builder()
+                    .lastProcessedSequence(input.getSequenceId())
+                    .myGameState(mapState(slot, slot.state, (int)input.getSequenceId(), gameStateMapper))
+                    .events(result.getEvents())
+                    .attackLinesReceived(result.getAttackLinesReceived())
+                    .gameOver(result.isGameOver())
+                    .build();
+            publishSnapshot();
+            return response;
+        }
+    }
 
-            // 플레이어 상태가 없으면 자동으로 join 처리
-            if (currentState == null) {
-                System.out.println("⚠️ [GameSession] No state for player: " + playerId + ", auto-joining...");
-                joinPlayer(playerId);
-                currentState = playerStates.get(playerId);
+    /**
+     * 입력 묶음 처리 (락 한 번으로 순서대로 적용, 응답은 하나만 생성)
+     *
+     * - 이벤트는 이어붙이고 공격 라인은 합산, 게임 오버는 OR
+     * - DTO 매핑은 마지막 상태에 대해 한 번만 수행
+     * - 게임 오버가 되면 남은 입력은 무시
+     *
+     * @param playerId 플레이어 ID
+     * @param batch 입력 묶음
+     * @param gameStateMapper GameState를 GameStateDto로 변환하는 매퍼
+     * @return 병합된 ServerStateDto (적용된 입력이 없으면 null)
+     */
+    public ServerStateDto processInputBatch(String playerId, PlayerInputBatchDto batch, seoultech.se.backend.mapper.GameStateMapper gameStateMapper) {
+        if (batch == null || batch.getInputs() == null || batch.getInputs().isEmpty()) {
+            return null;
+        }
 
-                if (currentState == null) {
-                    System.err.println("❌ [GameSession] Failed to initialize player state");
-                    return null;
-                }
-            }
+        List<PlayerInputDto> inputs = batch.getInputs();
+        if (inputs.size() > MAX_INPUT_BATCH_SIZE) {
+            System.err.println("⚠️ [GameSession] Input batch too large from " + playerId +
+                " (" + inputs.size() + "), truncated to " + MAX_INPUT_BATCH_SIZE);
+            inputs = inputs.subList(0, MAX_INPUT_BATCH_SIZE);
+        }
 
-            // 1. 시퀀스 검증 (오래된 패킷 무시)
-            long lastSeq = lastSequences.getOrDefault(playerId, 0L);
-            if (input.getSequenceId() <= lastSeq) {
-                return null; // 이미 처리된 입력은 무시
+        synchronized (lock) {
+            PlayerSlot slot = inputSlot(playerId);
+            if (slot == null) {
+                return null;
             }
 
-            // 2. 서버 권한으로 로직 실행
-            GameState nextState = gameEngine.executeCommand(input.getCommand(), currentState);
+            List<String> events = new ArrayList<>();
+            int attackLinesReceived = 0;
+            boolean gameOver = false;
+            long lastAppliedSequence = -1;
 
-            // nextState가 null이면 명령 실행 실패
-            if (nextState == null) {
-                System.err.println("❌ [GameSession] Command execution failed, command: " + input.getCommand());
+            for (PlayerInputDto input : inputs) {
+                AttackResult result = applyInput(slot, input);
+                if (result == null) {
+                    continue;
+                }
+                events.addAll(result.getEvents());
+                attackLinesReceived += result.getAttackLinesReceived();
+                gameOver = gameOver || result.isGameOver();
+                lastAppliedSequence = input.getSequenceId();
+                if (gameOver) {
+                    break;
+                }
+            }
+
+            if (lastAppliedSequence < 0) {
                 return null;
             }
 
-            // 블록이 잠긴 경우 (currentTetromino가 null) 새 블록 생성
-            if (nextState.getCurrentTetromino() == null && !nextState.isGameOver()) {
-                spawnNextBlock(nextState, playerId);
+            ServerStateDto response = ServerStateDto.builder()
+                    .lastProcessedSequence(lastAppliedSequence)
+                    .myGameState(mapState(slot, slot.state, (int)lastAppliedSequence, gameStateMapper))
+                    .events(events)
+                    .attackLinesReceived(attackLinesReceived)
+                    .gameOver(gameOver)
+                    .build();
+            publishSnapshot(); // 묶음 전체를 스냅샷 하나로 게시
+            return response;
+        }
+    }
+
+    /**
+     * 입력을 적용할 플레이어 슬롯 (참여하지 않은 플레이어면 자동으로 join 처리)
+     *
+     * 호출 측에서 lock을 잡고 있어야 함
+     *
+     * @return 슬롯 또는 null (빈 슬롯 없음)
+     */
+    private PlayerSlot inputSlot(String playerId) {
+        // Phase 1: 활동 시간 갱신
+        updateLastActivityTime();
+
+        PlayerSlot slot = slotOf(playerId);
+        wakeSlot(slot);
+        if (slot == null) {
+            System.out.println("⚠️ [GameSession] No state for player: " + playerId + ", auto-joining...");
+            joinPlayer(playerId);
+            slot = slotOf(playerId);
+
+            if (slot == null) {
+                System.err.println("❌ [GameSession] Failed to initialize player state");
             }
+        }
+        return slot;
+    }
 
-            // 3. 상태 업데이트
-            playerStates.put(playerId, nextState);
-            lastSequences.put(playerId, input.getSequenceId());
+    /**
+     * 입력 하나를 서버 상태에 적용 (DTO 매핑 없음)
+     *
+     * 호출 측에서 lock을 잡고 있어야 함
+     *
+     * @return 적용 결과 (이벤트, 받은 공격 라인, 게임 오버) 또는 null (무시된 입력)
+     */
+    private AttackResult applyInput(PlayerSlot slot, PlayerInputDto input) {
+        GameState currentState = slot.state;
 
-            // 4. 상대방 ID 찾기
-            String opponentId = playerStates.keySet().stream()
-                    .filter(id -> !id.equals(playerId))
-                    .findFirst()
-                    .orElse(null);
+        // 1. 시퀀스 검증 (오래된 패킷 무시)
+        if (input.getSequenceId() <= slot.lastSequence) {
+            return null; // 이미 처리된 입력은 무시
+        }
 
-            // 5. 공격 라인 처리 (공통 메서드 사용)
-            AttackResult attackResult = processAttackLines(nextState, playerId, opponentId, currentState);
-            
-            // 게임 오버 체크 (명령 실행으로 인한 게임 오버도 확인)
-            boolean gameOver = nextState.isGameOver() || attackResult.isGameOver();
+        // 2. 서버 권한으로 로직 실행
+        GameState nextState = gameEngine.executeCommand(input.getCommand(), currentState);
 
-            // GameState를 GameStateDto로 변환
-            return ServerStateDto.builder()
-                    .lastProcessedSequence(input.getSequenceId())
-                    .myGameState(gameStateMapper.toDto(nextState, (int)input.getSequenceId()))
-                    .opponentGameState(opponentId != null ? gameStateMapper.toDto(playerStates.get(opponentId), 0) : null)
-                    .events(attackResult.getEvents())
-                    .attackLinesReceived(attackResult.getAttackLinesReceived())
-                    .gameOver(gameOver)
-                    .build();
+        // nextState가 null이면 명령 실행 실패
+        if (nextState == null) {
+            System.err.println("❌ [GameSession] Command execution failed, command: " + input.getCommand());
+            return null;
         }
+
+        // GameEngine은 copy-on-write이므로 이동 불가 등으로 변화가 없으면 같은 인스턴스를 반환함
+        boolean stateChanged = nextState != currentState;
+
+        // 블록이 잠긴 경우 (currentTetromino가 null) 새 블록 생성
+        if (nextState.getCurrentTetromino() == null && !nextState.isGameOver()) {
+            spawnNextBlock(nextState, slot);
+            stateChanged = true;
+        }
+
+        // 3. 상태 업데이트
+        slot.state = nextState;
+        slot.lastSequence = input.getSequenceId();
+
+        // 4. 공격 라인 처리 (공통 메서드 사용, 상대방은 반대편 슬롯)
+        AttackResult attackResult = processAttackLines(nextState, slot, opponentOf(slot), currentState);
+        if (stateChanged || attackResult.getAttackLinesReceived() > 0) {
+            markStateChanged(slot); // 변화가 없으면 버전 유지 → 상대방 보드 채널이 재전송 생략
+        }
+        
+        // 게임 오버 체크 (명령 실행으로 인한 게임 오버도 확인)
+        boolean gameOver = nextState.isGameOver() || attackResult.isGameOver();
+        if (gameOver) {
+            eliminateIfRoyale(slot, attackResult.getEvents());
+        }
+        if (matchLog != null) {
+            matchLog.recordInput(slot.playerId, input.getSequenceId(), input.getCommand(),
+                nextState, attackResult.getAttackLinesReceived(), gameOver);
+        }
+        return new AttackResult(attackResult.getEvents(), attackResult.getAttackLinesReceived(), gameOver);
     }
 
     /**
@@ -523,13 +944,15 @@ public class GameSession {
     public ServerStateDto applyGravity(String playerId, long currentTime, seoultech.se.backend.mapper.GameStateMapper gameStateMapper) {
         synchronized (lock) {
             // 1. 세션 타입 검증
-            if (sessionType != SessionType.MULTI) {
-                System.err.println("⚠️ [GameSession] applyGravity called on non-MULTI session");
+            if (!sessionType.isServerTicked()) {
+                System.err.println("⚠️ [GameSession] applyGravity called on " + sessionType + " session");
                 return null;
             }
 
-            // 2. 플레이어 상태 확인
-            GameState currentState = playerStates.get(playerId);
+            // 2. 플레이어 상태 확인 (세션이 다시 진행되면 끊긴 채 휴면 중인 슬롯도 깨워서 계속 떨어뜨림)
+            PlayerSlot slot = slotOf(playerId);
+            wakeSlot(slot);
+            GameState currentState = slot != null ? slot.state : null;
             if (currentState == null) {
                 System.err.println("⚠️ [GameSession] No state for player: " + playerId);
                 return null;
@@ -541,7 +964,7 @@ public class GameSession {
             }
 
             // 4. 틱 간격 계산 (레벨에 따른 낙하 속도)
-            long lastTickTime = lastTickTimes.getOrDefault(playerId, currentTime);
+            long lastTickTime = slot.lastTickTime;
             int level = currentState.getLevel();
             long tickInterval = calculateTickInterval(level); // 레벨에 따른 간격
 
@@ -565,36 +988,369 @@ public class GameSession {
             // 8. 블록이 잠긴 경우 새 블록 생성
             // 블록이 없고 게임 오버가 아니면 새 블록 생성
             if (nextState.getCurrentTetromino() == null && !nextState.isGameOver()) {
-                spawnNextBlock(nextState, playerId);
+                spawnNextBlock(nextState, slot);
             }
 
             // 9. 상태 업데이트
-            playerStates.put(playerId, nextState);
-            lastTickTimes.put(playerId, currentTime); // 틱 시간 갱신
+            slot.state = nextState;
+            slot.lastTickTime = currentTime; // 틱 시간 갱신
             updateLastActivityTime();
 
-            // 10. 상대방 ID 찾기
-            String opponentId = playerStates.keySet().stream()
-                    .filter(id -> !id.equals(playerId))
-                    .findFirst()
-                    .orElse(null);
-
-            // 11. 공격 라인 처리 (공통 메서드 사용)
-            AttackResult attackResult = processAttackLines(nextState, playerId, opponentId, currentState);
+            // 10. 공격 라인 처리 (공통 메서드 사용, 상대방은 반대편 슬롯)
+            AttackResult attackResult = processAttackLines(nextState, slot, opponentOf(slot), currentState);
+            markStateChanged(slot);
             
             // 게임 오버 체크 (중력 적용으로 인한 게임 오버도 확인)
             boolean gameOver = nextState.isGameOver() || attackResult.isGameOver();
+            if (gameOver) {
+                eliminateIfRoyale(slot, attackResult.getEvents());
+            }
+            if (matchLog != null) {
+                matchLog.recordGravity(playerId, nextState,
+                    attackResult.getAttackLinesReceived(), gameOver);
+            }
 
-            // 12. 응답 생성 (GameState를 GameStateDto로 변환)
-            return ServerStateDto.builder()
+            // 11. 응답 생성 (GameState를 GameStateDto로 변환, 상대방 보드는 별도 채널)
+            ServerStateDto response = ServerStateDto.builder()
                     .lastProcessedSequence(0L) // 자동 틱이므로 시퀀스 없음
-                    .myGameState(gameStateMapper.toDto(nextState, 0))
-                    .opponentGameState(opponentId != null ? gameStateMapper.toDto(playerStates.get(opponentId), 0) : null)
+                    .myGameState(mapState(slot, nextState, 0, gameStateMapper))
                     .events(attackResult.getEvents())
                     .attackLinesReceived(attackResult.getAttackLinesReceived())
                     .gameOver(gameOver)
                     .build();
+            publishSnapshot();
+            return response;
+        }
+    }
+
+    /**
+     * 플레이어 상태 뷰 조회 (버전 캐시 사용)
+     *
+     * 상대방 보드, 관전자, REST 초기 상태처럼 시퀀스와 무관한 용도로 사용하며
+     * 마지막 매핑 이후 상태가 바뀌지 않았으면 캐시된 DTO를 그대로 반환함
+     *
+     * 입력/중력 처리는 응답을 만들며 매핑한 뷰를 스냅샷에 게시하므로 대부분 락 없이 스냅샷에서 반환하고,
+     * 참여/복원 직후처럼 아직 매핑 전일 때만 락을 잡고 매핑함
+     *
+     * @param playerId 플레이어 ID
+     * @param gameStateMapper GameState를 GameStateDto로 변환하는 매퍼
+     * @return 상태 뷰 (플레이어가 없으면 null)
+     */
+    public PlayerStateView getStateView(String playerId, seoultech.se.backend.mapper.GameStateMapper gameStateMapper) {
+        SessionSnapshot.PlayerSnapshot published = snapshot.getPlayer(playerId);
+        PlayerStateView current = published != null ? published.getCurrentView() : null;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (lock) {
+            PlayerSlot slot = slotOf(playerId);
+            wakeSlot(slot);
+            if (slot == null || slot.state == null) {
+                return null;
+            }
+
+            PlayerStateView cached = slot.stateView;
+            if (cached != null && cached.getVersion() == slot.stateVersion) {
+                return cached;
+            }
+
+            int sequence = (int) slot.lastSequence;
+            PlayerStateView view = new PlayerStateView(slot.stateVersion, sequence, gameStateMapper.toDto(slot.state, sequence));
+            slot.stateView = view;
+            publishSnapshot();
+            return view;
+        }
+    }
+
+    /**
+     * 상태 변경 표시 (버전 증가 → 캐시 무효화)
+     *
+     * 호출 측에서 lock을 잡고 있어야 함
+     */
+    private void markStateChanged(PlayerSlot slot) {
+        slot.stateVersion++;
+
+        GameState state = slot.state;
+        if (state != null && state.isLastLeveledUp()) {
+            checkpointRequested = true;
+        }
+    }
+
+    /**
+     * 체크포인트 요청 확인 및 해제 (게임 틱 스레드)
+     *
+     * @return 마지막 확인 이후 레벨업이 있었으면 true
+     */
+    public boolean consumeCheckpointRequest() {
+        if (!checkpointRequested) {
+            return false;
+        }
+        checkpointRequested = false;
+        return true;
+    }
+
+    /**
+     * 현재 세션 상태를 체크포인트 바이너리로 기록 (락 안에서 인코딩)
+     *
+     * @param out 체크포인트 영역의 슬롯 버퍼
+     */
+    public void writeCheckpoint(ByteBuffer out) {
+        synchronized (lock) {
+            toCheckpoint().writeTo(out);
+        }
+    }
+
+    /**
+     * 현재 상태 참조로 체크포인트 생성 (호출 측에서 lock을 잡고 있어야 함, 복사 없음)
+     *
+     * 휴면 중인 슬롯은 보관 중인 인코딩 바이트를 그대로 사용 (깨우지 않음)
+     */
+    private SessionCheckpoint toCheckpoint() {
+        List<SessionCheckpoint.PlayerCheckpoint> players = new ArrayList<>(playerCount);
+        for (PlayerSlot slot : slots) {
+            if (slot == null) {
+                continue;
+            }
+            byte[] encoded = slot.hibernated;
+            if (encoded != null) {
+                players.add(SessionCheckpoint.PlayerCheckpoint.encoded(
+                    slot.playerId, slot.lastSequence, slot.pendingAttackLines, encoded));
+            } else if (slot.state != null) {
+                players.add(new SessionCheckpoint.PlayerCheckpoint(
+                    slot.playerId,
+                    slot.lastSequence,
+                    slot.pendingAttackLines,
+                    slot.state
+                ));
+            }
+        }
+
+        return new SessionCheckpoint(
+            sessionId,
+            sessionType,
+            gameModeConfig != null ? gameModeConfig.getGameplayType().name() : null,
+            gameModeConfig != null ? gameModeConfig.getDifficulty().name() : null,
+            hostPlayerId,
+            isGameStarted,
+            gameStartedAt,
+            System.currentTimeMillis(),
+            players
+        );
+    }
+
+    /**
+     * 세션 휴면 (모든 플레이어 슬롯의 상태를 바이트 배열로 인코딩하고 살아 있는 상태 객체를 놓아 줌)
+     *
+     * @return 이번에 휴면한 상태 크기 합 (바이트), 이미 모두 휴면 중이거나 플레이어가 없거나 배틀로얄 세션이면 0
+     */
+    public int hibernate() {
+        synchronized (lock) {
+            if (playerCount == 0 || royale != null) {
+                return 0;
+            }
+            int bytes = 0;
+            for (PlayerSlot slot : slots) {
+                bytes += hibernateSlot(slot);
+            }
+            if (bytes > 0) {
+                publishSnapshot(); // 스냅샷이 붙잡고 있던 상태 뷰(DTO)도 놓아 줌
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * 오래 끊긴 플레이어 슬롯만 휴면
+     *
+     * 서버 틱 세션은 접속 중인 플레이어가 한 명이라도 있으면 끊긴 플레이어에게도 중력이 적용되므로 휴면하지 않음
+     *
+     * @param offlineBefore 이 시각 이전부터 오프라인인 슬롯만 대상 (밀리초)
+     * @return 이번에 휴면한 상태 크기 합 (바이트), 대상이 없거나 중력이 진행 중이거나 배틀로얄 세션이면 0
+     */
+    public int hibernateOfflinePlayers(long offlineBefore) {
+        synchronized (lock) {
+            if (playerCount == 0 || royale != null) {
+                return 0;
+            }
+            if (sessionType.isServerTicked() && hasOnlineSlot()) {
+                return 0; // 게임 틱이 진행 중 → 끊긴 플레이어의 보드도 계속 떨어져야 함
+            }
+            int bytes = 0;
+            for (PlayerSlot slot : slots) {
+                if (slot != null && slot.offline && slot.offlineSince <= offlineBefore) {
+                    bytes += hibernateSlot(slot);
+                }
+            }
+            if (bytes > 0) {
+                publishSnapshot();
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * 접속 중인 플레이어 슬롯이 있는지 확인 (호출 측에서 lock을 잡고 있어야 함)
+     */
+    private boolean hasOnlineSlot() {
+        for (PlayerSlot slot : slots) {
+            if (slot != null && !slot.offline) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 슬롯 하나 휴면 (호출 측에서 lock을 잡고 있어야 함)
+     *
+     * @return 인코딩된 크기 (바이트), 빈 슬롯이거나 이미 휴면 중이면 0
+     */
+    private int hibernateSlot(PlayerSlot slot) {
+        if (slot == null || slot.hibernated != null || slot.state == null) {
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HIBERNATE_BYTES_PER_PLAYER);
+        while (true) {
+            try {
+                GameStateCodec.encode(slot.state, buffer);
+                break;
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+
+        slot.hibernated = Arrays.copyOf(buffer.array(), buffer.position());
+        slot.state = null;
+        slot.stateView = null;
+        slot.generator = null;
+        hibernatedSlots++;
+        return slot.hibernated.length;
+    }
+
+    /**
+     * 휴면 중인 슬롯이면 바이트 배열에서 상태 복원 (호출 측에서 lock을 잡고 있어야 함)
+     */
+    private void wakeSlot(PlayerSlot slot) {
+        if (slot == null || slot.hibernated == null) {
+            return;
+        }
+
+        byte[] bytes = slot.hibernated;
+        seoultech.se.core.model.enumType.Difficulty difficulty = gameModeConfig != null ?
+            gameModeConfig.getDifficulty() : seoultech.se.core.model.enumType.Difficulty.NORMAL;
+        slot.generator = new TetrominoGenerator(new seoultech.se.core.random.RandomGenerator(), difficulty);
+        slot.state = GameStateCodec.decode(ByteBuffer.wrap(bytes));
+        slot.hibernated = null;
+        hibernatedSlots--;
+        markStateChanged(slot);
+        updateLastActivityTime();
+        if (sessionType.isServerTicked()) {
+            slot.lastTickTime = System.currentTimeMillis(); // 휴면 시간만큼 중력이 몰아서 적용되지 않도록
         }
+        publishSnapshot();
+        System.out.println("☀️ [GameSession] Woke player from hibernation: " + sessionId + "/" + slot.playerId +
+            " (" + bytes.length + " bytes)");
+    }
+
+    /**
+     * 세션 전체 휴면 여부 (참여한 모든 플레이어 슬롯이 휴면 중)
+     *
+     * @return 모두 휴면 중이면 true
+     */
+    public boolean isHibernated() {
+        int hibernatedCount = hibernatedSlots;
+        return hibernatedCount > 0 && hibernatedCount == playerCount;
+    }
+
+    /**
+     * 휴면 중인 플레이어 슬롯 수
+     *
+     * @return 휴면 중인 슬롯 수
+     */
+    public int getHibernatedPlayerCount() {
+        return hibernatedSlots;
+    }
+
+    /**
+     * 플레이어 슬롯 휴면 여부
+     *
+     * @param playerId 플레이어 ID
+     * @return 참여 중이고 휴면 중이면 true
+     */
+    public boolean isPlayerHibernated(String playerId) {
+        PlayerSlot slot = slotOf(playerId);
+        return slot != null && slot.hibernated != null;
+    }
+
+    /**
+     * 체크포인트에서 플레이어 상태 복원 (서버 재시작 직후, 세션 생성 바로 다음에 호출)
+     *
+     * 복원된 플레이어는 오프라인으로 표시 - 재접속 전까지 게임 틱이 진행되지 않음
+     *
+     * @param checkpoint 읽어 온 체크포인트
+     */
+    public void restoreFromCheckpoint(SessionCheckpoint checkpoint) {
+        synchronized (lock) {
+            hostPlayerId = checkpoint.getHostPlayerId();
+            isGameStarted = checkpoint.isGameStarted();
+            gameStartedAt = checkpoint.getGameStartedAt();
+
+            seoultech.se.core.model.enumType.Difficulty difficulty = gameModeConfig != null ?
+                gameModeConfig.getDifficulty() : seoultech.se.core.model.enumType.Difficulty.NORMAL;
+            long now = System.currentTimeMillis();
+
+            for (SessionCheckpoint.PlayerCheckpoint player : checkpoint.getPlayers()) {
+                String playerId = player.getPlayerId();
+                PlayerSlot slot = slotOf(playerId);
+                if (slot == null) {
+                    int index = freeSlotIndex();
+                    if (index < 0) {
+                        System.err.println("❌ [GameSession] No free slot to restore player: " + playerId);
+                        continue;
+                    }
+                    slot = new PlayerSlot(index, playerId);
+                    slots[index] = slot;
+                }
+
+                slot.generator = new TetrominoGenerator(new seoultech.se.core.random.RandomGenerator(), difficulty);
+                slot.state = player.getState();
+                markStateChanged(slot);
+                slot.lastSequence = player.getLastSequence();
+                slot.pendingAttackLines = player.getPendingAttackLines();
+                slot.offline = true;
+                slot.offlineSince = now;
+
+                if (sessionType.isServerTicked()) {
+                    slot.lastTickTime = now;
+                }
+            }
+            checkpointRequested = false;
+            updateLastActivityTime();
+            int count = publishPlayerCount();
+            publishSnapshot();
+
+            System.out.println("♻️ [GameSession] Restored from checkpoint: " + sessionId +
+                " (" + count + " players)");
+        }
+    }
+
+    /**
+     * 버전 캐시를 거친 DTO 매핑 (버전과 시퀀스가 모두 같을 때만 재사용)
+     *
+     * 호출 측에서 lock을 잡고 있어야 함
+     */
+    private GameStateDto mapState(PlayerSlot slot, GameState state, int sequence,
+            seoultech.se.backend.mapper.GameStateMapper gameStateMapper) {
+        PlayerStateView cached = slot.stateView;
+        if (cached != null && cached.getVersion() == slot.stateVersion && cached.getSequence() == sequence) {
+            return cached.getDto();
+        }
+
+        PlayerStateView view = new PlayerStateView(slot.stateVersion, sequence, gameStateMapper.toDto(state, sequence));
+        slot.stateView = view;
+        return view.getDto();
     }
 
     /**
@@ -614,6 +1370,147 @@ public class GameSession {
         return Math.max(interval, minInterval);
     }
 
+    /**
+     * 배틀로얄 타게팅 전략 변경 (다음 공격부터 적용)
+     *
+     * @param playerId 플레이어 ID
+     * @param strategy 타게팅 전략
+     * @return 변경했으면 true (배틀로얄 세션이 아니거나 참여하지 않은 플레이어면 false)
+     */
+    public boolean setTargeting(String playerId, TargetingStrategy strategy) {
+        synchronized (lock) {
+            PlayerSlot slot = slotOf(playerId);
+            if (royale == null || slot == null || strategy == null) {
+                return false;
+            }
+            slot.targeting = strategy;
+            publishSnapshot();
+            return true;
+        }
+    }
+
+    /**
+     * 배틀로얄 요약 보드 (다른 플레이어 표시용, 전체 보드 대신 열 높이만, 스냅샷에서 생성)
+     *
+     * @return 요약 (배틀로얄 세션이 아니면 null)
+     */
+    public RoyaleSummaryDto getRoyaleSummary() {
+        if (royale == null) {
+            return null;
+        }
+        SessionSnapshot current = snapshot;
+        List<RoyaleSummaryDto.PlayerSummary> players = new ArrayList<>(current.getPlayers().size());
+        for (SessionSnapshot.PlayerSnapshot player : current.getPlayers()) {
+            players.add(RoyaleSummaryDto.PlayerSummary.builder()
+                .slot(player.getSlot())
+                .playerId(player.getPlayerId())
+                .online(player.isOnline())
+                .placement(player.getPlacement())
+                .targetSlot(player.getTargetSlot())
+                .targeting(player.getTargeting().name())
+                .badges(player.getBadges())
+                .koCount(player.getKoCount())
+                .pendingGarbage(player.getPendingGarbage())
+                .stackHeight(player.getStackHeight())
+                .columnHeights(player.getColumnHeights())
+                .build());
+        }
+        return RoyaleSummaryDto.builder()
+            .sessionId(sessionId)
+            .aliveCount(current.getAliveCount())
+            .finished(current.isRoyaleDecided())
+            .serverTime(System.currentTimeMillis())
+            .players(players)
+            .build();
+    }
+
+    /**
+     * 배틀로얄 승자가 정해졌는지 여부
+     *
+     * @return 생존자가 한 명 이하로 남았으면 true (배틀로얄 세션이 아니면 false)
+     */
+    public boolean isRoyaleDecided() {
+        return snapshot.isRoyaleDecided();
+    }
+
+    /**
+     * 마지막으로 게시된 불변 스냅샷 (락 없음)
+     *
+     * @return 스냅샷 (세션 생성 직후에는 빈 스냅샷)
+     */
+    public SessionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 현재 상태를 새 스냅샷으로 게시 (호출 측에서 lock을 잡고 있어야 함)
+     *
+     * 바뀌지 않은 플레이어 항목은 슬롯에 보관한 이전 항목을 재사용
+     */
+    private void publishSnapshot() {
+        List<SessionSnapshot.PlayerSnapshot> players = new ArrayList<>(playerCount);
+        for (PlayerSlot slot : slots) {
+            if (slot != null) {
+                players.add(snapshotOf(slot));
+            }
+        }
+        snapshot = new SessionSnapshot(
+            ++snapshotVersion,
+            hostPlayerId,
+            gameModeConfig,
+            isGameStarted,
+            gameFinished,
+            royale != null && royale.isDecided(),
+            royale != null ? royale.countAlive() : 0,
+            players
+        );
+    }
+
+    /**
+     * 슬롯 하나의 스냅샷 항목 (게시한 항목과 값이 같으면 재사용, 열 높이는 상태가 바뀐 경우만 다시 계산)
+     */
+    private SessionSnapshot.PlayerSnapshot snapshotOf(PlayerSlot slot) {
+        PlayerSlot opponent = opponentOf(slot);
+        String opponentId = opponent != null ? opponent.playerId : null;
+        int targetSlot = opponent != null && royale != null ? opponent.index : -1;
+
+        SessionSnapshot.PlayerSnapshot published = slot.published;
+        boolean stateUnchanged = published != null && published.getStateVersion() == slot.stateVersion;
+        if (stateUnchanged
+                && published.isOnline() == !slot.offline
+                && published.getView() == slot.stateView
+                && Objects.equals(published.getOpponentId(), opponentId)
+                && published.getPendingGarbage() == slot.pendingAttackLines
+                && published.getPlacement() == slot.placement
+                && published.getTargetSlot() == targetSlot
+                && published.getTargeting() == slot.targeting
+                && published.getBadges() == slot.badges
+                && published.getKoCount() == slot.koCount) {
+            return published;
+        }
+
+        int stackHeight = 0;
+        int[] columnHeights = null;
+        if (royale != null && slot.state != null) {
+            stackHeight = stateUnchanged ? published.getStackHeight() : RoyaleRules.stackHeight(slot.state);
+            columnHeights = stateUnchanged ? published.getColumnHeights() : RoyaleRules.columnHeights(slot.state);
+        }
+        slot.published = new SessionSnapshot.PlayerSnapshot(
+            slot.index, slot.playerId, !slot.offline, slot.stateVersion, slot.stateView, opponentId,
+            slot.placement, targetSlot, slot.targeting, slot.badges, slot.koCount, slot.pendingAttackLines,
+            stackHeight, columnHeights);
+        return slot.published;
+    }
+
+    /**
+     * 최대 플레이어 수 (슬롯 수)
+     *
+     * @return 슬롯 수
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
     /**
      * 세션 타입 조회
      *
@@ -624,13 +1521,22 @@ public class GameSession {
     }
 
     /**
-     * 특정 플레이어의 게임 상태 조회
+     * 특정 플레이어의 게임 상태 조회 (휴면 중이면 깨운 뒤 반환)
      *
      * @param playerId 플레이어 ID
      * @return 게임 상태 (없으면 null)
      */
     public GameState getStateForPlayer(String playerId) {
-        return playerStates.get(playerId);
+        PlayerSlot slot = slotOf(playerId);
+        if (slot == null) {
+            return null;
+        }
+        if (slot.hibernated != null) {
+            synchronized (lock) {
+                wakeSlot(slot);
+            }
+        }
+        return slot.state;
     }
 
     /**
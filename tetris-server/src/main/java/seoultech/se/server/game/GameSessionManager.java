@@ -1,10 +1,18 @@
 package seoultech.se.server.game;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +21,9 @@ import seoultech.se.core.config.GameplayType;
 import seoultech.se.core.engine.GameEngine;
 import seoultech.se.core.engine.factory.GameEnginePool;
 import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.server.checkpoint.SessionCheckpoint;
+import seoultech.se.server.checkpoint.SessionCheckpointStore;
+import seoultech.se.server.matchlog.MatchRecorder;
 import seoultech.se.server.service.ServerConfigFactory;
 
 /**
@@ -26,6 +37,35 @@ import seoultech.se.server.service.ServerConfigFactory;
  * - 메모리 효율: 1000개 세션이 2개의 GameEngine만 공유
  * - ServerConfigFactory 주입: 세션 생성 시 기본 GameModeConfig 생성
  * - Phase 1: 세션 타임아웃 자동 정리 (application.yml에서 설정 가능)
+ *
+ * 타임아웃 정리 (만료 시각 큐):
+ * - 세션마다 만료 예정 시각 항목 하나를 시각 순 우선순위 큐에 보관
+ * - 활동 시에는 GameSession.lastActivityTime만 갱신 (큐는 건드리지 않음 - 핫패스 비용 없음)
+ * - 1초마다 만료 시각이 지난 항목만 꺼내 실제 마지막 활동 시각을 확인
+ *   → 그 사이 활동이 있었으면 새 만료 시각으로 다시 넣고, 아니면 세션 제거
+ * - 정리 비용은 전체 세션 수가 아니라 만료 시각이 도래한 항목 수에 비례
+ *   (세션 하나당 타임아웃 주기마다 최대 한 번 재삽입)
+ *
+ * 체크포인트: 세션이 제거되면 체크포인트 파일도 삭제 (SessionCheckpointStore)
+ *
+ * 세션 제거 이벤트: 제거될 때마다 SessionRemovedEvent 게시 (세션별 상태를 가진 서비스가 정리)
+ *
+ * 매치 로그: 멀티플레이 세션만 MatchRecorder를 연결 (싱글 세션은 클라이언트가 로직을 처리하므로 기록 안 함)
+ *
+ * 배틀로얄: createRoyaleSession으로 로비 크기만큼 슬롯을 가진 세션 생성 (RoyaleLobbyService가 호출)
+ *
+ * 휴면 (hibernateIdleSessions, 주기적으로 실행):
+ * - 멀티플레이 세션은 모든 플레이어가 끊겨(재접속 유예 중) 게임 틱이 멈춘 동안, 끊긴 지 offline-after-ms가 지난 플레이어 슬롯을 휴면
+ * - 상대가 접속 중이면 끊긴 플레이어에게도 중력이 계속 적용되므로 휴면하지 않음 (먼저 재접속한 쪽만 깨어나고 나머지는 다음 틱에서 깨어남)
+ * - 싱글 세션은 idle-after-ms 동안 입력이 없으면 휴면
+ * - 휴면한 세션도 맵에 그대로 남고, 재접속/입력/상태 조회가 오면 GameSession이 그 플레이어 슬롯을 스스로 깨움
+ * - 배틀로얄 세션은 휴면하지 않음
+ *
+ * 타입별 조회 (SessionList, 타입마다 하나):
+ * - 세션이 추가/제거될 때 그 세션 타입의 목록만 복사해 새 불변 목록으로 교체 (copy-on-write, 타입별 락)
+ * - 다른 타입의 목록과 전체 세션 맵은 건드리지 않음, 타임아웃 정리는 한 번의 정리 묶음마다 타입별로 한 번만 교체
+ * - 멀티플레이 ID 맵은 ConcurrentHashMap을 바로 갱신 (복사 없음)
+ * - 틱 루프, 지연 측정, 관리자, 메트릭 게이지의 타입별 조회는 게시된 목록을 그대로 반환 (매 틱 전체 맵 순회와 복사 없음)
  */
 @Service
 public class GameSessionManager {
@@ -33,6 +73,9 @@ public class GameSessionManager {
     private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
     private final GameEnginePool gameEnginePool;
     private final ServerConfigFactory serverConfigFactory;
+    private final SessionCheckpointStore checkpointStore;
+    private final MatchRecorder matchRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Phase 1: 세션 타임아웃 설정 (application.yml에서 주입)
@@ -41,10 +84,46 @@ public class GameSessionManager {
     @Value("${game.session.timeout:1800000}")
     private long sessionTimeoutMs;
 
+    /**
+     * 휴면 설정 (application.yml의 game.hibernation)
+     */
+    @Value("${game.hibernation.enabled:true}")
+    private boolean hibernationEnabled;
+
+    @Value("${game.hibernation.offline-after-ms:10000}")
+    private long hibernateOfflineAfterMs;
+
+    @Value("${game.hibernation.idle-after-ms:120000}")
+    private long hibernateIdleAfterMs;
+
+    /**
+     * 만료 예정 시각 순 큐 (세션당 항목 하나, 제거된 세션의 항목은 꺼낼 때 버림)
+     */
+    private final PriorityBlockingQueue<SessionDeadline> deadlines = new PriorityBlockingQueue<>();
+
+    /**
+     * 타입별 세션 목록 (세션 추가/제거 시 해당 타입만 교체, 읽기는 락 없음)
+     */
+    private final Map<SessionType, SessionList> sessionLists = new EnumMap<>(SessionType.class);
+
+    /**
+     * 멀티플레이 세션 (ID → 세션), 외부에는 수정 불가 뷰로만 노출
+     */
+    private final Map<String, GameSession> multiplayerSessions = new ConcurrentHashMap<>();
+    private final Map<String, GameSession> multiplayerView = Collections.unmodifiableMap(multiplayerSessions);
+
     @Autowired
-    public GameSessionManager(GameEnginePool gameEnginePool, ServerConfigFactory serverConfigFactory) {
+    public GameSessionManager(GameEnginePool gameEnginePool, ServerConfigFactory serverConfigFactory,
+                              SessionCheckpointStore checkpointStore, MatchRecorder matchRecorder,
+                              ApplicationEventPublisher eventPublisher) {
         this.gameEnginePool = gameEnginePool;
         this.serverConfigFactory = serverConfigFactory;
+        this.checkpointStore = checkpointStore;
+        this.matchRecorder = matchRecorder;
+        this.eventPublisher = eventPublisher;
+        for (SessionType sessionType : SessionType.values()) {
+            sessionLists.put(sessionType, new SessionList());
+        }
         System.out.println("✅ [GameSessionManager] Created with GameEnginePool and ServerConfigFactory");
     }
 
@@ -62,13 +141,43 @@ public class GameSessionManager {
         GameEngine sharedEngine = gameEnginePool.getEngine(gameplayType);
 
         // 세션 생성
-        GameSession session = new GameSession(sessionId, sharedEngine, sessionType);
+        GameSession session = new GameSession(sessionId, sharedEngine, sessionType,
+            sessionType == SessionType.MULTI ? matchRecorder : null);
+        return register(session, gameplayType, difficulty);
+    }
+
+    /**
+     * 배틀로얄 세션 생성 (로비 크기 지정)
+     *
+     * @param sessionId 세션 ID
+     * @param gameplayType 게임플레이 타입 (CLASSIC, ARCADE)
+     * @param difficulty 난이도 (EASY, NORMAL, HARD)
+     * @param capacity 최대 플레이어 수
+     * @return 생성된 세션
+     */
+    public GameSession createRoyaleSession(String sessionId, GameplayType gameplayType, Difficulty difficulty, int capacity) {
+        GameSession session = new GameSession(sessionId, gameEnginePool.getEngine(gameplayType), SessionType.ROYALE, null,
+            Math.min(capacity, GameSession.MAX_ROYALE_PLAYERS));
+        return register(session, gameplayType, difficulty);
+    }
+
+    /**
+     * 기본 Config 설정 후 세션 등록 (만료 시각 큐에도 추가)
+     */
+    private GameSession register(GameSession session, GameplayType gameplayType, Difficulty difficulty) {
+        String sessionId = session.getSessionId();
+        SessionType sessionType = session.getSessionType();
 
         // 기본 Config 설정 (Factory 사용)
         GameModeConfig defaultConfig = serverConfigFactory.createConfig(gameplayType, difficulty);
         session.setGameModeConfig(null, defaultConfig); // null = 초기 설정 (호스트 검증 생략)
 
-        sessions.put(sessionId, session);
+        GameSession replaced = sessions.put(sessionId, session);
+        if (replaced != null && replaced != session) {
+            unlist(List.of(replaced));
+        }
+        list(session);
+        deadlines.offer(new SessionDeadline(sessionId, session.getLastActivityTime() + sessionTimeoutMs));
 
         System.out.println("🎮 [GameSessionManager] Session created: " + sessionId +
             ", Type: " + sessionType + ", GameplayType: " + gameplayType + ", Difficulty: " + difficulty);
@@ -109,6 +218,25 @@ public class GameSessionManager {
         return createSession(sessionId, GameplayType.CLASSIC, Difficulty.NORMAL, SessionType.SINGLE);
     }
 
+    /**
+     * 체크포인트에서 세션 복원 (서버 시작 시)
+     *
+     * 같은 설정으로 세션을 다시 만들고 플레이어 상태를 채움
+     *
+     * @param checkpoint 읽어 온 체크포인트
+     * @return 복원된 세션
+     */
+    public GameSession restoreSession(SessionCheckpoint checkpoint) {
+        GameplayType gameplayType = checkpoint.getGameplayType() != null
+            ? GameplayType.valueOf(checkpoint.getGameplayType()) : GameplayType.CLASSIC;
+        Difficulty difficulty = checkpoint.getDifficulty() != null
+            ? Difficulty.valueOf(checkpoint.getDifficulty()) : Difficulty.NORMAL;
+
+        GameSession session = createSession(checkpoint.getSessionId(), gameplayType, difficulty, checkpoint.getSessionType());
+        session.restoreFromCheckpoint(checkpoint);
+        return session;
+    }
+
     /**
      * 세션 조회
      *
@@ -127,6 +255,9 @@ public class GameSessionManager {
     public void removeSession(String sessionId) {
         GameSession removed = sessions.remove(sessionId);
         if (removed != null) {
+            unlist(List.of(removed));
+            checkpointStore.discard(sessionId);
+            eventPublisher.publishEvent(new SessionRemovedEvent(sessionId));
             System.out.println("🗑️ [GameSessionManager] Session removed: " + sessionId);
         }
     }
@@ -177,67 +308,263 @@ public class GameSessionManager {
         return sessions.size();
     }
 
+    /**
+     * 타입별 세션 개수 반환 (메트릭 게이지용)
+     *
+     * @param sessionType 세션 타입
+     * @return 해당 타입의 세션 개수
+     */
+    public int getSessionCount(SessionType sessionType) {
+        return sessionLists.get(sessionType).sessions.size();
+    }
+
     /**
      * 멀티플레이 세션 목록 조회
      *
-     * @return 모든 멀티플레이 세션 (Map<SessionId, GameSession>)
+     * @return 모든 멀티플레이 세션 (Map<SessionId, GameSession>, 수정 불가 뷰 - 순회 중 추가/제거가 보일 수 있음)
      */
     public Map<String, GameSession> getMultiplayerSessions() {
-        Map<String, GameSession> multiSessions = new ConcurrentHashMap<>();
-
-        for (Map.Entry<String, GameSession> entry : sessions.entrySet()) {
-            GameSession session = entry.getValue();
-            if (session.getSessionType() == SessionType.MULTI) {
-                multiSessions.put(entry.getKey(), session);
-            }
-        }
+        return multiplayerView;
+    }
 
-        return multiSessions;
+    /**
+     * 타입별 세션 목록 조회
+     *
+     * @param sessionType 세션 타입
+     * @return 해당 타입의 세션 목록 (수정 불가)
+     */
+    public List<GameSession> getSessions(SessionType sessionType) {
+        return sessionLists.get(sessionType).sessions;
     }
 
     /**
      * 모든 세션 제거
      */
     public void clearAllSessions() {
+        List<String> removedIds = new ArrayList<>(sessions.keySet());
+        removedIds.forEach(checkpointStore::discard);
         sessions.clear();
+        for (SessionList sessionList : sessionLists.values()) {
+            synchronized (sessionList) {
+                sessionList.sessions = List.of();
+            }
+        }
+        multiplayerSessions.clear();
+        removedIds.forEach(sessionId -> eventPublisher.publishEvent(new SessionRemovedEvent(sessionId)));
+        deadlines.clear();
         System.out.println("🗑️ [GameSessionManager] All sessions cleared");
     }
 
     /**
-     * Phase 1: 비활성 세션 자동 정리 (매 1분마다 실행)
+     * Phase 1: 비활성 세션 자동 정리 (매 1초마다 실행)
      *
      * - application.yml의 game.session.timeout 설정 사용
+     * - 만료 예정 시각이 지난 항목만 확인 (전체 세션을 순회하지 않음)
      * - 마지막 활동으로부터 timeout 시간이 지난 세션 삭제
      * - 삭제된 세션 수를 로그에 출력
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    @Scheduled(fixedRate = 1000) // 1초마다 실행
     public void cleanupInactiveSessions() {
         long currentTime = System.currentTimeMillis();
-        int removedCount = 0;
+        List<GameSession> removed = new ArrayList<>();
 
-        // 비활성 세션 찾아서 제거
-        var iterator = sessions.entrySet().iterator();
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            GameSession session = entry.getValue();
+        SessionDeadline head;
+        while ((head = deadlines.peek()) != null && head.deadline <= currentTime) {
+            deadlines.poll();
+            String sessionId = head.sessionId;
 
-            long inactiveTime = currentTime - session.getLastActivityTime();
+            // 이미 제거된 세션이면 버림
+            GameSession session = sessions.get(sessionId);
+            if (session == null) {
+                continue;
+            }
 
-            if (inactiveTime > sessionTimeoutMs) {
-                String sessionId = entry.getKey();
-                iterator.remove();
-                removedCount++;
+            long inactiveTime = currentTime - session.getLastActivityTime();
+            if (inactiveTime <= sessionTimeoutMs) {
+                // 그 사이 활동이 있었음 - 실제 만료 시각으로 다시 예약
+                deadlines.offer(new SessionDeadline(sessionId, session.getLastActivityTime() + sessionTimeoutMs));
+                continue;
+            }
 
+            if (sessions.remove(sessionId, session)) {
+                removed.add(session);
                 System.out.println("⏰ [GameSessionManager] Session timeout: " + sessionId +
                     " (inactive for " + (inactiveTime / 1000) + " seconds)");
             }
         }
 
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        // 타입별 목록은 정리 묶음마다 한 번만 교체
+        unlist(removed);
+        for (GameSession session : removed) {
+            checkpointStore.discard(session.getSessionId());
+            eventPublisher.publishEvent(new SessionRemovedEvent(session.getSessionId()));
+        }
+
         // 정리 결과 로그 (세션이 삭제된 경우만)
-        if (removedCount > 0) {
-            System.out.println("🧹 [GameSessionManager] Cleanup completed: " + removedCount +
-                " session(s) removed, " + sessions.size() + " active session(s) remaining");
+        System.out.println("🧹 [GameSessionManager] Cleanup completed: " + removed.size() +
+            " session(s) removed, " + sessions.size() + " active session(s) remaining");
+    }
+
+    /**
+     * 등록된 세션을 타입별 목록에 추가
+     *
+     * 타입 목록 락 안에서 아직 sessions에 있는지 확인 → 동시에 제거된 세션이 목록에 남지 않음
+     * (제거 쪽은 sessions에서 뺀 뒤 같은 락으로 목록에서 빼므로 어느 순서로 끼어들어도 결과가 같음)
+     */
+    private void list(GameSession session) {
+        SessionList sessionList = sessionLists.get(session.getSessionType());
+        synchronized (sessionList) {
+            if (sessions.get(session.getSessionId()) != session) {
+                return;
+            }
+            List<GameSession> next = new ArrayList<>(sessionList.sessions.size() + 1);
+            next.addAll(sessionList.sessions);
+            next.add(session);
+            sessionList.sessions = Collections.unmodifiableList(next);
+            if (session.getSessionType() == SessionType.MULTI) {
+                multiplayerSessions.put(session.getSessionId(), session);
+            }
         }
     }
-}
 
+    /**
+     * sessions에서 뺀 세션들을 타입별 목록에서 제거 (영향받은 타입만 한 번씩 교체)
+     */
+    private void unlist(Collection<GameSession> removed) {
+        Map<SessionType, Collection<GameSession>> byType = new EnumMap<>(SessionType.class);
+        for (GameSession session : removed) {
+            byType.computeIfAbsent(session.getSessionType(),
+                type -> Collections.newSetFromMap(new IdentityHashMap<>())).add(session);
+        }
+
+        for (Map.Entry<SessionType, Collection<GameSession>> entry : byType.entrySet()) {
+            Collection<GameSession> gone = entry.getValue();
+            SessionList sessionList = sessionLists.get(entry.getKey());
+            synchronized (sessionList) {
+                List<GameSession> current = sessionList.sessions;
+                List<GameSession> next = new ArrayList<>(Math.max(0, current.size() - gone.size()));
+                for (GameSession session : current) {
+                    if (!gone.contains(session)) {
+                        next.add(session);
+                    }
+                }
+                sessionList.sessions = Collections.unmodifiableList(next);
+                if (entry.getKey() == SessionType.MULTI) {
+                    for (GameSession session : gone) {
+                        multiplayerSessions.remove(session.getSessionId(), session);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 세션 타입의 목록 (게시된 목록은 바뀌지 않음, 교체는 이 객체의 락 안에서만)
+     */
+    private static final class SessionList {
+        private volatile List<GameSession> sessions = List.of();
+    }
+
+    /**
+     * 휴면 대상 플레이어 슬롯/세션을 휴면 상태로 전환
+     *
+     * 멀티플레이는 게임 틱이 멈춘 세션에서 플레이어별로 끊긴 시각 기준, 싱글은 세션의 마지막 활동 시각 기준
+     */
+    @Scheduled(fixedRateString = "${game.hibernation.scan-interval-ms:5000}")
+    public void hibernateIdleSessions() {
+        if (!hibernationEnabled) {
+            return;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        long offlineBefore = currentTime - hibernateOfflineAfterMs;
+        int hibernatedCount = 0;
+        long hibernatedBytes = 0;
+
+        for (GameSession session : sessionLists.get(SessionType.MULTI).sessions) {
+            if (session.isHibernated() || session.hasActivePlayers()) {
+                continue; // 이미 모두 휴면 중이거나 게임 틱이 진행 중
+            }
+            int before = session.getHibernatedPlayerCount();
+            int bytes = session.hibernateOfflinePlayers(offlineBefore);
+            if (bytes > 0) {
+                hibernatedCount += session.getHibernatedPlayerCount() - before;
+                hibernatedBytes += bytes;
+            }
+        }
+        for (GameSession session : sessionLists.get(SessionType.SINGLE).sessions) {
+            if (!session.isHibernated()
+                    && currentTime - session.getLastActivityTime() >= hibernateIdleAfterMs) {
+                int bytes = session.hibernate();
+                if (bytes > 0) {
+                    hibernatedCount++;
+                    hibernatedBytes += bytes;
+                }
+            }
+        }
+
+        if (hibernatedCount > 0) {
+            System.out.println("💤 [GameSessionManager] Hibernated " + hibernatedCount + " player(s) (" +
+                hibernatedBytes + " bytes total)");
+        }
+    }
+
+    /**
+     * 휴면 중인 세션 수 (메트릭 게이지용, 모든 플레이어가 휴면 중인 세션)
+     *
+     * @return 휴면 중인 세션 수
+     */
+    public int getHibernatedSessionCount() {
+        int count = 0;
+        for (GameSession session : sessionLists.get(SessionType.MULTI).sessions) {
+            if (session.isHibernated()) {
+                count++;
+            }
+        }
+        for (GameSession session : sessionLists.get(SessionType.SINGLE).sessions) {
+            if (session.isHibernated()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 휴면 중인 플레이어 슬롯 수 (메트릭 게이지용, 일부만 휴면 중인 세션의 슬롯 포함)
+     *
+     * @return 휴면 중인 슬롯 수
+     */
+    public int getHibernatedPlayerCount() {
+        int count = 0;
+        for (GameSession session : sessionLists.get(SessionType.MULTI).sessions) {
+            count += session.getHibernatedPlayerCount();
+        }
+        for (GameSession session : sessionLists.get(SessionType.SINGLE).sessions) {
+            count += session.getHibernatedPlayerCount();
+        }
+        return count;
+    }
+
+    /**
+     * 세션 만료 예정 시각 (큐 항목)
+     * 제거된 세션의 상태를 붙잡지 않도록 세션 ID만 보관
+     */
+    private static final class SessionDeadline implements Comparable<SessionDeadline> {
+        private final String sessionId;
+        private final long deadline;
+
+        private SessionDeadline(String sessionId, long deadline) {
+            this.sessionId = sessionId;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int compareTo(SessionDeadline other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package seoultech.se.server.game;
+
+import seoultech.se.server.dto.PlayerLatencyDto;
+
+/**
+ * 플레이어별 연결 품질 추정기 (RTT / 지터 / 손실률)
+ *
+ * 계산 방식 (TCP RTO 계산과 같은 EWMA):
+ * - srtt    += (rtt - srtt) / 8
+ * - jitter  += (|rtt - srtt| - jitter) / 4
+ * - loss    += (lost ? 1 : 0 - loss) / 16
+ *
+ * 손실 판정:
+ * - 최근 OUTSTANDING_SLOTS개의 핑만 기억하고, 응답 없이 슬롯이 재사용되면 손실로 처리
+ *
+ * Thread-safety:
+ * - 핑 전송(스케줄러)과 에코 수신(인바운드 채널)이 다른 스레드이므로 메서드 단위로 synchronized
+ * - 호출 빈도가 플레이어당 초당 1회 수준이라 경합 비용은 무시 가능
+ */
+public class LatencyTracker {
+
+    /**
+     * 응답을 기다리는 핑 슬롯 수 (핑 주기 1초 기준 약 8초)
+     */
+    private static final int OUTSTANDING_SLOTS = 8;
+
+    /**
+     * 권장 입력 지연 상한 (밀리초)
+     */
+    private static final int MAX_INPUT_DELAY_MS = 250;
+
+    private final long[] pendingIds = new long[OUTSTANDING_SLOTS];
+    private final long[] pendingSentAt = new long[OUTSTANDING_SLOTS];
+    private final boolean[] pendingOpen = new boolean[OUTSTANDING_SLOTS];
+
+    private long nextPingId = 1;
+    private long samples;
+    private double srtt;
+    private double jitter;
+    private double lossRate;
+    private double clockOffset;
+    private long lastRtt;
+
+    /**
+     * 새 핑 등록
+     *
+     * @param now 전송 시각 (밀리초)
+     * @return 핑 ID
+     */
+    public synchronized long nextPing(long now) {
+        long pingId = nextPingId++;
+        int slot = (int) (pingId % OUTSTANDING_SLOTS);
+        if (pendingOpen[slot]) {
+            updateLoss(true); // 슬롯이 돌아올 때까지 응답이 없었음
+        }
+        pendingIds[slot] = pingId;
+        pendingSentAt[slot] = now;
+        pendingOpen[slot] = true;
+        return pingId;
+    }
+
+    /**
+     * 에코 수신 처리
+     *
+     * @param pingId 돌아온 핑 ID
+     * @param clientTime 클라이언트가 에코를 보낸 시각
+     * @param now 수신 시각 (밀리초)
+     * @return 유효한 에코면 true (중복/만료/발급한 적 없는 에코는 false)
+     */
+    public synchronized boolean onPong(long pingId, long clientTime, long now) {
+        if (pingId <= 0) {
+            return false; // 클라이언트가 보낸 값 - 발급한 ID는 1부터 시작
+        }
+        int slot = (int) (pingId % OUTSTANDING_SLOTS);
+        if (!pendingOpen[slot] || pendingIds[slot] != pingId) {
+            return false;
+        }
+        pendingOpen[slot] = false;
+
+        long sentAt = pendingSentAt[slot];
+        long rtt = Math.max(0, now - sentAt);
+        lastRtt = rtt;
+
+        if (samples == 0) {
+            srtt = rtt;
+            jitter = rtt / 2.0;
+            clockOffset = clientTime - (sentAt + rtt / 2.0);
+        } else {
+            jitter += (Math.abs(rtt - srtt) - jitter) / 4.0;
+            srtt += (rtt - srtt) / 8.0;
+            clockOffset += ((clientTime - (sentAt + rtt / 2.0)) - clockOffset) / 8.0;
+        }
+        samples++;
+        updateLoss(false);
+        return true;
+    }
+
+    private void updateLoss(boolean lost) {
+        lossRate += ((lost ? 1.0 : 0.0) - lossRate) / 16.0;
+    }
+
+    public synchronized int getRttMs() {
+        return (int) Math.round(srtt);
+    }
+
+    public synchronized int getJitterMs() {
+        return (int) Math.round(jitter);
+    }
+
+    public synchronized double getLossRate() {
+        return lossRate;
+    }
+
+    /**
+     * 권장 입력 지연 버퍼 (단방향 지연 + 지터 2배, 상한 적용)
+     *
+     * @return 권장 입력 지연 (밀리초), 측정값이 없으면 0
+     */
+    public synchronized int getRecommendedInputDelayMs() {
+        if (samples == 0) {
+            return 0;
+        }
+        long delay = Math.round(srtt / 2.0 + 2.0 * jitter);
+        return (int) Math.min(delay, MAX_INPUT_DELAY_MS);
+    }
+
+    /**
+     * 현재 추정값 스냅샷
+     *
+     * @param playerId 플레이어 ID
+     * @param online 현재 연결 여부
+     * @return 조회용 DTO
+     */
+    public synchronized PlayerLatencyDto snapshot(String playerId, boolean online) {
+        return PlayerLatencyDto.builder()
+            .playerId(playerId)
+            .rttMs(getRttMs())
+            .lastRttMs((int) lastRtt)
+            .jitterMs(getJitterMs())
+            .lossRate(lossRate)
+            .clockOffsetMs(Math.round(clockOffset))
+            .recommendedInputDelayMs(getRecommendedInputDelayMs())
+            .samples(samples)
+            .online(online)
+            .build();
+    }
+}
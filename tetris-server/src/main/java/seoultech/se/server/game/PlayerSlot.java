@@ -0,0 +1,68 @@
+package seoultech.se.server.game;
+
+import java.util.ArrayDeque;
+
+import seoultech.se.core.GameState;
+import seoultech.se.core.random.TetrominoGenerator;
+
+/**
+ * 세션 안 플레이어 한 명의 상태 (GameSession이 참여 시 배정한 슬롯 번호 위치에 보관)
+ *
+ * 플레이어별 상태를 한 객체에 모아 두어 입력/중력 처리에서 이메일 키 맵 조회가 없음
+ * - 필드 변경은 GameSession 락 안에서만
+ * - state/offline/hibernated는 락 없이 읽는 조회(getStateForPlayer, isPlayerOnline)가 있어 volatile
+ */
+final class PlayerSlot {
+
+    final int index;
+    final String playerId;
+
+    /**
+     * 연결 품질 추정기 (재참여해도 같은 슬롯을 다시 쓰므로 측정값 유지)
+     */
+    final LatencyTracker latencyTracker = new LatencyTracker();
+
+    volatile GameState state;
+    volatile boolean offline;
+
+    /**
+     * 휴면 중인 상태 (GameStateCodec 바이너리, 깨어 있으면 null)와 마지막으로 끊긴 시각
+     */
+    volatile byte[] hibernated;
+    long offlineSince;
+
+    TetrominoGenerator generator;
+    long lastSequence;
+    int pendingAttackLines;
+    long lastTickTime;
+
+    /**
+     * 상태 버전 스탬프 (상태가 바뀔 때마다 증가)와 마지막 매핑 결과 (버전이 같으면 toDto 생략)
+     */
+    long stateVersion;
+    PlayerStateView stateView;
+
+    /**
+     * 마지막으로 게시한 스냅샷 항목 (값이 같으면 다음 스냅샷에서 재사용)
+     */
+    SessionSnapshot.PlayerSnapshot published;
+
+    /**
+     * 배틀로얄 전용 (RoyaleRules가 관리, 1:1 세션에서는 사용하지 않음)
+     * - garbage: 나에게 들어온 방해 라인 묶음 (보낸 순서, pendingAttackLines는 합계)
+     * - targetIndex/lastAttackerIndex: 슬롯 번호 (-1 = 없음)
+     * - placement: 탈락 순위 (0 = 생존 중)
+     */
+    ArrayDeque<RoyaleRules.GarbagePacket> garbage;
+    TargetingStrategy targeting = TargetingStrategy.RANDOM;
+    int targetIndex = -1;
+    int lastAttackerIndex = -1;
+    int badges;
+    int koCount;
+    int placement;
+
+    PlayerSlot(int index, String playerId) {
+        this.index = index;
+        this.playerId = playerId;
+    }
+}
@@ -0,0 +1,23 @@
+package seoultech.se.server.game;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import seoultech.se.core.dto.GameStateDto;
+
+/**
+ * 플레이어 상태의 매핑 결과 캐시 항목
+ *
+ * - version: GameSession이 상태를 바꿀 때마다 증가시키는 버전 스탬프
+ * - sequence: 매핑 시 사용한 lastProcessedSequence
+ * - dto: 매핑된 GameStateDto (여러 수신자가 공유하므로 수정 금지)
+ *
+ * 버전이 같으면 GameStateMapper.toDto를 다시 호출하지 않고 dto를 재사용함
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PlayerStateView {
+
+    private final long version;
+    private final int sequence;
+    private final GameStateDto dto;
+}
@@ -0,0 +1,307 @@
+package seoultech.se.server.game;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Random;
+
+import seoultech.se.core.GameState;
+import seoultech.se.core.model.Cell;
+
+/**
+ * 배틀로얄 규칙 (GameSession이 ROYALE 세션일 때만 생성, 세션 락 안에서만 호출)
+ *
+ * 공격 (sendAttack):
+ * - 공격 라인 = 지운 라인 수 - 1, 배지 레벨당 25% 가산
+ * - 먼저 내 대기 방해 라인을 오래된 묶음부터 상쇄, 남은 만큼 대상에게 전송
+ * - 대상은 공격할 때마다 내 타게팅 전략으로 다시 고름
+ *
+ * 방해 라인 (receiveGarbage):
+ * - 대상별 큐에 (보낸 슬롯, 라인 수) 묶음으로 쌓여 누가 보냈는지 유지
+ * - 한 번에 최대 MAX_GARBAGE_PER_APPLY줄만 적용, 나머지는 다음 행동까지 큐에 남음
+ *
+ * 탈락 (eliminate):
+ * - 순위 = 탈락 시점의 생존자 수
+ * - 마지막으로 방해 라인을 보낸 생존자가 KO 점수와 (1 + 탈락자 배지) 배지 포인트를 가져감
+ * - 생존자가 한 명 남으면 그 플레이어가 1위, 매치 종료
+ */
+final class RoyaleRules {
+
+    /**
+     * 한 번에 적용하는 최대 방해 라인 수
+     */
+    static final int MAX_GARBAGE_PER_APPLY = 8;
+
+    /**
+     * 배지 레벨 기준 포인트 (레벨 1~4, 레벨당 공격 25% 가산)
+     */
+    private static final int[] BADGE_THRESHOLDS = {2, 6, 14, 30};
+
+    private final PlayerSlot[] slots;
+    private final Random random;
+    private boolean decided;
+
+    RoyaleRules(PlayerSlot[] slots, Random random) {
+        this.slots = slots;
+        this.random = random;
+    }
+
+    /**
+     * 방해 라인 묶음 (보낸 슬롯 번호 + 남은 라인 수)
+     */
+    static final class GarbagePacket {
+        final int attackerIndex;
+        int lines;
+
+        GarbagePacket(int attackerIndex, int lines) {
+            this.attackerIndex = attackerIndex;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * 참여 (또는 재참여) 시 배틀로얄 상태 초기화 (타게팅 전략은 유지)
+     */
+    void reset(PlayerSlot slot) {
+        slot.garbage = new ArrayDeque<>();
+        slot.pendingAttackLines = 0;
+        slot.targetIndex = -1;
+        slot.lastAttackerIndex = -1;
+        slot.badges = 0;
+        slot.koCount = 0;
+        slot.placement = 0;
+    }
+
+    /**
+     * 공격 전송 (상쇄 후 남은 라인을 대상 큐에 추가)
+     *
+     * @param attacker 공격한 슬롯
+     * @param lines 기본 공격 라인 수 (배지 가산 전)
+     * @param events 이벤트 목록 (ATTACK_SENT, GARBAGE_CANCELLED 추가)
+     * @return 대상에게 보낸 라인 수
+     */
+    int sendAttack(PlayerSlot attacker, int lines, List<String> events) {
+        int attack = lines + lines * badgeLevel(attacker.badges) * 25 / 100;
+
+        // 1. 내 대기 방해 라인 상쇄 (오래된 묶음부터)
+        int cancelled = 0;
+        while (attack > 0 && !attacker.garbage.isEmpty()) {
+            GarbagePacket packet = attacker.garbage.peekFirst();
+            int take = Math.min(attack, packet.lines);
+            packet.lines -= take;
+            attack -= take;
+            cancelled += take;
+            if (packet.lines == 0) {
+                attacker.garbage.pollFirst();
+            }
+        }
+        if (cancelled > 0) {
+            attacker.pendingAttackLines -= cancelled;
+            events.add("GARBAGE_CANCELLED:" + cancelled);
+        }
+        if (attack == 0) {
+            return 0;
+        }
+
+        // 2. 남은 라인을 대상에게 전송
+        PlayerSlot target = selectTarget(attacker);
+        if (target == null) {
+            return 0;
+        }
+        attacker.targetIndex = target.index;
+        target.garbage.addLast(new GarbagePacket(attacker.index, attack));
+        target.pendingAttackLines += attack;
+        events.add("ATTACK_SENT:" + attack);
+        return attack;
+    }
+
+    /**
+     * 대기 방해 라인 꺼내기 (최대 MAX_GARBAGE_PER_APPLY줄, 마지막 공격자 기록)
+     *
+     * @return 이번에 적용할 라인 수
+     */
+    int receiveGarbage(PlayerSlot slot) {
+        int applied = 0;
+        while (applied < MAX_GARBAGE_PER_APPLY && !slot.garbage.isEmpty()) {
+            GarbagePacket packet = slot.garbage.peekFirst();
+            int take = Math.min(MAX_GARBAGE_PER_APPLY - applied, packet.lines);
+            packet.lines -= take;
+            applied += take;
+            slot.lastAttackerIndex = packet.attackerIndex;
+            if (packet.lines == 0) {
+                slot.garbage.pollFirst();
+            }
+        }
+        slot.pendingAttackLines -= applied;
+        return applied;
+    }
+
+    /**
+     * 탈락 처리 (순위 기록, KO 점수와 배지 이전, 승자 결정)
+     *
+     * @param victim 게임 오버된 슬롯
+     * @param events 이벤트 목록 (KNOCKED_OUT_BY 추가)
+     * @return 이번 호출로 탈락했으면 true (이미 탈락한 슬롯이면 false)
+     */
+    boolean eliminate(PlayerSlot victim, List<String> events) {
+        if (victim.placement != 0) {
+            return false;
+        }
+        int alive = countAlive();
+        victim.placement = alive;
+
+        PlayerSlot killer = victim.lastAttackerIndex >= 0 ? slots[victim.lastAttackerIndex] : null;
+        if (killer != null && killer != victim && killer.placement == 0) {
+            killer.koCount++;
+            killer.badges += 1 + victim.badges;
+            events.add("KNOCKED_OUT_BY:" + killer.playerId);
+        }
+        victim.garbage.clear();
+        victim.pendingAttackLines = 0;
+
+        if (alive - 1 <= 1) {
+            for (PlayerSlot slot : slots) {
+                if (slot != null && slot.placement == 0) {
+                    slot.placement = 1;
+                }
+            }
+            decided = true;
+        }
+        return true;
+    }
+
+    /**
+     * 공격 대상 선택 (생존자 중에서, 나 제외)
+     *
+     * @return 대상 슬롯 (다른 생존자가 없으면 null)
+     */
+    PlayerSlot selectTarget(PlayerSlot attacker) {
+        switch (attacker.targeting) {
+            case KO: {
+                PlayerSlot best = null;
+                int bestHeight = -1;
+                for (PlayerSlot slot : slots) {
+                    if (!isOpponent(attacker, slot)) {
+                        continue;
+                    }
+                    int height = stackHeight(slot.state) + slot.pendingAttackLines;
+                    if (height > bestHeight) {
+                        best = slot;
+                        bestHeight = height;
+                    }
+                }
+                return best;
+            }
+            case ATTACKERS: {
+                PlayerSlot chosen = null;
+                int seen = 0;
+                for (PlayerSlot slot : slots) {
+                    if (isOpponent(attacker, slot) && slot.targetIndex == attacker.index && random.nextInt(++seen) == 0) {
+                        chosen = slot; // 저장소 샘플링
+                    }
+                }
+                return chosen != null ? chosen : randomOpponent(attacker);
+            }
+            case BADGES: {
+                PlayerSlot best = null;
+                for (PlayerSlot slot : slots) {
+                    if (isOpponent(attacker, slot) && slot.badges > 0 && (best == null || slot.badges > best.badges)) {
+                        best = slot;
+                    }
+                }
+                return best != null ? best : randomOpponent(attacker);
+            }
+            case RANDOM:
+            default:
+                return randomOpponent(attacker);
+        }
+    }
+
+    /**
+     * 현재 대상 (탈락했거나 아직 공격하지 않았으면 null)
+     */
+    PlayerSlot currentTarget(PlayerSlot slot) {
+        PlayerSlot target = slot.targetIndex >= 0 ? slots[slot.targetIndex] : null;
+        return isOpponent(slot, target) ? target : null;
+    }
+
+    /**
+     * 생존자 수 (승자가 정해진 뒤에는 1위 포함)
+     */
+    int countAlive() {
+        int alive = 0;
+        for (PlayerSlot slot : slots) {
+            if (slot != null && slot.placement <= 1) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * 승자가 정해졌는지 여부 (생존자 한 명 이하)
+     */
+    boolean isDecided() {
+        return decided;
+    }
+
+    private PlayerSlot randomOpponent(PlayerSlot attacker) {
+        PlayerSlot chosen = null;
+        int seen = 0;
+        for (PlayerSlot slot : slots) {
+            if (isOpponent(attacker, slot) && random.nextInt(++seen) == 0) {
+                chosen = slot;
+            }
+        }
+        return chosen;
+    }
+
+    private static boolean isOpponent(PlayerSlot attacker, PlayerSlot slot) {
+        return slot != null && slot != attacker && slot.placement == 0 && slot.state != null;
+    }
+
+    /**
+     * 배지 레벨 (0~4)
+     */
+    static int badgeLevel(int badges) {
+        int level = 0;
+        while (level < BADGE_THRESHOLDS.length && badges >= BADGE_THRESHOLDS[level]) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * 스택 높이 (가장 높은 블록이 있는 행 기준, 빈 보드는 0)
+     */
+    static int stackHeight(GameState state) {
+        if (state == null) {
+            return 0;
+        }
+        Cell[][] grid = state.getGrid();
+        for (int row = 0; row < grid.length; row++) {
+            for (Cell cell : grid[row]) {
+                if (cell.isOccupied()) {
+                    return grid.length - row;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 열별 높이 (요약 보드용)
+     */
+    static int[] columnHeights(GameState state) {
+        int[] heights = new int[state.getBoardWidth()];
+        Cell[][] grid = state.getGrid();
+        for (int col = 0; col < heights.length; col++) {
+            for (int row = 0; row < grid.length; row++) {
+                if (grid[row][col].isOccupied()) {
+                    heights[col] = grid.length - row;
+                    break;
+                }
+            }
+        }
+        return heights;
+    }
+}
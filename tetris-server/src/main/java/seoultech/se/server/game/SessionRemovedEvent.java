@@ -0,0 +1,19 @@
+package seoultech.se.server.game;
+
+import lombok.Getter;
+
+/**
+ * 세션 제거 이벤트 (GameSessionManager가 세션을 맵에서 뺀 직후 게시)
+ *
+ * 세션 ID로 상태를 들고 있는 다른 서비스가 GameSessionManager를 직접 참조하지 않고 정리하도록 함
+ * (예: StateBroadcastService의 보드 채널)
+ */
+@Getter
+public class SessionRemovedEvent {
+
+    private final String sessionId;
+
+    public SessionRemovedEvent(String sessionId) {
+        this.sessionId = sessionId;
+    }
+}
@@ -0,0 +1,154 @@
+package seoultech.se.server.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import seoultech.se.core.config.GameModeConfig;
+
+/**
+ * 세션 상태의 불변 스냅샷 (GameSession이 변경 묶음마다 volatile 필드로 게시)
+ *
+ * - 쓰기 쪽(입력, 중력, 참여/이탈)은 세션 락 안에서 상태를 바꾼 뒤 새 스냅샷을 게시
+ * - 읽기 쪽(브로드캐스트, 관리자, 관전, 틱 루프의 조회)은 volatile 읽기 한 번으로 일관된 값을 얻음 → 락 없음
+ * - 바뀌지 않은 플레이어 항목은 이전 스냅샷의 객체를 그대로 재사용
+ *
+ * 모든 필드는 생성 후 바뀌지 않음 (view의 DTO와 columnHeights도 공유 객체이므로 수정 금지)
+ */
+@Getter
+public final class SessionSnapshot {
+
+    /**
+     * 게시 순번 (세션마다 1부터 증가)
+     */
+    private final long version;
+    private final String hostPlayerId;
+    private final GameModeConfig gameModeConfig;
+    private final boolean gameStarted;
+    private final boolean gameFinished;
+
+    /**
+     * 배틀로얄 전용 (그 외 세션은 false / 0)
+     */
+    private final boolean royaleDecided;
+    private final int aliveCount;
+
+    /**
+     * 참여 중인 플레이어 (슬롯 순서, 수정 불가 목록)
+     */
+    private final List<PlayerSnapshot> players;
+
+    SessionSnapshot(long version, String hostPlayerId, GameModeConfig gameModeConfig, boolean gameStarted,
+                    boolean gameFinished, boolean royaleDecided, int aliveCount, List<PlayerSnapshot> players) {
+        this.version = version;
+        this.hostPlayerId = hostPlayerId;
+        this.gameModeConfig = gameModeConfig;
+        this.gameStarted = gameStarted;
+        this.gameFinished = gameFinished;
+        this.royaleDecided = royaleDecided;
+        this.aliveCount = aliveCount;
+        this.players = List.copyOf(players);
+    }
+
+    /**
+     * 빈 스냅샷 (세션 생성 직후)
+     */
+    static SessionSnapshot empty() {
+        return new SessionSnapshot(0, null, null, false, false, false, 0, List.of());
+    }
+
+    /**
+     * 플레이어 항목 조회 (플레이어 수가 적어 목록을 훑음)
+     *
+     * @return 항목 (참여하지 않은 플레이어면 null)
+     */
+    public PlayerSnapshot getPlayer(String playerId) {
+        if (playerId == null) {
+            return null;
+        }
+        for (PlayerSnapshot player : players) {
+            if (player.playerId.equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 플레이어 ID 목록 (슬롯 순서)
+     */
+    public List<String> getPlayerIds() {
+        List<String> playerIds = new ArrayList<>(players.size());
+        for (PlayerSnapshot player : players) {
+            playerIds.add(player.playerId);
+        }
+        return playerIds;
+    }
+
+    /**
+     * 온라인 플레이어가 한 명이라도 있는지 여부
+     */
+    public boolean hasActivePlayers() {
+        for (PlayerSnapshot player : players) {
+            if (player.online) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 플레이어 한 명의 스냅샷 항목
+     *
+     * - stateVersion: 게시 시점의 상태 버전
+     * - view: 마지막 매핑 결과 (버전이 stateVersion과 같을 때만 최신, 아직 매핑 전이면 null)
+     * - opponentId: 1:1은 상대방, 배틀로얄은 현재 공격 대상 (없으면 null)
+     */
+    @Getter
+    public static final class PlayerSnapshot {
+        private final int slot;
+        private final String playerId;
+        private final boolean online;
+        private final long stateVersion;
+        private final PlayerStateView view;
+        private final String opponentId;
+
+        /**
+         * 배틀로얄 전용 (그 외 세션은 0 / null)
+         */
+        private final int placement;
+        private final int targetSlot;
+        private final TargetingStrategy targeting;
+        private final int badges;
+        private final int koCount;
+        private final int pendingGarbage;
+        private final int stackHeight;
+        private final int[] columnHeights;
+
+        PlayerSnapshot(int slot, String playerId, boolean online, long stateVersion, PlayerStateView view,
+                       String opponentId, int placement, int targetSlot, TargetingStrategy targeting, int badges,
+                       int koCount, int pendingGarbage, int stackHeight, int[] columnHeights) {
+            this.slot = slot;
+            this.playerId = playerId;
+            this.online = online;
+            this.stateVersion = stateVersion;
+            this.view = view;
+            this.opponentId = opponentId;
+            this.placement = placement;
+            this.targetSlot = targetSlot;
+            this.targeting = targeting;
+            this.badges = badges;
+            this.koCount = koCount;
+            this.pendingGarbage = pendingGarbage;
+            this.stackHeight = stackHeight;
+            this.columnHeights = columnHeights;
+        }
+
+        /**
+         * 최신 매핑 결과 (상태가 매핑 이후 바뀌었으면 null)
+         */
+        public PlayerStateView getCurrentView() {
+            return view != null && view.getVersion() == stateVersion ? view : null;
+        }
+    }
+}
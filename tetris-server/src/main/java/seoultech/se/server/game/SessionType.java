@@ -4,7 +4,7 @@ package seoultech.se.server.game;
  * 게임 세션 타입을 정의하는 Enum
  *
  * 사용 목적:
- * - 싱글플레이와 멀티플레이 세션을 구분
+ * - 싱글플레이, 1:1 멀티플레이, 배틀로얄 세션을 구분
  * - GameSession의 동작 방식 결정 (게임 루프, 상태 동기화 등)
  * - GameTickService가 어떤 세션에 자동 중력을 적용할지 결정
  */
@@ -23,5 +23,23 @@ public enum SessionType {
      * - 서버가 주기적으로 자동 중력 적용
      * - 클라이언트는 사용자 입력만 전송
      */
-    MULTI
+    MULTI,
+
+    /**
+     * 배틀로얄 세션
+     * - 최대 99명이 각자 보드로 대전, 마지막 생존자가 승리
+     * - 공격은 플레이어별 타게팅 전략으로 고른 대상의 방해 라인 큐에 쌓임 (RoyaleRules)
+     * - 서버 측 자동 게임 루프는 로비 단위로 여러 코어에 나눠 실행 (RoyaleTickService)
+     * - 요약 보드는 /topic/royale/{sessionId}로 낮은 주기 전송
+     */
+    ROYALE;
+
+    /**
+     * 서버가 자동 중력을 적용하는 세션인지 여부
+     *
+     * @return MULTI, ROYALE이면 true
+     */
+    public boolean isServerTicked() {
+        return this == MULTI || this == ROYALE;
+    }
 }
@@ -0,0 +1,26 @@
+package seoultech.se.server.game;
+
+/**
+ * 배틀로얄 공격 대상 선택 전략 (플레이어마다 선택, RoyaleRules가 공격할 때마다 대상을 다시 고름)
+ */
+public enum TargetingStrategy {
+    /**
+     * 생존자 중 무작위
+     */
+    RANDOM,
+
+    /**
+     * KO 노리기 - 스택이 가장 높은 (탈락에 가장 가까운) 생존자
+     */
+    KO,
+
+    /**
+     * 반격 - 지금 나를 노리는 플레이어 중 무작위 (없으면 RANDOM)
+     */
+    ATTACKERS,
+
+    /**
+     * 배지 사냥 - 배지 포인트가 가장 많은 생존자 (모두 0이면 RANDOM)
+     */
+    BADGES
+}
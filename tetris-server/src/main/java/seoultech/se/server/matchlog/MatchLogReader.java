@@ -0,0 +1,81 @@
+package seoultech.se.server.matchlog;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 매치 로그 읽기 (분쟁 확인, 리플레이 생성 등 오프라인 도구용)
+ *
+ * 세그먼트를 이름(생성) 순서로 훑으면서 헤더의 커밋된 레코드 수까지만 읽음
+ * → 서버가 기록 중인 세그먼트도 안전하게 읽을 수 있음
+ */
+public final class MatchLogReader {
+
+    private MatchLogReader() {
+    }
+
+    /**
+     * 세션 하나의 레코드 (기록 순서)
+     *
+     * @param directory 매치 로그 디렉터리
+     * @param sessionId 세션 ID
+     */
+    public static List<MatchRecord> readSession(Path directory, String sessionId) throws IOException {
+        UUID key = MatchRecorder.sessionKey(sessionId);
+        List<MatchRecord> records = new ArrayList<>();
+        for (Path segment : listSegments(directory)) {
+            readSegment(segment, key, records);
+        }
+        return records;
+    }
+
+    /**
+     * 세그먼트 파일 목록 (오래된 순)
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                MatchRecorder.SEGMENT_PREFIX + "*" + MatchRecorder.SEGMENT_SUFFIX)) {
+            files.forEach(segments::add);
+        }
+        segments.sort(null); // 0으로 채운 번호이므로 이름 순서 = 생성 순서
+        return segments;
+    }
+
+    private static void readSegment(Path segment, UUID key, List<MatchRecord> out) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            if (channel.size() < MatchRecorder.HEADER_BYTES) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MatchRecorder.MAGIC
+                    || buffer.getShort(4) != MatchRecorder.LAYOUT_VERSION
+                    || buffer.getShort(6) != MatchRecord.BYTES) {
+                return;
+            }
+
+            long capacity = (channel.size() - MatchRecorder.HEADER_BYTES) / MatchRecord.BYTES;
+            long committed = Math.min(buffer.getLong(MatchRecorder.COMMITTED_OFFSET), capacity);
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+            for (long i = 0; i < committed; i++) {
+                int offset = (int) (MatchRecorder.HEADER_BYTES + i * MatchRecord.BYTES);
+                // 세션 키만 먼저 비교 (대부분의 레코드는 다른 세션)
+                if (buffer.getLong(offset + 8) == msb && buffer.getLong(offset + 16) == lsb) {
+                    out.add(MatchRecord.read(buffer, offset));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seoultech.se.server.matchlog;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 매치 로그 레코드 하나 (고정 64바이트)
+ *
+ * 레이아웃 (오프셋: 필드):
+ * - 0: 기록 시각 (밀리초)
+ * - 8, 16: 세션 키 (세션 ID UUID의 상위/하위 64비트, UUID가 아니면 이름 기반 UUID)
+ * - 24: 플레이어 키 (이메일 FNV-1a 64비트 해시, MatchRecorder.playerKey)
+ * - 32: 입력 시퀀스 (중력 이벤트는 0)
+ * - 40: 종류 (INPUT/GRAVITY)
+ * - 41: 명령 종류 (CommandType ordinal + 1, 중력은 0)
+ * - 42: 명령 인자 (이동/회전 방향 ordinal, 소프트 드롭이면 0x80)
+ * - 43: 플래그 (0x01 게임 오버)
+ * - 44, 45: 처리 후 현재 블록 종류 (ordinal + 1), 회전 상태
+ * - 46, 48: 처리 후 블록 위치 X, Y
+ * - 50: 받은 공격 라인 수
+ * - 52: 처리 후 누적 클리어 라인 수
+ * - 56: 처리 후 점수
+ */
+@Getter
+@AllArgsConstructor
+public class MatchRecord {
+
+    public static final int BYTES = 64;
+
+    public static final byte KIND_INPUT = 1;
+    public static final byte KIND_GRAVITY = 2;
+
+    public static final int FLAG_GAME_OVER = 0x01;
+
+    private final long timestamp;
+    private final UUID sessionKey;
+    private final long playerKey;
+    private final long sequence;
+    private final byte kind;
+    private final byte commandType;
+    private final byte commandArg;
+    private final byte flags;
+    private final byte pieceType;
+    private final byte pieceRotation;
+    private final short pieceX;
+    private final short pieceY;
+    private final short attackLinesReceived;
+    private final int linesCleared;
+    private final long score;
+
+    public boolean isGameOver() {
+        return (flags & FLAG_GAME_OVER) != 0;
+    }
+
+    /**
+     * 절대 위치에서 레코드 하나 읽기
+     */
+    public static MatchRecord read(ByteBuffer buffer, int offset) {
+        return new MatchRecord(
+            buffer.getLong(offset),
+            new UUID(buffer.getLong(offset + 8), buffer.getLong(offset + 16)),
+            buffer.getLong(offset + 24),
+            buffer.getLong(offset + 32),
+            buffer.get(offset + 40),
+            buffer.get(offset + 41),
+            buffer.get(offset + 42),
+            buffer.get(offset + 43),
+            buffer.get(offset + 44),
+            buffer.get(offset + 45),
+            buffer.getShort(offset + 46),
+            buffer.getShort(offset + 48),
+            buffer.getShort(offset + 50),
+            buffer.getInt(offset + 52),
+            buffer.getLong(offset + 56)
+        );
+    }
+}
@@ -0,0 +1,455 @@
+package seoultech.se.server.matchlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.core.GameState;
+import seoultech.se.core.command.GameCommand;
+import seoultech.se.core.command.MoveCommand;
+import seoultech.se.core.command.RotateCommand;
+import seoultech.se.core.model.Tetromino;
+
+/**
+ * 매치 기록 로그 (세그먼트 단위 메모리 매핑 append-only 파일)
+ *
+ * 기록 대상: 멀티플레이 세션에서 처리된 모든 입력과 중력 이벤트 (분쟁 확인, 부정행위 검토, 리플레이 생성용)
+ *
+ * 구조:
+ * - 레코드는 고정 64바이트 (MatchRecord), 세션 키/플레이어 키/시퀀스/명령/처리 후 상태 요약
+ * - 세션마다 자기 스테이지(Stage, 힙 버퍼)에 레코드를 쌓기만 함 - 세션끼리 공유하는 락과 파일 I/O 없음
+ *   (세션 락 안에서 호출되므로 스테이지 락은 그 세션의 입력 스레드와 틱 스레드 사이에서만 잡힘)
+ * - 스테이지가 틱 사이에 가득 차면 새 힙 버퍼를 이어 붙임 (입력 경로에서 세그먼트로 내보내지 않음, 기록 유실 없음)
+ * - 게임 틱이 끝날 때 틱 스레드가 레코드가 쌓인 스테이지만 모아 현재 세그먼트 매핑에 복사하고 헤더의 커밋 레코드 수를 갱신
+ *   → 순차 메모리 쓰기만 있고 이벤트마다 시스템 콜 없음 (디스크 반영은 OS 페이지 캐시가 처리)
+ * - 다음 세그먼트는 전용 스레드("MatchLog-Segment")가 미리 만들어 매핑해 둠 → 넘어갈 때는 준비된 매핑으로 바꾸기만 함
+ * - 최대 개수를 넘는 오래된 세그먼트 삭제도 같은 스레드에서 (미리 만든 빈 세그먼트 하나는 개수에서 제외)
+ *
+ * 세그먼트 헤더 (64바이트): [magic][형식 버전][레코드 크기][커밋된 레코드 수 (long, 오프셋 8)]
+ * 읽는 쪽은 커밋된 레코드 수까지만 신뢰 (MatchLogReader)
+ */
+@Slf4j
+@Component
+public class MatchRecorder {
+
+    static final int MAGIC = 0x544D4C47; // "TMLG"
+    static final short LAYOUT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int COMMITTED_OFFSET = 8;
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * 세션 스테이지 버퍼 크기 (레코드 수, 틱 사이에 넘치면 같은 크기의 버퍼를 이어 붙임)
+     */
+    private static final int STAGE_RECORDS = 64;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final int maxSegments;
+
+    /**
+     * 세그먼트에 복사하기 전에 스테이지 레코드를 모으는 버퍼 (틱 스레드, this 락으로 보호)
+     */
+    private final ByteBuffer batch;
+
+    /**
+     * 지난 flush 이후 레코드가 쌓인 스테이지 (스테이지마다 처음 쌓일 때 한 번만 들어감)
+     */
+    private final Queue<Stage> pendingStages = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 세그먼트 준비/삭제 전용 스레드와 미리 만들고 있는 다음 세그먼트
+     */
+    private final ExecutorService segmentWorker;
+    private Future<PreparedSegment> nextSegment;
+
+    private MappedByteBuffer segment;
+    private long committedRecords;
+    private long segmentSequence;
+    private long totalRecords;
+
+    public MatchRecorder(
+            @Value("${match-log.enabled:true}") boolean enabled,
+            @Value("${match-log.dir:data/${cluster.node-id:node-1}/match-log}") String directory,
+            @Value("${match-log.segment-bytes:67108864}") long segmentBytes,
+            @Value("${match-log.batch-records:4096}") int batchRecords,
+            @Value("${match-log.max-segments:32}") int maxSegments) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        // 헤더 뒤에 레코드가 딱 맞게 들어가도록 정렬
+        this.segmentBytes = HEADER_BYTES + Math.max(1, (segmentBytes - HEADER_BYTES) / MatchRecord.BYTES) * MatchRecord.BYTES;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.batch = ByteBuffer.allocate(Math.max(1, batchRecords) * MatchRecord.BYTES);
+
+        if (enabled) {
+            try {
+                Files.createDirectories(this.directory);
+                this.segmentSequence = lastSegmentSequence();
+            } catch (IOException e) {
+                throw new IllegalStateException("매치 로그 디렉터리를 만들 수 없습니다: " + directory, e);
+            }
+            this.segmentWorker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "MatchLog-Segment");
+                thread.setDaemon(true);
+                return thread;
+            });
+            prepareNextSegment();
+        } else {
+            this.segmentWorker = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 세션 키 (세션마다 한 번 계산해 보관)
+     */
+    public static UUID sessionKey(String sessionId) {
+        try {
+            return UUID.fromString(sessionId);
+        } catch (IllegalArgumentException e) {
+            return UUID.nameUUIDFromBytes(sessionId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 플레이어 키 (이메일의 FNV-1a 64비트 해시) - 검토 시 참가자 이메일로 같은 값을 계산해 대조
+     */
+    public static long playerKey(String playerId) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < playerId.length(); i++) {
+            hash ^= playerId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 세션 스테이지 생성 (세션마다 하나, 기록은 스테이지로)
+     *
+     * @param sessionId 세션 ID
+     * @return 스테이지
+     */
+    public Stage newStage(String sessionId) {
+        return new Stage(sessionKey(sessionId));
+    }
+
+    /**
+     * 스테이지에 쌓인 레코드를 세그먼트로 내보냄 (게임 틱 종료 시 틱 스레드에서 호출)
+     */
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        Stage stage;
+        while ((stage = pendingStages.poll()) != null) {
+            stage.drain();
+        }
+        if (batch.position() > 0) {
+            flushBatch();
+        }
+    }
+
+    /**
+     * 지금까지 세그먼트에 커밋된 전체 레코드 수 (모니터링/테스트용)
+     */
+    public synchronized long getTotalRecords() {
+        return totalRecords;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        flush();
+        if (segment != null) {
+            segment.force(); // 종료 시에만 디스크 반영을 기다림
+            segment = null;
+        }
+        if (segmentWorker != null) {
+            discardNextSegment();
+            segmentWorker.shutdown();
+        }
+    }
+
+    /**
+     * 세그먼트 스레드의 대기 중인 작업이 끝날 때까지 기다림 (테스트용)
+     */
+    void awaitSegmentWorker() throws Exception {
+        segmentWorker.submit(() -> { }).get();
+    }
+
+    /**
+     * 스테이지 버퍼를 배치로 복사, 배치가 차면 세그먼트로 내보냄 (this 락 안, 틱 스레드)
+     */
+    private void stageToBatch(ByteBuffer records) {
+        while (records.hasRemaining()) {
+            if (!batch.hasRemaining()) {
+                flushBatch();
+            }
+            int length = Math.min(records.remaining(), batch.remaining());
+            batch.put(batch.position(), records, records.position(), length);
+            batch.position(batch.position() + length);
+            records.position(records.position() + length);
+        }
+    }
+
+    /**
+     * 배치를 세그먼트에 복사 (this 락 안에서 호출)
+     */
+    private void flushBatch() {
+        batch.flip();
+        try {
+            while (batch.hasRemaining()) {
+                if (segment == null || segmentFull()) {
+                    rollSegment();
+                }
+                int writable = (int) Math.min(batch.remaining(), segmentBytes - writeOffset());
+                int offset = (int) writeOffset();
+                segment.put(offset, batch, batch.position(), writable);
+                batch.position(batch.position() + writable);
+
+                int records = writable / MatchRecord.BYTES;
+                committedRecords += records;
+                totalRecords += records;
+                segment.putLong(COMMITTED_OFFSET, committedRecords); // 커밋 (복사 이후에 갱신)
+            }
+        } catch (IOException e) {
+            log.error("❌ [MatchLog] Failed to write match log segment, dropping {} records",
+                batch.remaining() / MatchRecord.BYTES, e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private long writeOffset() {
+        return HEADER_BYTES + committedRecords * MatchRecord.BYTES;
+    }
+
+    private boolean segmentFull() {
+        return writeOffset() >= segmentBytes;
+    }
+
+    /**
+     * 미리 준비된 다음 세그먼트로 넘어감 (보통 이미 준비되어 있어 기다리지 않음)
+     */
+    private void rollSegment() throws IOException {
+        PreparedSegment next;
+        try {
+            next = nextSegment.get();
+        } catch (ExecutionException e) {
+            prepareNextSegment(); // 다음 flush에서 다시 시도
+            throw new IOException("매치 로그 세그먼트 준비 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("매치 로그 세그먼트 준비 대기 중 인터럽트", e);
+        }
+        segment = next.buffer();
+        committedRecords = 0;
+        prepareNextSegment();
+
+        log.info("📼 [MatchLog] Rolled to segment {}", next.path().getFileName());
+    }
+
+    /**
+     * 다음 세그먼트 생성/매핑과 오래된 세그먼트 삭제를 세그먼트 스레드에 맡김
+     */
+    private void prepareNextSegment() {
+        long sequence = ++segmentSequence;
+        nextSegment = segmentWorker.submit(() -> {
+            PreparedSegment prepared = createSegment(sequence);
+            deleteOldSegments();
+            return prepared;
+        });
+    }
+
+    /**
+     * 세그먼트 파일 생성, 매핑, 헤더 기록 (세그먼트 스레드)
+     */
+    private PreparedSegment createSegment(long sequence) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        mapped.putInt(0, MAGIC);
+        mapped.putShort(4, LAYOUT_VERSION);
+        mapped.putShort(6, (short) MatchRecord.BYTES);
+        mapped.putLong(COMMITTED_OFFSET, 0L);
+        return new PreparedSegment(path, mapped);
+    }
+
+    /**
+     * 오래된 세그먼트 삭제 (세그먼트 스레드, 가장 최근의 미리 만든 빈 세그먼트는 개수에서 제외)
+     */
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = MatchLogReader.listSegments(directory);
+        for (int i = 0; i < segments.size() - (maxSegments + 1); i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    /**
+     * 종료 시 쓰지 않은 다음 세그먼트 파일 삭제 (다음 실행이 빈 세그먼트를 건너뛰지 않도록)
+     */
+    private void discardNextSegment() {
+        try {
+            Files.deleteIfExists(nextSegment.get().path());
+            segmentSequence--;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | IOException e) {
+            log.debug("🗑️ [MatchLog] Could not discard prepared segment: {}", e.getMessage());
+        }
+    }
+
+    private long lastSegmentSequence() throws IOException {
+        List<Path> segments = MatchLogReader.listSegments(directory);
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        String name = segments.get(segments.size() - 1).getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 미리 만든 세그먼트 (파일 경로와 매핑)
+     */
+    private record PreparedSegment(Path path, MappedByteBuffer buffer) {
+    }
+
+    /**
+     * 세션 하나의 레코드 스테이지 (GameSession이 자기 락 안에서 기록, 틱 스레드가 flush에서 비움)
+     *
+     * 스테이지 락은 그 세션의 기록과 틱 스레드의 비우기 사이에서만 잡히므로 세션끼리 경합하지 않음
+     */
+    public final class Stage {
+
+        private final UUID sessionKey;
+        private ByteBuffer buffer = ByteBuffer.allocate(STAGE_RECORDS * MatchRecord.BYTES);
+
+        /**
+         * 틱 사이에 가득 찬 버퍼 (드묾, 비울 때 버림)
+         */
+        private List<ByteBuffer> overflow;
+
+        /**
+         * pendingStages에 들어가 있는지
+         */
+        private boolean pending;
+
+        private Stage(UUID sessionKey) {
+            this.sessionKey = sessionKey;
+        }
+
+        /**
+         * 처리된 입력 기록
+         *
+         * @param state 입력 처리 후 상태
+         */
+        public void recordInput(String playerId, long sequence, GameCommand command,
+                                GameState state, int attackLinesReceived, boolean gameOver) {
+            byte commandType = 0;
+            byte commandArg = 0;
+            if (command != null) {
+                commandType = (byte) (command.getType().ordinal() + 1);
+                if (command instanceof MoveCommand move) {
+                    commandArg = (byte) ((move.getDirection() != null ? move.getDirection().ordinal() : 0)
+                        | (move.isSoftDrop() ? 0x80 : 0));
+                } else if (command instanceof RotateCommand rotate && rotate.getDirection() != null) {
+                    commandArg = (byte) rotate.getDirection().ordinal();
+                }
+            }
+            append(MatchRecord.KIND_INPUT, playerId, sequence, commandType, commandArg,
+                state, attackLinesReceived, gameOver);
+        }
+
+        /**
+         * 중력(자동 낙하) 이벤트 기록
+         *
+         * @param state 중력 적용 후 상태
+         */
+        public void recordGravity(String playerId, GameState state, int attackLinesReceived, boolean gameOver) {
+            append(MatchRecord.KIND_GRAVITY, playerId, 0L, (byte) 0, (byte) 0,
+                state, attackLinesReceived, gameOver);
+        }
+
+        private synchronized void append(byte kind, String playerId, long sequence,
+                                         byte commandType, byte commandArg, GameState state,
+                                         int attackLinesReceived, boolean gameOver) {
+            if (!buffer.hasRemaining()) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(buffer);
+                buffer = ByteBuffer.allocate(buffer.capacity());
+            }
+
+            Tetromino piece = state.getCurrentTetromino();
+            buffer.putLong(System.currentTimeMillis());
+            buffer.putLong(sessionKey.getMostSignificantBits());
+            buffer.putLong(sessionKey.getLeastSignificantBits());
+            buffer.putLong(playerKey(playerId));
+            buffer.putLong(sequence);
+            buffer.put(kind);
+            buffer.put(commandType);
+            buffer.put(commandArg);
+            buffer.put((byte) (gameOver ? MatchRecord.FLAG_GAME_OVER : 0));
+            buffer.put((byte) (piece != null ? piece.getType().ordinal() + 1 : 0));
+            buffer.put((byte) (piece != null ? piece.getRotationState().ordinal() : 0));
+            buffer.putShort((short) state.getCurrentX());
+            buffer.putShort((short) state.getCurrentY());
+            buffer.putShort((short) attackLinesReceived);
+            buffer.putInt(state.getLinesCleared());
+            buffer.putLong(state.getScore());
+
+            if (!pending) {
+                pending = true;
+                pendingStages.add(this);
+            }
+        }
+
+        /**
+         * 쌓인 레코드를 기록 순서대로 배치로 옮기고 비움 (틱 스레드, MatchRecorder 락 안)
+         */
+        private synchronized void drain() {
+            if (overflow != null) {
+                for (ByteBuffer full : overflow) {
+                    full.flip();
+                    stageToBatch(full);
+                }
+                overflow = null;
+            }
+            buffer.flip();
+            stageToBatch(buffer);
+            buffer.clear();
+            pending = false;
+        }
+    }
+}
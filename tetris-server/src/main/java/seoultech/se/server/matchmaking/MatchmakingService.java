@@ -1,152 +1,420 @@
 package seoultech.se.server.matchmaking;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import seoultech.se.core.config.GameplayType;
 import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.server.cluster.ClusterNode;
+import seoultech.se.server.cluster.ClusterService;
 import seoultech.se.server.dto.MatchFoundNotification;
 import seoultech.se.server.game.GameSession;
 import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.metrics.GameServerMetrics;
+import seoultech.se.server.user.UserCache;
 import seoultech.se.server.user.UserEntity;
-import seoultech.se.server.user.UserRepository;
+import seoultech.se.server.user.UserProjection;
 import seoultech.se.server.websocket.WebSocketEventListener;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-
 /**
  * Phase 2: 매칭 시스템
  *
  * 기능:
  * - 대기 큐 관리 (GameplayType + Difficulty별 분리)
- * - 자동 매칭 (2명이 대기하면 자동으로 게임 세션 생성)
+ * - 레이팅 기반 자동 매칭 (비슷한 레이팅끼리 게임 세션 생성)
  * - 매칭 취소
- * - 매칭 상태 조회
+ * - 매칭 상태 조회 (모드별 예상 대기 시간 포함)
  *
  * 매칭 프로세스:
- * 1. 플레이어가 큐에 참여
- * 2. 동일한 게임 모드의 플레이어 2명이 대기 중이면 매칭
+ * 1. 플레이어가 큐에 참여 (즉시 WAITING 반환)
+ * 2. 매칭 루프가 레이팅을 조회해 모드별 레이팅 구간 인덱스에 넣고 허용 범위 안의 상대와 짝지음
  * 3. 새로운 게임 세션 생성
- * 4. 양측에 세션 ID 전달
+ * 4. 양측에 세션 ID 전달 (/user/queue/match-found)
+ *
+ * 클러스터 모드 (ClusterService):
+ * - 큐는 노드별, 성사된 세션은 세션 ID 해시의 소유 노드에서 실행
+ * - 소유 노드가 다른 노드면 그 노드에 세션을 넘기고 매칭 알림의 serverUrl로 리다이렉트
+ *
+ * 레이팅 매칭 (RatingBucketIndex):
+ * - 레이팅은 사용자별 Elo 값 (PlayerRatingService가 매치 종료 시 갱신)
+ * - 허용 레이팅 차이는 대기 시간에 따라 넓어지고, 루프가 1초마다 전체 대기자를 재탐색
+ * - 구간 TreeMap에서 허용 범위에 걸친 구간만 조회 - 대기 인원이 수만 명이어도 O(log n)
+ *
+ * 동시성 구조 (전용 매칭 루프):
+ * - 참여: 공유 수신함(ConcurrentLinkedQueue)에 넣고 루프 스레드를 깨움 - O(1), 락 없음
+ * - 취소: 대기 정보의 상태만 WAITING → CANCELLED로 CAS - O(1), 큐에서 직접 제거하지 않음
+ * - 큐 크기: 모드별 카운터로 관리 (ConcurrentLinkedQueue.size()의 O(n) 순회 제거)
+ * - 매칭 루프: 수신함을 배치로 비워 모드별 인덱스(루프 전용)에 옮기고 메모리에서 짝지음
+ * - 사용자 정보: 수신함 배치의 레이팅/이름을 UserCache에서 조회 (캐시에 없는 사용자만 쿼리 한 번, 매칭 알림에도 재사용)
+ *
+ * 실패 처리 (한 번의 오류가 대기자를 잃어버리지 않도록):
+ * - 사용자 조회 실패: 배치 전체를 초기 레이팅으로 인덱스에 넣음 (큐에서 빠지지 않음)
+ * - 세션 생성/참여 실패: 매칭마다 따로 처리, 만든 세션은 정리하고 두 플레이어를 같은 대기 시작 시각으로 다시 큐에 넣음
+ * - 세션을 여는 동안 나간 플레이어: 취소가 기록되어 다시 큐에 넣지 않음 (세션은 정리하고 남은 상대만 다시 대기)
+ * - 알림 전송 실패: 플레이어별로 기록만 하고 나머지 알림은 계속 전송
+ *
+ * 대기 상태 전이:
+ * - WAITING → RESERVED → MATCHED (루프만 수행, MATCHED는 세션을 여는 중)
+ * - RESERVED → WAITING (짝이 될 상대가 없으면 되돌림)
+ * - MATCHED → RESERVED → CLOSED (세션을 연 뒤 루프가 회수, 세션 참여 또는 새 대기 정보로 교체)
+ * - WAITING/MATCHED → CANCELLED (leaveQueue, RESERVED 상태는 잠깐 대기 후 재시도)
+ * - 짝지은 두 플레이어는 세션을 열 때까지 대기 목록에 남음 → 그 사이의 취소도 기록됨
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MatchmakingService {
 
+    /**
+     * 한 번에 수신함에서 꺼내는 최대 참여 요청 수
+     */
+    private static final int MAX_DRAIN_BATCH = 256;
+
+    /**
+     * 수신함이 비었을 때 루프가 쉬는 최대 시간 (참여 시 즉시 깨움)
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /**
+     * 전체 대기자 재탐색 주기 (허용 범위가 넓어진 플레이어 매칭)
+     */
+    private static final long SWEEP_INTERVAL_MS = 1_000;
+
+    /**
+     * 예상 대기 시간 지수 이동 평균 가중치 (최근 매칭 1건의 비중)
+     */
+    private static final double EXPECTED_WAIT_ALPHA = 0.2;
+
     private final GameSessionManager gameSessionManager;
     private final WebSocketEventListener webSocketEventListener;
     private final seoultech.se.server.admin.AdminDashboardService dashboardService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final GameServerMetrics metrics;
+    private final ClusterService clusterService;
 
     /**
-     * 매칭 큐: 게임 모드별로 대기 중인 플레이어 관리
+     * 참여 요청 수신함 (모든 모드 공용, 여러 스레드가 넣고 매칭 루프만 꺼냄)
+     */
+    private final Queue<WaitingPlayer> inbox = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 모드별 레이팅 구간 인덱스 (매칭 루프 스레드 전용)
      * Key: "GameplayType:Difficulty" (예: "CLASSIC:NORMAL")
-     * Value: 플레이어 ID 큐
      */
-    private final Map<String, Queue<WaitingPlayer>> matchmakingQueues = new ConcurrentHashMap<>();
+    private final Map<String, RatingBucketIndex> indexes = new HashMap<>();
+
+    /**
+     * 모드별 예상 대기 시간 (최근 매칭 대기 시간의 지수 이동 평균, 밀리초)
+     */
+    private final Map<String, Long> expectedWaits = new ConcurrentHashMap<>();
+
+    private long lastSweepAt;
+
+    /**
+     * 모드별 대기 인원 (참여 시 증가, 취소/매칭 시 감소)
+     */
+    private final Map<String, AtomicInteger> queueSizes = new ConcurrentHashMap<>();
 
     /**
      * 플레이어 ID → 대기 정보 매핑
-     * 매칭 취소 및 상태 조회에 사용
+     * 중복 참여 방지, 매칭 취소 및 상태 조회에 사용
      */
     private final Map<String, WaitingPlayer> waitingPlayers = new ConcurrentHashMap<>();
 
+    private volatile boolean isRunning = false;
+    private Thread loopThread;
+
+    @PostConstruct
+    public void start() {
+        isRunning = true;
+        loopThread = new Thread(this::matchLoop);
+        loopThread.setDaemon(true);
+        loopThread.setName("Matchmaking-Loop");
+        loopThread.start();
+        log.info("🔄 [Matchmaking] Matching loop started");
+    }
+
+    @PreDestroy
+    public void stop() {
+        isRunning = false;
+        if (loopThread != null) {
+            LockSupport.unpark(loopThread);
+        }
+        log.info("🛑 [Matchmaking] Matching loop stopped");
+    }
+
     /**
      * Phase 2: 매칭 큐 참여
      *
+     * 매칭은 루프 스레드에서 비동기로 이뤄지고 결과는 /user/queue/match-found로 전달됨
+     *
      * @param playerId 플레이어 ID
      * @param gameplayType 게임 타입
      * @param difficulty 난이도
-     * @return 매칭 결과 (즉시 매칭되면 세션 ID 포함, 대기 중이면 null)
+     * @return 대기 결과 (WAITING 또는 ALREADY_IN_QUEUE)
      */
     public MatchmakingResult joinQueue(String playerId, GameplayType gameplayType, Difficulty difficulty) {
-        // 이미 대기 중인지 확인
-        if (waitingPlayers.containsKey(playerId)) {
+        WaitingPlayer waitingPlayer = new WaitingPlayer(playerId, gameplayType, difficulty);
+
+        // 이미 대기 중인지 확인 (확인과 등록을 한 번에)
+        if (waitingPlayers.putIfAbsent(playerId, waitingPlayer) != null) {
             log.warn("⚠️ [Matchmaking] Player {} already in queue", playerId);
             return MatchmakingResult.alreadyInQueue();
         }
 
-        String queueKey = getQueueKey(gameplayType, difficulty);
-        Queue<WaitingPlayer> queue = matchmakingQueues.computeIfAbsent(queueKey, k -> new ConcurrentLinkedQueue<>());
+        String queueKey = waitingPlayer.getQueueKey();
+        int queueSize = queueSizes.computeIfAbsent(queueKey, k -> new AtomicInteger()).incrementAndGet();
+        inbox.offer(waitingPlayer);
 
-        WaitingPlayer waitingPlayer = new WaitingPlayer(playerId, gameplayType, difficulty);
-        queue.add(waitingPlayer);
-        waitingPlayers.put(playerId, waitingPlayer);
+        Thread loop = loopThread;
+        if (loop != null) {
+            LockSupport.unpark(loop);
+        }
 
         log.info("🎮 [Matchmaking] Player {} joined queue: {} (queue size: {})",
-            playerId, queueKey, queue.size());
+            playerId, queueKey, queueSize);
 
-        // 자동 매칭 시도
-        return tryMatch(queueKey, queue);
+        return MatchmakingResult.waiting();
+    }
+
+    /**
+     * 매칭 루프 (전용 스레드)
+     */
+    private void matchLoop() {
+        while (isRunning) {
+            try {
+                if (runMatchingCycle() == 0 && inbox.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            } catch (Exception e) {
+                log.error("❌ [Matchmaking] Matching cycle failed: {}", e.getMessage(), e);
+            }
+        }
     }
 
     /**
-     * Phase 2: 자동 매칭 시도
+     * 매칭 한 주기 실행 (수신함 배치 비우기 → 메모리에서 짝짓기 → 세션 생성/알림)
      *
-     * 큐에 2명 이상의 플레이어가 대기 중이면 매칭
-     * synchronized로 동시 매칭 시도를 방지하여 경쟁 조건 방지
+     * 매칭 루프 스레드에서만 호출 (테스트는 루프 없이 직접 호출)
      *
-     * @param queueKey 큐 키
-     * @param queue 대기 큐
-     * @return 매칭 결과
+     * @return 이번 주기에 성사된 매칭 수
      */
-    private synchronized MatchmakingResult tryMatch(String queueKey, Queue<WaitingPlayer> queue) {
-        if (queue.size() >= 2) {
-            WaitingPlayer player1 = queue.poll();
-            WaitingPlayer player2 = queue.poll();
-
-            if (player1 != null && player2 != null) {
-                // 대기 중 정보 제거
-                waitingPlayers.remove(player1.getPlayerId());
-                waitingPlayers.remove(player2.getPlayerId());
-
-                // 게임 세션 생성 (멀티플레이 타입)
-                String sessionId = UUID.randomUUID().toString();
-                GameSession session = gameSessionManager.createSession(
-                    sessionId,
-                    player1.getGameplayType(),
-                    player1.getDifficulty(),
-                    seoultech.se.server.game.SessionType.MULTI // 멀티플레이 세션
-                );
-
-                // 플레이어 참여
-                session.joinPlayer(player1.getPlayerId());
-                session.joinPlayer(player2.getPlayerId());
-
-                // WebSocket 이벤트 리스너에 등록
-                webSocketEventListener.registerPlayerSession(player1.getPlayerId(), sessionId);
-                webSocketEventListener.registerPlayerSession(player2.getPlayerId(), sessionId);
-
-                log.info("✅ [Matchmaking] Match found! Session: {}, Players: {} vs {}",
-                    sessionId, player1.getPlayerId(), player2.getPlayerId());
-
-                // 매칭 완료 알림 전송
-                sendMatchFoundNotifications(
-                    sessionId,
-                    player1.getPlayerId(),
-                    player2.getPlayerId(),
-                    player1.getGameplayType()
-                );
-
-                // Dashboard 통계 기록
-                dashboardService.recordMatchCreated();
-
-                return MatchmakingResult.matched(sessionId, player1.getPlayerId(), player2.getPlayerId());
+    int runMatchingCycle() {
+        // 1. 수신함 배치 비우기
+        List<WaitingPlayer> arrivals = new ArrayList<>();
+        for (int i = 0; i < MAX_DRAIN_BATCH; i++) {
+            WaitingPlayer player = inbox.poll();
+            if (player == null) {
+                break;
             }
+            arrivals.add(player);
         }
 
-        // 매칭 실패 (대기 중)
-        return MatchmakingResult.waiting();
+        // 2. 배치 전체의 레이팅/이름을 한 번에 조회 후 인덱스에 추가
+        if (!arrivals.isEmpty()) {
+            Set<String> emails = new HashSet<>();
+            for (WaitingPlayer player : arrivals) {
+                emails.add(player.getPlayerId());
+            }
+            Map<String, UserProjection> users;
+            try {
+                users = userCache.findAllByEmail(emails);
+            } catch (RuntimeException e) {
+                // DB 장애 등 - 초기 레이팅으로라도 대기시켜 큐에서 사라지지 않게 함
+                log.error("❌ [Matchmaking] User lookup failed for {} arrival(s), using default rating: {}",
+                    arrivals.size(), e.getMessage());
+                users = Map.of();
+            }
+            for (WaitingPlayer player : arrivals) {
+                UserProjection user = users.get(player.getPlayerId());
+                if (user != null) {
+                    player.assignProfile(user.getName(), user.getRating());
+                }
+                indexes.computeIfAbsent(player.getQueueKey(), k -> new RatingBucketIndex()).add(player);
+            }
+        }
+
+        // 3. 새로 들어온 플레이어의 상대 탐색 + 주기적으로 전체 재탐색 (넓어진 허용 범위 반영)
+        long now = System.currentTimeMillis();
+        List<WaitingPlayer[]> pairs = new ArrayList<>();
+        for (WaitingPlayer player : arrivals) {
+            WaitingPlayer opponent = indexes.get(player.getQueueKey()).findOpponent(player, now);
+            if (opponent != null) {
+                pairs.add(new WaitingPlayer[] {opponent, player});
+            }
+        }
+        if (now - lastSweepAt >= SWEEP_INTERVAL_MS) {
+            lastSweepAt = now;
+            for (RatingBucketIndex index : indexes.values()) {
+                index.sweep(now, pairs);
+            }
+        }
+
+        // 4. 세션 생성 및 알림 (매칭마다 따로 - 한 매칭의 실패가 뒤의 매칭을 막지 않음)
+        int created = 0;
+        for (WaitingPlayer[] pair : pairs) {
+            if (createMatch(pair[0], pair[1])) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 매칭 성사 처리 (세션 생성, 플레이어 참여, 알림, 통계)
+     *
+     * 세션을 여는 동안 나간 플레이어가 있으면 세션을 정리하고, 나가지 않은 플레이어만 다시 큐에 넣음
+     *
+     * @return 성공 여부 (세션을 열지 못했거나 한쪽이 나갔으면 false)
+     */
+    private boolean createMatch(WaitingPlayer player1, WaitingPlayer player2) {
+        String sessionId = UUID.randomUUID().toString();
+
+        ClusterNode remoteOwner = null;
+        RuntimeException failure = null;
+        try {
+            remoteOwner = openSession(sessionId, player1, player2);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        // 여기서부터 취소는 결과가 정해질 때까지 대기 (그 전에 나갔으면 false)
+        boolean stayed1 = player1.reclaim();
+        boolean stayed2 = player2.reclaim();
+
+        if (failure != null || !stayed1 || !stayed2) {
+            if (failure != null) {
+                log.error("❌ [Matchmaking] Failed to open session {} for {} vs {}, re-queueing: {}",
+                    sessionId, player1.getPlayerId(), player2.getPlayerId(), failure.getMessage(), failure);
+            } else {
+                log.info("👋 [Matchmaking] Player left while session {} was opening, closing it", sessionId);
+                if (remoteOwner == null) {
+                    webSocketEventListener.unregisterPlayerSession(player1.getPlayerId());
+                    webSocketEventListener.unregisterPlayerSession(player2.getPlayerId());
+                }
+            }
+            try {
+                gameSessionManager.removeSession(sessionId);
+            } catch (RuntimeException cleanup) {
+                log.warn("⚠️ [Matchmaking] Failed to clean up session {}: {}", sessionId, cleanup.getMessage());
+            }
+            if (stayed1) {
+                requeue(player1);
+            }
+            if (stayed2) {
+                requeue(player2);
+            }
+            return false;
+        }
+        dequeue(player1);
+        dequeue(player2);
+
+        log.info("✅ [Matchmaking] Match found! Session: {}, Players: {} ({}) vs {} ({})",
+            sessionId, player1.getPlayerId(), player1.getRating(), player2.getPlayerId(), player2.getRating());
+
+        // 매칭 완료 알림 전송 (원격 세션이면 소유 노드 주소 포함)
+        String serverUrl = remoteOwner != null ? remoteOwner.getBaseUrl() : null;
+        sendMatchFoundNotifications(sessionId, player1, player2, player1.getGameplayType(), serverUrl);
+
+        // Dashboard 통계 기록
+        dashboardService.recordMatchCreated();
+        long wait1 = player1.getWaitingTimeMs();
+        long wait2 = player2.getWaitingTimeMs();
+        metrics.recordQueueWait(Duration.ofMillis(wait1));
+        metrics.recordQueueWait(Duration.ofMillis(wait2));
+        updateExpectedWait(player1.getQueueKey(), wait1);
+        updateExpectedWait(player1.getQueueKey(), wait2);
+        return true;
+    }
+
+    /**
+     * 세션 열기 (로컬 생성 또는 소유 노드에 넘김)
+     *
+     * @return 원격 소유 노드 (로컬 세션이면 null)
+     */
+    private ClusterNode openSession(String sessionId, WaitingPlayer player1, WaitingPlayer player2) {
+        // 클러스터 모드: 세션 소유 노드가 다른 노드면 그 노드에 세션 생성 요청
+        ClusterNode remoteOwner = clusterService.handOffIfRemote(
+            sessionId,
+            player1.getGameplayType(),
+            player1.getDifficulty(),
+            player1.getPlayerId(),
+            player2.getPlayerId()
+        );
+        if (remoteOwner != null) {
+            return remoteOwner;
+        }
+
+        // 게임 세션 생성 (멀티플레이 타입)
+        GameSession session = gameSessionManager.createSession(
+            sessionId,
+            player1.getGameplayType(),
+            player1.getDifficulty(),
+            seoultech.se.server.game.SessionType.MULTI // 멀티플레이 세션
+        );
+
+        // 플레이어 참여
+        session.joinPlayer(player1.getPlayerId());
+        session.joinPlayer(player2.getPlayerId());
+
+        // WebSocket 이벤트 리스너에 등록
+        webSocketEventListener.registerPlayerSession(player1.getPlayerId(), sessionId);
+        webSocketEventListener.registerPlayerSession(player2.getPlayerId(), sessionId);
+        return null;
+    }
+
+    /**
+     * 세션에 들어간 플레이어를 대기 목록에서 제거 (매칭 루프 전용, reclaim 이후)
+     */
+    private void dequeue(WaitingPlayer player) {
+        waitingPlayers.remove(player.getPlayerId(), player);
+        queueSizes.get(player.getQueueKey()).decrementAndGet();
+        player.close();
+    }
+
+    /**
+     * 세션을 열지 못한 플레이어를 다시 대기시킴 (매칭 루프 전용, reclaim 이후)
+     *
+     * 대기 시작 시각과 레이팅은 유지 - 허용 범위가 처음부터 다시 좁아지지 않음
+     * 대기 목록의 항목을 새 대기 정보로 바꾼 뒤 이전 정보를 닫음 → 기다리던 취소는 새 정보에 적용됨
+     */
+    private void requeue(WaitingPlayer player) {
+        WaitingPlayer retry = player.copyForRetry();
+        waitingPlayers.replace(player.getPlayerId(), player, retry);
+        player.close();
+        indexes.computeIfAbsent(retry.getQueueKey(), k -> new RatingBucketIndex()).add(retry);
+    }
+
+    /**
+     * 모드별 예상 대기 시간 갱신 (매칭 루프 전용)
+     */
+    private void updateExpectedWait(String queueKey, long waitMs) {
+        Long previous = expectedWaits.get(queueKey);
+        long updated = previous == null
+            ? waitMs
+            : Math.round(previous + EXPECTED_WAIT_ALPHA * (waitMs - previous));
+        expectedWaits.put(queueKey, updated);
     }
 
     /**
@@ -156,17 +424,22 @@ public class MatchmakingService {
      * @return 취소 성공 여부
      */
     public boolean leaveQueue(String playerId) {
-        WaitingPlayer waitingPlayer = waitingPlayers.remove(playerId);
-
-        if (waitingPlayer != null) {
-            String queueKey = getQueueKey(waitingPlayer.getGameplayType(), waitingPlayer.getDifficulty());
-            Queue<WaitingPlayer> queue = matchmakingQueues.get(queueKey);
-
-            if (queue != null) {
-                queue.remove(waitingPlayer);
-                log.info("👋 [Matchmaking] Player {} left queue: {}", playerId, queueKey);
+        WaitingPlayer waitingPlayer = waitingPlayers.get(playerId);
+
+        while (waitingPlayer != null) {
+            if (waitingPlayer.cancel()) {
+                // 대기열에서의 실제 제거는 매칭 루프가 만나는 시점에 처리
+                waitingPlayers.remove(playerId, waitingPlayer);
+                queueSizes.get(waitingPlayer.getQueueKey()).decrementAndGet();
+                log.info("👋 [Matchmaking] Player {} left queue: {}", playerId, waitingPlayer.getQueueKey());
                 return true;
             }
+            // 세션을 열지 못해 새 대기 정보로 교체되었으면 그 정보로 다시 취소
+            WaitingPlayer current = waitingPlayers.get(playerId);
+            if (current == waitingPlayer) {
+                break;
+            }
+            waitingPlayer = current;
         }
 
         log.warn("⚠️ [Matchmaking] Player {} not found in any queue", playerId);
@@ -191,9 +464,21 @@ public class MatchmakingService {
      * @return 대기 중인 플레이어 수
      */
     public int getQueueSize(GameplayType gameplayType, Difficulty difficulty) {
-        String queueKey = getQueueKey(gameplayType, difficulty);
-        Queue<WaitingPlayer> queue = matchmakingQueues.get(queueKey);
-        return queue != null ? queue.size() : 0;
+        AtomicInteger size = queueSizes.get(getQueueKey(gameplayType, difficulty));
+        return size != null ? size.get() : 0;
+    }
+
+    /**
+     * 모드별 예상 대기 시간 조회
+     *
+     * 최근 매칭된 플레이어들의 대기 시간 지수 이동 평균 (매칭 기록이 없으면 0)
+     *
+     * @param gameplayType 게임 타입
+     * @param difficulty 난이도
+     * @return 예상 대기 시간 (밀리초)
+     */
+    public long getExpectedWaitMs(GameplayType gameplayType, Difficulty difficulty) {
+        return expectedWaits.getOrDefault(getQueueKey(gameplayType, difficulty), 0L);
     }
 
     /**
@@ -203,7 +488,7 @@ public class MatchmakingService {
      * @param difficulty 난이도
      * @return 큐 키 (예: "CLASSIC:NORMAL")
      */
-    private String getQueueKey(GameplayType gameplayType, Difficulty difficulty) {
+    private static String getQueueKey(GameplayType gameplayType, Difficulty difficulty) {
         return gameplayType + ":" + difficulty;
     }
 
@@ -211,15 +496,20 @@ public class MatchmakingService {
      * 매칭 완료 알림 전송 (두 플레이어에게)
      *
      * @param sessionId 세션 ID
-     * @param player1Email 플레이어 1 이메일
-     * @param player2Email 플레이어 2 이메일
+     * @param player1 플레이어 1 (수신함 배치에서 이름을 채워둔 대기 정보)
+     * @param player2 플레이어 2
      * @param gameplayType 게임 모드
+     * @param serverUrl 세션을 실행하는 노드 주소 (로컬 세션이면 null)
      */
     private void sendMatchFoundNotifications(
             String sessionId,
-            String player1Email,
-            String player2Email,
-            GameplayType gameplayType) {
+            WaitingPlayer player1,
+            WaitingPlayer player2,
+            GameplayType gameplayType,
+            String serverUrl) {
+
+        String player1Email = player1.getPlayerId();
+        String player2Email = player2.getPlayerId();
 
         log.info("🎮 [Matchmaking] Sending match found notifications");
         log.info("   - Session: {}", sessionId);
@@ -230,31 +520,21 @@ public class MatchmakingService {
         long sharedTimestamp = System.currentTimeMillis();
         log.info("   - Shared timestamp: {}", sharedTimestamp);
 
-        // Player 1과 Player 2의 사용자 정보 조회
-        UserEntity player1User = userRepository.findByEmail(player1Email).orElse(null);
-        UserEntity player2User = userRepository.findByEmail(player2Email).orElse(null);
-
-        // 상대방 정보 추출
-        String player2Name = player2User != null ? player2User.getName() : "알 수 없음";
-        String player2EmailFinal = player2User != null ? player2User.getEmail() : player2Email;
-
-        String player1Name = player1User != null ? player1User.getName() : "알 수 없음";
-        String player1EmailFinal = player1User != null ? player1User.getEmail() : player1Email;
+        // 상대방 정보 추출 (수신함 배치 조회 결과)
+        String player2Name = player2.getDisplayName() != null ? player2.getDisplayName() : "알 수 없음";
+        String player1Name = player1.getDisplayName() != null ? player1.getDisplayName() : "알 수 없음";
 
         // Player 1에게 Player 2 정보 전송 (동일한 타임스탬프 사용)
         MatchFoundNotification notification1 = MatchFoundNotification.create(
             sessionId,
             player2Name,
-            player2EmailFinal,
+            player2Email,
             gameplayType.name(),
             sharedTimestamp
         );
+        notification1.setServerUrl(serverUrl);
 
-        messagingTemplate.convertAndSendToUser(
-            player1Email,
-            "/queue/match-found",
-            notification1
-        );
+        sendMatchFound(player1Email, notification1);
 
         log.info("   → Sent to Player 1 ({}): opponent is {}", player1Email, player2Name);
 
@@ -262,35 +542,69 @@ public class MatchmakingService {
         MatchFoundNotification notification2 = MatchFoundNotification.create(
             sessionId,
             player1Name,
-            player1EmailFinal,
+            player1Email,
             gameplayType.name(),
             sharedTimestamp
         );
+        notification2.setServerUrl(serverUrl);
 
-        messagingTemplate.convertAndSendToUser(
-            player2Email,
-            "/queue/match-found",
-            notification2
-        );
+        sendMatchFound(player2Email, notification2);
 
         log.info("   → Sent to Player 2 ({}): opponent is {}", player2Email, player1Name);
         log.info("✅ [Matchmaking] Match found notifications sent to both players with synchronized timestamp");
     }
 
+    /**
+     * 매칭 완료 알림 한 건 전송 (실패해도 다른 플레이어 알림은 계속)
+     */
+    private void sendMatchFound(String playerEmail, MatchFoundNotification notification) {
+        try {
+            messagingTemplate.convertAndSendToUser(playerEmail, "/queue/match-found", notification);
+        } catch (RuntimeException e) {
+            log.error("❌ [Matchmaking] Failed to send match found to {}: {}", playerEmail, e.getMessage());
+        }
+    }
+
     /**
      * Phase 2: 대기 중인 플레이어 정보
      */
     public static class WaitingPlayer {
+        private static final int WAITING = 0;
+        private static final int RESERVED = 1;   // 매칭 루프가 짝을 찾는 중
+        private static final int MATCHED = 2;    // 짝이 정해져 세션을 여는 중
+        private static final int CANCELLED = 3;
+        private static final int CLOSED = 4;     // 매칭 루프가 처리를 끝냄 (세션 참여 또는 새 대기 정보로 교체)
+
         private final String playerId;
         private final GameplayType gameplayType;
         private final Difficulty difficulty;
+        private final String queueKey;
         private final long joinedAt;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // 매칭 루프가 수신함 배치에서 채움 (사용자 정보가 없으면 초기 레이팅)
+        private volatile String displayName;
+        private volatile int rating = UserEntity.DEFAULT_RATING;
 
         public WaitingPlayer(String playerId, GameplayType gameplayType, Difficulty difficulty) {
+            this(playerId, gameplayType, difficulty, System.currentTimeMillis());
+        }
+
+        private WaitingPlayer(String playerId, GameplayType gameplayType, Difficulty difficulty, long joinedAt) {
             this.playerId = playerId;
             this.gameplayType = gameplayType;
             this.difficulty = difficulty;
-            this.joinedAt = System.currentTimeMillis();
+            this.queueKey = MatchmakingService.getQueueKey(gameplayType, difficulty);
+            this.joinedAt = joinedAt;
+        }
+
+        /**
+         * 재시도용 새 대기 정보 (대기 시작 시각, 이름, 레이팅 유지, 상태는 WAITING)
+         */
+        WaitingPlayer copyForRetry() {
+            WaitingPlayer retry = new WaitingPlayer(playerId, gameplayType, difficulty, joinedAt);
+            retry.assignProfile(displayName, rating);
+            return retry;
         }
 
         public String getPlayerId() {
@@ -312,6 +626,94 @@ public class MatchmakingService {
         public long getWaitingTimeMs() {
             return System.currentTimeMillis() - joinedAt;
         }
+
+        public int getRating() {
+            return rating;
+        }
+
+        /**
+         * 현재 허용 레이팅 차이 (대기 시간에 따라 넓어짐)
+         */
+        public int getRatingWindow() {
+            return RatingBucketIndex.ratingWindow(getWaitingTimeMs());
+        }
+
+        String getDisplayName() {
+            return displayName;
+        }
+
+        /**
+         * 사용자 이름/레이팅 채우기 (매칭 루프 전용, 인덱스에 넣기 전에 호출)
+         */
+        void assignProfile(String displayName, int rating) {
+            this.displayName = displayName;
+            this.rating = rating;
+        }
+
+        boolean isWaiting() {
+            return state.get() == WAITING;
+        }
+
+        String getQueueKey() {
+            return queueKey;
+        }
+
+        /**
+         * 매칭 루프가 짝짓기 후보로 선점 (취소된 경우 false)
+         */
+        boolean reserve() {
+            return state.compareAndSet(WAITING, RESERVED);
+        }
+
+        /**
+         * 짝이 없어 선점 해제 (매칭 루프 전용)
+         */
+        void release() {
+            state.set(WAITING);
+        }
+
+        /**
+         * 매칭 확정 (매칭 루프 전용, 선점 상태에서만 호출)
+         */
+        void markMatched() {
+            state.set(MATCHED);
+        }
+
+        /**
+         * 세션을 연 뒤 매칭 루프가 다시 선점 (그 사이 취소되었으면 false)
+         */
+        boolean reclaim() {
+            return state.compareAndSet(MATCHED, RESERVED);
+        }
+
+        /**
+         * 매칭 루프의 처리 종료 (매칭 루프 전용, reclaim 이후 대기 목록을 정리한 다음 호출)
+         */
+        void close() {
+            state.set(CLOSED);
+        }
+
+        /**
+         * 대기 취소
+         * 매칭 루프가 선점 중이면 결과가 정해질 때까지 잠깐 기다림 (메모리 연산뿐이라 매우 짧음)
+         * 세션을 여는 중이면 취소를 기록 → 매칭 루프가 세션을 정리하고 다시 큐에 넣지 않음
+         *
+         * @return 취소 성공 여부 (이미 세션에 들어갔거나 취소되었으면 false)
+         */
+        boolean cancel() {
+            while (true) {
+                int current = state.get();
+                if (current == WAITING || current == MATCHED) {
+                    if (state.compareAndSet(current, CANCELLED)) {
+                        return true;
+                    }
+                } else if (current == RESERVED) {
+                    Thread.onSpinWait();
+                } else {
+                    return false;
+                }
+            }
+        }
     }
 
     /**
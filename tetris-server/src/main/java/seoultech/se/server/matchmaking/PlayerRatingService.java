@@ -0,0 +1,152 @@
+package seoultech.se.server.matchmaking;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.backend.score.ScoreRecord;
+import seoultech.se.backend.score.ScoreWriteBehindQueue;
+import seoultech.se.core.GameState;
+import seoultech.se.core.config.GameModeConfig;
+import seoultech.se.core.config.GameplayType;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.user.UserCache;
+import seoultech.se.server.user.UserEntity;
+import seoultech.se.server.user.UserRepository;
+
+/**
+ * 멀티플레이 레이팅 (Elo) 갱신 및 매치 점수 기록
+ *
+ * - 매치가 끝나면 게임 오버된 플레이어가 패자, 상대가 승자
+ * - 갱신된 레이팅은 다음 매칭부터 레이팅 구간 매칭에 사용 (RatingBucketIndex, 저장 후 UserCache 무효화)
+ * - DB 쓰기는 전용 스레드 하나에서 순서대로 처리
+ *   (게임 틱/입력 스레드를 막지 않고, 같은 사용자의 연속 갱신이 서로 덮어쓰지 않음)
+ * - 두 플레이어의 최종 점수는 게임 오버 시점에 읽어 두고, 사용자 이름을 찾은 뒤
+ *   ScoreWriteBehindQueue에 넘김 (배치 저장, score.write-behind.enabled=false면 기록 안 함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerRatingService {
+
+    /**
+     * 한 판당 최대 레이팅 변동폭
+     */
+    static final int K_FACTOR = 32;
+
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final ObjectProvider<ScoreWriteBehindQueue> scoreQueue;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Rating-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void stop() {
+        writer.shutdown();
+    }
+
+    /**
+     * 매치 결과 반영 (게임 오버가 처음 기록된 시점에 한 번만 호출)
+     *
+     * @param session 종료된 세션
+     * @param loserId 게임 오버된 플레이어 ID
+     */
+    public void recordLoss(GameSession session, String loserId) {
+        if (session.getSessionType() != SessionType.MULTI) {
+            return;
+        }
+        String winnerId = session.getOpponentId(loserId);
+        if (winnerId == null) {
+            return;
+        }
+
+        // 점수는 게임 스레드에서 바로 읽어 둠 (이후 세션이 제거되거나 재시작될 수 있음)
+        long finishedAt = System.currentTimeMillis();
+        ScoreRecord winnerScore = scoreOf(session, winnerId, finishedAt);
+        ScoreRecord loserScore = scoreOf(session, loserId, finishedAt);
+        writer.execute(() -> applyResult(winnerId, loserId, winnerScore, loserScore));
+    }
+
+    private void applyResult(String winnerEmail, String loserEmail, ScoreRecord winnerScore, ScoreRecord loserScore) {
+        try {
+            List<UserEntity> users = userRepository.findByEmailIn(List.of(winnerEmail, loserEmail));
+            UserEntity winner = null;
+            UserEntity loser = null;
+            for (UserEntity user : users) {
+                if (user.getEmail().equals(winnerEmail)) {
+                    winner = user;
+                } else if (user.getEmail().equals(loserEmail)) {
+                    loser = user;
+                }
+            }
+            submitScore(winner, winnerScore);
+            submitScore(loser, loserScore);
+            if (winner == null || loser == null) {
+                return;
+            }
+
+            int[] updated = eloUpdate(winner.getRating(), loser.getRating());
+            log.info("🏆 [Rating] {} {} → {}, {} {} → {}",
+                winnerEmail, winner.getRating(), updated[0],
+                loserEmail, loser.getRating(), updated[1]);
+            winner.updateRating(updated[0]);
+            loser.updateRating(updated[1]);
+            userRepository.saveAll(List.of(winner, loser));
+            userCache.invalidate(winnerEmail);
+            userCache.invalidate(loserEmail);
+        } catch (Exception e) {
+            log.error("❌ [Rating] Failed to update rating: {} vs {}", winnerEmail, loserEmail, e);
+        }
+    }
+
+    /**
+     * 최종 점수 (이름은 저장 스레드에서 사용자 조회 후 채움)
+     */
+    private static ScoreRecord scoreOf(GameSession session, String playerId, long finishedAt) {
+        GameState state = session.getStateForPlayer(playerId);
+        if (state == null) {
+            return null;
+        }
+        GameModeConfig config = session.getGameModeConfig();
+        return new ScoreRecord(
+            null,
+            (int) Math.min(state.getScore(), Integer.MAX_VALUE),
+            config != null ? config.getDifficulty() : null,
+            config != null && config.getGameplayType() == GameplayType.ARCADE,
+            finishedAt
+        );
+    }
+
+    private void submitScore(UserEntity user, ScoreRecord score) {
+        ScoreWriteBehindQueue queue = scoreQueue.getIfAvailable();
+        if (queue == null || user == null || score == null) {
+            return;
+        }
+        queue.submit(new ScoreRecord(user.getName(), score.getScore(), score.getDifficulty(),
+            score.isItemMode(), score.getFinishedAt()));
+    }
+
+    /**
+     * Elo 레이팅 계산
+     *
+     * @param winnerRating 승자 레이팅
+     * @param loserRating 패자 레이팅
+     * @return {승자 새 레이팅, 패자 새 레이팅}
+     */
+    static int[] eloUpdate(int winnerRating, int loserRating) {
+        double expectedWin = 1.0 / (1.0 + Math.pow(10, (loserRating - winnerRating) / 400.0));
+        int delta = (int) Math.round(K_FACTOR * (1.0 - expectedWin));
+        return new int[] {winnerRating + delta, loserRating - delta};
+    }
+}
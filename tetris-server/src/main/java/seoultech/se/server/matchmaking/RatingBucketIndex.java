@@ -0,0 +1,178 @@
+package seoultech.se.server.matchmaking;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seoultech.se.server.matchmaking.MatchmakingService.WaitingPlayer;
+
+/**
+ * 레이팅 구간별 매칭 인덱스 (게임 모드 하나 분량, 매칭 루프 스레드 전용)
+ *
+ * 구조:
+ * - 구간 번호(레이팅 / BAND_WIDTH) → 구간 대기열(참여 순서) TreeMap
+ * - 참여 순서 전체 목록 (주기적 재탐색 시 오래 기다린 플레이어부터)
+ *
+ * 탐색:
+ * - 허용 범위 [r - w, r + w]에 걸친 구간만 subMap으로 조회 - O(log B + 범위 내 구간 수)
+ * - 구간마다 앞쪽 몇 명만 확인 (구간 안에서는 오래 기다린 상대 우선)
+ * - 레이팅 차이가 가장 작은 상대를 선택, 상대의 허용 범위에도 들어가야 성사
+ *
+ * 허용 범위는 대기 시간에 따라 넓어짐 (ratingWindow)
+ * 취소/매칭된 플레이어는 탐색 중 만나거나 재탐색 시 정리 (지연 삭제)
+ */
+final class RatingBucketIndex {
+
+    /**
+     * 구간 폭 (레이팅)
+     */
+    static final int BAND_WIDTH = 50;
+
+    /**
+     * 처음 허용하는 레이팅 차이
+     */
+    static final int BASE_WINDOW = 100;
+
+    /**
+     * 허용 범위가 넓어지는 주기와 폭 (5초마다 +50)
+     */
+    static final long WIDEN_INTERVAL_MS = 5_000;
+    static final int WIDEN_STEP = 50;
+
+    /**
+     * 최대 허용 레이팅 차이 (약 3분 대기 후 도달)
+     */
+    static final int MAX_WINDOW = 1_000;
+
+    /**
+     * 구간마다 확인하는 최대 인원 (취소/매칭된 항목 제외)
+     */
+    private static final int MAX_SCAN_PER_BAND = 8;
+
+    private final TreeMap<Integer, ArrayDeque<WaitingPlayer>> bands = new TreeMap<>();
+    private ArrayDeque<WaitingPlayer> arrivals = new ArrayDeque<>();
+
+    /**
+     * 대기 시간에 따른 허용 레이팅 차이
+     *
+     * @param waitedMs 대기 시간 (밀리초)
+     * @return 허용 레이팅 차이
+     */
+    static int ratingWindow(long waitedMs) {
+        long widened = BASE_WINDOW + Math.max(0, waitedMs) / WIDEN_INTERVAL_MS * WIDEN_STEP;
+        return (int) Math.min(MAX_WINDOW, widened);
+    }
+
+    static int bandOf(int rating) {
+        return Math.floorDiv(rating, BAND_WIDTH);
+    }
+
+    void add(WaitingPlayer player) {
+        bands.computeIfAbsent(bandOf(player.getRating()), k -> new ArrayDeque<>()).addLast(player);
+        arrivals.addLast(player);
+    }
+
+    /**
+     * 플레이어 한 명의 상대 탐색
+     *
+     * @param player 탐색하는 플레이어 (인덱스에 이미 들어 있음)
+     * @param now 현재 시각 (밀리초)
+     * @return 성사된 상대 (두 플레이어 모두 MATCHED), 없으면 null
+     */
+    WaitingPlayer findOpponent(WaitingPlayer player, long now) {
+        if (!player.reserve()) {
+            return null; // 취소됨
+        }
+
+        while (true) {
+            WaitingPlayer best = findBestCandidate(player, now);
+            if (best == null) {
+                player.release();
+                return null;
+            }
+            if (best.reserve()) {
+                player.markMatched();
+                best.markMatched();
+                bands.get(bandOf(best.getRating())).remove(best);
+                return best;
+            }
+            // 탐색과 선점 사이에 취소됨 - 다시 탐색
+        }
+    }
+
+    /**
+     * 참여 순서 전체 재탐색 (허용 범위가 넓어진 플레이어 매칭)
+     * 정리된 구간 대기열과 참여 순서 목록도 함께 다시 만듦 - O(n log B)
+     *
+     * @param now 현재 시각 (밀리초)
+     * @param pairs 성사된 쌍을 담을 목록 (오래 기다린 플레이어가 앞)
+     */
+    void sweep(long now, List<WaitingPlayer[]> pairs) {
+        Iterator<Map.Entry<Integer, ArrayDeque<WaitingPlayer>>> bandIterator = bands.entrySet().iterator();
+        while (bandIterator.hasNext()) {
+            ArrayDeque<WaitingPlayer> band = bandIterator.next().getValue();
+            band.removeIf(waiting -> !waiting.isWaiting());
+            if (band.isEmpty()) {
+                bandIterator.remove();
+            }
+        }
+
+        ArrayDeque<WaitingPlayer> survivors = new ArrayDeque<>(arrivals.size());
+        for (WaitingPlayer player : arrivals) {
+            if (!player.isWaiting()) {
+                continue;
+            }
+            WaitingPlayer opponent = findOpponent(player, now);
+            if (opponent != null) {
+                pairs.add(new WaitingPlayer[] {player, opponent});
+            } else {
+                survivors.addLast(player);
+            }
+        }
+        arrivals = survivors;
+    }
+
+    /**
+     * 대기 중인 인원 (정리 전 항목 포함, 테스트/로그용)
+     */
+    int size() {
+        return arrivals.size();
+    }
+
+    private WaitingPlayer findBestCandidate(WaitingPlayer player, long now) {
+        int rating = player.getRating();
+        int window = ratingWindow(now - player.getJoinedAt());
+
+        WaitingPlayer best = null;
+        int bestDiff = Integer.MAX_VALUE;
+        for (ArrayDeque<WaitingPlayer> band
+                : bands.subMap(bandOf(rating - window), true, bandOf(rating + window), true).values()) {
+            int scanned = 0;
+            Iterator<WaitingPlayer> iterator = band.iterator();
+            while (iterator.hasNext() && scanned < MAX_SCAN_PER_BAND) {
+                WaitingPlayer candidate = iterator.next();
+                if (candidate == player) {
+                    continue;
+                }
+                if (!candidate.isWaiting()) {
+                    iterator.remove();
+                    continue;
+                }
+                scanned++;
+
+                int diff = Math.abs(candidate.getRating() - rating);
+                if (diff > window || diff > ratingWindow(now - candidate.getJoinedAt())) {
+                    continue;
+                }
+                if (diff < bestDiff
+                        || (diff == bestDiff && candidate.getJoinedAt() < best.getJoinedAt())) {
+                    best = candidate;
+                    bestDiff = diff;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,192 @@
+package seoultech.se.server.matchmaking;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.core.config.GameplayType;
+import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.server.dto.MatchFoundNotification;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.game.TargetingStrategy;
+import seoultech.se.server.websocket.WebSocketEventListener;
+
+/**
+ * 배틀로얄 로비
+ *
+ * - 모집 중인 로비는 항상 하나, 참여자는 바로 그 로비의 세션 슬롯에 들어감
+ * - 로비가 가득 차거나, 모집 제한 시간이 지났을 때 최소 인원 이상이면 출발
+ *   → 참여자 전원에게 매칭 완료 알림 (/user/queue/match-found, 1:1 매칭과 같은 형식)
+ * - 게임 시작은 1:1과 같이 클라이언트의 /api/game/start/{sessionId} 호출 (처음 호출한 시점)
+ * - 출발한 로비는 RoyaleTickService가 진행하고 다음 참여자는 새 로비로 모집
+ * - 노드당 동시에 진행하는 로비 수는 royale.max-lobbies로 제한 (초과 시 참여 거절)
+ *
+ * 레이팅은 반영하지 않음 (1:1 Elo 전용)
+ */
+@Slf4j
+@Service
+public class RoyaleLobbyService {
+
+    private final GameSessionManager gameSessionManager;
+    private final WebSocketEventListener webSocketEventListener;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int capacity;
+    private final int minPlayers;
+    private final long fillTimeoutMs;
+    private final int maxLobbies;
+
+    private final Object lock = new Object();
+
+    /**
+     * 모집 중인 로비 (없으면 null)
+     */
+    private GameSession openLobby;
+    private long openedAt;
+
+    public RoyaleLobbyService(
+            GameSessionManager gameSessionManager,
+            WebSocketEventListener webSocketEventListener,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${royale.capacity:99}") int capacity,
+            @Value("${royale.min-players:10}") int minPlayers,
+            @Value("${royale.fill-timeout-ms:60000}") long fillTimeoutMs,
+            @Value("${royale.max-lobbies:8}") int maxLobbies) {
+        this.gameSessionManager = gameSessionManager;
+        this.webSocketEventListener = webSocketEventListener;
+        this.messagingTemplate = messagingTemplate;
+        this.capacity = Math.max(2, Math.min(capacity, GameSession.MAX_ROYALE_PLAYERS));
+        this.minPlayers = Math.max(2, Math.min(minPlayers, this.capacity));
+        this.fillTimeoutMs = fillTimeoutMs;
+        this.maxLobbies = maxLobbies;
+    }
+
+    /**
+     * 로비 참여
+     *
+     * @param playerId 플레이어 ID
+     * @return 참여 결과 (진행 중인 로비가 한도에 도달했으면 REJECTED)
+     */
+    public JoinResult join(String playerId) {
+        synchronized (lock) {
+            if (openLobby == null) {
+                if (gameSessionManager.getSessionCount(SessionType.ROYALE) >= maxLobbies) {
+                    log.warn("⚠️ [RoyaleLobby] Lobby limit reached ({}), rejecting {}", maxLobbies, playerId);
+                    return JoinResult.rejected();
+                }
+                openLobby = gameSessionManager.createRoyaleSession(
+                    UUID.randomUUID().toString(), GameplayType.CLASSIC, Difficulty.NORMAL, capacity);
+                openedAt = System.currentTimeMillis();
+                log.info("🏟️ [RoyaleLobby] Lobby opened: {} (capacity {})", openLobby.getSessionId(), capacity);
+            }
+
+            GameSession lobby = openLobby;
+            boolean full = lobby.joinPlayer(playerId);
+            webSocketEventListener.registerPlayerSession(playerId, lobby.getSessionId());
+            int playerCount = lobby.getPlayerCount();
+
+            if (full) {
+                launch();
+            }
+            return new JoinResult(JoinStatus.JOINED, lobby.getSessionId(), playerCount, lobby.getCapacity());
+        }
+    }
+
+    /**
+     * 모집 중인 로비에서 나가기 (출발한 로비는 나갈 수 없음 - 게임 중 이탈은 연결 종료 처리)
+     *
+     * @return 나갔으면 true
+     */
+    public boolean leave(String playerId) {
+        synchronized (lock) {
+            if (openLobby == null || openLobby.getStateForPlayer(playerId) == null) {
+                return false;
+            }
+            String sessionId = openLobby.getSessionId();
+            gameSessionManager.removePlayerFromSession(sessionId, playerId);
+            if (gameSessionManager.getSession(sessionId) == null) {
+                openLobby = null; // 마지막 참여자가 나가 세션이 제거됨
+            }
+            log.info("👋 [RoyaleLobby] Player {} left lobby {}", playerId, sessionId);
+            return true;
+        }
+    }
+
+    /**
+     * 타게팅 전략 변경
+     *
+     * @return 변경했으면 true
+     */
+    public boolean setTargeting(String sessionId, String playerId, TargetingStrategy strategy) {
+        GameSession session = gameSessionManager.getSession(sessionId);
+        return session != null && session.setTargeting(playerId, strategy);
+    }
+
+    /**
+     * 모집 제한 시간 확인 (1초마다, 최소 인원 이상이면 출발)
+     */
+    @Scheduled(fixedRate = 1000)
+    public void checkFillTimeout() {
+        synchronized (lock) {
+            if (openLobby == null || System.currentTimeMillis() - openedAt < fillTimeoutMs) {
+                return;
+            }
+            if (openLobby.getPlayerCount() >= minPlayers) {
+                launch();
+            }
+        }
+    }
+
+    /**
+     * 로비 출발 (모집 종료 + 전원에게 매칭 완료 알림, 호출 측에서 lock을 잡고 있어야 함)
+     */
+    private void launch() {
+        GameSession lobby = openLobby;
+        openLobby = null;
+
+        long sharedTimestamp = System.currentTimeMillis();
+        int playerCount = lobby.getPlayerCount();
+        String gameplayType = lobby.getGameModeConfig() != null
+            ? lobby.getGameModeConfig().getGameplayType().name() : GameplayType.CLASSIC.name();
+        for (String playerId : lobby.getPlayerIds()) {
+            MatchFoundNotification notification = MatchFoundNotification.create(
+                lobby.getSessionId(), "Battle Royale (" + playerCount + ")", null, gameplayType, sharedTimestamp);
+            messagingTemplate.convertAndSendToUser(playerId, "/queue/match-found", notification);
+        }
+        log.info("🚀 [RoyaleLobby] Lobby launched: {} ({} players, filled in {} ms)",
+            lobby.getSessionId(), playerCount, sharedTimestamp - openedAt);
+    }
+
+    public enum JoinStatus {
+        JOINED,
+        REJECTED
+    }
+
+    /**
+     * 참여 결과
+     */
+    @Getter
+    public static class JoinResult {
+        private final JoinStatus status;
+        private final String sessionId;
+        private final int playerCount;
+        private final int capacity;
+
+        public JoinResult(JoinStatus status, String sessionId, int playerCount, int capacity) {
+            this.status = status;
+            this.sessionId = sessionId;
+            this.playerCount = playerCount;
+            this.capacity = capacity;
+        }
+
+        static JoinResult rejected() {
+            return new JoinResult(JoinStatus.REJECTED, null, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package seoultech.se.server.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.server.admin.AdminDashboardService;
+import seoultech.se.server.admin.AdminDashboardService.LatencyMetric;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.websocket.WebSocketEventListener;
+
+/**
+ * 게임 서버 핫패스 메트릭 (Micrometer)
+ *
+ * 수집 항목:
+ * - tetris.tick.duration / tetris.tick.overrun: 게임 틱 처리 시간과 틱 주기 초과 횟수
+ * - tetris.sessions{type}: 세션 타입별 개수 (스크레이프 시점에 계산)
+ * - tetris.sessions.hibernated / tetris.players.hibernated: 모든 플레이어가 휴면 중인 세션 수, 휴면 중인 플레이어 슬롯 수
+ * - tetris.input.latency: 입력 처리 시간 (GameSession 입력 적용 ~ 응답 생성)
+ * - tetris.matchmaking.queue.wait: 매칭 대기 시간
+ * - tetris.relay.packets / tetris.relay.bytes: UDP 릴레이 패킷 수와 바이트
+ * - tetris.outbound.message.size{channel}: STOMP 아웃바운드 메시지 크기
+ * - tetris.outbound.superseded / tetris.outbound.slow-consumer.closed: 느린 연결에서 교체된 상태 프레임 수, 종료한 연결 수
+ * - tetris.match.duration: 매치 시작부터 종료까지 걸린 시간
+ * - tetris.login.latency: 로그인 처리 시간
+ * - tetris.reconnect.pending: 재연결 유예 기간 중인 플레이어 수
+ *
+ * 노출:
+ * - /actuator/prometheus (management 포트, 루프백 주소에서만 접근)
+ * - 틱/매칭 대기/매치 시간/로그인은 AdminDashboardService 시계열 링에도 기록 (관리자 대시보드 백분위)
+ *
+ * 미터는 생성자에서 한 번만 등록하고 핫패스에서는 조회 없이 바로 기록함
+ */
+@Slf4j
+@Component
+public class GameServerMetrics {
+
+    private final Timer tickDuration;
+    private final Counter tickOverrun;
+    private final Timer inputLatency;
+    private final Timer queueWait;
+    private final Counter relayPackets;
+    private final Counter relayBytes;
+    private final DistributionSummary stateMessageSize;
+    private final DistributionSummary opponentMessageSize;
+    private final DistributionSummary spectateMessageSize;
+    private final DistributionSummary otherMessageSize;
+    private final Counter outboundSuperseded;
+    private final Counter slowConsumerClosed;
+    private final Timer matchDuration;
+    private final Timer loginLatency;
+    private final AdminDashboardService dashboardService;
+
+    public GameServerMetrics(MeterRegistry registry, GameSessionManager sessionManager,
+                             AdminDashboardService dashboardService,
+                             WebSocketEventListener webSocketEventListener) {
+        this.dashboardService = dashboardService;
+        this.tickDuration = Timer.builder("tetris.tick.duration")
+            .description("게임 틱 처리 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.tickOverrun = Counter.builder("tetris.tick.overrun")
+            .description("틱 처리 시간이 틱 주기를 넘긴 횟수")
+            .register(registry);
+        this.inputLatency = Timer.builder("tetris.input.latency")
+            .description("플레이어 입력 처리 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.queueWait = Timer.builder("tetris.matchmaking.queue.wait")
+            .description("매칭 대기 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.relayPackets = Counter.builder("tetris.relay.packets")
+            .description("UDP 릴레이로 전달한 패킷 수")
+            .register(registry);
+        this.relayBytes = Counter.builder("tetris.relay.bytes")
+            .description("UDP 릴레이로 전달한 바이트")
+            .baseUnit("bytes")
+            .register(registry);
+        this.stateMessageSize = messageSize(registry, "state");
+        this.opponentMessageSize = messageSize(registry, "opponent");
+        this.spectateMessageSize = messageSize(registry, "spectate");
+        this.otherMessageSize = messageSize(registry, "other");
+        this.outboundSuperseded = Counter.builder("tetris.outbound.superseded")
+            .description("전송 전에 최신 프레임으로 교체된 상태 프레임 수")
+            .register(registry);
+        this.slowConsumerClosed = Counter.builder("tetris.outbound.slow-consumer.closed")
+            .description("이벤트 차선 초과 또는 전송 지연으로 종료한 연결 수")
+            .register(registry);
+        this.matchDuration = Timer.builder("tetris.match.duration")
+            .description("매치 시작부터 종료까지 걸린 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.loginLatency = Timer.builder("tetris.login.latency")
+            .description("로그인 처리 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+
+        for (SessionType type : SessionType.values()) {
+            Gauge.builder("tetris.sessions", sessionManager, manager -> manager.getSessionCount(type))
+                .description("타입별 게임 세션 수")
+                .tag("type", type.name())
+                .register(registry);
+        }
+        Gauge.builder("tetris.sessions.hibernated", sessionManager, GameSessionManager::getHibernatedSessionCount)
+            .description("휴면 중인 게임 세션 수")
+            .register(registry);
+        Gauge.builder("tetris.players.hibernated", sessionManager, GameSessionManager::getHibernatedPlayerCount)
+            .description("휴면 중인 플레이어 슬롯 수")
+            .register(registry);
+
+        Gauge.builder("tetris.reconnect.pending", webSocketEventListener,
+                WebSocketEventListener::getPendingGraceCount)
+            .description("재연결 유예 기간 중인 플레이어 수")
+            .register(registry);
+
+        log.info("📈 [Metrics] Game server meters registered");
+    }
+
+    private static DistributionSummary messageSize(MeterRegistry registry, String channel) {
+        return DistributionSummary.builder("tetris.outbound.message.size")
+            .description("STOMP 아웃바운드 메시지 크기")
+            .baseUnit("bytes")
+            .tag("channel", channel)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * 게임 틱 처리 시간 기록
+     *
+     * @param elapsedNanos 틱 처리 시간 (나노초)
+     * @param tickIntervalMs 틱 주기 (밀리초), 초과 시 overrun 증가
+     */
+    public void recordTick(long elapsedNanos, long tickIntervalMs) {
+        tickDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        dashboardService.recordLatency(LatencyMetric.TICK_TIME, elapsedNanos);
+        if (elapsedNanos > TimeUnit.MILLISECONDS.toNanos(tickIntervalMs)) {
+            tickOverrun.increment();
+        }
+    }
+
+    /**
+     * 입력 처리 시간 기록
+     *
+     * @param elapsedNanos 처리 시간 (나노초)
+     */
+    public void recordInput(long elapsedNanos) {
+        inputLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 매칭 대기 시간 기록
+     *
+     * @param waitTime 큐 진입부터 매칭까지 걸린 시간
+     */
+    public void recordQueueWait(Duration waitTime) {
+        queueWait.record(waitTime);
+        dashboardService.recordLatency(LatencyMetric.QUEUE_WAIT, waitTime.toNanos());
+    }
+
+    /**
+     * 로그인 처리 시간 기록
+     *
+     * @param elapsedNanos 처리 시간 (나노초)
+     */
+    public void recordLogin(long elapsedNanos) {
+        loginLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        dashboardService.recordLogin(elapsedNanos);
+    }
+
+    /**
+     * 게임 오버 기록
+     * 세션당 처음 한 번만 매치 시간과 완료 게임 수를 기록
+     *
+     * @param session 게임 오버가 발생한 세션
+     * @return 이 세션의 첫 게임 오버 기록이면 true (매치 결과 반영 여부 판단용)
+     */
+    public boolean recordGameOver(GameSession session) {
+        long durationMs = session.markFinished();
+        if (durationMs < 0) {
+            return false;
+        }
+        matchDuration.record(durationMs, TimeUnit.MILLISECONDS);
+        dashboardService.recordGameCompleted(durationMs);
+        return true;
+    }
+
+    /**
+     * 느린 연결의 상태 프레임 교체 기록 (OutboundLaneSessionDecorator)
+     */
+    public void recordOutboundSuperseded() {
+        outboundSuperseded.increment();
+    }
+
+    /**
+     * 느린 연결 종료 기록 (OutboundLaneSessionDecorator)
+     */
+    public void recordSlowConsumerClosed() {
+        slowConsumerClosed.increment();
+    }
+
+    /**
+     * UDP 릴레이 패킷 기록
+     *
+     * @param bytes 패킷 크기
+     */
+    public void recordRelayPacket(int bytes) {
+        relayPackets.increment();
+        relayBytes.increment(bytes);
+    }
+
+    /**
+     * 아웃바운드 메시지 크기 기록
+     *
+     * @param destination STOMP 목적지
+     * @param bytes 페이로드 크기
+     */
+    public void recordOutboundMessage(String destination, int bytes) {
+        outboundSummary(destination).record(bytes);
+    }
+
+    private DistributionSummary outboundSummary(String destination) {
+        if (destination == null) {
+            return otherMessageSize;
+        }
+        // 사용자 목적지는 브로커에서 "/topic/game/state-user{세션}" 형태로 변환되므로 contains로 비교
+        if (destination.contains("/topic/game/state")) {
+            return stateMessageSize;
+        }
+        if (destination.contains("/topic/game/opponent")) {
+            return opponentMessageSize;
+        }
+        if (destination.startsWith("/topic/match/") || destination.startsWith("/topic/admin/match/")) {
+            return spectateMessageSize;
+        }
+        return otherMessageSize;
+    }
+}
@@ -0,0 +1,35 @@
+package seoultech.se.server.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+/**
+ * 엔드포인트 종류별 토큰 버킷 규칙
+ *
+ * - capacity: 한 번에 몰아서 보낼 수 있는 최대 요청 수 (버킷 크기)
+ * - refillPerSecond: 초당 다시 채워지는 토큰 수 (지속 가능한 요청률)
+ *
+ * TokenBucket은 GCRA 방식이라 토큰 수 대신 요청 간격(emissionInterval)과
+ * 허용 버스트 폭(burstTolerance)만 사용
+ */
+@Getter
+public class RateLimitRule {
+
+    private final String name;
+    private final int capacity;
+    private final double refillPerSecond;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    public RateLimitRule(String name, int capacity, double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("잘못된 Rate limit 규칙입니다: " + name);
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.emissionIntervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+}
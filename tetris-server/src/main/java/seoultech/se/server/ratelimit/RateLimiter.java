@@ -0,0 +1,116 @@
+package seoultech.se.server.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 엔드포인트 종류별 토큰 버킷 Rate limiter (REST + STOMP 공용)
+ *
+ * 규칙 (rate-limit.rules.*):
+ * - auth: 로그인/회원가입/재발급 (/tetris/users/**) - 무차별 대입 방지
+ * - matchmaking: 매칭 API (/api/matchmaking/**) - 기존 max-requests-per-minute 설정 유지
+ * - api: 그 외 REST API (/api/**)
+ * - game-input: STOMP 게임 입력 (/app/game/input, /app/game/input/batch)
+ * - stomp: 그 외 STOMP 발행 (/app/**)
+ *
+ * 구조:
+ * - 버킷 키: "규칙:클라이언트" (REST는 IP, STOMP는 사용자 또는 WebSocket 세션)
+ * - 버킷은 락 없는 GCRA (TokenBucket), 버킷 맵은 ConcurrentHashMap
+ * - 가득 찬(유휴) 버킷은 주기적으로 제거 - 제거해도 새 버킷과 동작이 같아 정확도 손실 없음
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public static final String RULE_AUTH = "auth";
+    public static final String RULE_MATCHMAKING = "matchmaking";
+    public static final String RULE_API = "api";
+    public static final String RULE_GAME_INPUT = "game-input";
+    public static final String RULE_STOMP = "stomp";
+
+    private final Map<String, RateLimitRule> rules;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(
+            @Value("${rate-limit.rules.auth.capacity:10}") int authCapacity,
+            @Value("${rate-limit.rules.auth.per-second:1}") double authPerSecond,
+            @Value("${rate-limit.max-requests-per-minute:60}") int matchmakingPerMinute,
+            @Value("${rate-limit.rules.api.capacity:120}") int apiCapacity,
+            @Value("${rate-limit.rules.api.per-second:10}") double apiPerSecond,
+            @Value("${rate-limit.rules.game-input.capacity:120}") int inputCapacity,
+            @Value("${rate-limit.rules.game-input.per-second:60}") double inputPerSecond,
+            @Value("${rate-limit.rules.stomp.capacity:30}") int stompCapacity,
+            @Value("${rate-limit.rules.stomp.per-second:10}") double stompPerSecond) {
+        this.rules = Map.of(
+            RULE_AUTH, new RateLimitRule(RULE_AUTH, authCapacity, authPerSecond),
+            RULE_MATCHMAKING, new RateLimitRule(RULE_MATCHMAKING, matchmakingPerMinute, matchmakingPerMinute / 60.0),
+            RULE_API, new RateLimitRule(RULE_API, apiCapacity, apiPerSecond),
+            RULE_GAME_INPUT, new RateLimitRule(RULE_GAME_INPUT, inputCapacity, inputPerSecond),
+            RULE_STOMP, new RateLimitRule(RULE_STOMP, stompCapacity, stompPerSecond)
+        );
+    }
+
+    /**
+     * 요청 허용 여부 확인 (허용 시 토큰 하나 사용)
+     *
+     * @param ruleName 규칙 이름 (RULE_*)
+     * @param clientKey 클라이언트 식별자
+     * @return 허용 여부
+     */
+    public boolean tryAcquire(String ruleName, String clientKey) {
+        RateLimitRule rule = getRule(ruleName);
+        long now = System.nanoTime();
+        return bucket(ruleName, clientKey, now).tryAcquire(rule, now);
+    }
+
+    /**
+     * 다음 요청이 허용되기까지 남은 시간 (429 응답의 retryAfter용)
+     *
+     * @return 밀리초
+     */
+    public long retryAfterMillis(String ruleName, String clientKey) {
+        TokenBucket bucket = buckets.get(ruleName + ":" + clientKey);
+        if (bucket == null) {
+            return 0;
+        }
+        return bucket.retryAfterNanos(getRule(ruleName), System.nanoTime()) / 1_000_000;
+    }
+
+    public RateLimitRule getRule(String ruleName) {
+        RateLimitRule rule = rules.get(ruleName);
+        if (rule == null) {
+            throw new IllegalArgumentException("알 수 없는 Rate limit 규칙입니다: " + ruleName);
+        }
+        return rule;
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 유휴 버킷 정리 (가득 찬 버킷은 새 버킷과 같으므로 제거)
+     */
+    @Scheduled(fixedRateString = "${rate-limit.idle-eviction-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        log.debug("🧹 [RateLimit] Evicted {} idle buckets. Active: {}", before - buckets.size(), buckets.size());
+    }
+
+    private TokenBucket bucket(String ruleName, String clientKey, long now) {
+        String key = ruleName + ":" + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now));
+        }
+        return bucket;
+    }
+}
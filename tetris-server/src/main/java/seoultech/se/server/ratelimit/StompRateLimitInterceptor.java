@@ -0,0 +1,61 @@
+package seoultech.se.server.ratelimit;
+
+import java.security.Principal;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * STOMP 인바운드 Rate limit (클라이언트 → /app/**)
+ *
+ * - 게임 입력(/app/game/input, /app/game/input/batch)은 game-input 규칙, 그 외 발행은 stomp 규칙
+ * - 버킷 키: 인증된 사용자 (없으면 WebSocket 세션 ID)
+ * - 한도를 넘은 메시지는 컨트롤러에 도달하기 전에 버림 (null 반환)
+ *   → 입력을 쏟아붓는 클라이언트가 GameSession 락을 점유할 수 없음
+ *   → 버려진 입력은 다음 상태 메시지의 lastProcessedSequence로 클라이언트가 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message; // CONNECT/SUBSCRIBE/하트비트 등은 제한하지 않음
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !destination.startsWith("/app/")) {
+            return message;
+        }
+
+        String ruleName = destination.startsWith("/app/game/input")
+            ? RateLimiter.RULE_GAME_INPUT
+            : RateLimiter.RULE_STOMP;
+        String clientKey = resolveClientKey(message);
+
+        if (rateLimiter.tryAcquire(ruleName, clientKey)) {
+            return message;
+        }
+
+        log.debug("⚠️ [RateLimit] Dropped STOMP message to {} from {} (rule: {})", destination, clientKey, ruleName);
+        return null;
+    }
+
+    private static String resolveClientKey(Message<?> message) {
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (user != null) {
+            return user.getName();
+        }
+        return "session:" + SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    }
+}
@@ -0,0 +1,59 @@
+package seoultech.se.server.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA - Generic Cell Rate Algorithm)
+ *
+ * 남은 토큰 수 대신 "다음 요청이 정상 간격으로 도착할 이론상 시각(TAT)" 하나만 AtomicLong으로 보관
+ * - 요청 허용 조건: max(TAT, now) - now <= burstTolerance (버킷에 토큰이 남아 있음과 동일)
+ * - 허용 시: TAT = max(TAT, now) + emissionInterval (CAS 한 번)
+ * - TAT <= now 이면 버킷이 가득 찬 상태 → 지워도 새 버킷과 구별되지 않음 (유휴 버킷 정리 기준)
+ *
+ * 같은 키로 요청이 몰려도 CAS 재시도만 있을 뿐 블로킹이 없음
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @param rule 적용 규칙
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 허용 여부
+     */
+    boolean tryAcquire(RateLimitRule rule, long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = Math.max(tat, nowNanos);
+            if (base - nowNanos > rule.getBurstToleranceNanos()) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + rule.getEmissionIntervalNanos())) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다음 요청이 허용되기까지 남은 시간
+     *
+     * @return 나노초 (지금 허용 가능하면 0)
+     */
+    long retryAfterNanos(RateLimitRule rule, long nowNanos) {
+        long wait = theoreticalArrival.get() - nowNanos - rule.getBurstToleranceNanos();
+        return Math.max(0, wait);
+    }
+
+    /**
+     * 버킷이 가득 찬 상태인지 (정리해도 동작이 바뀌지 않음)
+     */
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -4,14 +4,17 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import seoultech.se.backend.mapper.GameStateMapper;
 import seoultech.se.core.dto.ServerStateDto;
+import seoultech.se.server.checkpoint.SessionCheckpointService;
 import seoultech.se.server.game.GameSession;
 import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.matchlog.MatchRecorder;
+import seoultech.se.server.matchmaking.PlayerRatingService;
+import seoultech.se.server.metrics.GameServerMetrics;
 
 /**
  * 멀티플레이 게임 틱 서비스
@@ -25,7 +28,10 @@ import seoultech.se.server.game.GameSessionManager;
  * 1. @Scheduled로 50ms마다 틱 메서드 실행
  * 2. GameSessionManager에서 모든 MULTI 세션 조회
  * 3. 각 세션의 모든 플레이어에 대해 applyGravity() 호출
- * 4. 상태가 변경된 경우 WebSocket으로 클라이언트에 브로드캐스트
+ * 4. 상태가 변경된 경우 StateBroadcastService 버퍼에 추가
+ * 5. 틱 종료 시 버퍼를 flush하여 플레이어당 한 번만 전송
+ * 6. 진행된 세션은 주기적으로(또는 레벨업 시) 체크포인트 기록
+ * 7. 이번 틱에 쌓인 매치 로그 레코드를 세그먼트로 한 번에 내보냄
  *
  * 설계 특징:
  * - 각 플레이어는 독립적인 틱 타이머 보유 (lastTickTime)
@@ -36,21 +42,41 @@ import seoultech.se.server.game.GameSessionManager;
 public class GameTickService {
 
     private final GameSessionManager sessionManager;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final StateBroadcastService broadcastService;
     private final GameStateMapper gameStateMapper;
+    private final GameServerMetrics metrics;
+    private final PlayerRatingService ratingService;
+    private final SessionCheckpointService checkpointService;
+    private final MatchRecorder matchRecorder;
+
+    /**
+     * 틱 주기 (밀리초), 틱 처리 시간이 이 값을 넘으면 overrun으로 기록
+     */
+    static final long TICK_INTERVAL_MS = 100;
 
     /**
      * 생성자
      *
      * @param sessionManager 게임 세션 관리자
-     * @param messagingTemplate WebSocket 메시지 전송 템플릿
+     * @param broadcastService 플레이어별 메시지 병합 전송 서비스
      * @param gameStateMapper GameState를 GameStateDto로 변환하는 매퍼
+     * @param metrics 틱 처리 시간 메트릭
+     * @param ratingService 매치 결과 레이팅 반영
+     * @param checkpointService 세션 체크포인트 기록
+     * @param matchRecorder 매치 로그 (틱마다 배치 기록)
      */
     @Autowired
-    public GameTickService(GameSessionManager sessionManager, SimpMessagingTemplate messagingTemplate, GameStateMapper gameStateMapper) {
+    public GameTickService(GameSessionManager sessionManager, StateBroadcastService broadcastService,
+                           GameStateMapper gameStateMapper, GameServerMetrics metrics,
+                           PlayerRatingService ratingService, SessionCheckpointService checkpointService,
+                           MatchRecorder matchRecorder) {
         this.sessionManager = sessionManager;
-        this.messagingTemplate = messagingTemplate;
+        this.broadcastService = broadcastService;
         this.gameStateMapper = gameStateMapper;
+        this.metrics = metrics;
+        this.ratingService = ratingService;
+        this.checkpointService = checkpointService;
+        this.matchRecorder = matchRecorder;
         System.out.println("✅ [GameTickService] Created - Server game loop enabled for multiplayer");
     }
 
@@ -66,8 +92,9 @@ public class GameTickService {
      * 
      * 부하 감소를 위해 50ms -> 100ms로 변경 (10 TPS)
      */
-    @Scheduled(fixedRate = 100) // 100ms = 10 ticks/sec
+    @Scheduled(fixedRate = TICK_INTERVAL_MS) // 100ms = 10 ticks/sec
     public void tick() {
+        long startNanos = System.nanoTime();
         long currentTime = System.currentTimeMillis();
         tickCount++;
         boolean shouldLog = (tickCount % LOG_INTERVAL == 0);
@@ -76,6 +103,7 @@ public class GameTickService {
         Map<String, GameSession> multiSessions = sessionManager.getMultiplayerSessions();
 
         if (multiSessions.isEmpty()) {
+            matchRecorder.flush(); // 마지막 세션이 틱 사이에 끝났을 때 남은 레코드
             return; // 멀티플레이 세션이 없으면 스킵
         }
 
@@ -114,49 +142,39 @@ public class GameTickService {
                     // 자동 중력 적용
                     ServerStateDto stateUpdate = session.applyGravity(playerId, currentTime, gameStateMapper);
 
-                    // 상태가 변경된 경우에만 브로드캐스트
+                    // 상태가 변경된 경우에만 브로드캐스트 버퍼에 추가
                     if (stateUpdate != null) {
-                        // 1. 해당 플레이어(Active)에게 업데이트 전송 (통합된 토픽 사용)
-                        messagingTemplate.convertAndSendToUser(
-                            playerId,
-                            "/topic/game/state",
-                            stateUpdate
-                        );
+                        if (stateUpdate.isGameOver() && metrics.recordGameOver(session)) {
+                            ratingService.recordLoss(session, playerId);
+                        }
+
+                        // 1. 해당 플레이어(Active)에게 업데이트 (틱 종료 시 병합 전송)
+                        broadcastService.enqueue(playerId, stateUpdate);
 
                         if (shouldLog) {
                             System.out.println("⏬ [GameTickService] Gravity update sent: Session=" + sessionId +
                                 ", Player=" + playerId);
                         }
 
-                        // 2. 상대방(Passive)에게도 업데이트 전송 (부드러운 움직임을 위해)
-                        String opponentId = playerIds.stream()
-                            .filter(id -> !id.equals(playerId))
-                            .findFirst()
-                            .orElse(null);
-
-                        if (opponentId != null) {
-                            // Opponent 기준 DTO 생성 (GameStateDto Swap)
-                            ServerStateDto opponentUpdate = ServerStateDto.builder()
-                                .lastProcessedSequence(0)
-                                .myGameState(stateUpdate.getOpponentGameState()) // 상대 입장에서의 나 = 원래 상대
-                                .opponentGameState(stateUpdate.getMyGameState()) // 상대 입장에서의 상대 = 원래 나 (움직인 사람)
-                                .events(new java.util.ArrayList<>()) // 이벤트는 공유하지 않음 (상대방에게는 별도 이벤트 없음)
-                                .attackLinesReceived(0)
-                                .gameOver(stateUpdate.isGameOver()) // 게임 오버 상태도 전달
-                                .build();
-
-                            messagingTemplate.convertAndSendToUser(
-                                opponentId,
-                                "/topic/game/state",
-                                opponentUpdate
-                            );
-                        }
+                        // 2. 상대방(Passive)에게는 상대방 보드 채널로 전달 (낮은 주기, 변경 시에만)
+                        broadcastService.relayToOpponent(session, playerId, stateUpdate, gameStateMapper);
                     }
                 } catch (Exception e) {
                     System.err.println("❌ [GameTickService] Error applying gravity for player " + playerId + ": " + e.getMessage());
                     e.printStackTrace();
                 }
             }
+
+            // 체크포인트 (N틱마다 또는 레벨업 직후, 매핑된 메모리에 기록만 하므로 디스크 대기 없음)
+            checkpointService.onTick(session, tickCount);
         }
+
+        // 3. 이번 틱에서 생성된 메시지를 플레이어당 한 번만 전송
+        broadcastService.flush();
+
+        // 4. 이번 틱의 입력/중력 레코드를 매치 로그 세그먼트에 한 번에 기록
+        matchRecorder.flush();
+
+        metrics.recordTick(System.nanoTime() - startNanos, TICK_INTERVAL_MS);
     }
 }
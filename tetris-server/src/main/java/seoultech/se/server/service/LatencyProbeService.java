@@ -0,0 +1,115 @@
+package seoultech.se.server.service;
+
+import java.util.Map;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.core.dto.LatencyPingDto;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.LatencyTracker;
+
+/**
+ * 게임 WebSocket 지연 측정 서비스 (핑/에코)
+ *
+ * 동작:
+ * 1. 주기적으로 진행 중인 멀티플레이 세션의 온라인 플레이어에게 핑 전송 (/user/topic/game/ping)
+ * 2. 클라이언트가 /app/game/pong으로 그대로 돌려보냄
+ * 3. GameSession의 LatencyTracker가 RTT, 지터, 손실률을 갱신
+ *
+ * 측정값은 관리자 대시보드(/api/admin/sessions/latency)로 조회하고,
+ * 권장 입력 지연은 다음 핑에 실어 클라이언트가 입력 버퍼를 조정할 수 있게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LatencyProbeService {
+
+    /**
+     * 핑 토픽 (사용자 전용)
+     */
+    public static final String PING_DESTINATION = "/topic/game/ping";
+
+    /**
+     * 경고 로그 기준 RTT (밀리초)
+     */
+    private static final int HIGH_RTT_WARN_MS = 250;
+
+    /**
+     * 경고 로그 간격 (핑 N개마다 한 번)
+     */
+    private static final int WARN_EVERY_PINGS = 10;
+
+    private final GameSessionManager sessionManager;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 진행 중인 세션의 온라인 플레이어에게 핑 전송
+     */
+    @Scheduled(fixedRateString = "${game.latency.ping-interval-ms:1000}")
+    public void sendPings() {
+        Map<String, GameSession> sessions = sessionManager.getMultiplayerSessions();
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (GameSession session : sessions.values()) {
+            if (!session.isGameStarted()) {
+                continue;
+            }
+            for (String playerId : session.getPlayerIds()) {
+                LatencyTracker tracker = session.getLatencyTracker(playerId);
+                if (tracker == null || !session.isPlayerOnline(playerId)) {
+                    continue;
+                }
+                LatencyPingDto ping = LatencyPingDto.builder()
+                    .sessionId(session.getSessionId())
+                    .pingId(tracker.nextPing(now))
+                    .serverTime(now)
+                    .rttMs(tracker.getRttMs())
+                    .recommendedInputDelayMs(tracker.getRecommendedInputDelayMs())
+                    .build();
+                try {
+                    messagingTemplate.convertAndSendToUser(playerId, PING_DESTINATION, ping);
+                } catch (Exception e) {
+                    log.error("❌ [Latency] Failed to send ping to {}: {}", playerId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 클라이언트 에코 처리
+     *
+     * @param playerId 에코를 보낸 플레이어 ID
+     * @param pong 돌아온 핑
+     */
+    public void handlePong(String playerId, LatencyPingDto pong) {
+        if (pong == null || pong.getSessionId() == null) {
+            return;
+        }
+        GameSession session = sessionManager.getSession(pong.getSessionId());
+        if (session == null) {
+            return;
+        }
+        LatencyTracker tracker = session.getLatencyTracker(playerId);
+        if (tracker == null) {
+            return;
+        }
+
+        if (tracker.onPong(pong.getPingId(), pong.getClientTime(), System.currentTimeMillis())
+                && pong.getPingId() % WARN_EVERY_PINGS == 0) {
+            int rtt = tracker.getRttMs();
+            if (rtt >= HIGH_RTT_WARN_MS) {
+                log.warn("🐢 [Latency] High RTT: player={}, session={}, rtt={}ms, jitter={}ms, loss={}",
+                    playerId, session.getSessionId(), rtt, tracker.getJitterMs(),
+                    String.format("%.2f", tracker.getLossRate()));
+            }
+        }
+    }
+}
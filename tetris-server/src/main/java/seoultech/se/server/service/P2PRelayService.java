@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import seoultech.se.server.dto.RelayPacketDto;
 import seoultech.se.server.dto.RelaySessionDto;
+import seoultech.se.server.metrics.GameServerMetrics;
 
 import java.io.IOException;
 import java.net.DatagramPacket;
@@ -45,6 +46,7 @@ public class P2PRelayService {
     private Thread receiverThread;
     
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GameServerMetrics metrics;
     private final Map<String, RelaySessionDto> sessions = new ConcurrentHashMap<>();
     
     @PostConstruct
@@ -255,6 +257,7 @@ public class P2PRelayService {
                 opponentAddress
             );
             socket.send(packet);
+            metrics.recordRelayPacket(data.length);
             
             log.info("📤 [Relay] Relayed {} bytes: {} → {} (payload preview: {}...)", 
                 data.length, senderId, opponentAddress, 
@@ -0,0 +1,170 @@
+package seoultech.se.server.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.backend.mapper.GameStateMapper;
+import seoultech.se.core.dto.ServerStateDto;
+import seoultech.se.server.dto.RoyaleSummaryDto;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.metrics.GameServerMetrics;
+
+/**
+ * 배틀로얄 게임 틱 서비스
+ *
+ * 작동 원리:
+ * 1. 100ms마다 ROYALE 세션 목록을 조회해 로비 하나를 작업 하나로 워커 풀에 제출 (스케줄러 스레드는 기다리지 않음)
+ * 2. 워커가 로비의 모든 플레이어에 자동 중력 적용, 각자 자기 상태만 StateBroadcastService 버퍼에 추가
+ *    (버퍼는 broadcast flush 주기마다 플레이어당 한 번 전송)
+ * 3. N틱마다 로비 요약(열 높이, 배지, 대상, 순위)을 /topic/royale/{sessionId}로 한 번 전송
+ *    - 구독자 수와 무관하게 직렬화는 로비당 한 번
+ * 4. 승자가 정해지면 최종 요약을 보내고 세션 제거 (로비 수 한도 반환)
+ *
+ * 코어 확장:
+ * - 워커 수 기본값은 CPU 코어 수, 로비끼리는 락을 공유하지 않으므로 로비 수만큼 병렬 처리
+ * - 이전 틱 작업이 아직 끝나지 않은 로비는 이번 틱을 건너뜀 (작업이 쌓이지 않음)
+ *
+ * 1:1 세션은 기존 GameTickService가 처리 (체크포인트, 매치 로그, 레이팅 포함)
+ */
+@Slf4j
+@Service
+public class RoyaleTickService {
+
+    /**
+     * 요약 토픽 접두사 (뒤에 세션 ID)
+     */
+    public static final String SUMMARY_DESTINATION_PREFIX = "/topic/royale/";
+
+    private final GameSessionManager sessionManager;
+    private final StateBroadcastService broadcastService;
+    private final GameStateMapper gameStateMapper;
+    private final GameServerMetrics metrics;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int workerThreads;
+    private final long summaryIntervalTicks;
+
+    /**
+     * 틱 작업이 진행 중인 로비 (중복 제출 방지)
+     */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workers;
+    private long tickCount = 0;
+
+    public RoyaleTickService(
+            GameSessionManager sessionManager,
+            StateBroadcastService broadcastService,
+            GameStateMapper gameStateMapper,
+            GameServerMetrics metrics,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${royale.tick-threads:0}") int workerThreads,
+            @Value("${royale.summary-interval-ticks:5}") long summaryIntervalTicks) {
+        this.sessionManager = sessionManager;
+        this.broadcastService = broadcastService;
+        this.gameStateMapper = gameStateMapper;
+        this.metrics = metrics;
+        this.messagingTemplate = messagingTemplate;
+        this.workerThreads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        this.summaryIntervalTicks = Math.max(1, summaryIntervalTicks);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger counter = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "Royale-Tick-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("✅ [RoyaleTick] Started ({} worker threads, summary every {} ticks)", workerThreads, summaryIntervalTicks);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 배틀로얄 틱 (GameTickService와 같은 주기)
+     */
+    @Scheduled(fixedRate = GameTickService.TICK_INTERVAL_MS)
+    public void tick() {
+        List<GameSession> lobbies = sessionManager.getSessions(SessionType.ROYALE);
+        if (lobbies.isEmpty()) {
+            return;
+        }
+
+        long currentTime = System.currentTimeMillis();
+        boolean sendSummary = (++tickCount % summaryIntervalTicks == 0);
+
+        for (GameSession session : lobbies) {
+            if (!session.isGameStarted() || !session.hasActivePlayers()) {
+                continue;
+            }
+            String sessionId = session.getSessionId();
+            if (!inFlight.add(sessionId)) {
+                continue; // 이전 틱이 아직 진행 중
+            }
+            try {
+                workers.execute(() -> {
+                    try {
+                        tickLobby(session, currentTime, sendSummary);
+                    } finally {
+                        inFlight.remove(sessionId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(sessionId); // 종료 중
+            }
+        }
+    }
+
+    /**
+     * 로비 하나 처리 (워커 스레드)
+     */
+    private void tickLobby(GameSession session, long currentTime, boolean sendSummary) {
+        for (String playerId : session.getPlayerIds()) {
+            try {
+                ServerStateDto stateUpdate = session.applyGravity(playerId, currentTime, gameStateMapper);
+                if (stateUpdate == null) {
+                    continue;
+                }
+                if (stateUpdate.isGameOver()) {
+                    metrics.recordGameOver(session); // 승자가 정해진 마지막 탈락에서만 기록됨
+                }
+                broadcastService.enqueue(playerId, stateUpdate);
+            } catch (Exception e) {
+                log.error("❌ [RoyaleTick] Error applying gravity for player {} in {}: {}",
+                    playerId, session.getSessionId(), e.getMessage(), e);
+            }
+        }
+
+        // 승자가 정해지면 최종 요약(순위 포함)을 보내고 로비 정리
+        boolean decided = session.isRoyaleDecided();
+        if (sendSummary || decided) {
+            RoyaleSummaryDto summary = session.getRoyaleSummary();
+            if (summary != null) {
+                messagingTemplate.convertAndSend(SUMMARY_DESTINATION_PREFIX + session.getSessionId(), summary);
+            }
+        }
+        if (decided) {
+            sessionManager.removeSession(session.getSessionId());
+            log.info("🏆 [RoyaleTick] Royale finished: {}", session.getSessionId());
+        }
+    }
+}
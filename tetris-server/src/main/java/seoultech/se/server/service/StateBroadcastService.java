@@ -0,0 +1,437 @@
+package seoultech.se.server.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.backend.mapper.GameStateMapper;
+import seoultech.se.core.dto.GameStateDto;
+import seoultech.se.core.dto.PlayerStateFrameDto;
+import seoultech.se.core.dto.ServerStateDto;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.PlayerStateView;
+import seoultech.se.server.game.SessionRemovedEvent;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.spectate.SpectatorRegistry;
+import seoultech.se.server.websocket.OutboundLaneSessionDecorator;
+
+/**
+ * 플레이어별 아웃바운드 상태 메시지 병합(Coalescing) 서비스
+ *
+ * 문제:
+ * - 한 틱 동안 한 플레이어에게 여러 메시지가 전송됨
+ *   (GameTickService 중력 업데이트, 입력 에코, 상대방 업데이트, 공격 라인 처리 등)
+ * - 브로커 프레임 수 증가 + 클라이언트가 중간 상태를 렌더링
+ *
+ * 해결:
+ * - 플레이어별 대기 버퍼에 ServerStateDto를 누적 (최신 상태만 유지)
+ * - 이벤트/공격 라인/게임 오버는 누적 병합
+ * - 틱 종료 시점 또는 flush 주기마다 플레이어당 한 번만 전송
+ *
+ * 병합 규칙:
+ * - myGameState / opponentGameState: 가장 최근 값 (null이면 이전 값 유지)
+ * - lastProcessedSequence: 최대값
+ * - events: 순서대로 이어붙임
+ * - attackLinesReceived: 합산
+ * - gameOver: OR
+ *
+ * 상대방 보드 채널 (/topic/game/opponent):
+ * - 자신의 상태는 저지연 경로(STATE_DESTINATION)로 유지
+ * - 상대방 보드는 별도 채널로 더 낮은 주기(game.broadcast.opponent-interval-ms)로 전송
+ * - 보드 해시가 마지막 전송 값과 같으면 전송 생략
+ *
+ * 직렬화 1회 팬아웃:
+ * - 보드 프레임은 보드 주인 기준으로 한 번만 JSON 바이트로 인코딩
+ * - 같은 바이트 배열을 상대방, 관전자(/topic/match/{sessionId}/spectate),
+ *   관리자 뷰어(/topic/admin/match/{sessionId})에게 그대로 전송
+ * - 관전자가 수백 명이어도 인코딩 비용은 1:1 매치와 같음
+ *
+ * 채널 수명:
+ * - 채널은 보드 주인당 하나이며 만든 세션에 묶임
+ * - 같은 플레이어가 다른 세션(재대결 등)에서 게시하면 새 채널로 교체 (이전 세션 토픽, 버전, 해시를 이어받지 않음)
+ * - 세션이 제거되면(SessionRemovedEvent) 그 세션의 채널을 바로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StateBroadcastService {
+
+    /**
+     * 통합 게임 상태 토픽 (입력 응답 + 서버 중력)
+     */
+    public static final String STATE_DESTINATION = "/topic/game/state";
+
+    /**
+     * 상대방 보드 토픽 (낮은 주기, 변경 시에만)
+     */
+    public static final String OPPONENT_DESTINATION = "/topic/game/opponent";
+
+    /**
+     * 갱신이 없는 상대방 채널 정리 기준 (밀리초)
+     */
+    private static final long OPPONENT_CHANNEL_IDLE_MS = 60_000;
+
+    /**
+     * 이벤트 차선 STOMP 헤더 (OutboundLaneSessionDecorator가 건너뛰지 않고 우선 전송)
+     */
+    private static final Map<String, Object> EVENT_LANE_HEADERS =
+        Map.of(OutboundLaneSessionDecorator.LANE_HEADER, OutboundLaneSessionDecorator.LANE_EVENT);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SpectatorRegistry spectatorRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 플레이어 ID → 전송 대기 중인 병합 메시지
+     */
+    private final Map<String, ServerStateDto> pendingStates = new ConcurrentHashMap<>();
+
+    /**
+     * 보드 주인 플레이어 ID → 보드 채널 (최신 프레임 + 수신자 + 마지막 인코딩 결과, 현재 세션 것만 유지)
+     */
+    private final Map<String, BoardChannel> boardChannels = new ConcurrentHashMap<>();
+
+    /**
+     * 상태 업데이트를 플레이어 버퍼에 추가 (즉시 전송하지 않음)
+     *
+     * @param playerId 수신 플레이어 ID
+     * @param update 상태 업데이트
+     */
+    public void enqueue(String playerId, ServerStateDto update) {
+        if (playerId == null || update == null) {
+            return;
+        }
+        pendingStates.merge(playerId, copyOf(update), StateBroadcastService::merge);
+    }
+
+    /**
+     * 대기 중인 모든 메시지를 플레이어당 한 번씩 전송
+     *
+     * GameTickService가 틱 종료 시 직접 호출하며,
+     * 틱 사이에 들어온 입력 에코는 flush 주기마다 전송됨
+     */
+    @Scheduled(fixedRateString = "${game.broadcast.flush-interval-ms:16}")
+    public void flush() {
+        if (pendingStates.isEmpty()) {
+            return;
+        }
+
+        for (String playerId : pendingStates.keySet()) {
+            // remove로 꺼내므로 동시에 flush가 호출되어도 같은 메시지가 두 번 전송되지 않음
+            ServerStateDto merged = pendingStates.remove(playerId);
+            if (merged == null) {
+                continue;
+            }
+            merged.setServerTime(System.currentTimeMillis());
+            try {
+                if (isEventFrame(merged)) {
+                    // 느린 연결에서도 건너뛰면 안 되는 프레임 → 이벤트 차선
+                    messagingTemplate.convertAndSendToUser(playerId, STATE_DESTINATION, merged, EVENT_LANE_HEADERS);
+                } else {
+                    messagingTemplate.convertAndSendToUser(playerId, STATE_DESTINATION, merged);
+                }
+            } catch (Exception e) {
+                log.error("❌ [StateBroadcast] Failed to send state to {}: {}", playerId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이벤트 차선 대상 여부 (게임 오버, 공격 수신, 라인 클리어 등 이벤트 포함)
+     *
+     * 그 외 상태 프레임은 다음 프레임이 같은 내용을 최신 값으로 덮으므로 느린 연결에서 건너뛰어도 됨
+     */
+    private static boolean isEventFrame(ServerStateDto state) {
+        return state.isGameOver()
+            || state.getAttackLinesReceived() > 0
+            || (state.getEvents() != null && !state.getEvents().isEmpty());
+    }
+
+    /**
+     * 보드 상태 게시 (최신 값만 유지, 즉시 전송하지 않음)
+     *
+     * 보드 주인 기준으로 한 채널만 유지하므로 수신자(상대방, 관전자, 관리자)가
+     * 몇 명이든 직렬화는 한 번만 일어남
+     *
+     * @param sessionId 게임 세션 ID
+     * @param ownerId 보드 주인 플레이어 ID
+     * @param recipientIds 보드를 볼 플레이어 ID 목록 (상대방)
+     * @param view 보드 주인의 상태 뷰 (버전 + DTO)
+     */
+    public void publishBoard(String sessionId, String ownerId, List<String> recipientIds, PlayerStateView view) {
+        if (ownerId == null || view == null) {
+            return;
+        }
+        // 다른 세션의 채널이 남아 있으면 교체 (재대결 시 이전 세션 토픽/버전으로 보내지 않도록)
+        BoardChannel channel = boardChannels.compute(ownerId, (k, existing) ->
+            existing != null && existing.sessionId.equals(sessionId) ? existing : new BoardChannel(sessionId));
+        channel.recipientIds = recipientIds != null ? List.copyOf(recipientIds) : List.of();
+        channel.pending.set(PlayerStateFrameDto.builder()
+            .sessionId(sessionId)
+            .playerId(ownerId)
+            .stateVersion(view.getVersion())
+            .state(view.getDto())
+            .build());
+        channel.lastPublishedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 제거된 세션의 보드 채널 정리 (유휴 정리를 기다리지 않음)
+     */
+    @EventListener
+    public void handleSessionRemoved(SessionRemovedEvent event) {
+        String sessionId = event.getSessionId();
+        if (boardChannels.values().removeIf(channel -> channel.sessionId.equals(sessionId))) {
+            log.debug("🗑️ [StateBroadcast] Board channels dropped for session {}", sessionId);
+        }
+    }
+
+    /**
+     * 보드 채널 수 (모니터링/테스트용)
+     */
+    public int getBoardChannelCount() {
+        return boardChannels.size();
+    }
+
+    /**
+     * 행동한 플레이어의 업데이트를 상대방에게 전달
+     *
+     * - 행동한 플레이어의 상태는 보드 채널로 게시 (상대방 + 관전자 + 관리자)
+     * - 게임 오버는 상대방의 자기 상태 채널로 즉시 전달 (승패 처리용)
+     * - 배틀로얄 세션은 전달하지 않음 (다른 플레이어는 RoyaleTickService의 요약 토픽으로 봄)
+     *
+     * @param session 게임 세션
+     * @param actorId 행동한 플레이어 ID
+     * @param actorUpdate 행동한 플레이어 기준 업데이트
+     * @param gameStateMapper GameState를 GameStateDto로 변환하는 매퍼
+     */
+    public void relayToOpponent(GameSession session, String actorId, ServerStateDto actorUpdate, GameStateMapper gameStateMapper) {
+        if (session.getSessionType() == SessionType.ROYALE) {
+            return;
+        }
+        String opponentId = session.getOpponentId(actorId);
+        List<String> recipients = opponentId != null ? List.of(opponentId) : List.of();
+
+        // 방금 매핑된 DTO가 버전 캐시에 있으므로 다시 매핑하지 않음
+        publishBoard(session.getSessionId(), actorId, recipients, session.getStateView(actorId, gameStateMapper));
+
+        if (opponentId != null && actorUpdate.isGameOver()) {
+            PlayerStateView opponentView = session.getStateView(opponentId, gameStateMapper);
+            enqueue(opponentId, ServerStateDto.builder()
+                .lastProcessedSequence(0) // Opponent는 이 입력을 보낸게 아니므로 시퀀스 무관
+                .myGameState(opponentView != null ? opponentView.getDto() : null)
+                .events(new ArrayList<>()) // 이벤트는 공유하지 않음
+                .attackLinesReceived(0)
+                .gameOver(true)
+                .build());
+        }
+    }
+
+    /**
+     * 보드 팬아웃 전송 (낮은 주기)
+     *
+     * - 채널당 마지막 프레임 하나만 전송 (중간 상태 생략)
+     * - 보드 해시가 마지막 전송 값과 같으면 생략
+     * - 프레임은 한 번만 JSON 바이트로 인코딩하고 모든 구독자에게 같은 바이트 배열을 전송
+     * - 새 관전자가 들어온 매치는 마지막 인코딩 결과를 관전 토픽에 다시 전송
+     */
+    @Scheduled(fixedRateString = "${game.broadcast.opponent-interval-ms:200}")
+    public void flushOpponentViews() {
+        if (boardChannels.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> resendSessions = new HashSet<>();
+        for (Map.Entry<String, BoardChannel> entry : boardChannels.entrySet()) {
+            String ownerId = entry.getKey();
+            BoardChannel channel = entry.getValue();
+
+            boolean hasViewers = spectatorRegistry.hasViewers(channel.sessionId);
+            if (hasViewers && (resendSessions.contains(channel.sessionId)
+                    || spectatorRegistry.consumeResendRequest(channel.sessionId))) {
+                // 같은 매치의 다른 보드 채널도 이번 주기에 재전송되도록 기억
+                resendSessions.add(channel.sessionId);
+                if (channel.lastPayload != null) {
+                    sendToViewers(channel.sessionId, channel.lastPayload);
+                }
+            }
+
+            PlayerStateFrameDto frame = channel.pending.getAndSet(null);
+            if (frame == null) {
+                if (now - channel.lastPublishedAt > OPPONENT_CHANNEL_IDLE_MS) {
+                    // 그 사이 새 세션 채널로 교체됐으면 그대로 둠
+                    boardChannels.remove(ownerId, channel);
+                }
+                continue;
+            }
+
+            if (channel.lastPayload != null && frame.getStateVersion() == channel.lastVersion) {
+                continue; // 상태 버전 동일 → 해시 계산과 인코딩 모두 생략
+            }
+            channel.lastVersion = frame.getStateVersion();
+
+            int hash = boardHash(frame.getState());
+            if (channel.lastPayload != null && hash == channel.lastSentHash) {
+                continue; // 보드 변화 없음
+            }
+            frame.setBoardHash(hash);
+
+            byte[] payload;
+            try {
+                payload = objectMapper.writeValueAsBytes(frame);
+            } catch (Exception e) {
+                log.error("❌ [StateBroadcast] Failed to encode board of {}: {}", ownerId, e.getMessage());
+                continue;
+            }
+            channel.lastPayload = payload;
+            channel.lastSentHash = hash;
+
+            for (String recipientId : channel.recipientIds) {
+                sendEncoded(userDestination(recipientId, OPPONENT_DESTINATION), payload);
+            }
+            if (hasViewers) {
+                sendToViewers(channel.sessionId, payload);
+            }
+        }
+    }
+
+    /**
+     * 관전자 + 관리자 뷰어 토픽으로 전송
+     */
+    private void sendToViewers(String sessionId, byte[] payload) {
+        sendEncoded(SpectatorRegistry.spectateDestination(sessionId), payload);
+        sendEncoded(SpectatorRegistry.adminDestination(sessionId), payload);
+    }
+
+    /**
+     * 이미 인코딩된 JSON 바이트 전송 (메시지 컨버터를 거치지 않음)
+     *
+     * 헤더는 목적지마다 새로 만들고 payload 배열은 공유함
+     * (브로커가 구독자별 메시지를 만들 때도 payload는 복사되지 않음)
+     */
+    private void sendEncoded(String destination, byte[] payload) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("❌ [StateBroadcast] Failed to send board to {}: {}", destination, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 전용 목적지 생성 (convertAndSendToUser와 동일한 규칙)
+     */
+    private String userDestination(String userId, String destination) {
+        return messagingTemplate.getUserDestinationPrefix() + userId.replace("/", "%2F") + destination;
+    }
+
+    /**
+     * 보드 해시 계산 (렌더링에 영향을 주는 필드만 사용)
+     *
+     * @param state 보드 상태
+     * @return 해시 값
+     */
+    static int boardHash(GameStateDto state) {
+        int hash = Arrays.deepHashCode(state.getGrid());
+        GameStateDto.TetrominoDto tetromino = state.getCurrentTetromino();
+        if (tetromino != null) {
+            hash = 31 * hash + (tetromino.getType() != null ? tetromino.getType().hashCode() : 0);
+            hash = 31 * hash + tetromino.getX();
+            hash = 31 * hash + tetromino.getY();
+            hash = 31 * hash + tetromino.getRotation();
+        }
+        hash = 31 * hash + Long.hashCode(state.getScore());
+        hash = 31 * hash + state.getLevel();
+        hash = 31 * hash + state.getLines();
+        hash = 31 * hash + (state.getHeldPiece() != null ? state.getHeldPiece().hashCode() : 0);
+        hash = 31 * hash + (state.isGameOver() ? 1 : 0);
+        return hash;
+    }
+
+    /**
+     * 보드 주인별 팬아웃 채널 상태
+     */
+    private static class BoardChannel {
+        private final String sessionId;
+        private final AtomicReference<PlayerStateFrameDto> pending = new AtomicReference<>();
+        private volatile List<String> recipientIds = List.of();
+        private volatile long lastPublishedAt = System.currentTimeMillis();
+        private int lastSentHash;
+        private long lastVersion = -1;
+        /** 마지막으로 전송한 인코딩 결과 (공유 후 수정하지 않음) */
+        private byte[] lastPayload;
+
+        private BoardChannel(String sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+
+    /**
+     * 전송 대기 중인 플레이어 수 (모니터링용)
+     *
+     * @return 대기 중인 플레이어 수
+     */
+    public int getPendingCount() {
+        return pendingStates.size();
+    }
+
+    /**
+     * 버퍼에 저장할 사본 생성 (이벤트 리스트는 병합을 위해 가변 리스트로 복사)
+     */
+    private static ServerStateDto copyOf(ServerStateDto update) {
+        List<String> events = update.getEvents() != null
+            ? new ArrayList<>(update.getEvents())
+            : new ArrayList<>();
+
+        return ServerStateDto.builder()
+            .lastProcessedSequence(update.getLastProcessedSequence())
+            .myGameState(update.getMyGameState())
+            .opponentGameState(update.getOpponentGameState())
+            .events(events)
+            .attackLinesReceived(update.getAttackLinesReceived())
+            .gameOver(update.isGameOver())
+            .build();
+    }
+
+    /**
+     * 기존 대기 메시지에 새 메시지 병합 (버퍼 소유 객체이므로 제자리 수정)
+     */
+    private static ServerStateDto merge(ServerStateDto pending, ServerStateDto update) {
+        pending.setLastProcessedSequence(
+            Math.max(pending.getLastProcessedSequence(), update.getLastProcessedSequence()));
+
+        if (update.getMyGameState() != null) {
+            pending.setMyGameState(update.getMyGameState());
+        }
+        if (update.getOpponentGameState() != null) {
+            pending.setOpponentGameState(update.getOpponentGameState());
+        }
+
+        pending.getEvents().addAll(update.getEvents());
+        pending.setAttackLinesReceived(pending.getAttackLinesReceived() + update.getAttackLinesReceived());
+        pending.setGameOver(pending.isGameOver() || update.isGameOver());
+
+        return pending;
+    }
+}
@@ -0,0 +1,161 @@
+package seoultech.se.server.spectate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관전자 / 관리자 뷰어 구독 레지스트리
+ *
+ * 구독 토픽:
+ * - 관전자: /topic/match/{sessionId}/spectate
+ * - 관리자: /topic/admin/match/{sessionId}
+ *
+ * 역할:
+ * - STOMP SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 매치별 뷰어 수 추적
+ * - 뷰어가 없는 매치는 StateBroadcastService가 팬아웃을 생략
+ * - 새 뷰어가 구독하면 재전송 요청을 기록 (보드가 변하지 않아도 현재 화면을 받을 수 있도록)
+ */
+@Slf4j
+@Component
+public class SpectatorRegistry {
+
+    public static final String SPECTATE_PREFIX = "/topic/match/";
+    public static final String SPECTATE_SUFFIX = "/spectate";
+    public static final String ADMIN_PREFIX = "/topic/admin/match/";
+
+    /**
+     * 게임 세션 ID → 뷰어 수 (관전자 + 관리자)
+     */
+    private final Map<String, AtomicInteger> viewerCounts = new ConcurrentHashMap<>();
+
+    /**
+     * "WebSocket 세션 ID:구독 ID" → 게임 세션 ID
+     * UNSUBSCRIBE/DISCONNECT 시 어떤 매치의 카운트를 줄일지 알기 위해 사용
+     */
+    private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 새 뷰어가 들어와 마지막 프레임 재전송이 필요한 게임 세션 ID
+     */
+    private final Set<String> resendRequests = ConcurrentHashMap.newKeySet();
+
+    public static String spectateDestination(String sessionId) {
+        return SPECTATE_PREFIX + sessionId + SPECTATE_SUFFIX;
+    }
+
+    public static String adminDestination(String sessionId) {
+        return ADMIN_PREFIX + sessionId;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String matchId = parseMatchId(accessor.getDestination());
+        if (matchId == null) {
+            return;
+        }
+
+        subscriptions.put(subscriptionKey(accessor.getSessionId(), accessor.getSubscriptionId()), matchId);
+        int count = viewerCounts.compute(matchId, (k, counter) -> {
+            AtomicInteger next = counter != null ? counter : new AtomicInteger();
+            next.incrementAndGet();
+            return next;
+        }).get();
+        resendRequests.add(matchId);
+        log.debug("👀 [Spectator] Viewer joined match {} (viewers: {})", matchId, count);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String matchId = subscriptions.remove(subscriptionKey(accessor.getSessionId(), accessor.getSubscriptionId()));
+        if (matchId != null) {
+            release(matchId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        subscriptions.entrySet().removeIf(entry -> {
+            if (entry.getKey().startsWith(prefix)) {
+                release(entry.getValue());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 매치에 뷰어가 있는지 확인
+     *
+     * @param sessionId 게임 세션 ID
+     * @return 관전자 또는 관리자 뷰어가 하나 이상이면 true
+     */
+    public boolean hasViewers(String sessionId) {
+        AtomicInteger count = viewerCounts.get(sessionId);
+        return count != null && count.get() > 0;
+    }
+
+    /**
+     * 매치 뷰어 수 조회
+     *
+     * @param sessionId 게임 세션 ID
+     * @return 뷰어 수
+     */
+    public int getViewerCount(String sessionId) {
+        AtomicInteger count = viewerCounts.get(sessionId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * 재전송 요청 소비 (한 번만 true 반환)
+     *
+     * @param sessionId 게임 세션 ID
+     * @return 새 뷰어가 들어온 뒤 처음 호출되면 true
+     */
+    public boolean consumeResendRequest(String sessionId) {
+        return !resendRequests.isEmpty() && resendRequests.remove(sessionId);
+    }
+
+    private void release(String matchId) {
+        // computeIfPresent로 감소와 제거를 원자적으로 처리 (동시 구독과 경합 방지)
+        viewerCounts.computeIfPresent(matchId, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private static String subscriptionKey(String wsSessionId, String subscriptionId) {
+        return wsSessionId + ":" + subscriptionId;
+    }
+
+    /**
+     * 구독 토픽에서 게임 세션 ID 추출
+     *
+     * @param destination 구독 토픽
+     * @return 관전/관리자 토픽이면 게임 세션 ID, 아니면 null
+     */
+    static String parseMatchId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(SPECTATE_PREFIX) && destination.endsWith(SPECTATE_SUFFIX)) {
+            String id = destination.substring(SPECTATE_PREFIX.length(), destination.length() - SPECTATE_SUFFIX.length());
+            return id.isEmpty() || id.contains("/") ? null : id;
+        }
+        if (destination.startsWith(ADMIN_PREFIX)) {
+            String id = destination.substring(ADMIN_PREFIX.length());
+            return id.isEmpty() || id.contains("/") ? null : id;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,140 @@
+package seoultech.se.server.user;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 정보 read-through 캐시 (이메일 = 플레이어 ID 기준)
+ *
+ * 사용처:
+ * - JwtAuthenticationFilter: 인증된 REST 요청마다 사용자 존재 확인
+ * - MatchmakingService: 수신함 배치의 이름/레이팅 조회
+ *
+ * 정책:
+ * - 캐시에 없거나 만료된 항목만 DB에서 조회 (여러 건은 쿼리 한 번)
+ * - 항목마다 TTL (user.cache.ttl-seconds) - 다른 인스턴스/직접 DB 수정도 TTL 안에 반영
+ * - 최대 항목 수 (user.cache.max-size) 초과 시 만료 항목부터, 그래도 넘치면 임의 항목을 10% 정리
+ * - 사용자 정보를 바꾸는 코드는 저장 후 invalidate 호출 (현재: 레이팅 갱신)
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${user.cache.ttl-seconds:60}") long ttlSeconds,
+                     @Value("${user.cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 사용자 조회 (캐시 → DB)
+     *
+     * @param email 이메일
+     * @return 사용자 정보 (없으면 empty)
+     */
+    public Optional<UserProjection> findByEmail(String email) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt - now > 0) {
+            return Optional.of(entry.user);
+        }
+
+        Optional<UserProjection> loaded = userRepository.findByEmail(email).map(UserProjection::from);
+        loaded.ifPresentOrElse(user -> put(user, now), () -> entries.remove(email));
+        return loaded;
+    }
+
+    /**
+     * 여러 사용자 조회 (캐시에 없는 이메일만 쿼리 한 번으로 조회)
+     *
+     * @param emails 이메일 목록
+     * @return 이메일 → 사용자 정보 (없는 사용자는 제외)
+     */
+    public Map<String, UserProjection> findAllByEmail(Collection<String> emails) {
+        long now = System.nanoTime();
+        Map<String, UserProjection> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String email : emails) {
+            Entry entry = entries.get(email);
+            if (entry != null && entry.expiresAt - now > 0) {
+                result.put(email, entry.user);
+            } else {
+                misses.add(email);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (UserEntity entity : userRepository.findByEmailIn(misses)) {
+                UserProjection user = UserProjection.from(entity);
+                put(user, now);
+                result.put(user.getEmail(), user);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 캐시 무효화 (사용자 정보 변경 후 호출)
+     *
+     * @param email 이메일
+     */
+    public void invalidate(String email) {
+        entries.remove(email);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(UserProjection user, long now) {
+        entries.put(user.getEmail(), new Entry(user, now + ttlNanos));
+        if (entries.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    /**
+     * 최대 크기 초과 시 정리 (만료 항목 → 임의 항목 10%)
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+
+        int target = maxSize - maxSize / 10;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+        log.debug("🧹 [UserCache] Evicted down to {} entries", entries.size());
+    }
+
+    private static final class Entry {
+        private final UserProjection user;
+        private final long expiresAt;
+
+        private Entry(UserProjection user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -22,6 +22,11 @@ import lombok.NoArgsConstructor;
 @Table(name = "users")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserEntity {
+    /**
+     * 신규 사용자 초기 레이팅 (MMR)
+     */
+    public static final int DEFAULT_RATING = 1000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", updatable = false)
@@ -42,6 +47,10 @@ public class UserEntity {
     @Enumerated(EnumType.STRING)
     private LoginStatus status = LoginStatus.LOGOUT;
 
+    // 멀티플레이 레이팅 (Elo, 컬럼 추가 이전 사용자는 null → 초기값으로 취급)
+    @Column(name = "rating")
+    private Integer rating = DEFAULT_RATING;
+
     @Builder
     public UserEntity(String name, String email, String password) {
         this.name = name;
@@ -57,4 +66,12 @@ public class UserEntity {
     public void logout() {
         this.status = LoginStatus.LOGOUT;
     }
+
+    public int getRating() {
+        return rating != null ? rating : DEFAULT_RATING;
+    }
+
+    public void updateRating(int rating) {
+        this.rating = rating;
+    }
 }
@@ -0,0 +1,23 @@
+package seoultech.se.server.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시용 사용자 정보 (읽기 전용 스냅샷)
+ *
+ * 엔티티 대신 필요한 값만 복사해 보관 - 영속성 컨텍스트와 무관하게 여러 스레드가 공유 가능
+ */
+@AllArgsConstructor
+@Getter
+public class UserProjection {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final int rating;
+
+    public static UserProjection from(UserEntity entity) {
+        return new UserProjection(entity.getId(), entity.getName(), entity.getEmail(), entity.getRating());
+    }
+}
@@ -1,5 +1,7 @@
 package seoultech.se.server.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,5 +12,8 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     
     Optional<UserEntity> findByEmail(String email);
 
-    
+    /**
+     * 여러 사용자 일괄 조회 (매칭 루프가 한 배치의 상대 정보를 쿼리 한 번으로 조회)
+     */
+    List<UserEntity> findByEmailIn(Collection<String> emails);
 } 
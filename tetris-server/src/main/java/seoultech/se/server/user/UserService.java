@@ -21,6 +21,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final seoultech.se.server.config.JwtUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final seoultech.se.server.metrics.GameServerMetrics metrics;
 
     @Transactional
     public SignUpResultDto signUp(SignUpRequestDto dto) {
@@ -47,6 +48,8 @@ public class UserService {
 
     @Transactional
     public LoginResultDto login(LoginRequestDto requestDto) {
+        long startNanos = System.nanoTime();
+
         // 요청된 email이 있는지 확인
         UserEntity user = userRepository.findByEmail(
             requestDto.getEmail()).orElseThrow(() -> new IllegalArgumentException("사용자가 없습니다."));
@@ -74,6 +77,9 @@ public class UserService {
                 }
             );
 
+        // 성공한 로그인만 처리 시간 기록 (실패는 대시보드 지연 통계에서 제외)
+        metrics.recordLogin(System.nanoTime() - startNanos);
+
         return LoginResultDto.toDto(user, accessToken, refreshToken);
     }
 
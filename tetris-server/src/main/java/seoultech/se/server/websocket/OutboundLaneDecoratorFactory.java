@@ -0,0 +1,129 @@
+package seoultech.se.server.websocket;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.server.metrics.GameServerMetrics;
+
+/**
+ * STOMP 핸들러 데코레이터 (연결마다 OutboundLaneSessionDecorator 적용)
+ *
+ * WebSocketConfig.configureWebSocketTransport에서 등록
+ * - 연결이 열릴 때 원래 세션을 2차선 큐로 감싸서 STOMP 핸들러에 넘김
+ * - 전송 작업은 "WS-Outbound-N" 데몬 스레드 풀에서 실행 (연결당 동시에 한 작업)
+ *
+ * 감시 스레드 ("WS-Outbound-Watchdog"):
+ * - 전송은 블로킹 쓰기라 멈춘 클라이언트가 풀 스레드를 붙잡음
+ * - watchdog-interval-ms마다 열린 연결을 훑어 send-time-limit-ms 넘게 막힌 연결을 닫음
+ *   (새 프레임이 오지 않는 연결도 닫히므로 풀 스레드가 계속 묶이지 않음)
+ */
+@Slf4j
+@Component
+public class OutboundLaneDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final GameServerMetrics metrics;
+    private final List<String> latestWinsPrefixes;
+    private final int reliableLimit;
+    private final long sendTimeLimitMs;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService watchdog;
+
+    /**
+     * WebSocket 세션 ID → 열린 연결 (감시 대상)
+     */
+    private final Map<String, OutboundLaneSessionDecorator> openSessions = new ConcurrentHashMap<>();
+
+    public OutboundLaneDecoratorFactory(
+            GameServerMetrics metrics,
+            @Value("${websocket.outbound.latest-wins-destinations:/user/topic/game/state,/user/topic/game/opponent,/topic/match/,/topic/admin/match/,/topic/royale/}")
+            List<String> latestWinsPrefixes,
+            @Value("${websocket.outbound.reliable-limit:512}") int reliableLimit,
+            @Value("${websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs,
+            @Value("${websocket.outbound.threads:0}") int threads,
+            @Value("${websocket.outbound.watchdog-interval-ms:1000}") long watchdogIntervalMs) {
+        this.metrics = metrics;
+        this.latestWinsPrefixes = List.copyOf(latestWinsPrefixes);
+        this.reliableLimit = Math.max(1, reliableLimit);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger counter = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "WS-Outbound-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "WS-Outbound-Watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10, watchdogIntervalMs);
+        watchdog.scheduleWithFixedDelay(this::closeStalledSessions, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("✅ [OutboundLane] Configured (senders={}, reliableLimit={}, latestWins={}, watchdog={}ms)",
+            poolSize, this.reliableLimit, this.latestWinsPrefixes, interval);
+    }
+
+    @PreDestroy
+    public void stop() {
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * 전송이 제한 시간 넘게 막힌 연결 종료 (감시 스레드)
+     */
+    void closeStalledSessions() {
+        long now = System.currentTimeMillis();
+        for (OutboundLaneSessionDecorator session : openSessions.values()) {
+            try {
+                session.closeIfSendStalled(now);
+            } catch (RuntimeException e) {
+                // 예외가 새면 scheduleWithFixedDelay가 감시를 멈추므로 여기서 삼킴
+                log.warn("⚠️ [OutboundLane] Watchdog failed for {}: {}", session.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 감시 중인 연결 수 (모니터링용)
+     */
+    public int getOpenSessionCount() {
+        return openSessions.size();
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                OutboundLaneSessionDecorator decorated = new OutboundLaneSessionDecorator(
+                    session, senders, latestWinsPrefixes, reliableLimit, sendTimeLimitMs, metrics);
+                openSessions.put(session.getId(), decorated);
+                super.afterConnectionEstablished(decorated);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                openSessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
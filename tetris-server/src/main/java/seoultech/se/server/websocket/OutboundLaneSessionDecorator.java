@@ -0,0 +1,284 @@
+package seoultech.se.server.websocket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import lombok.extern.slf4j.Slf4j;
+import seoultech.se.server.metrics.GameServerMetrics;
+
+/**
+ * 연결별 아웃바운드 2차선 큐 (느린 클라이언트 배압)
+ *
+ * 상태 차선 (latest-wins):
+ * - 상태/보드/요약 목적지(latestWinsPrefixes)로 가는 MESSAGE 프레임은 (목적지, 구독 ID)마다 최신 프레임 하나만 보관
+ * - 아직 보내지 못한 이전 프레임은 새 프레임으로 교체 (느린 클라이언트는 중간 상태를 건너뛰고 최신 상태를 받음)
+ *
+ * 이벤트 차선 (reliable, 우선):
+ * - 그 외 모든 프레임(매칭 완료, 핑, P2P 시그널, CONNECTED/RECEIPT/ERROR)과
+ *   lane:event 헤더가 붙은 상태 프레임(게임 오버, 공격 수신)은 순서대로 모두 전송
+ * - 상태 차선보다 먼저 전송, 같은 목적지의 대기 중인 상태 프레임은 더 오래된 것이므로 버림
+ * - 이벤트 차선이 reliableLimit을 넘으면 (클라이언트가 사실상 멈춤) 연결 종료
+ *
+ * 전송:
+ * - sendMessage는 차선에 넣고 바로 반환 (Spring의 ConcurrentWebSocketSessionDecorator 버퍼가 쌓이지 않음)
+ * - 실제 전송은 공유 실행기에서 연결당 한 작업이 차선을 비울 때까지 수행
+ * - 한 프레임 전송이 sendTimeLimitMs를 넘기면 연결 종료
+ *   (다음 제출 시 또는 OutboundLaneDecoratorFactory 감시 스레드의 closeIfSendStalled 중 먼저 오는 쪽,
+ *   연결을 닫으면 막혀 있던 쓰기가 실패하면서 전송 스레드가 풀려남)
+ */
+@Slf4j
+public class OutboundLaneSessionDecorator extends WebSocketSessionDecorator {
+
+    /**
+     * 상태 프레임을 이벤트 차선으로 보내는 STOMP 헤더 (값: LANE_EVENT)
+     */
+    public static final String LANE_HEADER = "lane";
+    public static final String LANE_EVENT = "event";
+
+    /**
+     * 헤더 파싱 범위 (STOMP 헤더 블록은 이보다 짧음)
+     */
+    private static final int MAX_HEADER_SCAN = 1024;
+
+    private final Executor executor;
+    private final List<String> latestWinsPrefixes;
+    private final int reliableLimit;
+    private final long sendTimeLimitMs;
+    private final GameServerMetrics metrics;
+
+    private final Object laneLock = new Object();
+    private final ArrayDeque<WebSocketMessage<?>> reliable = new ArrayDeque<>();
+    private final LinkedHashMap<String, WebSocketMessage<?>> latest = new LinkedHashMap<>();
+    private boolean draining;
+    private volatile long sendStartedAt;
+    private volatile boolean closing;
+
+    public OutboundLaneSessionDecorator(WebSocketSession delegate, Executor executor, List<String> latestWinsPrefixes,
+                                        int reliableLimit, long sendTimeLimitMs, GameServerMetrics metrics) {
+        super(delegate);
+        this.executor = executor;
+        this.latestWinsPrefixes = latestWinsPrefixes;
+        this.reliableLimit = reliableLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing) {
+            return;
+        }
+        long startedAt = sendStartedAt;
+        if (startedAt != 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMs) {
+            closeSlowConsumer("send blocked for " + (System.currentTimeMillis() - startedAt) + " ms");
+            return;
+        }
+
+        FrameLane lane = classify(message);
+        boolean overflow = false;
+        boolean startDrain = false;
+        synchronized (laneLock) {
+            if (!lane.reliable()) {
+                if (latest.put(lane.stateKey(), message) != null) {
+                    metrics.recordOutboundSuperseded(); // 보내지 못한 이전 상태 프레임 교체
+                }
+            } else if (reliable.size() >= reliableLimit) {
+                overflow = true;
+            } else {
+                reliable.addLast(message);
+                if (lane.stateKey() != null) {
+                    latest.remove(lane.stateKey()); // 같은 목적지의 더 오래된 상태 프레임
+                }
+            }
+            if (!overflow && !draining) {
+                draining = true;
+                startDrain = true;
+            }
+        }
+
+        if (overflow) {
+            closeSlowConsumer("reliable lane full (" + reliableLimit + " frames)");
+            return;
+        }
+        if (startDrain) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (laneLock) {
+                    draining = false; // 종료 중
+                }
+            }
+        }
+    }
+
+    /**
+     * 전송이 제한 시간 넘게 막혀 있으면 연결 종료 (감시 스레드가 주기적으로 호출)
+     *
+     * @param now 현재 시각 (밀리초)
+     * @return 이번 호출로 연결을 닫았으면 true
+     */
+    public boolean closeIfSendStalled(long now) {
+        long startedAt = sendStartedAt;
+        if (closing || startedAt == 0 || now - startedAt <= sendTimeLimitMs) {
+            return false;
+        }
+        closeSlowConsumer("send blocked for " + (now - startedAt) + " ms");
+        return true;
+    }
+
+    /**
+     * 차선 비우기 (연결당 한 번에 한 작업만 실행, 이벤트 차선 우선)
+     */
+    private void drain() {
+        while (true) {
+            WebSocketMessage<?> next;
+            synchronized (laneLock) {
+                next = reliable.pollFirst();
+                if (next == null) {
+                    Iterator<Map.Entry<String, WebSocketMessage<?>>> iterator = latest.entrySet().iterator();
+                    if (iterator.hasNext()) {
+                        next = iterator.next().getValue();
+                        iterator.remove();
+                    }
+                }
+                if (next == null || closing) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            try {
+                sendStartedAt = System.currentTimeMillis();
+                getDelegate().sendMessage(next);
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ [OutboundLane] Send failed for {}: {}", getId(), e.getMessage());
+                synchronized (laneLock) {
+                    reliable.clear();
+                    latest.clear();
+                    draining = false;
+                }
+                return;
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+    }
+
+    /**
+     * 프레임 차선 분류
+     *
+     * @param stateKey 상태 목적지 프레임이면 "목적지|구독ID", 그 외 null
+     * @param reliable 이벤트 차선이면 true (상태 목적지가 아니거나 lane:event 헤더가 있음)
+     */
+    record FrameLane(String stateKey, boolean reliable) {
+    }
+
+    private static final FrameLane RELIABLE = new FrameLane(null, true);
+
+    /**
+     * STOMP 헤더 블록만 읽어 차선 결정 (본문은 파싱하지 않음)
+     */
+    FrameLane classify(WebSocketMessage<?> message) {
+        String headers = headerBlock(message);
+        if (headers == null || !headers.startsWith("MESSAGE\n")) {
+            return RELIABLE;
+        }
+
+        String destination = null;
+        String subscription = "";
+        boolean event = false;
+        int lineStart = headers.indexOf('\n') + 1;
+        while (lineStart < headers.length()) {
+            int lineEnd = headers.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = headers.length();
+            }
+            int colon = headers.indexOf(':', lineStart);
+            if (colon > lineStart && colon < lineEnd) {
+                String name = headers.substring(lineStart, colon);
+                String value = headers.substring(colon + 1, lineEnd);
+                if (destination == null && name.equals("destination")) {
+                    destination = value;
+                } else if (name.equals("subscription")) {
+                    subscription = value;
+                } else if (name.equals(LANE_HEADER) && value.equals(LANE_EVENT)) {
+                    event = true;
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        if (destination == null || !isLatestWins(destination)) {
+            return RELIABLE;
+        }
+        return new FrameLane(destination + '|' + subscription, event);
+    }
+
+    private boolean isLatestWins(String destination) {
+        for (String prefix : latestWinsPrefixes) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * STOMP 프레임 헤더 블록 (첫 빈 줄 전까지, 앞 MAX_HEADER_SCAN 바이트 안에서)
+     */
+    private static String headerBlock(WebSocketMessage<?> message) {
+        String prefix;
+        if (message instanceof TextMessage text) {
+            String payload = text.getPayload();
+            prefix = payload.length() > MAX_HEADER_SCAN ? payload.substring(0, MAX_HEADER_SCAN) : payload;
+        } else if (message instanceof BinaryMessage binary) {
+            ByteBuffer buffer = binary.getPayload().duplicate();
+            byte[] bytes = new byte[Math.min(buffer.remaining(), MAX_HEADER_SCAN)];
+            buffer.get(bytes);
+            prefix = new String(bytes, StandardCharsets.UTF_8);
+        } else {
+            return null;
+        }
+        int end = prefix.indexOf("\n\n");
+        return end >= 0 ? prefix.substring(0, end) : null;
+    }
+
+    private void closeSlowConsumer(String reason) {
+        closing = true;
+        synchronized (laneLock) {
+            reliable.clear();
+            latest.clear();
+        }
+        metrics.recordSlowConsumerClosed();
+        log.warn("🐢 [OutboundLane] Closing slow consumer {}: {}", getId(), reason);
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Close failed for {}: {}", getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 프레임 수 (이벤트 차선 + 상태 차선)
+     */
+    public int getPendingCount() {
+        synchronized (laneLock) {
+            return reliable.size() + latest.size();
+        }
+    }
+}
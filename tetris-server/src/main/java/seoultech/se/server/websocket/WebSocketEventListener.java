@@ -1,7 +1,11 @@
 package seoultech.se.server.websocket;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -9,6 +13,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import seoultech.se.server.game.GameSessionManager;
@@ -22,8 +27,17 @@ import seoultech.se.server.game.GameSessionManager;
  * - 유예 기간 후 세션에서 플레이어 제거
  *
  * 구현:
- * - SessionConnectEvent: 연결 시 플레이어 ID 저장
- * - SessionDisconnectEvent: 끊김 시 유예 시간 스케줄링
+ * - SessionConnectEvent: 연결 시 플레이어 ID 저장, 대기 중인 제거 예약 취소
+ * - SessionDisconnectEvent: 플레이어의 마지막 연결이 끊겼을 때만 오프라인 표시 후 유예 기간 만료 시각을 예약
+ *
+ * 플레이어별 연결 목록:
+ * - 네트워크가 잠깐 끊기면 서버가 이전 소켓의 종료를 알기 전에 새 WebSocket 세션으로 먼저 재연결하는 경우가 많음
+ * - 늦게 도착한 이전 세션의 끊김 이벤트가 접속 중인 플레이어를 오프라인/제거하지 않도록 살아 있는 세션 ID를 모아 둠
+ *
+ * 유예 기간 타이머:
+ * - 끊김마다 스레드를 만들지 않고 전용 스레드 하나의 ScheduledThreadPoolExecutor에 예약
+ * - 재연결 시 예약 취소 (취소된 작업은 큐에서 바로 제거 - removeOnCancelPolicy)
+ * - 끊김이 한꺼번에 몰려도 스레드 수는 1개, 메모리는 대기 중인 플레이어 수에 비례
  */
 @Slf4j
 @Component
@@ -38,6 +52,12 @@ public class WebSocketEventListener {
      */
     private final Map<String, String> sessionPlayerMap = new ConcurrentHashMap<>();
 
+    /**
+     * 플레이어 ID → 살아 있는 WebSocket 세션 ID 목록
+     * 목록이 비었을 때만 (마지막 연결이 끊겼을 때만) 오프라인 처리
+     */
+    private final Map<String, Set<String>> playerConnections = new ConcurrentHashMap<>();
+
     /**
      * 플레이어 ID → 게임 세션 ID 매핑
      * 연결 끊김 시 어느 게임 세션에서 제거할지 알기 위해 사용
@@ -50,6 +70,31 @@ public class WebSocketEventListener {
      */
     private static final long DISCONNECT_GRACE_PERIOD_MS = 30000; // 30 seconds
 
+    /**
+     * 플레이어 ID → 유예 기간 만료 예약
+     */
+    private final Map<String, GraceDeadline> pendingRemovals = new ConcurrentHashMap<>();
+
+    /**
+     * 유예 기간 타이머 (모든 끊김이 공유하는 단일 스레드)
+     */
+    private final ScheduledThreadPoolExecutor graceScheduler = createGraceScheduler();
+
+    private static ScheduledThreadPoolExecutor createGraceScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Reconnect-Grace");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void stop() {
+        graceScheduler.shutdownNow();
+    }
+
     /**
      * Phase 1: WebSocket 연결 이벤트 처리
      *
@@ -63,7 +108,18 @@ public class WebSocketEventListener {
 
         if (playerId != null && sessionId != null) {
             sessionPlayerMap.put(sessionId, playerId);
-            
+            playerConnections.compute(playerId, (id, connections) -> {
+                Set<String> live = connections != null ? connections : ConcurrentHashMap.newKeySet();
+                live.add(sessionId);
+                return live;
+            });
+
+            // 유예 기간 중 재연결이면 제거 예약 취소
+            GraceDeadline pending = pendingRemovals.remove(playerId);
+            if (pending != null) {
+                pending.cancel();
+            }
+
             // 플레이어 재연결 처리 (오프라인 상태 해제)
             String gameSessionId = playerSessionMap.get(playerId);
             if (gameSessionId != null) {
@@ -83,13 +139,21 @@ public class WebSocketEventListener {
      * - 30초 내 재연결 → 게임 계속
      * - 30초 초과 → 세션에서 플레이어 제거
      *
+     * 같은 플레이어의 다른 연결이 살아 있으면 (이전 세션의 늦은 끊김) 이 연결만 정리하고 무시
+     *
      * @param event 연결 끊김 이벤트
      */
     @EventListener
     public void handleWebSocketDisconnect(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headerAccessor.getSessionId();
-        String playerId = sessionPlayerMap.get(sessionId);
+        String playerId = sessionId != null ? sessionPlayerMap.remove(sessionId) : null;
+
+        if (playerId != null && !releaseConnection(playerId, sessionId)) {
+            log.info("🔁 [WebSocket] Stale connection closed: {} (session: {}), player still connected",
+                playerId, sessionId);
+            return;
+        }
 
         if (playerId != null) {
             log.warn("⚠️ [WebSocket] Player disconnected: {} (session: {}). Grace period: {} seconds",
@@ -102,45 +166,101 @@ public class WebSocketEventListener {
             }
 
             // 30초 유예 기간 스케줄링
-            schedulePlayerRemoval(sessionId, playerId);
+            schedulePlayerRemoval(playerId);
         }
     }
 
+    /**
+     * 플레이어의 연결 목록에서 WebSocket 세션 제거
+     *
+     * @return 마지막 연결이었으면 true
+     */
+    private boolean releaseConnection(String playerId, String sessionId) {
+        boolean[] last = new boolean[1];
+        playerConnections.computeIfPresent(playerId, (id, connections) -> {
+            connections.remove(sessionId);
+            last[0] = connections.isEmpty();
+            return last[0] ? null : connections;
+        });
+        return last[0];
+    }
+
+    /**
+     * 플레이어가 살아 있는 연결을 가지고 있는지 확인
+     *
+     * @param playerId 플레이어 ID
+     * @return 연결이 하나라도 있으면 true
+     */
+    public boolean isConnected(String playerId) {
+        return playerConnections.containsKey(playerId);
+    }
+
+    /**
+     * 재접속 대기 시작 (체크포인트에서 복원된 플레이어)
+     *
+     * 연결이 끊긴 것과 같은 유예 기간 안에 다시 접속하지 않으면 세션에서 제거
+     *
+     * @param playerId 플레이어 ID
+     */
+    public void awaitReconnect(String playerId) {
+        schedulePlayerRemoval(playerId);
+    }
+
     /**
      * Phase 1: 플레이어 제거 스케줄링
      *
      * 30초 후에 플레이어가 여전히 연결되지 않았으면 세션에서 제거
+     * 이전 예약이 남아 있으면 취소하고 새 만료 시각으로 교체
      *
-     * @param sessionId WebSocket 세션 ID
      * @param playerId 플레이어 ID
      */
-    private void schedulePlayerRemoval(String sessionId, String playerId) {
-        new Thread(() -> {
-            try {
-                Thread.sleep(DISCONNECT_GRACE_PERIOD_MS);
-
-                // 유예 기간 후에도 여전히 끊겨있으면 제거
-                if (!sessionPlayerMap.containsKey(sessionId)) {
-                    String gameSessionId = playerSessionMap.remove(playerId);
-
-                    if (gameSessionId != null) {
-                        // GameSessionManager를 통해 플레이어 제거
-                        boolean removed = gameSessionManager.removePlayerFromSession(gameSessionId, playerId);
-
-                        if (removed) {
-                            log.info("⏰ [WebSocket] Grace period expired. Player {} removed from game session {}",
-                                playerId, gameSessionId);
-                        } else {
-                            log.warn("⚠️ [WebSocket] Failed to remove player {} from game session {} (session may not exist)",
-                                playerId, gameSessionId);
-                        }
-                    }
-                }
-            } catch (InterruptedException e) {
-                log.error("❌ [WebSocket] Error in grace period scheduler", e);
-                Thread.currentThread().interrupt();
+    private void schedulePlayerRemoval(String playerId) {
+        GraceDeadline deadline = new GraceDeadline();
+        GraceDeadline previous = pendingRemovals.put(playerId, deadline);
+        if (previous != null) {
+            previous.cancel();
+        }
+        deadline.future = graceScheduler.schedule(
+            () -> expireGracePeriod(playerId, deadline),
+            DISCONNECT_GRACE_PERIOD_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 유예 기간 만료 처리 (타이머 스레드)
+     *
+     * 예약이 그대로 남아 있을 때만 제거 (그 사이 재연결/재예약되었으면 무시)
+     */
+    private void expireGracePeriod(String playerId, GraceDeadline deadline) {
+        if (!pendingRemovals.remove(playerId, deadline) || isConnected(playerId)) {
+            return;
+        }
+
+        String gameSessionId = playerSessionMap.remove(playerId);
+        if (gameSessionId == null) {
+            return;
+        }
+
+        try {
+            // GameSessionManager를 통해 플레이어 제거
+            boolean removed = gameSessionManager.removePlayerFromSession(gameSessionId, playerId);
+
+            if (removed) {
+                log.info("⏰ [WebSocket] Grace period expired. Player {} removed from game session {}",
+                    playerId, gameSessionId);
+            } else {
+                log.warn("⚠️ [WebSocket] Failed to remove player {} from game session {} (session may not exist)",
+                    playerId, gameSessionId);
             }
-        }).start();
+        } catch (Exception e) {
+            log.error("❌ [WebSocket] Error while expiring grace period for {}", playerId, e);
+        }
+    }
+
+    /**
+     * 대기 중인 유예 기간 수 (모니터링용)
+     */
+    public int getPendingGraceCount() {
+        return pendingRemovals.size();
     }
 
     /**
@@ -169,4 +289,18 @@ public class WebSocketEventListener {
             log.debug("🔓 [WebSocket] Player {} unlinked from game session {}", playerId, gameSessionId);
         }
     }
+
+    /**
+     * 유예 기간 만료 예약 (재연결 시 취소)
+     */
+    private static final class GraceDeadline {
+        private volatile ScheduledFuture<?> future;
+
+        void cancel() {
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package seoultech.se.server.admin;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimeSeriesRing 단위 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 윈도우 안의 버킷만 카운터 합산
+ * 2. 슬롯 재사용 시 이전 버킷 값 초기화
+ * 3. 히스토그램 백분위가 상대 오차 범위 안에서 계산
+ */
+class TimeSeriesRingTest {
+
+    @Test
+    @DisplayName("윈도우 안의 버킷만 카운터 합산")
+    void testSumCounter_OnlyWithinWindow() {
+        // Given
+        TimeSeriesRing ring = new TimeSeriesRing(1000, 10, 1, 1);
+        ring.increment(0, 1, 1_000);
+        ring.increment(0, 2, 2_000);
+        ring.increment(0, 3, 5_000);
+
+        // When & Then
+        assertEquals(3, ring.sumCounter(0, 1, 5_500));
+        assertEquals(6, ring.sumCounter(0, 10, 5_500));
+        assertEquals(2, ring.counterAt(0, 2));
+    }
+
+    @Test
+    @DisplayName("한 바퀴 돈 슬롯은 이전 버킷 값이 비워짐")
+    void testSlotReuse_ResetsOldBucket() {
+        // Given
+        TimeSeriesRing ring = new TimeSeriesRing(1000, 4, 1, 1);
+        ring.increment(0, 5, 0);
+        ring.record(0, 100, 0);
+
+        // When: 4초 뒤 같은 슬롯(0번) 재사용
+        ring.increment(0, 1, 4_000);
+
+        // Then
+        assertEquals(0, ring.counterAt(0, 0));
+        assertEquals(1, ring.sumCounter(0, 4, 4_000));
+        assertEquals(0, ring.snapshot(0, 4, 4_000).getCount());
+    }
+
+    @Test
+    @DisplayName("히스토그램 백분위는 12.5% 오차 안에서 계산")
+    void testSnapshot_PercentilesWithinError() {
+        // Given: 1 ~ 1000 균등 분포
+        TimeSeriesRing ring = new TimeSeriesRing(1000, 60, 0, 1);
+        for (int value = 1; value <= 1000; value++) {
+            ring.record(0, value, 10_000);
+        }
+
+        // When
+        TimeSeriesRing.Snapshot snapshot = ring.snapshot(0, 60, 10_000);
+
+        // Then
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMean(), 0.001);
+        assertEquals(500, snapshot.getPercentile(50), 500 * 0.125);
+        assertEquals(990, snapshot.getPercentile(99), 990 * 0.125);
+    }
+}
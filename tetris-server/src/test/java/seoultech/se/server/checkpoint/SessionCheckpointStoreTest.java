@@ -0,0 +1,124 @@
+package seoultech.se.server.checkpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seoultech.se.core.GameState;
+import seoultech.se.core.engine.item.ItemType;
+import seoultech.se.core.model.Cell;
+import seoultech.se.core.model.Tetromino;
+import seoultech.se.core.model.enumType.Color;
+import seoultech.se.core.model.enumType.RotationDirection;
+import seoultech.se.core.model.enumType.RotationState;
+import seoultech.se.core.model.enumType.TetrominoType;
+import seoultech.se.server.game.SessionType;
+
+/**
+ * SessionCheckpointStore 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 기록한 체크포인트를 다시 읽으면 보드/블록/점수가 그대로 복원
+ * 2. 여러 번 기록하면 마지막 체크포인트를 읽음 (재시작 후 이어서 기록해도 동일)
+ * 3. 영역에 들어가지 않는 체크포인트는 기록 실패, 이전 체크포인트 유지
+ */
+class SessionCheckpointStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 체크포인트를 다시 읽으면 보드/블록/점수가 그대로 복원")
+    void testWriteAndLoad_RoundTrip() {
+        // Given
+        SessionCheckpointStore store = new SessionCheckpointStore(true, directory.toString(), 16384);
+        GameState state = new GameState(10, 20);
+        state.getGrid()[19][0] = Cell.of(Color.RED, true);
+        state.getGrid()[19][1] = Cell.of(Color.CYAN, true, ItemType.LINE_CLEAR);
+        state.setCurrentTetromino(new Tetromino(TetrominoType.T).getRotatedInstance(RotationDirection.CLOCKWISE));
+        state.setCurrentX(4);
+        state.setCurrentY(7);
+        state.setHeldPiece(TetrominoType.I);
+        state.setScore(12_345);
+        state.setLevel(3);
+        state.setComboCount(2);
+
+        // When
+        assertTrue(store.write("session-1", out -> checkpoint("session-1", 42, state).writeTo(out)));
+        List<SessionCheckpoint> loaded = new SessionCheckpointStore(true, directory.toString(), 16384).loadAll();
+
+        // Then
+        assertEquals(1, loaded.size());
+        SessionCheckpoint checkpoint = loaded.get(0);
+        assertEquals("session-1", checkpoint.getSessionId());
+        assertEquals(SessionType.MULTI, checkpoint.getSessionType());
+        assertEquals(42, checkpoint.getPlayers().get(0).getLastSequence());
+
+        GameState restored = checkpoint.getPlayers().get(0).getState();
+        assertEquals(Color.RED, restored.getGrid()[19][0].getColor());
+        assertTrue(restored.getGrid()[19][0].isOccupied());
+        assertEquals(ItemType.LINE_CLEAR, restored.getGrid()[19][1].getItemMarker());
+        assertFalse(restored.getGrid()[0][0].isOccupied());
+        assertEquals(TetrominoType.T, restored.getCurrentTetromino().getType());
+        assertEquals(RotationState.RIGHT, restored.getCurrentTetromino().getRotationState());
+        assertEquals(4, restored.getCurrentX());
+        assertEquals(7, restored.getCurrentY());
+        assertEquals(TetrominoType.I, restored.getHeldPiece());
+        assertEquals(12_345, restored.getScore());
+        assertEquals(3, restored.getLevel());
+        assertEquals(2, restored.getComboCount());
+    }
+
+    @Test
+    @DisplayName("여러 번 기록하면 마지막 체크포인트를 읽음 (재시작 후 이어서 기록해도 동일)")
+    void testWrite_LatestGenerationWins() {
+        // Given
+        SessionCheckpointStore store = new SessionCheckpointStore(true, directory.toString(), 16384);
+        store.write("session-1", out -> checkpoint("session-1", 1, new GameState(10, 20)).writeTo(out));
+        store.write("session-1", out -> checkpoint("session-1", 2, new GameState(10, 20)).writeTo(out));
+
+        // When: 재시작한 저장소가 같은 파일에 이어서 기록
+        SessionCheckpointStore restarted = new SessionCheckpointStore(true, directory.toString(), 16384);
+        restarted.write("session-1", out -> checkpoint("session-1", 3, new GameState(10, 20)).writeTo(out));
+
+        // Then
+        List<SessionCheckpoint> loaded = new SessionCheckpointStore(true, directory.toString(), 16384).loadAll();
+        assertEquals(3, loaded.get(0).getPlayers().get(0).getLastSequence());
+    }
+
+    @Test
+    @DisplayName("영역에 들어가지 않는 체크포인트는 기록 실패, 이전 체크포인트 유지")
+    void testWrite_OverflowKeepsPreviousCheckpoint() {
+        // Given: 슬롯 하나에 2인 세션이 겨우 들어가는 크기
+        SessionCheckpointStore store = new SessionCheckpointStore(true, directory.toString(), 1400);
+        assertTrue(store.write("session-1", out -> checkpoint("session-1", 1, new GameState(10, 20)).writeTo(out)));
+
+        // When: 보드가 훨씬 큰 상태
+        boolean written = store.write("session-1", out -> checkpoint("session-1", 2, new GameState(40, 40)).writeTo(out));
+
+        // Then
+        assertFalse(written);
+        SessionCheckpoint loaded = new SessionCheckpointStore(true, directory.toString(), 1400).loadAll().get(0);
+        assertEquals(1, loaded.getPlayers().get(0).getLastSequence());
+        assertNull(loaded.getPlayers().get(0).getState().getCurrentTetromino());
+    }
+
+    private static SessionCheckpoint checkpoint(String sessionId, long sequence, GameState state) {
+        return new SessionCheckpoint(
+            sessionId, SessionType.MULTI, "CLASSIC", "NORMAL", "p1", true,
+            System.currentTimeMillis(), System.currentTimeMillis(),
+            List.of(
+                new SessionCheckpoint.PlayerCheckpoint("p1", sequence, 0, state),
+                new SessionCheckpoint.PlayerCheckpoint("p2", 0, 1, new GameState(10, 20))
+            )
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package seoultech.se.server.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ClusterChannel 수신 연결 테스트 (로컬 포트에 실제 소켓)
+ *
+ * 테스트 시나리오:
+ * 1. 인증된 요청에는 응답, 인증에 실패한 요청을 보낸 연결은 응답 없이 닫힘
+ * 2. 연결만 하고 첫 프레임을 보내지 않는 연결은 제한 시간 뒤 닫힘
+ */
+class ClusterChannelTest {
+
+    private static final String TOKEN = "secret";
+
+    private ClusterChannel server;
+    private ClusterChannel client;
+    private ClusterNode node;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        node = ClusterNode.parse("node-1@127.0.0.1:8090:" + port);
+        server = new ClusterChannel(message -> ClusterMessage.ack("node-1"),
+            message -> TOKEN.equals(message.getToken()));
+        server.start(node);
+        client = new ClusterChannel(message -> null, message -> true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("인증된 요청에는 응답, 인증에 실패한 요청을 보낸 연결은 응답 없이 닫힘")
+    void testRequest_DropsUnauthenticatedConnection() throws IOException {
+        // Given
+        ClusterMessage trusted = ClusterMessage.ping("node-2");
+        trusted.setToken(TOKEN);
+        ClusterMessage forged = ClusterMessage.ping("node-2");
+        forged.setToken("guess");
+
+        // When / Then
+        assertEquals(ClusterMessage.Type.ACK, client.request(node, trusted).getType());
+        assertThrows(IOException.class, () -> client.request(node, forged));
+
+        // Then: 다음 요청은 새 연결로 정상 처리
+        assertEquals(ClusterMessage.Type.ACK, client.request(node, trusted).getType());
+    }
+
+    @Test
+    @DisplayName("연결만 하고 첫 프레임을 보내지 않는 연결은 제한 시간 뒤 닫힘")
+    void testIdleConnection_ClosedBeforeAuthentication() throws IOException {
+        // Given
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(node.getHost(), node.getClusterPort()));
+            socket.setSoTimeout(ClusterChannel.REPLY_TIMEOUT_MS * 5);
+
+            // When: 아무것도 보내지 않고 대기
+            int read = socket.getInputStream().read();
+
+            // Then: 서버가 연결을 닫음
+            assertEquals(-1, read);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package seoultech.se.server.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import seoultech.se.core.config.GameplayType;
+import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.server.game.GameSession;
+import seoultech.se.server.game.GameSessionManager;
+import seoultech.se.server.game.SessionType;
+import seoultech.se.server.websocket.WebSocketEventListener;
+
+/**
+ * ClusterService 수신 처리 테스트 (node-1 기준, 채널 없이 handleMessage 직접 호출)
+ *
+ * 테스트 시나리오:
+ * 1. cluster.nodes에 없는 노드나 토큰이 다른 노드의 핸드오프는 거부
+ * 2. 같은 세션 ID의 핸드오프가 재전송되어도 세션은 한 번만 생성
+ * 3. MATCH_CANCEL은 핸드오프를 보낸 노드가 보낼 때만 세션 제거
+ * 4. 클러스터 모드에서 토큰이 비어 있으면 시작 실패
+ */
+class ClusterServiceTest {
+
+    private static final String NODES = "node-1@127.0.0.1:8090:7090,node-2@127.0.0.1:8100:7100,node-3@127.0.0.1:8110:7110";
+    private static final String TOKEN = "secret";
+
+    private GameSessionManager gameSessionManager;
+    private ClusterService clusterService;
+
+    @BeforeEach
+    void setUp() {
+        gameSessionManager = mock(GameSessionManager.class);
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(SessionType.class)))
+            .thenReturn(mock(GameSession.class));
+        clusterService = new ClusterService(gameSessionManager, mock(WebSocketEventListener.class),
+            false, "node-1", NODES, 128, TOKEN);
+    }
+
+    @Test
+    @DisplayName("cluster.nodes에 없는 노드나 토큰이 다른 노드의 핸드오프는 거부")
+    void testHandoff_RejectsUntrustedSender() {
+        // Given
+        ClusterMessage unknownNode = handoff("node-9", "session-1");
+        unknownNode.setToken(TOKEN);
+        ClusterMessage wrongToken = handoff("node-2", "session-1");
+        wrongToken.setToken("guess");
+        ClusterMessage noToken = handoff("node-2", "session-1");
+
+        // When / Then
+        assertEquals(ClusterMessage.Type.NACK, clusterService.handleMessage(unknownNode).getType());
+        assertEquals(ClusterMessage.Type.NACK, clusterService.handleMessage(wrongToken).getType());
+        assertEquals(ClusterMessage.Type.NACK, clusterService.handleMessage(noToken).getType());
+        verify(gameSessionManager, never()).createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(SessionType.class));
+    }
+
+    @Test
+    @DisplayName("같은 세션 ID의 핸드오프가 재전송되어도 세션은 한 번만 생성")
+    void testHandoff_IsIdempotent() {
+        // Given: 첫 요청 이후에는 세션이 존재
+        when(gameSessionManager.getSession("session-1")).thenReturn(null, mock(GameSession.class));
+
+        // When: 응답을 받지 못한 노드가 같은 요청을 재전송
+        ClusterMessage first = clusterService.handleMessage(trusted(handoff("node-2", "session-1")));
+        ClusterMessage retry = clusterService.handleMessage(trusted(handoff("node-2", "session-1")));
+
+        // Then
+        assertEquals(ClusterMessage.Type.ACK, first.getType());
+        assertEquals(ClusterMessage.Type.ACK, retry.getType());
+        verify(gameSessionManager, times(1)).createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(SessionType.class));
+    }
+
+    @Test
+    @DisplayName("MATCH_CANCEL은 핸드오프를 보낸 노드가 보낼 때만 세션 제거")
+    void testCancel_OnlyFromOriginNode() {
+        // Given: node-2가 넘긴 세션
+        clusterService.handleMessage(trusted(handoff("node-2", "session-1")));
+
+        // When: 다른 노드의 취소
+        clusterService.handleMessage(trusted(ClusterMessage.matchCancel("node-3", "session-1")));
+
+        // Then
+        verify(gameSessionManager, never()).removeSession("session-1");
+
+        // When: 보낸 노드의 취소 (두 번째는 무시)
+        clusterService.handleMessage(trusted(ClusterMessage.matchCancel("node-2", "session-1")));
+        clusterService.handleMessage(trusted(ClusterMessage.matchCancel("node-2", "session-1")));
+
+        // Then
+        verify(gameSessionManager, times(1)).removeSession("session-1");
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서 토큰이 비어 있으면 시작 실패")
+    void testStart_RequiresToken() {
+        // Given
+        ClusterService noToken = new ClusterService(gameSessionManager, mock(WebSocketEventListener.class),
+            true, "node-1", NODES, 128, " ");
+
+        // When / Then
+        assertThrows(IllegalStateException.class, noToken::start);
+    }
+
+    private static ClusterMessage handoff(String fromNode, String sessionId) {
+        return ClusterMessage.matchHandoff(fromNode, sessionId, GameplayType.CLASSIC.name(),
+            Difficulty.NORMAL.name(), "player1", "player2");
+    }
+
+    private static ClusterMessage trusted(ClusterMessage message) {
+        message.setToken(TOKEN);
+        return message;
+    }
+}
@@ -0,0 +1,80 @@
+package seoultech.se.server.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConsistentHashRing 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 로컬 3노드에 세션이 고르게 분산
+ * 2. 노드가 빠지면 그 노드 몫의 세션만 소유자가 바뀜
+ * 3. 노드 설정 문자열 파싱
+ */
+class ConsistentHashRingTest {
+
+    private static final ClusterNode NODE_1 = ClusterNode.parse("node-1@127.0.0.1:8090:7090");
+    private static final ClusterNode NODE_2 = ClusterNode.parse("node-2@127.0.0.1:8100:7100");
+    private static final ClusterNode NODE_3 = ClusterNode.parse("node-3@127.0.0.1:8110:7110");
+
+    @Test
+    @DisplayName("로컬 3노드에 세션이 고르게 분산")
+    void testOwnerOf_DistributesEvenly() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // When
+        for (int i = 0; i < 30_000; i++) {
+            counts.merge(ring.ownerOf("session-" + i).getId(), 1, Integer::sum);
+        }
+
+        // Then: 노드마다 1/3 ± 여유
+        assertEquals(3, counts.size());
+        counts.values().forEach(count ->
+            assertTrue(count > 7_000 && count < 13_000, "불균형 분산: " + counts));
+    }
+
+    @Test
+    @DisplayName("노드가 빠지면 그 노드 몫의 세션만 소유자가 바뀜")
+    void testOwnerOf_RemovingNodeMovesOnlyItsSessions() {
+        // Given
+        ConsistentHashRing full = new ConsistentHashRing(List.of(NODE_1, NODE_2, NODE_3), 128);
+        ConsistentHashRing withoutNode2 = new ConsistentHashRing(List.of(NODE_1, NODE_3), 128);
+
+        // When & Then
+        for (int i = 0; i < 5_000; i++) {
+            String sessionId = "session-" + i;
+            ClusterNode before = full.ownerOf(sessionId);
+            ClusterNode after = withoutNode2.ownerOf(sessionId);
+            if (before.equals(NODE_2)) {
+                assertNotEquals(NODE_2, after);
+            } else {
+                assertEquals(before, after);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("노드 설정 문자열 파싱")
+    void testParse() {
+        // When
+        ClusterNode node = ClusterNode.parse(" node-2@127.0.0.1:8100:7100 ");
+
+        // Then
+        assertEquals("node-2", node.getId());
+        assertEquals(8100, node.getHttpPort());
+        assertEquals(7100, node.getClusterPort());
+        assertEquals("http://127.0.0.1:8100", node.getBaseUrl());
+        assertThrows(IllegalArgumentException.class, () -> ClusterNode.parse("node-1@127.0.0.1:8090"));
+    }
+}
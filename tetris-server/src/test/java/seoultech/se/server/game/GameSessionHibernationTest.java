@@ -0,0 +1,179 @@
+package seoultech.se.server.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import seoultech.se.backend.mapper.GameStateMapper;
+import seoultech.se.core.GameState;
+import seoultech.se.core.model.Cell;
+import seoultech.se.core.model.enumType.Color;
+import seoultech.se.server.checkpoint.SessionCheckpoint;
+
+/**
+ * GameSession 휴면 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 휴면하면 상태 객체를 놓아 주고, 재접속하면 보드/점수/시퀀스가 그대로 복원
+ * 2. 휴면 중 상태 조회는 세션을 깨운 뒤 반환
+ * 3. 배틀로얄 세션과 빈 세션은 휴면하지 않음
+ * 4. 상대가 접속 중이면 끊긴 플레이어를 휴면하지 않고, 모두 끊겨 틱이 멈춘 뒤에만 휴면, 먼저 돌아온 쪽이 깨어나면 남은 슬롯은 중력 틱에서 깨어남
+ * 5. 조회로 깨어난 세션은 마지막 활동 시각이 갱신되어 다음 검사에서 바로 다시 휴면하지 않음
+ */
+class GameSessionHibernationTest {
+
+    @Test
+    @DisplayName("휴면하면 상태 객체를 놓아 주고, 재접속하면 보드/점수/시퀀스가 그대로 복원")
+    void testHibernate_RoundTrip() {
+        // Given: 두 플레이어 모두 끊김, p1 보드에 블록과 점수
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        session.joinPlayer("p2");
+        GameState state = session.getStateForPlayer("p1");
+        state.getGrid()[19][0] = Cell.of(Color.GRAY, true);
+        state.setScore(1234);
+        session.setPlayerOnline("p1", false);
+        session.setPlayerOnline("p2", false);
+
+        // When
+        int bytes = session.hibernate();
+
+        // Then: 상태와 스냅샷 뷰가 모두 해제
+        assertTrue(bytes > 0);
+        assertTrue(session.isHibernated());
+        assertNull(session.getSnapshot().getPlayer("p1").getView());
+        assertEquals(0, session.hibernate()); // 중복 휴면 무시
+
+        // When: p1 재접속
+        session.setPlayerOnline("p1", true);
+
+        // Then
+        assertFalse(session.isHibernated());
+        GameState restored = session.getStateForPlayer("p1");
+        assertTrue(restored.getGrid()[19][0].isOccupied());
+        assertEquals(1234, restored.getScore());
+        assertNotNull(session.getStateForPlayer("p2"));
+        assertTrue(session.isPlayerOnline("p1"));
+        assertFalse(session.isPlayerOnline("p2"));
+    }
+
+    @Test
+    @DisplayName("휴면 중 상태 조회는 세션을 깨운 뒤 반환")
+    void testGetState_WakesSession() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.SINGLE);
+        session.joinPlayer("p1");
+        session.hibernate();
+
+        // When
+        GameState state = session.getStateForPlayer("p1");
+
+        // Then
+        assertNotNull(state);
+        assertNotNull(state.getCurrentTetromino());
+        assertFalse(session.isHibernated());
+    }
+
+    @Test
+    @DisplayName("배틀로얄 세션과 빈 세션은 휴면하지 않음")
+    void testHibernate_SkipsRoyaleAndEmpty() {
+        // Given
+        GameSession royale = new GameSession("royale-1", null, SessionType.ROYALE, null, 3);
+        royale.joinPlayer("p1");
+        GameSession empty = new GameSession("session-1", null, SessionType.MULTI);
+
+        // When / Then
+        assertEquals(0, royale.hibernate());
+        assertFalse(royale.isHibernated());
+        assertEquals(0, empty.hibernate());
+        assertFalse(empty.isHibernated());
+    }
+
+    @Test
+    @DisplayName("상대가 접속 중이면 끊긴 플레이어를 휴면하지 않고, 모두 끊겨 틱이 멈춘 뒤에만 휴면, 먼저 돌아온 쪽이 깨어나면 남은 슬롯은 중력 틱에서 깨어남")
+    void testHibernateOfflinePlayers_OnlyWhilePaused() {
+        // Given: p2만 끊김, p2 보드에 블록과 점수
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        session.joinPlayer("p2");
+        session.startGame();
+        GameState state = session.getStateForPlayer("p2");
+        state.getGrid()[19][0] = Cell.of(Color.GRAY, true);
+        state.setScore(500);
+        session.setPlayerOnline("p2", false);
+
+        // When: p1이 접속 중 → p2에게도 중력이 적용되므로 휴면 대상 아님
+        int whilePlaying = session.hibernateOfflinePlayers(System.currentTimeMillis());
+
+        // Then
+        assertEquals(0, whilePlaying);
+        assertFalse(session.isPlayerHibernated("p2"));
+
+        // When: p1도 끊김 → 틱이 멈춘 세션, 끊긴 시각 이전 기준으로는 대상 없음
+        session.setPlayerOnline("p1", false);
+        int none = session.hibernateOfflinePlayers(0L);
+        int bytes = session.hibernateOfflinePlayers(System.currentTimeMillis());
+
+        // Then
+        assertEquals(0, none);
+        assertTrue(bytes > 0);
+        assertTrue(session.isHibernated());
+        assertEquals(2, session.getHibernatedPlayerCount());
+        assertNull(session.getSnapshot().getPlayer("p2").getView());
+
+        // When: 체크포인트 기록
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        session.writeCheckpoint(buffer);
+        buffer.flip();
+        SessionCheckpoint checkpoint = SessionCheckpoint.readFrom(buffer);
+
+        // Then: 휴면 슬롯도 인코딩된 상태 그대로 포함 (깨우지 않음)
+        assertEquals(2, checkpoint.getPlayers().size());
+        assertEquals(500, checkpoint.getPlayers().get(1).getState().getScore());
+        assertTrue(session.isHibernated());
+
+        // When: p1만 재접속
+        session.setPlayerOnline("p1", true);
+
+        // Then: p1만 깨어남
+        assertFalse(session.isPlayerHibernated("p1"));
+        assertTrue(session.isPlayerHibernated("p2"));
+        assertFalse(session.isHibernated());
+
+        // When: 다시 진행되는 세션의 중력 틱
+        GameStateMapper mapper = new GameStateMapper();
+        session.applyGravity("p2", System.currentTimeMillis() + 60_000, mapper);
+
+        // Then: 끊긴 p2도 깨어나 전처럼 중력 적용 대상
+        assertFalse(session.isPlayerHibernated("p2"));
+        assertEquals(0, session.getHibernatedPlayerCount());
+        GameState restored = session.getStateForPlayer("p2");
+        assertTrue(restored.getGrid()[19][0].isOccupied());
+        assertFalse(session.isPlayerOnline("p2"));
+    }
+
+    @Test
+    @DisplayName("조회로 깨어난 세션은 마지막 활동 시각이 갱신되어 다음 검사에서 바로 다시 휴면하지 않음")
+    void testWake_RefreshesLastActivity() throws InterruptedException {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.SINGLE);
+        session.joinPlayer("p1");
+        session.hibernate();
+        Thread.sleep(5);
+        long beforeWake = System.currentTimeMillis();
+
+        // When
+        session.getStateView("p1", new GameStateMapper());
+
+        // Then
+        assertFalse(session.isHibernated());
+        assertTrue(session.getLastActivityTime() >= beforeWake);
+    }
+}
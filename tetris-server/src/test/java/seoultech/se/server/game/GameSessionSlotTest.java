@@ -0,0 +1,106 @@
+package seoultech.se.server.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GameSession 플레이어 슬롯 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 참여 순서대로 슬롯 배정, 두 번째 참여 시 매칭 완료, 상대방은 반대편 슬롯
+ * 2. 슬롯이 가득 차면 세 번째 플레이어는 참여 실패
+ * 3. 재참여는 같은 슬롯과 연결 품질 추정기를 유지
+ * 4. 플레이어가 나가면 슬롯이 비고 호스트가 남은 플레이어로 바뀜, 빈 슬롯은 다시 배정
+ */
+class GameSessionSlotTest {
+
+    @Test
+    @DisplayName("참여 순서대로 슬롯 배정, 두 번째 참여 시 매칭 완료, 상대방은 반대편 슬롯")
+    void testJoin_AssignsSlotsAndOpponents() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+
+        // When
+        boolean firstComplete = session.joinPlayer("p1");
+        boolean secondComplete = session.joinPlayer("p2");
+
+        // Then
+        assertFalse(firstComplete);
+        assertTrue(secondComplete);
+        assertEquals(List.of("p1", "p2"), session.getPlayerIds());
+        assertEquals("p2", session.getOpponentId("p1"));
+        assertEquals("p1", session.getOpponentId("p2"));
+        assertEquals("p1", session.getHostPlayerId());
+        assertNotNull(session.getStateForPlayer("p2").getCurrentTetromino());
+    }
+
+    @Test
+    @DisplayName("슬롯이 가득 차면 세 번째 플레이어는 참여 실패")
+    void testJoin_FullSessionRejectsThirdPlayer() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        session.joinPlayer("p2");
+
+        // When
+        boolean joined = session.joinPlayer("p3");
+
+        // Then
+        assertFalse(joined);
+        assertEquals(2, session.getPlayerCount());
+        assertNull(session.getStateForPlayer("p3"));
+    }
+
+    @Test
+    @DisplayName("재참여는 같은 슬롯과 연결 품질 추정기를 유지")
+    void testRejoin_KeepsSlot() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        session.joinPlayer("p2");
+        LatencyTracker tracker = session.getLatencyTracker("p1");
+        session.setPlayerOnline("p1", false);
+
+        // When
+        session.joinPlayer("p1");
+
+        // Then
+        assertSame(tracker, session.getLatencyTracker("p1"));
+        assertTrue(session.isPlayerOnline("p1"));
+        assertEquals(List.of("p1", "p2"), session.getPlayerIds());
+    }
+
+    @Test
+    @DisplayName("플레이어가 나가면 슬롯이 비고 호스트가 남은 플레이어로 바뀜, 빈 슬롯은 다시 배정")
+    void testRemove_FreesSlotAndReassignsHost() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        session.joinPlayer("p2");
+
+        // When
+        assertTrue(session.removePlayer("p1"));
+
+        // Then
+        assertEquals(1, session.getPlayerCount());
+        assertEquals("p2", session.getHostPlayerId());
+        assertNull(session.getOpponentId("p2"));
+        assertNull(session.getLatencyTracker("p1"));
+
+        // When: 새 플레이어가 빈 슬롯(0번)에 참여
+        assertTrue(session.joinPlayer("p3"));
+
+        // Then
+        assertEquals(List.of("p3", "p2"), session.getPlayerIds());
+        assertEquals("p2", session.getOpponentId("p3"));
+    }
+}
@@ -0,0 +1,78 @@
+package seoultech.se.server.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyTracker 단위 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 첫 에코로 RTT 초기화
+ * 2. 중복/알 수 없는 에코 무시
+ * 3. 응답 없는 핑은 슬롯 재사용 시 손실로 집계
+ * 4. 음수/0 핑 ID의 에코는 예외 없이 무시
+ */
+class LatencyTrackerTest {
+
+    @Test
+    @DisplayName("첫 에코 수신 시 RTT가 측정값으로 초기화")
+    void testFirstPong_InitializesRtt() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker();
+        long pingId = tracker.nextPing(1_000);
+
+        // When
+        boolean accepted = tracker.onPong(pingId, 5_150, 1_300);
+
+        // Then
+        assertTrue(accepted);
+        assertEquals(300, tracker.getRttMs());
+        assertTrue(tracker.getRecommendedInputDelayMs() > 0);
+    }
+
+    @Test
+    @DisplayName("같은 핑의 중복 에코는 무시")
+    void testDuplicatePong_Ignored() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker();
+        long pingId = tracker.nextPing(0);
+        tracker.onPong(pingId, 0, 50);
+
+        // When & Then
+        assertFalse(tracker.onPong(pingId, 0, 80));
+        assertFalse(tracker.onPong(pingId + 100, 0, 80));
+        assertEquals(50, tracker.getRttMs());
+    }
+
+    @Test
+    @DisplayName("응답 없이 슬롯이 재사용되면 손실률 증가")
+    void testUnansweredPings_CountAsLoss() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker();
+
+        // When: 응답 없이 슬롯 수보다 많은 핑 전송
+        for (int i = 0; i < 20; i++) {
+            tracker.nextPing(i * 1_000L);
+        }
+
+        // Then
+        assertTrue(tracker.getLossRate() > 0.0);
+        assertEquals(0, tracker.getRecommendedInputDelayMs()); // 측정값 없음
+    }
+
+    @Test
+    @DisplayName("음수/0 핑 ID의 에코는 예외 없이 무시")
+    void testInvalidPingId_Ignored() {
+        // Given
+        LatencyTracker tracker = new LatencyTracker();
+        long pingId = tracker.nextPing(0);
+
+        // When & Then
+        assertFalse(tracker.onPong(-pingId, 0, 50));
+        assertFalse(tracker.onPong(Long.MIN_VALUE, 0, 50));
+        assertFalse(tracker.onPong(0, 0, 50));
+        assertTrue(tracker.onPong(pingId, 0, 50)); // 원래 핑은 그대로 대기 중
+    }
+}
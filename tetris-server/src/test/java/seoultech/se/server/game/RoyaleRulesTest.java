@@ -0,0 +1,150 @@
+package seoultech.se.server.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import seoultech.se.core.GameState;
+import seoultech.se.core.model.Cell;
+import seoultech.se.core.model.enumType.Color;
+
+/**
+ * RoyaleRules 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 공격은 내 대기 방해 라인부터 상쇄하고 남은 만큼 대상 큐에 추가
+ * 2. KO 전략은 스택이 가장 높은 생존자, 반격 전략은 나를 노리는 플레이어를 대상으로 선택
+ * 3. 방해 라인은 한 번에 최대 8줄만 적용되고 나머지는 큐에 남음
+ * 4. 탈락 시 마지막 공격자가 KO와 배지를 가져가고, 한 명 남으면 1위로 매치 종료
+ */
+class RoyaleRulesTest {
+
+    @Test
+    @DisplayName("공격은 내 대기 방해 라인부터 상쇄하고 남은 만큼 대상 큐에 추가")
+    void testSendAttack_CancelsPendingThenSends() {
+        // Given: p0이 p1에게서 2줄을 받아 둔 상태
+        PlayerSlot[] slots = new PlayerSlot[2];
+        RoyaleRules rules = newRules(slots);
+        rules.sendAttack(slots[1], 2, new ArrayList<>());
+        assertEquals(2, slots[0].pendingAttackLines);
+
+        // When: p0이 3줄 공격
+        List<String> events = new ArrayList<>();
+        int sent = rules.sendAttack(slots[0], 3, events);
+
+        // Then: 2줄 상쇄, 1줄 전송
+        assertEquals(1, sent);
+        assertEquals(0, slots[0].pendingAttackLines);
+        assertTrue(slots[0].garbage.isEmpty());
+        assertEquals(1, slots[1].pendingAttackLines);
+        assertEquals(0, slots[1].garbage.peekFirst().attackerIndex);
+        assertEquals(List.of("GARBAGE_CANCELLED:2", "ATTACK_SENT:1"), events);
+    }
+
+    @Test
+    @DisplayName("KO 전략은 스택이 가장 높은 생존자, 반격 전략은 나를 노리는 플레이어를 대상으로 선택")
+    void testSelectTarget_KoAndAttackers() {
+        // Given
+        PlayerSlot[] slots = new PlayerSlot[4];
+        RoyaleRules rules = newRules(slots);
+        fillRows(slots[2].state, 12);
+        fillRows(slots[3].state, 4);
+
+        // When / Then: KO → 가장 높은 p2
+        slots[0].targeting = TargetingStrategy.KO;
+        assertSame(slots[2], rules.selectTarget(slots[0]));
+
+        // When / Then: 반격 → p0을 노리는 p3
+        slots[3].targetIndex = 0;
+        slots[0].targeting = TargetingStrategy.ATTACKERS;
+        assertSame(slots[3], rules.selectTarget(slots[0]));
+
+        // When / Then: 탈락한 플레이어는 대상에서 제외
+        slots[2].placement = 4;
+        slots[0].targeting = TargetingStrategy.KO;
+        assertSame(slots[3], rules.selectTarget(slots[0]));
+    }
+
+    @Test
+    @DisplayName("방해 라인은 한 번에 최대 8줄만 적용되고 나머지는 큐에 남음")
+    void testReceiveGarbage_CapsPerApply() {
+        // Given: p1이 p0에게 6줄씩 두 번
+        PlayerSlot[] slots = new PlayerSlot[2];
+        RoyaleRules rules = newRules(slots);
+        rules.sendAttack(slots[1], 6, new ArrayList<>());
+        rules.sendAttack(slots[1], 6, new ArrayList<>());
+
+        // When
+        int first = rules.receiveGarbage(slots[0]);
+        int second = rules.receiveGarbage(slots[0]);
+
+        // Then
+        assertEquals(RoyaleRules.MAX_GARBAGE_PER_APPLY, first);
+        assertEquals(4, second);
+        assertEquals(0, slots[0].pendingAttackLines);
+        assertEquals(1, slots[0].lastAttackerIndex);
+    }
+
+    @Test
+    @DisplayName("탈락 시 마지막 공격자가 KO와 배지를 가져가고, 한 명 남으면 1위로 매치 종료")
+    void testEliminate_CreditsKoAndDecidesWinner() {
+        // Given: p2가 p0을, p1이 p2를 공격
+        PlayerSlot[] slots = new PlayerSlot[3];
+        RoyaleRules rules = newRules(slots);
+        slots[0].lastAttackerIndex = 2;
+        slots[0].badges = 3;
+        slots[2].lastAttackerIndex = 1;
+
+        // When: p0 탈락
+        List<String> events = new ArrayList<>();
+        assertTrue(rules.eliminate(slots[0], events));
+
+        // Then
+        assertEquals(3, slots[0].placement);
+        assertEquals(1, slots[2].koCount);
+        assertEquals(4, slots[2].badges);
+        assertEquals(List.of("KNOCKED_OUT_BY:p2"), events);
+        assertFalse(rules.isDecided());
+        assertFalse(rules.eliminate(slots[0], new ArrayList<>())); // 중복 탈락 무시
+
+        // When: p2 탈락 → p1 혼자 남음
+        rules.eliminate(slots[2], new ArrayList<>());
+
+        // Then: 배지 1 + 4 이전, p1 1위
+        assertEquals(2, slots[2].placement);
+        assertEquals(5, slots[1].badges);
+        assertEquals(1, slots[1].placement);
+        assertTrue(rules.isDecided());
+        assertEquals(1, rules.countAlive());
+    }
+
+    private static RoyaleRules newRules(PlayerSlot[] slots) {
+        RoyaleRules rules = new RoyaleRules(slots, new Random(42));
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new PlayerSlot(i, "p" + i);
+            slots[i].state = new GameState(10, 20);
+            rules.reset(slots[i]);
+        }
+        return rules;
+    }
+
+    /**
+     * 바닥부터 rows줄을 채움 (스택 높이 = rows)
+     */
+    private static void fillRows(GameState state, int rows) {
+        Cell[][] grid = state.getGrid();
+        for (int row = grid.length - rows; row < grid.length; row++) {
+            for (int col = 0; col < grid[row].length - 1; col++) {
+                grid[row][col] = Cell.of(Color.GRAY, true);
+            }
+        }
+    }
+}
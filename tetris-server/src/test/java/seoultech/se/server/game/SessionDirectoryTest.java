@@ -0,0 +1,85 @@
+package seoultech.se.server.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import seoultech.se.core.config.GameplayType;
+import seoultech.se.core.engine.factory.GameEnginePool;
+import seoultech.se.core.model.enumType.Difficulty;
+import seoultech.se.server.checkpoint.SessionCheckpointStore;
+import seoultech.se.server.matchlog.MatchRecorder;
+import seoultech.se.server.service.ServerConfigFactory;
+
+/**
+ * GameSessionManager 타입별 세션 목록 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 세션 추가/제거 시 그 타입의 목록만 교체되고 다른 타입의 목록은 그대로
+ * 2. 같은 ID로 세션을 다시 만들면 목록과 멀티플레이 맵에 새 세션만 남음
+ */
+class SessionDirectoryTest {
+
+    private GameSessionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameSessionManager(mock(GameEnginePool.class), new ServerConfigFactory(),
+            mock(SessionCheckpointStore.class), mock(MatchRecorder.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("세션 추가/제거 시 그 타입의 목록만 교체되고 다른 타입의 목록은 그대로")
+    void testAddRemove_TouchesOnlyAffectedType() {
+        // Given
+        GameSession single = create("single-1", SessionType.SINGLE);
+        List<GameSession> singles = manager.getSessions(SessionType.SINGLE);
+
+        // When: 멀티 세션 추가
+        GameSession multi = create("multi-1", SessionType.MULTI);
+
+        // Then: 싱글 목록은 같은 객체, 멀티 목록과 맵에 반영
+        assertSame(singles, manager.getSessions(SessionType.SINGLE));
+        assertEquals(List.of(single), manager.getSessions(SessionType.SINGLE));
+        assertEquals(List.of(multi), manager.getSessions(SessionType.MULTI));
+        assertSame(multi, manager.getMultiplayerSessions().get("multi-1"));
+        assertEquals(1, manager.getSessionCount(SessionType.MULTI));
+
+        // When: 멀티 세션 제거
+        List<GameSession> multisBefore = manager.getSessions(SessionType.MULTI);
+        manager.removeSession("multi-1");
+
+        // Then: 이미 받은 목록은 그대로, 새 목록에서만 빠짐
+        assertEquals(List.of(multi), multisBefore);
+        assertTrue(manager.getSessions(SessionType.MULTI).isEmpty());
+        assertTrue(manager.getMultiplayerSessions().isEmpty());
+        assertSame(singles, manager.getSessions(SessionType.SINGLE));
+    }
+
+    @Test
+    @DisplayName("같은 ID로 세션을 다시 만들면 목록과 멀티플레이 맵에 새 세션만 남음")
+    void testRecreate_ReplacesListedSession() {
+        // Given
+        create("multi-1", SessionType.MULTI);
+
+        // When
+        GameSession recreated = create("multi-1", SessionType.MULTI);
+
+        // Then
+        assertEquals(List.of(recreated), manager.getSessions(SessionType.MULTI));
+        assertSame(recreated, manager.getMultiplayerSessions().get("multi-1"));
+        assertEquals(1, manager.getActiveSessionCount());
+    }
+
+    private GameSession create(String sessionId, SessionType sessionType) {
+        return manager.createSession(sessionId, GameplayType.CLASSIC, Difficulty.NORMAL, sessionType);
+    }
+}
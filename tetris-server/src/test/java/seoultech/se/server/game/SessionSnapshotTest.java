@@ -0,0 +1,108 @@
+package seoultech.se.server.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import seoultech.se.backend.mapper.GameStateMapper;
+
+/**
+ * GameSession 불변 스냅샷 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 이미 읽은 스냅샷은 이후 변경에 영향받지 않고, 새 스냅샷은 버전이 증가
+ * 2. 바뀌지 않은 플레이어 항목은 다음 스냅샷에서 같은 객체를 재사용
+ * 3. 한 번 매핑한 상태 뷰는 스냅샷에서 락 없이 재사용, 상태가 바뀌면 다시 매핑
+ */
+class SessionSnapshotTest {
+
+    @Test
+    @DisplayName("이미 읽은 스냅샷은 이후 변경에 영향받지 않고, 새 스냅샷은 버전이 증가")
+    void testSnapshot_IsImmutable() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        SessionSnapshot before = session.getSnapshot();
+
+        // When
+        session.joinPlayer("p2");
+        session.setPlayerOnline("p1", false);
+        session.startGame();
+
+        // Then: 이전 스냅샷은 그대로
+        assertEquals(List.of("p1"), before.getPlayerIds());
+        assertTrue(before.getPlayer("p1").isOnline());
+        assertFalse(before.isGameStarted());
+
+        // Then: 새 스냅샷에 모든 변경 반영
+        SessionSnapshot after = session.getSnapshot();
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(List.of("p1", "p2"), after.getPlayerIds());
+        assertFalse(after.getPlayer("p1").isOnline());
+        assertEquals("p2", after.getPlayer("p1").getOpponentId());
+        assertTrue(after.isGameStarted());
+        assertTrue(session.isGameStarted());
+    }
+
+    @Test
+    @DisplayName("바뀌지 않은 플레이어 항목은 다음 스냅샷에서 같은 객체를 재사용")
+    void testSnapshot_ReusesUnchangedPlayers() {
+        // Given
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+        session.joinPlayer("p2");
+        SessionSnapshot before = session.getSnapshot();
+
+        // When: p2만 오프라인
+        session.setPlayerOnline("p2", false);
+        SessionSnapshot after = session.getSnapshot();
+
+        // Then
+        assertSame(before.getPlayer("p1"), after.getPlayer("p1"));
+        assertNotSame(before.getPlayer("p2"), after.getPlayer("p2"));
+
+        // When: 값이 같은 변경은 게시하지 않음
+        session.setPlayerOnline("p2", false);
+
+        // Then
+        assertSame(after, session.getSnapshot());
+    }
+
+    @Test
+    @DisplayName("한 번 매핑한 상태 뷰는 스냅샷에서 락 없이 재사용, 상태가 바뀌면 다시 매핑")
+    void testStateView_ServedFromSnapshot() {
+        // Given
+        GameStateMapper mapper = spy(new GameStateMapper());
+        GameSession session = new GameSession("session-1", null, SessionType.MULTI);
+        session.joinPlayer("p1");
+
+        // When
+        PlayerStateView first = session.getStateView("p1", mapper);
+        PlayerStateView second = session.getStateView("p1", mapper);
+
+        // Then
+        assertSame(first, second);
+        assertSame(first, session.getSnapshot().getPlayer("p1").getCurrentView());
+        verify(mapper, times(1)).toDto(any(), anyInt());
+
+        // When: 재참여로 상태가 바뀜
+        session.joinPlayer("p1");
+        PlayerStateView third = session.getStateView("p1", mapper);
+
+        // Then
+        assertNotSame(first, third);
+        verify(mapper, times(2)).toDto(any(), anyInt());
+    }
+}
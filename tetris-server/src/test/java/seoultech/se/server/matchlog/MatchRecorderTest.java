@@ -0,0 +1,198 @@
+package seoultech.se.server.matchlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seoultech.se.core.GameState;
+import seoultech.se.core.command.CommandType;
+import seoultech.se.core.command.Direction;
+import seoultech.se.core.command.MoveCommand;
+import seoultech.se.core.model.Tetromino;
+import seoultech.se.core.model.enumType.TetrominoType;
+
+/**
+ * MatchRecorder / MatchLogReader 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 기록한 입력/중력 레코드를 세션별로 기록 순서대로 다시 읽음
+ * 2. 세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 읽을 때는 세그먼트를 이어서 읽음
+ * 3. flush 전의 레코드는 읽히지 않음 (커밋된 레코드 수까지만 읽음)
+ * 4. 최대 세그먼트 수를 넘으면 오래된 세그먼트 삭제
+ * 5. 틱 사이에 스테이지 버퍼보다 많이 쌓여도 유실 없이 기록 순서대로 커밋
+ * 6. 종료 시 미리 만들어 둔 빈 세그먼트 삭제
+ */
+class MatchRecorderTest {
+
+    private static final String SESSION = "6f1c2a9e-0d7b-4c55-9a8e-3b1f2c4d5e6f";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 입력/중력 레코드를 세션별로 기록 순서대로 다시 읽음")
+    void testRecordAndRead_FiltersBySession() throws Exception {
+        // Given
+        MatchRecorder recorder = new MatchRecorder(true, directory.toString(), 1 << 20, 64, 8);
+        MatchRecorder.Stage stage = recorder.newStage(SESSION);
+        MatchRecorder.Stage otherStage = recorder.newStage("other-session");
+        GameState state = stateWithPiece(3, 5, 1200);
+
+        // When
+        stage.recordInput("p1@test.com", 7, new MoveCommand(Direction.DOWN, true), state, 0, false);
+        otherStage.recordInput("p3@test.com", 1, new MoveCommand(Direction.RIGHT), state, 0, false);
+        stage.recordGravity("p2@test.com", state, 2, true);
+        recorder.flush();
+
+        // Then
+        List<MatchRecord> records = MatchLogReader.readSession(directory, SESSION);
+        assertEquals(2, records.size());
+
+        MatchRecord input = records.get(0);
+        assertEquals(MatchRecord.KIND_INPUT, input.getKind());
+        assertEquals(MatchRecorder.playerKey("p1@test.com"), input.getPlayerKey());
+        assertEquals(7, input.getSequence());
+        assertEquals(CommandType.MOVE.ordinal() + 1, input.getCommandType());
+        assertEquals((byte) (Direction.DOWN.ordinal() | 0x80), input.getCommandArg());
+        assertEquals(TetrominoType.T.ordinal() + 1, input.getPieceType());
+        assertEquals(3, input.getPieceX());
+        assertEquals(5, input.getPieceY());
+        assertEquals(1200, input.getScore());
+        assertFalse(input.isGameOver());
+
+        MatchRecord gravity = records.get(1);
+        assertEquals(MatchRecord.KIND_GRAVITY, gravity.getKind());
+        assertEquals(MatchRecorder.playerKey("p2@test.com"), gravity.getPlayerKey());
+        assertEquals(2, gravity.getAttackLinesReceived());
+        assertTrue(gravity.isGameOver());
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 넘어가고, 읽을 때는 세그먼트를 이어서 읽음")
+    void testRecord_RollsSegments() throws Exception {
+        // Given: 세그먼트당 레코드 10개, 틱 배치 4개
+        MatchRecorder recorder = new MatchRecorder(true, directory.toString(),
+            MatchRecorder.HEADER_BYTES + 10 * MatchRecord.BYTES, 4, 100);
+        MatchRecorder.Stage stage = recorder.newStage(SESSION);
+
+        // When: 25개 기록 (틱마다 5개)
+        for (int i = 1; i <= 25; i++) {
+            stage.recordInput("p1@test.com", i, new MoveCommand(Direction.DOWN), stateWithPiece(0, 0, i), 0, false);
+            if (i % 5 == 0) {
+                recorder.flush();
+            }
+        }
+
+        // Then: 기록된 세그먼트 3개 + 미리 만들어 둔 다음 세그먼트 1개
+        recorder.awaitSegmentWorker();
+        assertEquals(4, MatchLogReader.listSegments(directory).size());
+        List<MatchRecord> records = MatchLogReader.readSession(directory, SESSION);
+        assertEquals(25, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i + 1, records.get(i).getSequence());
+        }
+        assertEquals(25, recorder.getTotalRecords());
+    }
+
+    @Test
+    @DisplayName("flush 전의 레코드는 읽히지 않음")
+    void testRead_OnlyCommittedRecords() throws Exception {
+        // Given
+        MatchRecorder recorder = new MatchRecorder(true, directory.toString(), 1 << 20, 64, 8);
+        MatchRecorder.Stage stage = recorder.newStage(SESSION);
+        stage.recordInput("p1@test.com", 1, new MoveCommand(Direction.DOWN), stateWithPiece(0, 0, 0), 0, false);
+        recorder.flush();
+
+        // When: 다음 틱 도중
+        stage.recordInput("p1@test.com", 2, new MoveCommand(Direction.DOWN), stateWithPiece(0, 0, 0), 0, false);
+
+        // Then
+        assertEquals(1, MatchLogReader.readSession(directory, SESSION).size());
+        recorder.flush();
+        assertEquals(2, MatchLogReader.readSession(directory, SESSION).size());
+    }
+
+    @Test
+    @DisplayName("최대 세그먼트 수를 넘으면 오래된 세그먼트 삭제")
+    void testRecord_DeletesOldSegments() throws Exception {
+        // Given: 세그먼트당 레코드 2개, 최대 2개 세그먼트
+        MatchRecorder recorder = new MatchRecorder(true, directory.toString(),
+            MatchRecorder.HEADER_BYTES + 2 * MatchRecord.BYTES, 8, 2);
+        MatchRecorder.Stage stage = recorder.newStage(SESSION);
+
+        // When
+        for (int i = 1; i <= 8; i++) {
+            stage.recordInput("p1@test.com", i, new MoveCommand(Direction.DOWN), stateWithPiece(0, 0, 0), 0, false);
+        }
+        recorder.flush();
+
+        // Then: 가장 최근 두 세그먼트 (시퀀스 5~8)와 미리 만들어 둔 다음 세그먼트만 남음
+        recorder.awaitSegmentWorker();
+        assertEquals(3, MatchLogReader.listSegments(directory).size());
+        List<MatchRecord> records = MatchLogReader.readSession(directory, SESSION);
+        assertEquals(4, records.size());
+        assertEquals(5, records.get(0).getSequence());
+    }
+
+    @Test
+    @DisplayName("틱 사이에 스테이지 버퍼보다 많이 쌓여도 유실 없이 기록 순서대로 커밋")
+    void testStageOverflow_KeepsOrder() throws Exception {
+        // Given
+        MatchRecorder recorder = new MatchRecorder(true, directory.toString(), 1 << 20, 16, 8);
+        MatchRecorder.Stage stage = recorder.newStage(SESSION);
+        MatchRecorder.Stage otherStage = recorder.newStage("other-session");
+
+        // When: 한 틱 동안 200개 기록 (다른 세션과 섞어서)
+        for (int i = 1; i <= 200; i++) {
+            stage.recordInput("p1@test.com", i, new MoveCommand(Direction.DOWN), stateWithPiece(0, 0, 0), 0, false);
+            otherStage.recordGravity("p3@test.com", stateWithPiece(0, 0, 0), 0, false);
+        }
+        assertEquals(0, recorder.getTotalRecords()); // 틱이 끝나기 전에는 세그먼트에 쓰지 않음
+        recorder.flush();
+
+        // Then
+        List<MatchRecord> records = MatchLogReader.readSession(directory, SESSION);
+        assertEquals(200, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i + 1, records.get(i).getSequence());
+        }
+        assertEquals(200, MatchLogReader.readSession(directory, "other-session").size());
+        assertEquals(400, recorder.getTotalRecords());
+    }
+
+    @Test
+    @DisplayName("종료 시 미리 만들어 둔 빈 세그먼트 삭제")
+    void testClose_DiscardsPreparedSegment() throws Exception {
+        // Given
+        MatchRecorder recorder = new MatchRecorder(true, directory.toString(), 1 << 20, 64, 8);
+        MatchRecorder.Stage stage = recorder.newStage(SESSION);
+        stage.recordInput("p1@test.com", 1, new MoveCommand(Direction.DOWN), stateWithPiece(0, 0, 0), 0, false);
+
+        // When
+        recorder.close();
+
+        // Then: 기록된 세그먼트 하나만 남고, 다시 열어도 이어서 기록
+        assertEquals(1, MatchLogReader.listSegments(directory).size());
+        MatchRecorder reopened = new MatchRecorder(true, directory.toString(), 1 << 20, 64, 8);
+        reopened.newStage(SESSION).recordInput("p1@test.com", 2, new MoveCommand(Direction.DOWN),
+            stateWithPiece(0, 0, 0), 0, false);
+        reopened.close();
+        assertEquals(2, MatchLogReader.readSession(directory, SESSION).size());
+    }
+
+    private static GameState stateWithPiece(int x, int y, long score) {
+        GameState state = new GameState(10, 20);
+        state.setCurrentTetromino(new Tetromino(TetrominoType.T));
+        state.setCurrentX(x);
+        state.setCurrentY(y);
+        state.setScore(score);
+        return state;
+    }
+}
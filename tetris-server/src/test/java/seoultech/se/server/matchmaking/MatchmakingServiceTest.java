@@ -11,11 +11,16 @@ import seoultech.se.core.model.enumType.Difficulty;
 import seoultech.se.server.game.GameSessionManager;
 import seoultech.se.server.matchmaking.MatchmakingService.MatchmakingResult;
 import seoultech.se.server.matchmaking.MatchmakingService.MatchStatus;
+import seoultech.se.server.user.UserProjection;
 import seoultech.se.server.websocket.WebSocketEventListener;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -23,10 +28,18 @@ import static org.mockito.Mockito.when;
  *
  * 테스트 시나리오:
  * 1. 단일 플레이어 참여 → WAITING 상태
- * 2. 두 번째 플레이어 참여 → 자동 매칭 성공
+ * 2. 두 번째 플레이어 참여 → 매칭 루프 한 주기 후 매칭 성공
  * 3. 매칭 취소 기능
  * 4. 중복 참여 방지
  * 5. 큐 크기 조회
+ * 6. 매칭 전 취소한 플레이어는 매칭에서 제외
+ * 7. 레이팅 차이가 허용 범위를 넘으면 매칭하지 않음
+ * 8. 사용자 조회가 실패해도 초기 레이팅으로 대기/매칭
+ * 9. 세션 생성이 실패하면 두 플레이어를 다시 큐에 넣고 다음 주기에 매칭
+ * 10. 세션을 여는 동안 나간 플레이어는 세션 생성이 실패해도 다시 큐에 넣지 않음
+ * 11. 세션을 여는 동안 한쪽이 나가면 세션을 정리하고 남은 상대만 다시 대기
+ *
+ * 매칭 루프 스레드는 시작하지 않고 runMatchingCycle()을 직접 호출해 결정적으로 검증
  */
 class MatchmakingServiceTest {
 
@@ -42,7 +55,11 @@ class MatchmakingServiceTest {
     @Mock
     private org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
     @Mock
-    private seoultech.se.server.user.UserRepository userRepository;
+    private seoultech.se.server.user.UserCache userCache;
+    @Mock
+    private seoultech.se.server.metrics.GameServerMetrics metrics;
+    @Mock
+    private seoultech.se.server.cluster.ClusterService clusterService;
 
     private MatchmakingService matchmakingService;
 
@@ -54,7 +71,9 @@ class MatchmakingServiceTest {
             webSocketEventListener,
             dashboardService,
             messagingTemplate,
-            userRepository
+            userCache,
+            metrics,
+            clusterService
         );
     }
 
@@ -91,13 +110,17 @@ class MatchmakingServiceTest {
         // When
         MatchmakingResult result1 = matchmakingService.joinQueue(player1Id, gameplayType, difficulty);
         MatchmakingResult result2 = matchmakingService.joinQueue(player2Id, gameplayType, difficulty);
+        int matches = matchmakingService.runMatchingCycle();
 
         // Then
         assertEquals(MatchStatus.WAITING, result1.getStatus());
-        assertEquals(MatchStatus.MATCHED, result2.getStatus());
-        assertNotNull(result2.getSessionId());
-        assertEquals(player1Id, result2.getPlayer1Id());
-        assertEquals(player2Id, result2.getPlayer2Id());
+        assertEquals(MatchStatus.WAITING, result2.getStatus());
+        assertEquals(1, matches);
+        verify(mockSession).joinPlayer(player1Id);
+        verify(mockSession).joinPlayer(player2Id);
+        verify(dashboardService).recordMatchCreated();
+        assertTrue(matchmakingService.getWaitingStatus(player1Id).isEmpty());
+        assertTrue(matchmakingService.getWaitingStatus(player2Id).isEmpty());
     }
 
     @Test
@@ -165,10 +188,13 @@ class MatchmakingServiceTest {
         // When
         matchmakingService.joinQueue(player1Id, gameplayType, difficulty);
         matchmakingService.joinQueue(player2Id, gameplayType, difficulty);
+        int queueSizeBeforeCycle = matchmakingService.getQueueSize(gameplayType, difficulty);
 
+        matchmakingService.runMatchingCycle();
         int queueSize = matchmakingService.getQueueSize(gameplayType, difficulty);
 
         // Then
+        assertEquals(2, queueSizeBeforeCycle);
         assertEquals(0, queueSize); // 두 명이 매칭되어 큐는 비어있음
     }
 
@@ -211,4 +237,207 @@ class MatchmakingServiceTest {
         assertEquals(gameplayType, status.get().getGameplayType());
         assertEquals(difficulty, status.get().getDifficulty());
     }
+
+    @Test
+    @DisplayName("매칭 전 취소한 플레이어는 매칭에서 제외")
+    void testCancelledPlayer_SkippedByMatchingCycle() {
+        // Given
+        GameplayType gameplayType = GameplayType.CLASSIC;
+        Difficulty difficulty = Difficulty.NORMAL;
+
+        var mockSession = org.mockito.Mockito.mock(seoultech.se.server.game.GameSession.class);
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class)))
+            .thenReturn(mockSession);
+
+        matchmakingService.joinQueue("player1", gameplayType, difficulty);
+        matchmakingService.joinQueue("player2", gameplayType, difficulty);
+        matchmakingService.leaveQueue("player1");
+
+        // When - 취소된 player1은 건너뛰고 player2만 남음
+        int firstCycle = matchmakingService.runMatchingCycle();
+        matchmakingService.joinQueue("player3", gameplayType, difficulty);
+        int secondCycle = matchmakingService.runMatchingCycle();
+
+        // Then
+        assertEquals(0, firstCycle);
+        assertEquals(1, secondCycle);
+        verify(mockSession, never()).joinPlayer("player1");
+        verify(mockSession).joinPlayer("player2");
+        verify(mockSession).joinPlayer("player3");
+        verify(gameSessionManager, times(1)).createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class));
+        assertEquals(0, matchmakingService.getQueueSize(gameplayType, difficulty));
+    }
+
+    @Test
+    @DisplayName("레이팅 차이가 허용 범위를 넘는 플레이어끼리는 매칭하지 않음")
+    void testRatingGap_MatchesClosestRating() {
+        // Given
+        GameplayType gameplayType = GameplayType.CLASSIC;
+        Difficulty difficulty = Difficulty.NORMAL;
+
+        var mockSession = org.mockito.Mockito.mock(seoultech.se.server.game.GameSession.class);
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class)))
+            .thenReturn(mockSession);
+        when(userCache.findAllByEmail(anyCollection())).thenReturn(java.util.Map.of(
+            "low", ratedUser("low", 1000),
+            "high", ratedUser("high", 1800),
+            "close", ratedUser("close", 1050)
+        ));
+
+        matchmakingService.joinQueue("low", gameplayType, difficulty);
+        matchmakingService.joinQueue("high", gameplayType, difficulty);
+
+        // When - 1000 vs 1800은 초기 허용 범위(100) 밖, 1050이 들어오면 1000과 매칭
+        int firstCycle = matchmakingService.runMatchingCycle();
+        matchmakingService.joinQueue("close", gameplayType, difficulty);
+        int secondCycle = matchmakingService.runMatchingCycle();
+
+        // Then
+        assertEquals(0, firstCycle);
+        assertEquals(1, secondCycle);
+        verify(mockSession).joinPlayer("low");
+        verify(mockSession).joinPlayer("close");
+        verify(mockSession, never()).joinPlayer("high");
+        assertEquals(1800, matchmakingService.getWaitingStatus("high").orElseThrow().getRating());
+        assertEquals(1, matchmakingService.getQueueSize(gameplayType, difficulty));
+    }
+
+    @Test
+    @DisplayName("사용자 조회가 실패해도 초기 레이팅으로 대기하고 매칭")
+    void testUserLookupFailure_FallsBackToDefaultRating() {
+        // Given
+        GameplayType gameplayType = GameplayType.CLASSIC;
+        Difficulty difficulty = Difficulty.NORMAL;
+
+        var mockSession = org.mockito.Mockito.mock(seoultech.se.server.game.GameSession.class);
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class)))
+            .thenReturn(mockSession);
+        when(userCache.findAllByEmail(anyCollection())).thenThrow(new RuntimeException("db down"));
+
+        matchmakingService.joinQueue("player1", gameplayType, difficulty);
+
+        // When - 첫 주기에서 조회 실패 (player1은 인덱스에 남아야 함)
+        int firstCycle = matchmakingService.runMatchingCycle();
+
+        // Then
+        assertEquals(0, firstCycle);
+        assertEquals(seoultech.se.server.user.UserEntity.DEFAULT_RATING,
+            matchmakingService.getWaitingStatus("player1").orElseThrow().getRating());
+        assertEquals(1, matchmakingService.getQueueSize(gameplayType, difficulty));
+
+        // When - 조회가 계속 실패해도 다음 참여자와 매칭
+        matchmakingService.joinQueue("player2", gameplayType, difficulty);
+        int secondCycle = matchmakingService.runMatchingCycle();
+
+        // Then
+        assertEquals(1, secondCycle);
+        verify(mockSession).joinPlayer("player1");
+        verify(mockSession).joinPlayer("player2");
+        assertTrue(matchmakingService.getWaitingStatus("player1").isEmpty());
+        assertEquals(0, matchmakingService.getQueueSize(gameplayType, difficulty));
+    }
+
+    @Test
+    @DisplayName("세션 생성이 실패하면 두 플레이어를 다시 큐에 넣고 다음 주기에 매칭")
+    void testCreateSessionFailure_RequeuesPlayers() {
+        // Given
+        GameplayType gameplayType = GameplayType.CLASSIC;
+        Difficulty difficulty = Difficulty.NORMAL;
+
+        var mockSession = org.mockito.Mockito.mock(seoultech.se.server.game.GameSession.class);
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class)))
+            .thenThrow(new IllegalStateException("session limit"))
+            .thenReturn(mockSession);
+
+        matchmakingService.joinQueue("player1", gameplayType, difficulty);
+        matchmakingService.joinQueue("player2", gameplayType, difficulty);
+        long joinedAt = matchmakingService.getWaitingStatus("player1").orElseThrow().getJoinedAt();
+
+        // When - 첫 주기는 세션 생성 실패
+        int firstCycle = matchmakingService.runMatchingCycle();
+
+        // Then - 두 플레이어 모두 대기 상태로 복귀 (대기 시작 시각 유지)
+        assertEquals(0, firstCycle);
+        assertTrue(matchmakingService.getWaitingStatus("player1").orElseThrow().isWaiting());
+        assertTrue(matchmakingService.getWaitingStatus("player2").orElseThrow().isWaiting());
+        assertEquals(joinedAt, matchmakingService.getWaitingStatus("player1").orElseThrow().getJoinedAt());
+        assertEquals(2, matchmakingService.getQueueSize(gameplayType, difficulty));
+        verify(dashboardService, never()).recordMatchCreated();
+        assertEquals(MatchStatus.ALREADY_IN_QUEUE,
+            matchmakingService.joinQueue("player1", gameplayType, difficulty).getStatus());
+
+        // When - 다음 주기는 성공
+        int secondCycle = matchmakingService.runMatchingCycle();
+
+        // Then
+        assertEquals(1, secondCycle);
+        verify(mockSession).joinPlayer("player1");
+        verify(mockSession).joinPlayer("player2");
+        verify(dashboardService).recordMatchCreated();
+        assertEquals(0, matchmakingService.getQueueSize(gameplayType, difficulty));
+    }
+
+    @Test
+    @DisplayName("세션을 여는 동안 나간 플레이어는 세션 생성이 실패해도 다시 큐에 넣지 않음")
+    void testLeaveWhileOpening_FailedSessionDoesNotRequeue() {
+        // Given
+        GameplayType gameplayType = GameplayType.CLASSIC;
+        Difficulty difficulty = Difficulty.NORMAL;
+        boolean[] left = new boolean[1];
+
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class)))
+            .thenAnswer(invocation -> {
+                left[0] = matchmakingService.leaveQueue("player1"); // 세션을 여는 도중 취소
+                throw new IllegalStateException("session limit");
+            });
+
+        matchmakingService.joinQueue("player1", gameplayType, difficulty);
+        matchmakingService.joinQueue("player2", gameplayType, difficulty);
+
+        // When
+        int matches = matchmakingService.runMatchingCycle();
+
+        // Then - player1의 취소가 기록되어 player2만 다시 대기
+        assertEquals(0, matches);
+        assertTrue(left[0]);
+        assertTrue(matchmakingService.getWaitingStatus("player1").isEmpty());
+        assertTrue(matchmakingService.getWaitingStatus("player2").orElseThrow().isWaiting());
+        assertEquals(1, matchmakingService.getQueueSize(gameplayType, difficulty));
+        assertEquals(MatchStatus.WAITING,
+            matchmakingService.joinQueue("player1", gameplayType, difficulty).getStatus());
+    }
+
+    @Test
+    @DisplayName("세션을 여는 동안 한쪽이 나가면 세션을 정리하고 남은 상대만 다시 대기")
+    void testLeaveWhileOpening_ClosesSessionAndRequeuesOpponent() {
+        // Given
+        GameplayType gameplayType = GameplayType.CLASSIC;
+        Difficulty difficulty = Difficulty.NORMAL;
+
+        var mockSession = org.mockito.Mockito.mock(seoultech.se.server.game.GameSession.class);
+        when(gameSessionManager.createSession(anyString(), any(GameplayType.class), any(Difficulty.class), any(seoultech.se.server.game.SessionType.class)))
+            .thenAnswer(invocation -> {
+                matchmakingService.leaveQueue("player2");
+                return mockSession;
+            });
+
+        matchmakingService.joinQueue("player1", gameplayType, difficulty);
+        matchmakingService.joinQueue("player2", gameplayType, difficulty);
+
+        // When
+        int matches = matchmakingService.runMatchingCycle();
+
+        // Then
+        assertEquals(0, matches);
+        verify(gameSessionManager).removeSession(anyString());
+        verify(webSocketEventListener).unregisterPlayerSession("player2");
+        verify(dashboardService, never()).recordMatchCreated();
+        assertTrue(matchmakingService.getWaitingStatus("player1").orElseThrow().isWaiting());
+        assertTrue(matchmakingService.getWaitingStatus("player2").isEmpty());
+        assertEquals(1, matchmakingService.getQueueSize(gameplayType, difficulty));
+    }
+
+    private static UserProjection ratedUser(String email, int rating) {
+        return new UserProjection(1L, email, email, rating);
+    }
 }
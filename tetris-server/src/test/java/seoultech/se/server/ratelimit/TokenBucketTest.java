@@ -0,0 +1,83 @@
+package seoultech.se.server.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBucket (GCRA) 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 버킷 크기만큼 버스트 허용 후 차단
+ * 2. 충전 간격이 지나면 토큰 하나씩 다시 허용
+ * 3. 오래 쉬면 유휴 상태가 되고 다시 전체 버스트 허용
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼 버스트 허용 후 차단")
+    void testBurstUpToCapacity() {
+        // Given - 버스트 5, 초당 10개
+        RateLimitRule rule = new RateLimitRule("test", 5, 10);
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+
+        // When
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (bucket.tryAcquire(rule, now)) {
+                allowed++;
+            }
+        }
+
+        // Then
+        assertEquals(5, allowed);
+        assertEquals(SECOND / 10, bucket.retryAfterNanos(rule, now));
+    }
+
+    @Test
+    @DisplayName("충전 간격이 지나면 토큰 하나씩 다시 허용")
+    void testRefillAfterInterval() {
+        // Given
+        RateLimitRule rule = new RateLimitRule("test", 2, 10);
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+        bucket.tryAcquire(rule, now);
+        bucket.tryAcquire(rule, now);
+
+        // When & Then - 100ms마다 하나씩
+        assertFalse(bucket.tryAcquire(rule, now + SECOND / 20));
+        assertTrue(bucket.tryAcquire(rule, now + SECOND / 10));
+        assertFalse(bucket.tryAcquire(rule, now + SECOND / 10));
+    }
+
+    @Test
+    @DisplayName("오래 쉬면 유휴 상태가 되고 다시 전체 버스트 허용")
+    void testIdleAfterFullRefill() {
+        // Given
+        RateLimitRule rule = new RateLimitRule("test", 3, 10);
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(now);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(rule, now);
+        }
+        assertFalse(bucket.isIdle(now));
+
+        // When
+        long later = now + SECOND;
+
+        // Then
+        assertTrue(bucket.isIdle(later));
+        assertTrue(bucket.tryAcquire(rule, later));
+        assertTrue(bucket.tryAcquire(rule, later));
+        assertTrue(bucket.tryAcquire(rule, later));
+        assertFalse(bucket.tryAcquire(rule, later));
+    }
+}
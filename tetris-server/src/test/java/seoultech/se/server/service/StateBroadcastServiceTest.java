@@ -0,0 +1,156 @@
+package seoultech.se.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seoultech.se.core.dto.GameStateDto;
+import seoultech.se.core.dto.ServerStateDto;
+import seoultech.se.server.game.PlayerStateView;
+import seoultech.se.server.game.SessionRemovedEvent;
+import seoultech.se.server.spectate.SpectatorRegistry;
+
+/**
+ * StateBroadcastService 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 한 주기 안의 상태 업데이트는 플레이어당 한 프레임으로 병합
+ * 2. 상태 버전이나 보드 해시가 그대로면 보드 프레임을 다시 보내지 않음
+ * 3. 같은 플레이어가 새 세션에서 게시하면 새 채널로 교체 (이전 세션 토픽/버전 미사용)
+ * 4. 세션이 제거되면 그 세션의 보드 채널을 바로 정리
+ */
+class StateBroadcastServiceTest {
+
+    private SimpMessagingTemplate messagingTemplate;
+    private SpectatorRegistry spectatorRegistry;
+    private StateBroadcastService service;
+    private List<String> boardDestinations;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        spectatorRegistry = mock(SpectatorRegistry.class);
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        boardDestinations = new ArrayList<>();
+        doAnswer(invocation -> {
+            boardDestinations.add(invocation.getArgument(0));
+            return null;
+        }).when(messagingTemplate).send(anyString(), any(Message.class));
+        service = new StateBroadcastService(messagingTemplate, spectatorRegistry, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 상태 업데이트는 플레이어당 한 프레임으로 병합")
+    void testFlush_CoalescesPerPlayer() {
+        // Given
+        GameStateDto older = board(1);
+        GameStateDto newer = board(2);
+        service.enqueue("p1", ServerStateDto.builder().lastProcessedSequence(3).myGameState(older).build());
+        service.enqueue("p1", ServerStateDto.builder().lastProcessedSequence(5).myGameState(newer).build());
+        service.enqueue("p2", ServerStateDto.builder().lastProcessedSequence(1).myGameState(older).build());
+
+        // When
+        service.flush();
+
+        // Then: p1은 최신 상태와 최대 시퀀스로 한 번만
+        ArgumentCaptor<ServerStateDto> captor = ArgumentCaptor.forClass(ServerStateDto.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("p1"), eq(StateBroadcastService.STATE_DESTINATION), captor.capture());
+        assertEquals(5, captor.getValue().getLastProcessedSequence());
+        assertEquals(newer, captor.getValue().getMyGameState());
+        verify(messagingTemplate).convertAndSendToUser(eq("p2"), eq(StateBroadcastService.STATE_DESTINATION), any(ServerStateDto.class));
+        assertEquals(0, service.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("상태 버전이나 보드 해시가 그대로면 보드 프레임을 다시 보내지 않음")
+    void testFlushOpponentViews_SkipsUnchangedBoard() {
+        // Given
+        GameStateDto dto = board(1);
+        service.publishBoard("s1", "p1", List.of("p2"), new PlayerStateView(1, 0, dto));
+        service.flushOpponentViews();
+
+        // When: 같은 버전 재게시, 버전만 다르고 보드는 같은 게시
+        service.publishBoard("s1", "p1", List.of("p2"), new PlayerStateView(1, 0, dto));
+        service.flushOpponentViews();
+        service.publishBoard("s1", "p1", List.of("p2"), new PlayerStateView(2, 0, board(1)));
+        service.flushOpponentViews();
+
+        // Then: 첫 프레임만 전송
+        assertEquals(List.of("/user/p2" + StateBroadcastService.OPPONENT_DESTINATION), boardDestinations);
+
+        // When: 보드가 바뀜
+        service.publishBoard("s1", "p1", List.of("p2"), new PlayerStateView(3, 0, board(2)));
+        service.flushOpponentViews();
+
+        // Then
+        assertEquals(2, boardDestinations.size());
+    }
+
+    @Test
+    @DisplayName("같은 플레이어가 새 세션에서 게시하면 새 채널로 교체")
+    void testPublishBoard_RematchReplacesChannel() {
+        // Given: s1에서 전송 완료
+        GameStateDto dto = board(1);
+        service.publishBoard("s1", "p1", List.of("p2"), new PlayerStateView(7, 0, dto));
+        service.flushOpponentViews();
+        when(spectatorRegistry.hasViewers("s2")).thenReturn(true);
+
+        // When: 재대결 세션 s2에서 같은 버전/같은 보드로 게시
+        service.publishBoard("s2", "p1", List.of("p3"), new PlayerStateView(7, 0, dto));
+        service.flushOpponentViews();
+
+        // Then: 이전 세션의 버전/해시를 이어받지 않고 새 상대와 s2 뷰어에게 전송
+        assertEquals(List.of(
+            "/user/p2" + StateBroadcastService.OPPONENT_DESTINATION,
+            "/user/p3" + StateBroadcastService.OPPONENT_DESTINATION,
+            SpectatorRegistry.spectateDestination("s2"),
+            SpectatorRegistry.adminDestination("s2")
+        ), boardDestinations);
+        verify(spectatorRegistry, never()).consumeResendRequest("s1");
+        assertEquals(1, service.getBoardChannelCount());
+    }
+
+    @Test
+    @DisplayName("세션이 제거되면 그 세션의 보드 채널을 바로 정리")
+    void testSessionRemoved_DropsChannels() {
+        // Given
+        service.publishBoard("s1", "p1", List.of("p2"), new PlayerStateView(1, 0, board(1)));
+        service.publishBoard("s1", "p2", List.of("p1"), new PlayerStateView(1, 0, board(2)));
+        service.publishBoard("s2", "p3", List.of("p4"), new PlayerStateView(1, 0, board(3)));
+
+        // When
+        service.handleSessionRemoved(new SessionRemovedEvent("s1"));
+        service.flushOpponentViews();
+
+        // Then: s2 채널만 남아 전송
+        assertEquals(1, service.getBoardChannelCount());
+        assertEquals(List.of("/user/p4" + StateBroadcastService.OPPONENT_DESTINATION), boardDestinations);
+        verify(messagingTemplate, times(1)).send(anyString(), any(Message.class));
+    }
+
+    private static GameStateDto board(long score) {
+        return GameStateDto.builder()
+            .grid(new int[20][10])
+            .score(score)
+            .build();
+    }
+}
@@ -0,0 +1,96 @@
+package seoultech.se.server.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UserCache 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 캐시 적중 시 DB를 다시 조회하지 않음
+ * 2. 무효화 후에는 DB에서 다시 읽어 변경값 반영
+ * 3. 여러 건 조회는 캐시에 없는 사용자만 쿼리
+ */
+class UserCacheTest {
+
+    private UserRepository userRepository;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache = new UserCache(userRepository, 60, 100);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB를 다시 조회하지 않음")
+    void testFindByEmail_CachesResult() {
+        // Given
+        when(userRepository.findByEmail("a@test.com")).thenReturn(Optional.of(user("a@test.com", 1000)));
+
+        // When
+        userCache.findByEmail("a@test.com");
+        Optional<UserProjection> second = userCache.findByEmail("a@test.com");
+
+        // Then
+        assertTrue(second.isPresent());
+        assertEquals("a@test.com", second.get().getEmail());
+        verify(userRepository, times(1)).findByEmail("a@test.com");
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 DB에서 다시 읽어 변경값 반영")
+    void testInvalidate_ReloadsFromRepository() {
+        // Given
+        UserEntity entity = user("a@test.com", 1000);
+        when(userRepository.findByEmail("a@test.com")).thenReturn(Optional.of(entity));
+        userCache.findByEmail("a@test.com");
+
+        // When
+        entity.updateRating(1032);
+        userCache.invalidate("a@test.com");
+        UserProjection reloaded = userCache.findByEmail("a@test.com").orElseThrow();
+
+        // Then
+        assertEquals(1032, reloaded.getRating());
+        verify(userRepository, times(2)).findByEmail("a@test.com");
+    }
+
+    @Test
+    @DisplayName("여러 건 조회는 캐시에 없는 사용자만 쿼리")
+    void testFindAllByEmail_QueriesOnlyMisses() {
+        // Given
+        when(userRepository.findByEmailIn(anyCollection()))
+            .thenReturn(List.of(user("a@test.com", 1000), user("b@test.com", 1200)));
+        userCache.findAllByEmail(List.of("a@test.com", "b@test.com"));
+
+        // When
+        Map<String, UserProjection> users = userCache.findAllByEmail(List.of("a@test.com", "b@test.com"));
+
+        // Then
+        assertEquals(2, users.size());
+        assertEquals(1200, users.get("b@test.com").getRating());
+        verify(userRepository, times(1)).findByEmailIn(anyCollection());
+        verify(userRepository, never()).findByEmail("a@test.com");
+    }
+
+    private static UserEntity user(String email, int rating) {
+        UserEntity entity = UserEntity.builder().name("user").email(email).password("password").build();
+        entity.updateRating(rating);
+        return entity;
+    }
+}
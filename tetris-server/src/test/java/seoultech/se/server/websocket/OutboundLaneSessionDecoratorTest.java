@@ -0,0 +1,193 @@
+package seoultech.se.server.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import seoultech.se.server.metrics.GameServerMetrics;
+
+/**
+ * OutboundLaneSessionDecorator 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 전송 전에 쌓인 상태 프레임은 (목적지, 구독)마다 최신 프레임 하나로 합쳐짐
+ * 2. 이벤트 프레임은 상태 프레임보다 먼저 전송되고, 같은 목적지의 오래된 상태 프레임은 버려짐
+ * 3. 이벤트 차선이 한도를 넘으면 연결 종료
+ * 4. 전송이 제한 시간 넘게 막히면 새 프레임이 없어도 감시 호출로 연결 종료, 막힌 전송 스레드도 풀려남
+ */
+class OutboundLaneSessionDecoratorTest {
+
+    private static final String STATE = "/user/topic/game/state";
+
+    private WebSocketSession delegate;
+    private GameServerMetrics metrics;
+    private ArrayDeque<Runnable> tasks;
+    private List<String> sent;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        delegate = mock(WebSocketSession.class);
+        metrics = mock(GameServerMetrics.class);
+        tasks = new ArrayDeque<>();
+        sent = new ArrayList<>();
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sent.add(((TextMessage) message).getPayload());
+            return null;
+        }).when(delegate).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("전송 전에 쌓인 상태 프레임은 (목적지, 구독)마다 최신 프레임 하나로 합쳐짐")
+    void testStateFrames_LatestWins() throws Exception {
+        // Given
+        OutboundLaneSessionDecorator session = newDecorator(8);
+
+        // When: 실행기가 돌기 전에 같은 구독으로 3프레임, 다른 구독으로 1프레임
+        session.sendMessage(frame(STATE, "sub-0", null, "s1"));
+        session.sendMessage(frame(STATE, "sub-0", null, "s2"));
+        session.sendMessage(frame(STATE, "sub-1", null, "other"));
+        session.sendMessage(frame(STATE, "sub-0", null, "s3"));
+        runTasks();
+
+        // Then
+        assertEquals(List.of("s3", "other"), bodies());
+        verify(metrics, times(2)).recordOutboundSuperseded();
+        assertEquals(0, session.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("이벤트 프레임은 상태 프레임보다 먼저 전송되고, 같은 목적지의 오래된 상태 프레임은 버려짐")
+    void testEventFrames_SentFirst() throws Exception {
+        // Given
+        OutboundLaneSessionDecorator session = newDecorator(8);
+
+        // When: 상태 → 매칭 완료 → 게임 오버(lane:event) 순서로 제출
+        session.sendMessage(frame(STATE, "sub-0", null, "state"));
+        session.sendMessage(frame("/user/queue/match-found", "sub-1", null, "match"));
+        session.sendMessage(frame(STATE, "sub-0", OutboundLaneSessionDecorator.LANE_EVENT, "game-over"));
+        runTasks();
+
+        // Then: 이벤트 두 개만 순서대로 전송 (이전 상태 프레임은 게임 오버 프레임이 대체)
+        assertEquals(List.of("match", "game-over"), bodies());
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("이벤트 차선이 한도를 넘으면 연결 종료")
+    void testReliableOverflow_ClosesSession() throws Exception {
+        // Given
+        OutboundLaneSessionDecorator session = newDecorator(2);
+
+        // When: 실행기가 멈춘 상태에서 이벤트 3개
+        session.sendMessage(frame("/user/queue/match-found", "sub-1", null, "e1"));
+        session.sendMessage(frame("/user/queue/match-found", "sub-1", null, "e2"));
+        session.sendMessage(frame("/user/queue/match-found", "sub-1", null, "e3"));
+
+        // Then
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(metrics).recordSlowConsumerClosed();
+        assertEquals(0, session.getPendingCount());
+
+        // 종료 후 제출은 무시
+        session.sendMessage(frame(STATE, "sub-0", null, "late"));
+        runTasks();
+        assertEquals(List.of(), sent);
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간 넘게 막히면 새 프레임이 없어도 감시 호출로 연결 종료")
+    void testStalledSend_ClosedByWatchdog() throws Exception {
+        // Given: 연결이 닫힐 때까지 쓰기가 막히는 클라이언트
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch socketClosed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writeStarted.countDown();
+            socketClosed.await();
+            throw new IOException("Connection closed");
+        }).when(delegate).sendMessage(any());
+        doAnswer(invocation -> {
+            socketClosed.countDown();
+            return null;
+        }).when(delegate).close(any());
+
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        OutboundLaneSessionDecorator session = new OutboundLaneSessionDecorator(delegate, sender,
+            List.of(STATE), 8, 1_000, metrics);
+
+        try {
+            session.sendMessage(frame(STATE, "sub-0", null, "s1"));
+            assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+
+            // When / Then: 제한 시간 안에서는 그대로 둠
+            assertFalse(session.closeIfSendStalled(System.currentTimeMillis()));
+            verify(delegate, never()).close(any());
+
+            // When: 제한 시간 경과 시점의 감시 호출 (새 프레임 제출 없음)
+            boolean closed = session.closeIfSendStalled(System.currentTimeMillis() + 2_000);
+
+            // Then: 연결 종료, 막혀 있던 전송 스레드가 풀려남
+            assertTrue(closed);
+            verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+            verify(metrics).recordSlowConsumerClosed();
+            sender.shutdown();
+            assertTrue(sender.awaitTermination(5, TimeUnit.SECONDS));
+            assertFalse(session.closeIfSendStalled(System.currentTimeMillis() + 2_000)); // 중복 종료 없음
+        } finally {
+            sender.shutdownNow();
+        }
+    }
+
+    private OutboundLaneSessionDecorator newDecorator(int reliableLimit) {
+        return new OutboundLaneSessionDecorator(delegate, tasks::add,
+            List.of(STATE, "/topic/match/"), reliableLimit, 10_000, metrics);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private List<String> bodies() {
+        List<String> bodies = new ArrayList<>();
+        for (String payload : sent) {
+            bodies.add(payload.substring(payload.indexOf("\n\n") + 2, payload.length() - 1));
+        }
+        return bodies;
+    }
+
+    private static TextMessage frame(String destination, String subscription, String lane, String body) {
+        StringBuilder frame = new StringBuilder("MESSAGE\n")
+            .append("destination:").append(destination).append('\n')
+            .append("subscription:").append(subscription).append('\n');
+        if (lane != null) {
+            frame.append(OutboundLaneSessionDecorator.LANE_HEADER).append(':').append(lane).append('\n');
+        }
+        frame.append('\n').append(body).append('\0');
+        return new TextMessage(frame.toString());
+    }
+}
@@ -0,0 +1,102 @@
+package seoultech.se.server.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.security.Principal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import seoultech.se.server.game.GameSessionManager;
+
+/**
+ * WebSocketEventListener 테스트
+ *
+ * 테스트 시나리오:
+ * 1. 새 연결로 먼저 재연결한 뒤 이전 연결의 끊김이 늦게 오면 플레이어는 온라인 유지, 제거 예약 없음
+ * 2. 마지막 연결이 끊기면 오프라인 표시 후 제거 예약
+ */
+class WebSocketEventListenerTest {
+
+    private static final String PLAYER = "p1@test.com";
+    private static final String GAME_SESSION = "game-1";
+
+    private GameSessionManager gameSessionManager;
+    private WebSocketEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        gameSessionManager = mock(GameSessionManager.class);
+        listener = new WebSocketEventListener(gameSessionManager);
+        listener.registerPlayerSession(PLAYER, GAME_SESSION);
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+    }
+
+    @Test
+    @DisplayName("새 연결로 먼저 재연결한 뒤 이전 연결의 끊김이 늦게 오면 플레이어는 온라인 유지, 제거 예약 없음")
+    void testStaleDisconnect_KeepsPlayerOnline() {
+        // Given: s1 연결 중에 s2로 재연결
+        listener.handleWebSocketConnect(connect("s1"));
+        listener.handleWebSocketConnect(connect("s2"));
+
+        // When: s1의 끊김이 늦게 도착
+        listener.handleWebSocketDisconnect(disconnect("s1"));
+
+        // Then
+        assertTrue(listener.isConnected(PLAYER));
+        assertEquals(0, listener.getPendingGraceCount());
+        verify(gameSessionManager, never()).setPlayerOnline(GAME_SESSION, PLAYER, false);
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 끊기면 오프라인 표시 후 제거 예약")
+    void testLastDisconnect_SchedulesRemoval() {
+        // Given
+        listener.handleWebSocketConnect(connect("s1"));
+        listener.handleWebSocketConnect(connect("s2"));
+        listener.handleWebSocketDisconnect(disconnect("s1"));
+
+        // When
+        listener.handleWebSocketDisconnect(disconnect("s2"));
+
+        // Then
+        assertFalse(listener.isConnected(PLAYER));
+        assertEquals(1, listener.getPendingGraceCount());
+        verify(gameSessionManager).setPlayerOnline(GAME_SESSION, PLAYER, false);
+    }
+
+    private SessionConnectEvent connect(String sessionId) {
+        return new SessionConnectEvent(this, message(StompCommand.CONNECT, sessionId));
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId) {
+        return new SessionDisconnectEvent(this, message(StompCommand.DISCONNECT, sessionId),
+            sessionId, CloseStatus.NORMAL);
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        Principal user = () -> PLAYER;
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}